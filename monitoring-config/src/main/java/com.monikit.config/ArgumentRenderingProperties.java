@@ -0,0 +1,53 @@
+package com.monikit.config;
+
+/**
+ * 실행 로그 인자/반환값 문자열 변환 한도 설정.
+ * <p>
+ * - maxFieldLength: 인자 하나(또는 반환값)에 쓸 최대 글자 수. 넘는 부분은 잘리고 잘린 글자 수만 표시한다.
+ * - maxCollectionSize: 컬렉션/맵/배열에서 쓸 최대 원소 수
+ * - maxTotalLength: 인자 목록 전체의 최대 글자 수. 넘으면 이후 인자는 생략한다.
+ * </p>
+ *
+ * <pre>
+ * monikit:
+ *   logging:
+ *     argument-rendering:
+ *       max-field-length: 256
+ *       max-collection-size: 10
+ *       max-total-length: 4096
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class ArgumentRenderingProperties {
+
+    private int maxFieldLength = 256;
+    private int maxCollectionSize = 10;
+    private int maxTotalLength = 4096;
+
+    public int getMaxFieldLength() {
+        return maxFieldLength;
+    }
+
+    public void setMaxFieldLength(int maxFieldLength) {
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    public int getMaxCollectionSize() {
+        return maxCollectionSize;
+    }
+
+    public void setMaxCollectionSize(int maxCollectionSize) {
+        this.maxCollectionSize = maxCollectionSize;
+    }
+
+    public int getMaxTotalLength() {
+        return maxTotalLength;
+    }
+
+    public void setMaxTotalLength(int maxTotalLength) {
+        this.maxTotalLength = maxTotalLength;
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.monikit.config;
+
+/**
+ * 비동기 LogNotifier 설정.
+ * <p>
+ * - enabled: true 이면 요청 스레드는 링 버퍼에 로그를 넣기만 하고, 전용 스레드가 Sink로 전달한다.
+ * - bufferCapacity: 링 버퍼 용량 (2의 거듭제곱으로 올림). 가득 차면 새 로그는 버려진다.
+ * - waitStrategy: 버퍼가 비었을 때 소비자 대기 방식 (BUSY_SPIN, YIELDING, SLEEPING, BLOCKING)
+ * - maxBatchSize: 소비자가 한 번에 꺼내 전달하는 최대 로그 수
+ * - shutdownTimeoutMs: 애플리케이션 종료 시 남은 로그를 전달하는 최대 시간 (ms)
+ * </p>
+ *
+ * <pre>
+ * monikit:
+ *   logging:
+ *     async-notifier:
+ *       enabled: true
+ *       buffer-capacity: 8192
+ *       wait-strategy: SLEEPING
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class AsyncNotifierProperties {
+
+    private boolean enabled = false;
+    private int bufferCapacity = 8192;
+    private String waitStrategy = "SLEEPING";
+    private int maxBatchSize = 256;
+    private long shutdownTimeoutMs = 3000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    public void setBufferCapacity(int bufferCapacity) {
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    public String getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    public void setWaitStrategy(String waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public long getShutdownTimeoutMs() {
+        return shutdownTimeoutMs;
+    }
+
+    public void setShutdownTimeoutMs(long shutdownTimeoutMs) {
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+    }
+
+}
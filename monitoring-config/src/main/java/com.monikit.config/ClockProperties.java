@@ -0,0 +1,44 @@
+package com.monikit.config;
+
+/**
+ * 로그 타임스탬프 시계 설정.
+ * <p>
+ * - coarseEnabled: true 이면 로그 timestamp를 전용 스레드가 주기적으로 갱신하는 캐시된 시각으로 기록한다.
+ *   로그마다 현재 시각을 읽지 않는 대신 timestamp 정밀도가 resolutionMs로 떨어진다.
+ *   실행 시간 측정은 설정과 관계없이 단조 시계(nanoTime)를 사용한다.
+ * - resolutionMs: 캐시된 시각 갱신 주기 (ms, 기본 10). 기록되는 timestamp는 실제 시각보다 최대 이 값만큼 늦을 수 있다.
+ * </p>
+ *
+ * <pre>
+ * monikit:
+ *   logging:
+ *     clock:
+ *       coarse-enabled: true
+ *       resolution-ms: 10
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class ClockProperties {
+
+    private boolean coarseEnabled = false;
+    private long resolutionMs = 10;
+
+    public boolean isCoarseEnabled() {
+        return coarseEnabled;
+    }
+
+    public void setCoarseEnabled(boolean coarseEnabled) {
+        this.coarseEnabled = coarseEnabled;
+    }
+
+    public long getResolutionMs() {
+        return resolutionMs;
+    }
+
+    public void setResolutionMs(long resolutionMs) {
+        this.resolutionMs = resolutionMs;
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.monikit.config;
+
+/**
+ * 반복 예외 집계 설정.
+ * <p>
+ * - enabled: true 이면 같은 지문(예외 타입 + 상위 프레임)의 예외를 집계 구간마다 묶는다. 구간의 첫 예외만 ExceptionLog로 남고,
+ *   반복된 예외는 구간이 끝날 때 EXCEPTION_SUMMARY 로그 하나(발생 횟수, 첫/마지막 traceId, traceId 표본)로 전송된다.
+ * - windowMs: 지문별 집계 구간 길이 (ms)
+ * - frameDepth: 지문에 포함할 상위 스택 프레임 수 (0이면 예외 타입만 사용)
+ * - maxFingerprints: 동시에 집계할 최대 지문 수. 넘치는 지문은 집계하지 않고 개별 로그로 남기며, 지문별 메트릭은 overflow 하나로 합산
+ * - sampleSize: 요약 로그에 남길 traceId 표본 수
+ * </p>
+ *
+ * <pre>
+ * monikit:
+ *   logging:
+ *     exception-aggregation:
+ *       enabled: true
+ *       window-ms: 5000
+ *       frame-depth: 3
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class ExceptionAggregationProperties {
+
+    private boolean enabled = false;
+    private long windowMs = 10000;
+    private int frameDepth = 5;
+    private int maxFingerprints = 1000;
+    private int sampleSize = 5;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    public void setWindowMs(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public int getFrameDepth() {
+        return frameDepth;
+    }
+
+    public void setFrameDepth(int frameDepth) {
+        this.frameDepth = frameDepth;
+    }
+
+    public int getMaxFingerprints() {
+        return maxFingerprints;
+    }
+
+    public void setMaxFingerprints(int maxFingerprints) {
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    public void setSampleSize(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.monikit.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메모리 매핑 파일 Sink 설정.
+ * <p>
+ * - enabled: true 이면 로그를 로컬 세그먼트 파일에 NDJSON으로 기록하는 Sink를 등록한다.
+ * - directory: 세그먼트 파일 디렉토리
+ * - filePrefix: 세그먼트 파일 이름 접두사 ({@code <prefix>-<seq>.log})
+ * - segmentSizeBytes: 세그먼트 하나의 크기 (byte). 이보다 큰 로그는 버려진다.
+ * - maxSegments: 보관할 완료 세그먼트 최대 개수 (0 이하이면 삭제하지 않음)
+ * - forceIntervalMs: 주기적으로 디스크에 강제 반영하는 간격 (ms, 0이면 OS에 맡김)
+ * - logTypes: 기록할 로그 타입 (비어 있으면 전체)
+ * </p>
+ *
+ * <pre>
+ * monikit:
+ *   logging:
+ *     file-sink:
+ *       enabled: true
+ *       directory: /var/log/monikit
+ *       log-types: [INBOUND_REQUEST, INBOUND_RESPONSE, EXCEPTION]
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class FileSinkProperties {
+
+    private boolean enabled = false;
+    private String directory = "logs/monikit";
+    private String filePrefix = "monikit";
+    private int segmentSizeBytes = 64 * 1024 * 1024;
+    private int maxSegments = 10;
+    private long forceIntervalMs = 0;
+    private List<String> logTypes = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public String getFilePrefix() {
+        return filePrefix;
+    }
+
+    public void setFilePrefix(String filePrefix) {
+        this.filePrefix = filePrefix;
+    }
+
+    public int getSegmentSizeBytes() {
+        return segmentSizeBytes;
+    }
+
+    public void setSegmentSizeBytes(int segmentSizeBytes) {
+        this.segmentSizeBytes = segmentSizeBytes;
+    }
+
+    public int getMaxSegments() {
+        return maxSegments;
+    }
+
+    public void setMaxSegments(int maxSegments) {
+        this.maxSegments = maxSegments;
+    }
+
+    public long getForceIntervalMs() {
+        return forceIntervalMs;
+    }
+
+    public void setForceIntervalMs(long forceIntervalMs) {
+        this.forceIntervalMs = forceIntervalMs;
+    }
+
+    public List<String> getLogTypes() {
+        return logTypes;
+    }
+
+    public void setLogTypes(List<String> logTypes) {
+        this.logTypes = logTypes;
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.monikit.config;
+
+/**
+ * LogAddHook 실행 격리 설정.
+ * <p>
+ * - isolationEnabled: true 이면 모든 LogAddHook을 실행 방식에 맞는 래퍼로 감싸 실행 시간/실패/버려진 로그 수를 훅별로 기록한다. (기본 false)
+ *   비동기로 선언된 훅은 전용 버퍼와 작업 스레드에서 실행하고, 동기 훅은 예산을 반복해서 넘기면 비동기 실행으로 격리한다.
+ *   격리된 훅은 요청 스레드가 아닌 작업 스레드에서 실행되므로 ThreadLocal, MDC, 요청 컨텍스트에 기대는 훅은 켜기 전에 확인해야 한다.
+ * - budgetMs: 훅 한 번의 실행에 허용하는 시간 (ms, 0이면 동기 훅을 격리하지 않음)
+ * - violationsBeforeIsolation: 동기 훅을 격리하기까지 허용하는 연속 예산 초과 횟수
+ * - queueCapacity: 비동기 훅별 버퍼 용량 (2의 거듭제곱으로 올림)
+ * - dropPolicy: 비동기 훅 버퍼가 찼을 때의 정책 (DROP_NEWEST, RESERVE_FOR_ERRORS)
+ * </p>
+ *
+ * <pre>
+ * monikit:
+ *   logging:
+ *     add-hook:
+ *       isolation-enabled: true
+ *       budget-ms: 2
+ *       violations-before-isolation: 5
+ *       drop-policy: RESERVE_FOR_ERRORS
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class LogAddHookProperties {
+
+    private boolean isolationEnabled = false;
+    private long budgetMs = 5;
+    private int violationsBeforeIsolation = 3;
+    private int queueCapacity = 1024;
+    private String dropPolicy = "DROP_NEWEST";
+
+    public boolean isIsolationEnabled() {
+        return isolationEnabled;
+    }
+
+    public void setIsolationEnabled(boolean isolationEnabled) {
+        this.isolationEnabled = isolationEnabled;
+    }
+
+    public long getBudgetMs() {
+        return budgetMs;
+    }
+
+    public void setBudgetMs(long budgetMs) {
+        this.budgetMs = budgetMs;
+    }
+
+    public int getViolationsBeforeIsolation() {
+        return violationsBeforeIsolation;
+    }
+
+    public void setViolationsBeforeIsolation(int violationsBeforeIsolation) {
+        this.violationsBeforeIsolation = violationsBeforeIsolation;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public String getDropPolicy() {
+        return dropPolicy;
+    }
+
+    public void setDropPolicy(String dropPolicy) {
+        this.dropPolicy = dropPolicy;
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.monikit.config;
+
+/**
+ * 요청 로그 버퍼 한도 및 overflow 정책 설정.
+ * <p>
+ * - policy: 한도 초과 시 처리 방식
+ *   <ul>
+ *       <li>FLUSH_ALL: WARN 로그를 남기고 버퍼 전체를 flush (기본값)</li>
+ *       <li>SPILL_OLDEST: 오래된 로그 spillSize 개를 먼저 전송</li>
+ *       <li>DROP_OLDEST: 가장 오래된 로그부터 버림</li>
+ *       <li>KEEP_SLOWEST: 실행 시간이 짧은 로그부터 버려 상위 maxEntries 개를 보존</li>
+ *       <li>DROP_LOWEST_LEVEL: 낮은 레벨의 로그부터 버림</li>
+ *   </ul>
+ * - maxEntries: 요청당 최대 로그 수
+ * - maxBytes: 요청당 로그의 최대 추정 크기 (byte). 0 이하이면 크기 제한 없음
+ * - spillSize: SPILL_OLDEST 정책에서 한 번에 전송할 로그 수
+ * </p>
+ *
+ * <pre>
+ * monikit:
+ *   logging:
+ *     overflow:
+ *       policy: SPILL_OLDEST
+ *       max-entries: 300
+ *       max-bytes: 1048576
+ *       spill-size: 50
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class LogOverflowProperties {
+
+    private String policy = "FLUSH_ALL";
+    private int maxEntries = 300;
+    private long maxBytes = 0;
+    private int spillSize = 50;
+
+    public String getPolicy() {
+        return policy;
+    }
+
+    public void setPolicy(String policy) {
+        this.policy = policy;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public int getSpillSize() {
+        return spillSize;
+    }
+
+    public void setSpillSize(int spillSize) {
+        this.spillSize = spillSize;
+    }
+
+}
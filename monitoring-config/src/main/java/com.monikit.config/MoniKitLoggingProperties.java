@@ -2,7 +2,9 @@ package com.monikit.config;
 
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -19,6 +21,20 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *     <li><b>criticalQueryThresholdMs</b>: 매우 느린 쿼리로 간주할 기준 시간 (ms)</li>
  *     <li><b>dynamicMatching</b>: 클래스/메서드 이름 및 조건 기반 동적 로깅 규칙</li>
  *     <li><b>allowedPackages: 로그 허용 패키지 (예: "com.ryuqq)</li>
+ *     <li><b>asyncNotifier</b>: 비동기 LogNotifier 사용 여부 및 버퍼 설정</li>
+ *     <li><b>overflow</b>: 요청 로그 버퍼 한도(개수/추정 크기) 및 초과 시 정책</li>
+ *     <li><b>fileSink</b>: 메모리 매핑 세그먼트 파일 Sink 설정</li>
+ *     <li><b>spool</b>: 느리거나 실패하는 Sink 앞에 두는 디스크 스풀 설정</li>
+ *     <li><b>tailSampling</b>: flush 시점에 요청 결과(오류/상태 코드/지연)로 전송할 로그를 고르는 tail sampling 설정</li>
+ *     <li><b>argumentSnapshotMode</b>: 실행 로그 인자/반환값 보관 방식 (SHALLOW_COPY 기본, EAGER, REFERENCE)</li>
+ *     <li><b>argumentRendering</b>: 실행 로그 인자/반환값 문자열의 필드별 글자 수, 컬렉션 원소 수, 전체 글자 수 한도</li>
+ *     <li><b>taskExecutor</b>: 스레드 풀 실행기 빈에 컨텍스트 전파 및 큐 대기/실행 시간 계측을 자동 적용할지 여부</li>
+ *     <li><b>contextCarrier</b>: 요청 로그 컨텍스트를 스레드에 연결하는 방식 (INHERITABLE, SCOPED). 가상 스레드 환경에서는 SCOPED 권장</li>
+ *     <li><b>addHook</b>: LogAddHook 비동기 실행, 지연 예산 및 자동 격리 설정</li>
+ *     <li><b>minLevels</b>: 로그 타입별 최소 로그 레벨 (예: EXECUTION_DETAIL: WARN). 지정하지 않은 타입은 모든 레벨 허용</li>
+ *     <li><b>exceptionAggregation</b>: 같은 지문(예외 타입 + 상위 프레임)의 반복 예외를 집계 구간마다 요약 로그 하나로 묶는 설정</li>
+ *     <li><b>clock</b>: 로그 timestamp를 캐시된 시각(coarse clock)으로 기록할지 여부와 갱신 주기</li>
+ *     <li><b>spelCompilerMode</b>: dynamicMatching when 조건식의 SpEL 컴파일 모드 (OFF, IMMEDIATE, MIXED)</li>
  * </ul>
  *
  * <p>추적 ID(traceId)는 항상 자동으로 수집되며 별도 설정은 제공되지 않습니다.</p>
@@ -35,6 +51,20 @@ public class MoniKitLoggingProperties {
     private long criticalQueryThresholdMs = 5000;
     private List<String> allowedPackages = List.of();
     private List<DynamicLogRule> dynamicMatching = new ArrayList<>();
+    private AsyncNotifierProperties asyncNotifier = new AsyncNotifierProperties();
+    private LogOverflowProperties overflow = new LogOverflowProperties();
+    private String argumentSnapshotMode = "SHALLOW_COPY";
+    private ArgumentRenderingProperties argumentRendering = new ArgumentRenderingProperties();
+    private FileSinkProperties fileSink = new FileSinkProperties();
+    private SpoolProperties spool = new SpoolProperties();
+    private TailSamplingProperties tailSampling = new TailSamplingProperties();
+    private String contextCarrier = "INHERITABLE";
+    private TaskExecutorProperties taskExecutor = new TaskExecutorProperties();
+    private LogAddHookProperties addHook = new LogAddHookProperties();
+    private Map<String, String> minLevels = new LinkedHashMap<>();
+    private ExceptionAggregationProperties exceptionAggregation = new ExceptionAggregationProperties();
+    private ClockProperties clock = new ClockProperties();
+    private String spelCompilerMode = "OFF";
 
     public boolean isLogEnabled() {
         return logEnabled;
@@ -83,4 +113,116 @@ public class MoniKitLoggingProperties {
     public void setAllowedPackages(List<String> allowedPackages) {
         this.allowedPackages = allowedPackages;
     }
-}
\ No newline at end of file
+
+    public AsyncNotifierProperties getAsyncNotifier() {
+        return asyncNotifier;
+    }
+
+    public void setAsyncNotifier(AsyncNotifierProperties asyncNotifier) {
+        this.asyncNotifier = asyncNotifier;
+    }
+
+    public LogOverflowProperties getOverflow() {
+        return overflow;
+    }
+
+    public void setOverflow(LogOverflowProperties overflow) {
+        this.overflow = overflow;
+    }
+
+    public String getArgumentSnapshotMode() {
+        return argumentSnapshotMode;
+    }
+
+    public void setArgumentSnapshotMode(String argumentSnapshotMode) {
+        this.argumentSnapshotMode = argumentSnapshotMode;
+    }
+
+    public ArgumentRenderingProperties getArgumentRendering() {
+        return argumentRendering;
+    }
+
+    public void setArgumentRendering(ArgumentRenderingProperties argumentRendering) {
+        this.argumentRendering = argumentRendering;
+    }
+
+    public FileSinkProperties getFileSink() {
+        return fileSink;
+    }
+
+    public void setFileSink(FileSinkProperties fileSink) {
+        this.fileSink = fileSink;
+    }
+
+    public SpoolProperties getSpool() {
+        return spool;
+    }
+
+    public void setSpool(SpoolProperties spool) {
+        this.spool = spool;
+    }
+
+    public TailSamplingProperties getTailSampling() {
+        return tailSampling;
+    }
+
+    public void setTailSampling(TailSamplingProperties tailSampling) {
+        this.tailSampling = tailSampling;
+    }
+
+    public String getContextCarrier() {
+        return contextCarrier;
+    }
+
+    public void setContextCarrier(String contextCarrier) {
+        this.contextCarrier = contextCarrier;
+    }
+
+    public TaskExecutorProperties getTaskExecutor() {
+        return taskExecutor;
+    }
+
+    public void setTaskExecutor(TaskExecutorProperties taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
+    public LogAddHookProperties getAddHook() {
+        return addHook;
+    }
+
+    public void setAddHook(LogAddHookProperties addHook) {
+        this.addHook = addHook;
+    }
+
+    public Map<String, String> getMinLevels() {
+        return minLevels;
+    }
+
+    public void setMinLevels(Map<String, String> minLevels) {
+        this.minLevels = minLevels;
+    }
+
+    public ExceptionAggregationProperties getExceptionAggregation() {
+        return exceptionAggregation;
+    }
+
+    public void setExceptionAggregation(ExceptionAggregationProperties exceptionAggregation) {
+        this.exceptionAggregation = exceptionAggregation;
+    }
+
+    public ClockProperties getClock() {
+        return clock;
+    }
+
+    public void setClock(ClockProperties clock) {
+        this.clock = clock;
+    }
+
+    public String getSpelCompilerMode() {
+        return spelCompilerMode;
+    }
+
+    public void setSpelCompilerMode(String spelCompilerMode) {
+        this.spelCompilerMode = spelCompilerMode;
+    }
+}
@@ -0,0 +1,94 @@
+package com.monikit.config;
+
+/**
+ * 디스크 스풀 설정.
+ * <p>
+ * - enabled: true 이면 등록된 모든 LogSink를 디스크 스풀 데코레이터로 감싼다.
+ * - directory: 스풀 루트 디렉토리. Sink마다 하위 디렉토리를 사용한다.
+ * - segmentSizeBytes: 스풀 세그먼트 하나의 최대 크기 (byte)
+ * - maxBytes: Sink 하나의 스풀이 사용할 수 있는 디스크 한도 (byte, 0 이하이면 제한 없음). 넘치는 로그는 버려진다.
+ * - latencyBudgetMs: 한 번의 Sink 전송에 허용하는 시간 (ms). 넘기면 이후 로그는 스풀로 돌린다. (0이면 예외만 기준)
+ * - replayIntervalMs: 스풀 재전송 주기 (ms)
+ * - replayBatchSize: 재전송 시 한 번에 읽는 최대 로그 수
+ * </p>
+ *
+ * <pre>
+ * monikit:
+ *   logging:
+ *     spool:
+ *       enabled: true
+ *       directory: /var/spool/monikit
+ *       max-bytes: 1073741824
+ *       latency-budget-ms: 100
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class SpoolProperties {
+
+    private boolean enabled = false;
+    private String directory = "logs/monikit-spool";
+    private int segmentSizeBytes = 16 * 1024 * 1024;
+    private long maxBytes = 512L * 1024 * 1024;
+    private long latencyBudgetMs = 200;
+    private long replayIntervalMs = 1000;
+    private int replayBatchSize = 500;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public int getSegmentSizeBytes() {
+        return segmentSizeBytes;
+    }
+
+    public void setSegmentSizeBytes(int segmentSizeBytes) {
+        this.segmentSizeBytes = segmentSizeBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public long getLatencyBudgetMs() {
+        return latencyBudgetMs;
+    }
+
+    public void setLatencyBudgetMs(long latencyBudgetMs) {
+        this.latencyBudgetMs = latencyBudgetMs;
+    }
+
+    public long getReplayIntervalMs() {
+        return replayIntervalMs;
+    }
+
+    public void setReplayIntervalMs(long replayIntervalMs) {
+        this.replayIntervalMs = replayIntervalMs;
+    }
+
+    public int getReplayBatchSize() {
+        return replayBatchSize;
+    }
+
+    public void setReplayBatchSize(int replayBatchSize) {
+        this.replayBatchSize = replayBatchSize;
+    }
+
+}
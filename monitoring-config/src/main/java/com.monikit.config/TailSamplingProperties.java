@@ -0,0 +1,83 @@
+package com.monikit.config;
+
+/**
+ * flush 시점 tail sampling 설정.
+ * <p>
+ * - enabled: true 이면 요청 결과를 보고 전송할 로그를 고른다. false 이면 모든 로그를 전송한다.
+ * - keepOnError: 예외가 발생한 요청(오류 표시 또는 EXCEPTION 로그)은 전체 전송
+ * - keepStatusCodeFrom: 이 값 이상의 응답 상태 코드를 반환한 요청은 전체 전송 (0 이하이면 사용 안 함)
+ * - slowThresholdMs: 요청 또는 메서드 실행 시간이 이 값을 넘으면 전체 전송 (0 이하이면 사용 안 함)
+ * - keepRate: 위 조건에 해당하지 않는 요청 중 전체 전송할 비율 (0.0 ~ 1.0)
+ * - summarizeUnsampled: 표본에서 빠진 요청을 요약 로그(REQUEST_SUMMARY) 하나로 남길지 여부. false 이면 전송하지 않음
+ * </p>
+ *
+ * <pre>
+ * monikit:
+ *   logging:
+ *     tail-sampling:
+ *       enabled: true
+ *       slow-threshold-ms: 500
+ *       keep-rate: 0.05
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class TailSamplingProperties {
+
+    private boolean enabled = false;
+    private boolean keepOnError = true;
+    private int keepStatusCodeFrom = 500;
+    private long slowThresholdMs = 1000;
+    private double keepRate = 0.1;
+    private boolean summarizeUnsampled = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isKeepOnError() {
+        return keepOnError;
+    }
+
+    public void setKeepOnError(boolean keepOnError) {
+        this.keepOnError = keepOnError;
+    }
+
+    public int getKeepStatusCodeFrom() {
+        return keepStatusCodeFrom;
+    }
+
+    public void setKeepStatusCodeFrom(int keepStatusCodeFrom) {
+        this.keepStatusCodeFrom = keepStatusCodeFrom;
+    }
+
+    public long getSlowThresholdMs() {
+        return slowThresholdMs;
+    }
+
+    public void setSlowThresholdMs(long slowThresholdMs) {
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    public double getKeepRate() {
+        return keepRate;
+    }
+
+    public void setKeepRate(double keepRate) {
+        this.keepRate = keepRate;
+    }
+
+    public boolean isSummarizeUnsampled() {
+        return summarizeUnsampled;
+    }
+
+    public void setSummarizeUnsampled(boolean summarizeUnsampled) {
+        this.summarizeUnsampled = summarizeUnsampled;
+    }
+
+}
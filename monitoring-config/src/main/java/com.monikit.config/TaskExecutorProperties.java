@@ -0,0 +1,33 @@
+package com.monikit.config;
+
+/**
+ * 스레드 풀 실행기 컨텍스트 전파 및 계측 설정.
+ * <p>
+ * - enabled: true 이면 {@code ThreadPoolTaskExecutor} / {@code SimpleAsyncTaskExecutor} 빈(@Async 기본 실행기 포함)에
+ *   로그 컨텍스트를 전파하는 TaskDecorator를 자동으로 적용하고, 실행기별 큐 대기 시간과 실행 시간을 기록한다.
+ *   이미 설정된 TaskDecorator는 유지한 채 감싼다.
+ * </p>
+ *
+ * <pre>
+ * monikit:
+ *   logging:
+ *     task-executor:
+ *       enabled: false
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class TaskExecutorProperties {
+
+    private boolean enabled = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.monikit.core;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Trace ID 생성 비용을 {@code UUID.randomUUID().toString()}과 {@link W3CTraceIdGenerator}로 비교한다.
+ * <p>
+ * {@code *Contended} 벤치마크는 8개 스레드에서 동시에 호출해, 공유 {@code SecureRandom}을 쓰는 UUID 경로의 경합을 드러낸다.
+ * {@code parseTraceParent}는 인바운드 {@code traceparent} 헤더 파싱 비용이다. 할당량은 {@code -prof gc}로 확인한다.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew :monitoring-core:jmh -Pjmh.includes=TraceIdGeneratorBenchmark
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TraceIdGeneratorBenchmark {
+
+    private static final String TRACE_PARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    private final TraceIdGenerator w3c = new W3CTraceIdGenerator();
+
+    @Benchmark
+    public String uuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String w3c() {
+        return w3c.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String uuidContended() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String w3cContended() {
+        return w3c.generate();
+    }
+
+    @Benchmark
+    public String parseTraceParent() {
+        return TraceParent.parseTraceId(TRACE_PARENT);
+    }
+
+}
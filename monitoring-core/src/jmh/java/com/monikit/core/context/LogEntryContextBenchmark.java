@@ -0,0 +1,85 @@
+package com.monikit.core.context;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.model.SimpleLog;
+
+/**
+ * 요청 한 건(addLog N회 → flush → clear)의 비용을 기존 큐 방식과 배열 버퍼 방식으로 비교한다.
+ * <p>
+ * {@code legacyQueue}는 1.1.2까지의 {@link LogEntryContext} 동작(ConcurrentLinkedQueue, getLogs 복사 후
+ * {@code stream().toList()} 재복사, clear 시 ThreadLocal remove)을 그대로 재현한다.
+ * GC 프로파일러와 함께 실행해 요청당 할당량({@code gc.alloc.rate.norm})을 비교한다.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew :monitoring-core:jmh -Pjmh.includes=LogEntryContextBenchmark
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LogEntryContextBenchmark {
+
+    @Param({"10", "100", "300"})
+    private int entriesPerRequest;
+
+    private LogEntry[] entries;
+
+    private static final ThreadLocal<Queue<LogEntry>> legacyThreadLocal =
+        ThreadLocal.withInitial(ConcurrentLinkedQueue::new);
+
+    @Setup
+    public void setUp() {
+        entries = new LogEntry[entriesPerRequest];
+        for (int i = 0; i < entriesPerRequest; i++) {
+            entries[i] = SimpleLog.of("trace-" + i, LogLevel.INFO, "message-" + i);
+        }
+        LogEntryContext.clear();
+    }
+
+    @Benchmark
+    public void legacyQueue(Blackhole blackhole) {
+        for (LogEntry entry : entries) {
+            legacyThreadLocal.get().add(entry);
+        }
+        List<LogEntry> logs = new ConcurrentLinkedQueue<>(legacyThreadLocal.get()).stream().toList();
+        for (LogEntry log : logs) {
+            blackhole.consume(log);
+        }
+        blackhole.consume(logs);
+        legacyThreadLocal.remove();
+    }
+
+    @Benchmark
+    public void reusableBuffer(Blackhole blackhole) {
+        for (LogEntry entry : entries) {
+            LogEntryContext.addLog(entry);
+        }
+        List<LogEntry> logs = LogEntryContext.view();
+        for (LogEntry log : logs) {
+            blackhole.consume(log);
+        }
+        blackhole.consume(logs);
+        LogEntryContext.clear();
+    }
+
+}
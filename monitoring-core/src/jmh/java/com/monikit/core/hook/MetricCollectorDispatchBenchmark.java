@@ -0,0 +1,128 @@
+package com.monikit.core.hook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.model.SimpleLog;
+
+/**
+ * 로그 한 건을 {@link MetricCollector}들에 분배하는 비용을 기존 맵 방식과 ordinal 테이블 방식으로 비교한다.
+ * <p>
+ * {@code legacyMap}은 1.1.2까지의 {@link MetricCollectorLogAddHook} 동작({@code HashMap.getOrDefault}, 비검사 캐스트,
+ * 람다 {@code forEach})을 그대로 재현한다. 모든 수집기가 로그 타입을 지원하는 최악의 경우를 측정하며,
+ * {@code typed=true}이면 수집기가 {@link MetricCollector#entryType()}을 선언해 타입 검사가 포함된다.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew :monitoring-core:jmh -Pjmh.includes=MetricCollectorDispatchBenchmark
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricCollectorDispatchBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int collectorCount;
+
+    @Param({"false", "true"})
+    private boolean typed;
+
+    private LogEntry entry;
+    private Map<LogType, List<MetricCollector<? extends LogEntry>>> legacyMap;
+    private MetricCollectorLogAddHook hook;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        List<MetricCollector<? extends LogEntry>> collectors = new ArrayList<>(collectorCount);
+        for (int i = 0; i < collectorCount; i++) {
+            collectors.add(typed ? new TypedCollector(blackhole) : new UntypedCollector(blackhole));
+        }
+        entry = SimpleLog.of("trace", LogLevel.INFO, "message");
+        legacyMap = collectors.stream()
+            .flatMap(collector -> Arrays.stream(LogType.values())
+                .filter(collector::supports)
+                .map(type -> Map.entry(type, collector)))
+            .collect(Collectors.groupingBy(Map.Entry::getKey,
+                Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+        hook = new MetricCollectorLogAddHook(collectors);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void legacyMap() {
+        List<MetricCollector<LogEntry>> collectors = (List<MetricCollector<LogEntry>>)
+            (List<?>) legacyMap.getOrDefault(entry.getLogType(), Collections.emptyList());
+        collectors.forEach(c -> c.record(entry));
+    }
+
+    @Benchmark
+    public void ordinalTable() {
+        hook.onAdd(entry);
+    }
+
+    static class UntypedCollector implements MetricCollector<LogEntry> {
+
+        private final Blackhole blackhole;
+
+        UntypedCollector(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public boolean supports(LogType logType) {
+            return logType == LogType.SIMPLE;
+        }
+
+        @Override
+        public void record(LogEntry logEntry) {
+            blackhole.consume(logEntry);
+        }
+    }
+
+    static class TypedCollector implements MetricCollector<SimpleLog> {
+
+        private final Blackhole blackhole;
+
+        TypedCollector(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public boolean supports(LogType logType) {
+            return logType == LogType.SIMPLE;
+        }
+
+        @Override
+        public void record(SimpleLog logEntry) {
+            blackhole.consume(logEntry);
+        }
+
+        @Override
+        public Class<SimpleLog> entryType() {
+            return SimpleLog.class;
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.monikit.core.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.encoder.LogEntryEncoder;
+
+/**
+ * 요청 한 건 분량의 로그를 NDJSON으로 직렬화하는 비용을 비교한다.
+ * <p>
+ * {@code mapWithJackson}은 로그마다 Map을 만들고({@link AbstractLogEntry#addExtraFields(Map)})
+ * Jackson {@link ObjectMapper}로 직렬화하는 방식, {@code streamingEncoder}는 {@link LogEntryEncoder}를 사용한다.
+ * {@code addExtraFields}가 protected이므로 model 패키지에 둔다.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew :monitoring-core:jmh -Pjmh.includes=LogEntryEncoderBenchmark
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LogEntryEncoderBenchmark {
+
+    @Param({"10", "100"})
+    private int entriesPerRequest;
+
+    private List<LogEntry> entries;
+    private ObjectMapper objectMapper;
+    private LogEntryEncoder encoder;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() {
+        entries = new ArrayList<>(entriesPerRequest);
+        for (int i = 0; i < entriesPerRequest; i++) {
+            switch (i % 4) {
+                case 0 -> entries.add(HttpInboundRequestLog.of("trace-" + i, LogLevel.INFO, "/api/products/" + i, "POST",
+                    "page=1&size=20", "{\"name\":\"product-" + i + "\",\"price\":1000}",
+                    Map.of("Content-Type", "application/json", "User-Agent", "bench"), "127.0.0.1", "bench"));
+                case 1 -> entries.add(DatabaseQueryLog.of("trace-" + i, "SELECT * FROM product WHERE id = ?", 12,
+                    "primary", "[" + i + "]", 0, 1, LogLevel.INFO));
+                case 2 -> entries.add(ExecutionDetailLog.of("trace-" + i, "ProductService", "register", 250,
+                    "[arg0=ProductCommand[id=" + i + "]]", "Product[id=" + i + "]", 200, "product-registration"));
+                default -> entries.add(SimpleLog.of("trace-" + i, LogLevel.INFO, "상품 등록 완료: " + i));
+            }
+        }
+        objectMapper = new ObjectMapper();
+        encoder = new LogEntryEncoder();
+        out = new ByteArrayOutputStream(64 * 1024);
+    }
+
+    @Benchmark
+    public int mapWithJackson() throws IOException {
+        out.reset();
+        for (LogEntry entry : entries) {
+            AbstractLogEntry logEntry = (AbstractLogEntry) entry;
+            Map<String, Object> logMap = new LinkedHashMap<>();
+            logMap.put("timestamp", logEntry.getTimestamp().toString());
+            logMap.put("traceId", logEntry.getTraceId());
+            logMap.put("logType", logEntry.getLogType().name());
+            logMap.put("logLevel", logEntry.getLogLevel().name());
+            logEntry.addExtraFields(logMap);
+            out.write(objectMapper.writeValueAsBytes(logMap));
+            out.write('\n');
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public int streamingEncoder() throws IOException {
+        out.reset();
+        encoder.encode(entries, out);
+        return out.size();
+    }
+
+}
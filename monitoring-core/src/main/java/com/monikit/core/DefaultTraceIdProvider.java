@@ -1,13 +1,14 @@
 package com.monikit.core;
 
-import java.util.UUID;
+import com.monikit.core.context.LogEntryContext;
+import com.monikit.core.context.RequestContext;
 
 /**
  * 기본 TraceIdProvider 구현체.
  * <p>
- * - ThreadLocal 기반으로 Trace ID를 저장하고 제공함.
- * - Trace ID가 존재하지 않으면 자동으로 UUID를 생성함.
- * - 요청 종료 시 {@code clear()}로 ThreadLocal 제거 필요.
+ * - 현재 요청의 {@link RequestContext}에 Trace ID를 저장하므로 로그 컨텍스트와 함께 자식 스레드로 전파됨.
+ * - Trace ID가 존재하지 않으면 {@link TraceIdGenerator}로 새로 생성함. (기본값 {@link W3CTraceIdGenerator}, 16진수 32자)
+ * - 요청 종료 시 {@code clear()}로 Trace ID 제거 필요.
  * </p>
  *
  * @author ryu-qqq
@@ -15,25 +16,38 @@ import java.util.UUID;
  */
 public class DefaultTraceIdProvider implements TraceIdProvider {
 
-    private static final ThreadLocal<String> TRACE_ID_HOLDER = new ThreadLocal<>();
+    private final TraceIdGenerator traceIdGenerator;
+
+    public DefaultTraceIdProvider() {
+        this(new W3CTraceIdGenerator());
+    }
+
+    /**
+     * @param traceIdGenerator Trace ID가 없을 때 사용할 생성기
+     * @since 1.1.3
+     */
+    public DefaultTraceIdProvider(TraceIdGenerator traceIdGenerator) {
+        this.traceIdGenerator = traceIdGenerator;
+    }
 
     @Override
     public String getTraceId() {
-        String traceId = TRACE_ID_HOLDER.get();
+        RequestContext context = LogEntryContext.current();
+        String traceId = context.getTraceId();
         if (traceId == null) {
-            traceId = UUID.randomUUID().toString();
-            TRACE_ID_HOLDER.set(traceId);
+            traceId = traceIdGenerator.generate();
+            context.setTraceId(traceId);
         }
         return traceId;
     }
 
     @Override
     public void setTraceId(String traceId) {
-        TRACE_ID_HOLDER.set(traceId);
+        LogEntryContext.current().setTraceId(traceId);
     }
 
     @Override
     public void clear() {
-        TRACE_ID_HOLDER.remove();
+        LogEntryContext.current().setTraceId(null);
     }
 }
@@ -1,5 +1,7 @@
 package com.monikit.core;
 
+import com.monikit.core.context.ContextCarrier;
+import com.monikit.core.context.LogEntryContext;
 import com.monikit.core.context.LogEntryContextManager;
 
 /**
@@ -9,6 +11,8 @@ import com.monikit.core.context.LogEntryContextManager;
  * - {@link LogContextScope}는 {@code try-with-resources} 구문을 활용하여 자동으로 로그 플러시를 호출한다.
  * - 요청이 시작될 때 {@code clear()} 메서드를 호출하여 이전의 로그 컨텍스트를 초기화하고,
  *   요청이 끝날 때 {@code flush()} 메서드를 호출하여 로그를 저장한다.
+ * - 시작 시 {@link LogEntryContext#open()}으로 요청 컨텍스트를 열고 flush 이후 닫는다.
+ *   {@link com.monikit.core.context.ScopedContextCarrier}를 사용하면 요청이 끝난 스레드에 컨텍스트가 남지 않는다.
  * </p>
  *
  * 사용 예시:
@@ -25,6 +29,7 @@ import com.monikit.core.context.LogEntryContextManager;
 public class LogContextScope implements AutoCloseable {
 
     private final LogEntryContextManager logEntryContextManager;
+    private final ContextCarrier.Scope contextScope;
 
     /**
      * 새로운 {@link LogContextScope} 인스턴스를 생성한다.
@@ -36,13 +41,14 @@ public class LogContextScope implements AutoCloseable {
      */
     public LogContextScope(LogEntryContextManager logEntryContextManager) {
         this.logEntryContextManager = logEntryContextManager;
+        this.contextScope = LogEntryContext.open();
         logEntryContextManager.clear();
     }
 
     /**
      * {@link LogContextScope}가 종료될 때 호출되며, 로그를 플러시하여 요청에 대한 로그를 저장한다.
      * <p>
-     * - {@link LogEntryContextManager#flush()}를 호출하여 로그를 저장한다.
+     * - {@link LogEntryContextManager#flush()}를 호출하여 로그를 저장한 뒤 요청 컨텍스트 범위를 닫는다.
      * - flush() 실패 시 예외를 삼켜서 애플리케이션 흐름에 영향을 주지 않도록 안전하게 처리한다.
      * </p>
      */
@@ -52,6 +58,8 @@ public class LogContextScope implements AutoCloseable {
             logEntryContextManager.flush();
         } catch (Exception e) {
             System.err.println("[monikit] logContext flush failed: " + e.getMessage());
+        } finally {
+            contextScope.close();
         }
     }
 
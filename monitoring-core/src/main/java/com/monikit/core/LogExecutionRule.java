@@ -0,0 +1,35 @@
+package com.monikit.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컴파일 시점 계측(monitoring-processor)에서 사용할 실행 시간 기록 규칙.
+ * <p>
+ * {@code DynamicLogRule}의 기준 시간과 태그를 코드에 고정한 형태로, SpEL 조건식은 지원하지 않는다.
+ * 이 어노테이션이 붙은 메서드(또는 클래스의 public 메서드)는 {@link LogExecutionTime} 없이도 계측 대상이 되며,
+ * 런타임 AOP({@code ExecutionLoggingAspect})는 이 어노테이션을 보지 않는다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface LogExecutionRule {
+
+    /**
+     * 이 시간(ms) 미만으로 끝난 실행은 기록하지 않는다. 넘기면 WARN, 아니면 INFO로 기록한다.
+     */
+    long thresholdMillis() default 0;
+
+    /**
+     * 로그를 분류하기 위한 태그.
+     */
+    String tag() default "";
+
+}
@@ -1,9 +1,39 @@
 package com.monikit.core;
 
+/**
+ * 로그 레벨.
+ * <p>
+ * 선언 순서는 디스크 스풀 등 ordinal로 저장된 데이터와의 호환을 위해 유지하며, 심각도 비교에는 {@link #getSeverity()}를 사용한다.
+ * 심각도 순서는 TRACE &lt; DEBUG &lt; INFO &lt; WARN &lt; ERROR 이다.
+ * </p>
+ */
 public enum LogLevel {
-    INFO, WARN, ERROR, DEBUG, TRACE;
+    INFO(2), WARN(3), ERROR(4), DEBUG(1), TRACE(0);
+
+    private final int severity;
+
+    LogLevel(int severity) {
+        this.severity = severity;
+    }
 
     public boolean isEmergency(){
         return this.equals(ERROR);
     }
+
+    /**
+     * @return 심각도 (TRACE 0 ~ ERROR 4)
+     * @since 1.1.3
+     */
+    public int getSeverity() {
+        return severity;
+    }
+
+    /**
+     * @param minimum 기준 레벨
+     * @return 이 레벨이 기준 레벨보다 심각하거나 같으면 true
+     * @since 1.1.3
+     */
+    public boolean isAtLeast(LogLevel minimum) {
+        return severity >= minimum.severity;
+    }
 }
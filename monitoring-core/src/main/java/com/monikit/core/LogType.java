@@ -23,5 +23,7 @@ public enum LogType {
     BATCH_JOB,
     BATCH_STEP,
     BATCH_CHUNK,
+    REQUEST_SUMMARY,
+    EXCEPTION_SUMMARY,
 
 }
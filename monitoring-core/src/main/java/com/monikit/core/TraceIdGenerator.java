@@ -0,0 +1,22 @@
+package com.monikit.core;
+
+/**
+ * 새 Trace ID를 만드는 SPI.
+ * <p>
+ * 요청 헤더에 Trace ID가 없을 때 {@link DefaultTraceIdProvider}와 웹 필터가 호출한다.
+ * 요청마다 호출되므로 구현체는 스레드 안전해야 하며, 공유 락이나 {@code SecureRandom}처럼 경합하는 자원을 피해야 한다.
+ * 기본 구현은 {@link W3CTraceIdGenerator}이다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@FunctionalInterface
+public interface TraceIdGenerator {
+
+    /**
+     * @return 새 Trace ID
+     */
+    String generate();
+
+}
@@ -0,0 +1,118 @@
+package com.monikit.core;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * W3C Trace Context {@code traceparent} 헤더 파싱과 Trace ID 16진수 인코딩 유틸리티.
+ * <p>
+ * 헤더 형식은 {@code version-traceid-parentid-flags}(예: {@code 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01})이다.
+ * 파싱은 {@code split}이나 정규식 없이 위치별 문자 검사만 하며, 유효한 경우에만 trace-id 부분 문자열 하나를 만든다.
+ * </p>
+ *
+ * <ul>
+ *     <li>version은 2자리 16진수이며 {@code ff}는 무효. {@code 00}이면 전체 길이가 정확히 55자여야 하고,
+ *     이후 버전은 55자 뒤에 {@code -}로 시작하는 추가 필드를 허용한다.</li>
+ *     <li>trace-id / parent-id는 소문자 16진수이며 모두 0이면 무효.</li>
+ *     <li>형식이 맞지 않으면 null을 반환하며 예외를 던지지 않는다.</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class TraceParent {
+
+    public static final String HEADER = "traceparent";
+
+    static final int TRACE_ID_LENGTH = 32;
+    private static final int PARENT_ID_LENGTH = 16;
+    private static final int TRACE_ID_OFFSET = 3;
+    private static final int PARENT_ID_OFFSET = TRACE_ID_OFFSET + TRACE_ID_LENGTH + 1;
+    private static final int FLAGS_OFFSET = PARENT_ID_OFFSET + PARENT_ID_LENGTH + 1;
+    private static final int VERSION_00_LENGTH = FLAGS_OFFSET + 2;
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+
+    private TraceParent() {
+    }
+
+    /**
+     * @param header {@code traceparent} 헤더 값
+     * @return 헤더의 trace-id (소문자 16진수 32자). 헤더가 없거나 형식이 맞지 않으면 null
+     */
+    public static String parseTraceId(String header) {
+        if (header == null || header.length() < VERSION_00_LENGTH) {
+            return null;
+        }
+        if (!isHex(header, 0, 2) || (header.charAt(0) == 'f' && header.charAt(1) == 'f')) {
+            return null;
+        }
+        boolean version00 = header.charAt(0) == '0' && header.charAt(1) == '0';
+        if (version00 ? header.length() != VERSION_00_LENGTH
+            : header.length() > VERSION_00_LENGTH && header.charAt(VERSION_00_LENGTH) != '-') {
+            return null;
+        }
+        if (header.charAt(TRACE_ID_OFFSET - 1) != '-' || header.charAt(PARENT_ID_OFFSET - 1) != '-'
+            || header.charAt(FLAGS_OFFSET - 1) != '-') {
+            return null;
+        }
+        if (!isNonZeroHex(header, TRACE_ID_OFFSET, TRACE_ID_LENGTH)
+            || !isNonZeroHex(header, PARENT_ID_OFFSET, PARENT_ID_LENGTH)
+            || !isHex(header, FLAGS_OFFSET, 2)) {
+            return null;
+        }
+        return header.substring(TRACE_ID_OFFSET, TRACE_ID_OFFSET + TRACE_ID_LENGTH);
+    }
+
+    /**
+     * @return 값이 W3C trace-id 형식(소문자 16진수 32자, 모두 0이 아님)이면 true
+     */
+    public static boolean isValidTraceId(CharSequence traceId) {
+        return traceId != null && traceId.length() == TRACE_ID_LENGTH && isNonZeroHex(traceId, 0, TRACE_ID_LENGTH);
+    }
+
+    /**
+     * 128비트 값을 소문자 16진수 32자로 인코딩한다. 결과 문자열 외에 중간 객체(StringBuilder, Formatter 등)를 만들지 않는다.
+     *
+     * @param high 상위 64비트
+     * @param low 하위 64비트
+     */
+    public static String toHex(long high, long low) {
+        byte[] chars = new byte[TRACE_ID_LENGTH];
+        writeHex(high, chars, 0);
+        writeHex(low, chars, 16);
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
+
+    private static void writeHex(long value, byte[] chars, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            chars[offset + i] = HEX_DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private static boolean isNonZeroHex(CharSequence value, int offset, int length) {
+        boolean nonZero = false;
+        for (int i = offset; i < offset + length; i++) {
+            char c = value.charAt(i);
+            if (!isLowerHex(c)) {
+                return false;
+            }
+            nonZero |= c != '0';
+        }
+        return nonZero;
+    }
+
+    private static boolean isHex(CharSequence value, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (!isLowerHex(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLowerHex(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f');
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.monikit.core;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C Trace Context 형식(128비트, 소문자 16진수 32자)의 Trace ID를 만드는 기본 {@link TraceIdGenerator}.
+ * <p>
+ * - 스레드별 {@link ThreadLocalRandom}에서 64비트 두 개를 뽑으므로 {@code UUID.randomUUID()}처럼 공유 {@code SecureRandom}에서 경합하지 않는다.
+ * - 암호학적으로 안전한 난수가 아니므로 Trace ID를 인증/보안 토큰으로 사용해서는 안 된다.
+ * - 모두 0인 ID는 W3C 규격상 무효이므로 다시 뽑는다.
+ * - 결과는 {@code traceparent} 헤더의 trace-id로 그대로 사용할 수 있다 ({@link TraceParent} 참고).
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class W3CTraceIdGenerator implements TraceIdGenerator {
+
+    @Override
+    public String generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high;
+        long low;
+        do {
+            high = random.nextLong();
+            low = random.nextLong();
+        } while (high == 0 && low == 0);
+        return TraceParent.toHex(high, low);
+    }
+
+}
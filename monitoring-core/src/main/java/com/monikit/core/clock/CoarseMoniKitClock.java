@@ -0,0 +1,97 @@
+package com.monikit.core.clock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 벽시계 시각을 전용 스레드가 주기적으로 갱신해 두고, 로그 생성 시에는 캐시된 값만 읽는 시계.
+ * <p>
+ * 로그 엔트리마다 {@link Instant#now()}로 시각 객체를 만드는 대신 volatile long(epoch ms) 하나를 읽는다.
+ * 타임스탬프 정밀도는 {@code resolution}으로 떨어지지만, 실행 시간 측정({@link #nanoTime()})은
+ * 항상 {@link System#nanoTime()}을 사용하므로 영향을 받지 않는다.
+ * </p>
+ *
+ * <ul>
+ *     <li>갱신은 데몬 스레드({@code monikit-clock-ticker})가 {@code resolution}마다 수행하며, 갱신 시에는 객체를 만들지 않는다.</li>
+ *     <li>{@link #instant()}는 ms 단위로 잘린 시각을 반환한다. 같은 ms 값에 대해서는 처음 읽을 때 만든 {@link Instant}를 재사용한다.</li>
+ *     <li>반환 시각은 실제 시각보다 최대 {@code resolution}만큼 늦을 수 있다. 갱신 스레드가 GC나 CPU 경합으로 밀리면 그 시간만큼 더 늦어진다.
+ *         같은 갱신 주기 안에서 만든 로그는 같은 timestamp를 가진다.</li>
+ *     <li>{@link #close()} 이후에는 {@link Instant#now()}를 직접 읽는다.</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class CoarseMoniKitClock implements MoniKitClock, AutoCloseable {
+
+    public static final Duration DEFAULT_RESOLUTION = Duration.ofMillis(10);
+
+    private final ScheduledExecutorService ticker;
+    private volatile long currentMillis;
+    private volatile boolean closed;
+
+    /**
+     * 마지막으로 만든 시각. {@link Instant}는 불변이므로 경합 시 같은 값을 두 번 만들 뿐 잘못된 값을 읽지 않는다.
+     */
+    private Instant cached;
+
+    public CoarseMoniKitClock() {
+        this(DEFAULT_RESOLUTION);
+    }
+
+    /**
+     * @param resolution 캐시된 시각을 갱신하는 주기
+     */
+    public CoarseMoniKitClock(Duration resolution) {
+        if (resolution == null || resolution.isZero() || resolution.isNegative()) {
+            throw new IllegalArgumentException("resolution must be positive: " + resolution);
+        }
+        this.currentMillis = System.currentTimeMillis();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "monikit-clock-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodNanos = resolution.toNanos();
+        ticker.scheduleAtFixedRate(this::tick, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 캐시된 시각을 현재 시각으로 갱신한다.
+     */
+    void tick() {
+        currentMillis = System.currentTimeMillis();
+    }
+
+    @Override
+    public Instant instant() {
+        if (closed) {
+            return Instant.now();
+        }
+        long millis = currentMillis;
+        Instant instant = cached;
+        if (instant == null || instant.toEpochMilli() != millis) {
+            instant = Instant.ofEpochMilli(millis);
+            cached = instant;
+        }
+        return instant;
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * 갱신 스레드를 멈춘다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        ticker.shutdownNow();
+    }
+
+}
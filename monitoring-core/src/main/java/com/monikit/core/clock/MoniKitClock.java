@@ -0,0 +1,45 @@
+package com.monikit.core.clock;
+
+import java.time.Instant;
+
+/**
+ * 로그 타임스탬프와 실행 시간 측정에 사용하는 시계.
+ * <p>
+ * 두 시간을 분리해 제공한다.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link #instant()}: 로그 엔트리의 timestamp로 기록할 벽시계 시각. 구현에 따라 캐시된 값일 수 있다.</li>
+ *     <li>{@link #nanoTime()}: 실행 시간 측정용 단조 증가 시간. 두 값의 차이만 의미가 있다.</li>
+ * </ul>
+ *
+ * <p>
+ * 전역으로 사용할 시계는 {@link MoniKitClocks}에 등록한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ * @see SystemMoniKitClock
+ * @see CoarseMoniKitClock
+ */
+public interface MoniKitClock {
+
+    /**
+     * @return 현재 벽시계 시각 (UTC)
+     */
+    Instant instant();
+
+    /**
+     * @return 단조 증가 시간 (ns). 시작 시각과의 차이로 실행 시간을 계산한다.
+     */
+    long nanoTime();
+
+    /**
+     * @param startNanos {@link #nanoTime()}으로 얻은 시작 시각
+     * @return 시작 시각부터 지금까지 걸린 시간 (ns)
+     */
+    default long elapsedNanos(long startNanos) {
+        return nanoTime() - startNanos;
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.monikit.core.clock;
+
+/**
+ * 로그 모델과 계측 코드가 공유하는 전역 {@link MoniKitClock} 보관소.
+ * <p>
+ * 로그 엔트리는 static factory로 생성되므로 시계를 주입받을 수 없어, 생성 시점에 이 보관소의 시계를 읽는다.
+ * 기본값은 {@link SystemMoniKitClock}이다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class MoniKitClocks {
+
+    private static volatile MoniKitClock clock = SystemMoniKitClock.INSTANCE;
+
+    private MoniKitClocks() {
+    }
+
+    /**
+     * @return 현재 등록된 시계
+     */
+    public static MoniKitClock get() {
+        return clock;
+    }
+
+    /**
+     * 전역 시계를 교체한다.
+     *
+     * @param newClock 사용할 시계. null이면 {@link SystemMoniKitClock}
+     */
+    public static void set(MoniKitClock newClock) {
+        clock = newClock != null ? newClock : SystemMoniKitClock.INSTANCE;
+    }
+
+    /**
+     * 기본 시계({@link SystemMoniKitClock})로 되돌린다.
+     */
+    public static void reset() {
+        clock = SystemMoniKitClock.INSTANCE;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.monikit.core.clock;
+
+import java.time.Instant;
+
+/**
+ * 호출할 때마다 {@link Instant#now()}와 {@link System#nanoTime()}을 읽는 기본 시계.
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class SystemMoniKitClock implements MoniKitClock {
+
+    public static final SystemMoniKitClock INSTANCE = new SystemMoniKitClock();
+
+    private SystemMoniKitClock() {
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.now();
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+}
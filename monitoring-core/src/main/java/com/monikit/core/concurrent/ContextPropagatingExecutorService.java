@@ -0,0 +1,132 @@
+package com.monikit.core.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.monikit.core.metrics.ExecutorTaskStats;
+
+/**
+ * 제출되는 모든 작업에 {@link ThreadContextHandler}를 자동으로 적용하는 {@link ExecutorService} 래퍼.
+ * <p>
+ * - 작업마다 {@code propagateToChildThread}를 직접 호출하지 않아도 로그 컨텍스트가 자식 스레드로 전파된다.
+ * - {@link ExecutorTaskStats}를 지정하면 작업의 큐 대기 시간과 실행 시간을 따로 기록한다.
+ * - 종료 관련 메서드는 위임 실행기에 그대로 전달한다.
+ * </p>
+ *
+ * 사용 예시:
+ * <pre>{@code
+ * ExecutorService executor = new ContextPropagatingExecutorService(
+ *     Executors.newFixedThreadPool(8), threadContextHandler, statsRegistry.forExecutor("order-fanout"));
+ * }</pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class ContextPropagatingExecutorService implements ExecutorService {
+
+    private final ExecutorService delegate;
+    private final ThreadContextHandler handler;
+    private final ExecutorTaskStats stats;
+
+    public ContextPropagatingExecutorService(ExecutorService delegate, ThreadContextHandler handler) {
+        this(delegate, handler, null);
+    }
+
+    /**
+     * @param delegate 실제로 작업을 실행할 실행기
+     * @param handler 컨텍스트 전파 핸들러
+     * @param stats 대기/실행 시간 통계 (null이면 기록하지 않음)
+     */
+    public ContextPropagatingExecutorService(ExecutorService delegate, ThreadContextHandler handler, ExecutorTaskStats stats) {
+        this.delegate = delegate;
+        this.handler = handler;
+        this.stats = stats;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(ContextPropagatingTasks.wrap(command, handler, stats));
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return delegate.submit(ContextPropagatingTasks.wrap(task, handler, stats));
+    }
+
+    @Override
+    public <T> Future<T> submit(Runnable task, T result) {
+        return delegate.submit(ContextPropagatingTasks.wrap(task, handler, stats), result);
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        return delegate.submit(ContextPropagatingTasks.wrap(task, handler, stats));
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+        return delegate.invokeAll(wrapAll(tasks));
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+        throws InterruptedException {
+        return delegate.invokeAll(wrapAll(tasks), timeout, unit);
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+        return delegate.invokeAny(wrapAll(tasks));
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        return delegate.invokeAny(wrapAll(tasks), timeout, unit);
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    public ExecutorService getDelegate() {
+        return delegate;
+    }
+
+    private <T> List<Callable<T>> wrapAll(Collection<? extends Callable<T>> tasks) {
+        List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            wrapped.add(ContextPropagatingTasks.wrap(task, handler, stats));
+        }
+        return wrapped;
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.monikit.core.concurrent;
+
+import java.util.concurrent.Callable;
+
+import com.monikit.core.metrics.ExecutorTaskStats;
+
+/**
+ * 작업을 {@link ThreadContextHandler}로 감싸고 대기/실행 시간을 기록하는 유틸리티.
+ * <p>
+ * - 감싸는 시점(제출 시점)에 부모 컨텍스트를 캡처하고 제출 시각을 기록한다.
+ * - 실행 시작까지의 시간은 대기 시간, 작업 본문 시간은 실행 시간으로 {@link ExecutorTaskStats}에 따로 누적한다.
+ * - 통계가 null이면 컨텍스트 전파만 한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class ContextPropagatingTasks {
+
+    private ContextPropagatingTasks() {
+    }
+
+    public static Runnable wrap(Runnable task, ThreadContextHandler handler, ExecutorTaskStats stats) {
+        Runnable propagated = handler.propagateToChildThread(task);
+        if (stats == null) {
+            return propagated;
+        }
+        long submittedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            stats.recordStart(startedAt - submittedAt);
+            boolean failed = true;
+            try {
+                propagated.run();
+                failed = false;
+            } finally {
+                stats.recordCompletion(System.nanoTime() - startedAt, failed);
+            }
+        };
+    }
+
+    public static <T> Callable<T> wrap(Callable<T> task, ThreadContextHandler handler, ExecutorTaskStats stats) {
+        Callable<T> propagated = handler.propagateToChildThread(task);
+        if (stats == null) {
+            return propagated;
+        }
+        long submittedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            stats.recordStart(startedAt - submittedAt);
+            boolean failed = true;
+            try {
+                T result = propagated.call();
+                failed = false;
+                return result;
+            } finally {
+                stats.recordCompletion(System.nanoTime() - startedAt, failed);
+            }
+        };
+    }
+
+}
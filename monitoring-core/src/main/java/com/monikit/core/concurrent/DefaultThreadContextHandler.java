@@ -3,12 +3,14 @@ package com.monikit.core.concurrent;
 import java.util.concurrent.Callable;
 
 import com.monikit.core.context.LogEntryContext;
+import com.monikit.core.exception.ExceptionAggregator;
 import com.monikit.core.model.ExceptionLog;
 
 /**
  * 기본 스레드 컨텍스트 전파 구현체.
  * <p>
  * - 부모 스레드의 로그 컨텍스트를 자식 스레드로 전달하는 기능을 제공한다.
+ * - {@link ExceptionAggregator}가 지정되면 같은 지문의 반복 예외는 {@link ExceptionLog} 대신 요약 로그로 묶고, 요청에는 예외 여부만 표시한다.
  * </p>
  *
  * @author ryu-qqq
@@ -17,6 +19,20 @@ import com.monikit.core.model.ExceptionLog;
 
 public class DefaultThreadContextHandler implements ThreadContextHandler {
 
+    private final ExceptionAggregator exceptionAggregator;
+
+    public DefaultThreadContextHandler() {
+        this(null);
+    }
+
+    /**
+     * @param exceptionAggregator 반복 예외 집계기 (null이면 예외마다 {@link ExceptionLog}를 남김)
+     * @since 1.1.3
+     */
+    public DefaultThreadContextHandler(ExceptionAggregator exceptionAggregator) {
+        this.exceptionAggregator = exceptionAggregator;
+    }
+
     @Override
     public Runnable propagateToChildThread(Runnable task) {
         return ThreadContextPropagator.propagateToChildThread(task);
@@ -53,7 +69,9 @@ public class DefaultThreadContextHandler implements ThreadContextHandler {
         if (LogEntryContext.hasError()) {
             return;
         }
-        LogEntryContext.addLog(ExceptionLog.of(traceId, exception));
+        if (exceptionAggregator == null || exceptionAggregator.record(exception, traceId)) {
+            LogEntryContext.addLog(ExceptionLog.of(traceId, exception));
+        }
         LogEntryContext.setErrorOccurred(true);
     }
 
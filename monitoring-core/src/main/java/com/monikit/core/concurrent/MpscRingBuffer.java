@@ -0,0 +1,131 @@
+package com.monikit.core.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 다수의 생산자와 단일 소비자를 위한 고정 크기 lock-free 링 버퍼.
+ * <p>
+ * - 슬롯마다 시퀀스 값을 두어, 생산자는 CAS 한 번으로 슬롯을 예약하고 소비자는 락 없이 순서대로 꺼낸다.
+ * - 버퍼가 가득 차면 {@link #offer(Object)}는 대기하지 않고 즉시 {@code false}를 반환한다.
+ * - {@link #drain(Consumer, int)}는 반드시 하나의 스레드에서만 호출해야 한다.
+ * </p>
+ *
+ * @param <E> 저장할 요소 타입
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class MpscRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    /**
+     * @param requestedCapacity 요청 용량. 2의 거듭제곱으로 올림 처리된다.
+     */
+    public MpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("capacity must be >= 2: " + requestedCapacity);
+        }
+        this.capacity = roundUpToPowerOfTwo(requestedCapacity);
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 요소를 버퍼에 추가한다.
+     *
+     * @param element 추가할 요소 (null 불가)
+     * @return 버퍼가 가득 차 추가하지 못했으면 false
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        while (true) {
+            long index = producerIndex.get();
+            int slot = (int) (index & mask);
+            long diff = sequences.get(slot) - index;
+            if (diff == 0) {
+                if (producerIndex.compareAndSet(index, index + 1)) {
+                    elements.lazySet(slot, element);
+                    sequences.lazySet(slot, index + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * 현재 꺼낼 수 있는 요소를 최대 {@code limit}개까지 꺼내 전달한다.
+     * <p>
+     * 단일 소비자 스레드에서만 호출해야 한다.
+     * </p>
+     *
+     * @param consumer 꺼낸 요소를 받을 소비자
+     * @param limit 최대 처리 개수
+     * @return 실제로 꺼낸 요소 수
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        long index = consumerIndex.get();
+        int drained = 0;
+        while (drained < limit) {
+            int slot = (int) (index & mask);
+            if (sequences.get(slot) != index + 1) {
+                break;
+            }
+            E element = elements.get(slot);
+            elements.lazySet(slot, null);
+            sequences.lazySet(slot, index + capacity);
+            index++;
+            drained++;
+            consumer.accept(element);
+        }
+        if (drained > 0) {
+            consumerIndex.lazySet(index);
+        }
+        return drained;
+    }
+
+    /**
+     * @return 현재 버퍼에 남아 있는 요소 수 (근사값)
+     */
+    public int size() {
+        long size = producerIndex.get() - consumerIndex.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private static int roundUpToPowerOfTwo(int value) {
+        int highest = Integer.highestOneBit(value);
+        if (highest == value) {
+            return value;
+        }
+        if (highest >= (1 << 30)) {
+            throw new IllegalArgumentException("capacity too large: " + value);
+        }
+        return highest << 1;
+    }
+
+}
@@ -1,17 +1,21 @@
 package com.monikit.core.concurrent;
 
-import java.util.Queue;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
+import com.monikit.core.context.ContextCarrier;
 import com.monikit.core.context.LogEntryContext;
-import com.monikit.core.model.LogEntry;
+import com.monikit.core.context.RequestContext;
 
 /**
  * 스레드 컨텍스트 전파를 담당하는 클래스.
  * <p>
  * - 부모 스레드의 로그 컨텍스트를 자식 스레드로 복사하여 실행할 수 있도록 지원한다.
- * - {@link LogEntryContext}에서 로그 데이터를 가져와 복사함.
+ * - 작업을 감쌀 때 {@link RequestContext#fork()}로 부모 로그를 복사 없이 공유하므로 제출 비용은 로그 수와 무관함.
+ * - 자식 스레드에서는 실행마다 빈 버퍼를 가진 자식 컨텍스트를 {@link LogEntryContext#attach(RequestContext)}로 연결한다.
+ *   자식이 쌓은 로그와 예외 여부는 쌓이는 즉시 부모 요청에 넘어가므로({@link RequestContext.Fork#newMergingChild()}),
+ *   실행기가 작업을 {@code FutureTask}나 {@code CompletableFuture}로 한 번 더 감싸 작업 종료 처리보다 먼저 완료를 알려도
+ *   {@code join()} 직후의 flush에 포함된다. 부모가 이미 flush된 뒤에 쌓인 로그는 버려진다.
+ * - 작업이 끝나면 스레드의 컨텍스트는 실행 전 상태로 돌아간다.
  * </p>
  *
  * @author ryu-qqq
@@ -25,15 +29,17 @@ public class ThreadContextPropagator {
      * @param task 실행할 Runnable
      * @return 부모 스레드의 컨텍스트가 복사된 새로운 Runnable
      */
+    @SuppressWarnings("try")
     public static Runnable propagateToChildThread(Runnable task) {
-        Queue<LogEntry> parentLogs = new ConcurrentLinkedQueue<>(LogEntryContext.getLogs());
-        boolean parentHasError = LogEntryContext.hasError();
+        RequestContext.Fork fork = LogEntryContext.current().fork();
 
         return () -> {
-            LogEntryContext.clear();
-            parentLogs.forEach(LogEntryContext::addLog);
-            LogEntryContext.setErrorOccurred(parentHasError);
-            task.run();
+            RequestContext child = fork.newMergingChild();
+            try (ContextCarrier.Scope scope = LogEntryContext.attach(child)) {
+                task.run();
+            } finally {
+                fork.mergeBack(child);
+            }
         };
     }
 
@@ -44,15 +50,17 @@ public class ThreadContextPropagator {
      * @param task 실행할 Callable
      * @return 부모 스레드의 컨텍스트가 복사된 새로운 Callable
      */
+    @SuppressWarnings("try")
     public static <T> Callable<T> propagateToChildThread(Callable<T> task) {
-        Queue<LogEntry> parentLogs = new ConcurrentLinkedQueue<>(LogEntryContext.getLogs());
-        boolean parentHasError = LogEntryContext.hasError();
+        RequestContext.Fork fork = LogEntryContext.current().fork();
 
         return () -> {
-            LogEntryContext.clear();
-            parentLogs.forEach(LogEntryContext::addLog);
-            LogEntryContext.setErrorOccurred(parentHasError);
-            return task.call();
+            RequestContext child = fork.newMergingChild();
+            try (ContextCarrier.Scope scope = LogEntryContext.attach(child)) {
+                return task.call();
+            } finally {
+                fork.mergeBack(child);
+            }
         };
     }
 
@@ -0,0 +1,50 @@
+package com.monikit.core.context;
+
+/**
+ * {@link RequestContext}를 실행 중인 스레드(또는 작업)에 연결하는 SPI.
+ * <p>
+ * {@link LogEntryContext}의 모든 정적 메서드는 {@link #current()}를 한 번 조회해 동작한다.
+ * 기본 구현은 부모 스레드의 사본을 자동으로 물려주는 {@link InheritableContextCarrier}이며,
+ * 가상 스레드처럼 스레드가 작업마다 새로 만들어지는 환경에서는 작업 단위로 명시적으로 연결하는
+ * {@link ScopedContextCarrier}를 사용한다. 교체는 {@link LogEntryContext#setCarrier(ContextCarrier)}로 한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public interface ContextCarrier {
+
+    /**
+     * @return 현재 스레드에 연결된 컨텍스트. 연결된 컨텍스트가 없으면 새로 만들어 연결한다.
+     */
+    RequestContext current();
+
+    /**
+     * 현재 스레드에서 새 요청을 시작한다. 요청 진입점({@link com.monikit.core.LogContextScope})에서 호출한다.
+     *
+     * @return 요청이 끝날 때 닫아야 하는 범위
+     */
+    Scope open();
+
+    /**
+     * 다른 스레드에서 넘겨받은 컨텍스트를 현재 스레드에 연결한다.
+     *
+     * @param context 이 작업만 사용하는 컨텍스트 (다른 스레드와 공유하지 않는 사본이어야 한다)
+     * @return 작업이 끝날 때 닫아야 하는 범위
+     */
+    Scope attach(RequestContext context);
+
+    /**
+     * {@link #open()} / {@link #attach(RequestContext)}로 연결한 컨텍스트의 범위.
+     */
+    @FunctionalInterface
+    interface Scope extends AutoCloseable {
+
+        Scope NOOP = () -> { };
+
+        @Override
+        void close();
+
+    }
+
+}
@@ -1,8 +1,18 @@
 package com.monikit.core.context;
 
+import java.util.Arrays;
 import java.util.List;
 
 import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.context.overflow.FlushAllOverflowPolicy;
+import com.monikit.core.context.overflow.LogEntrySizeEstimator;
+import com.monikit.core.context.overflow.OverflowContext;
+import com.monikit.core.context.overflow.OverflowLimits;
+import com.monikit.core.context.overflow.OverflowPolicy;
+import com.monikit.core.context.sampling.KeepAllTailSamplingPolicy;
+import com.monikit.core.context.sampling.TailSamplingPolicy;
+import com.monikit.core.metrics.LogContextOverflowStats;
 import com.monikit.core.notifier.LogNotifier;
 import com.monikit.core.hook.LogAddHook;
 import com.monikit.core.hook.LogFlushHook;
@@ -23,7 +33,15 @@ import com.monikit.core.model.LogEntry;
  *     <li>로그 추가 시 {@link LogAddHook} 리스트를 통해 알림, 통계, 이벤트 후처리를 유연하게 수행</li>
  *     <li>flush 시 {@link LogFlushHook}을 통해 로그 집계 및 외부 전송 등 배치성 후처리 지원</li>
  *     <li>{@link LogNotifier}를 통해 로그를 전송하거나 기록 (예: Console, Slack, File 등)</li>
- *     <li>{@code MAX_LOG_SIZE} 초과 시 자동으로 flush 수행</li>
+ *     <li>요청 버퍼가 {@link OverflowLimits}를 넘으면 {@link OverflowPolicy}에 따라 처리 (기본: 전체 flush)</li>
+ *     <li>flush 시 {@link TailSamplingPolicy}가 요청 결과를 보고 전송할 로그를 고름 (기본: 전체 전송). {@link LogFlushHook}에는 전체 로그 전달.
+ *     overflow 정책이 요청 도중 먼저 전송(spill / 전체 flush)한 로그는 아직 요청 결과를 알 수 없으므로 정책을 거치지 않고 모두 전송하며,
+ *     그 수를 {@link LogContextOverflowStats#getUnsampledCount()}로 센다</li>
+ *     <li>{@link LogFlushHook}이 없고 {@link LogNotifier#supports}가 false인 타입의 로그는 버퍼에 보관하지 않음 ({@link LogAddHook}은 그대로 호출).
+ *     단, {@link KeepAllTailSamplingPolicy} 외의 정책이 있으면 정책이 요청 결과를 판단할 수 있도록 모든 타입을 보관</li>
+ *     <li>{@link LogLevelThresholds}로 타입별 최소 레벨을 지정하면 그보다 낮은 레벨의 로그는 버린다</li>
+ *     <li>{@link #addLog(LogType, LogLevel, java.util.function.Supplier)}는 생성 시점에 계산한 타입 x 레벨 허용 행렬과
+ *     Sink / {@link LogAddHook#supports} / {@link LogFlushHook} 수요를 먼저 확인하고, 받을 곳이 없으면 로그를 만들지 않는다</li>
  *     <li>멀티스레드 환경에서도 로그 컨텍스트를 안전하게 유지할 수 있도록 설계됨</li>
  * </ul>
  *
@@ -38,35 +56,129 @@ import com.monikit.core.model.LogEntry;
 
 public class DefaultLogEntryContextManager implements LogEntryContextManager {
 
-    private static final int MAX_LOG_SIZE = 300;
     private final LogNotifier logNotifier;
     private final List<LogAddHook> addHooks;
     private final List<LogFlushHook> flushHooks;
+    private final OverflowPolicy overflowPolicy;
+    private final OverflowLimits overflowLimits;
+    private final LogEntrySizeEstimator sizeEstimator;
+    private final LogContextOverflowStats overflowStats;
+    private final TailSamplingPolicy tailSamplingPolicy;
+    private final LogLevelThresholds levelThresholds;
+    /** 기본 외 tail sampling 정책이 설정되었는지 */
+    private final boolean sampling;
+    /** Sink 지원 여부와 무관하게 버퍼에 보관해야 하는지 (FlushHook 또는 tail sampling 정책이 전체 로그를 읽음) */
+    private final boolean bufferDemanded;
+    /** [LogType.ordinal][LogLevel.ordinal]: 최소 레벨을 통과하는지 */
+    private final boolean[][] levelAllowed;
+    /** [LogType.ordinal][LogLevel.ordinal]: 최소 레벨을 통과하고 Sink와 무관하게 훅 또는 버퍼 수요가 있는지 */
+    private final boolean[][] hookDemanded;
 
     public DefaultLogEntryContextManager(LogNotifier logNotifier, List<LogAddHook> addHooks, List<LogFlushHook> flushHooks) {
+        this(logNotifier, addHooks, flushHooks, new FlushAllOverflowPolicy(), OverflowLimits.defaults(),
+            new LogEntrySizeEstimator(), new LogContextOverflowStats());
+    }
+
+    public DefaultLogEntryContextManager(LogNotifier logNotifier, List<LogAddHook> addHooks, List<LogFlushHook> flushHooks,
+                                         OverflowPolicy overflowPolicy, OverflowLimits overflowLimits,
+                                         LogEntrySizeEstimator sizeEstimator, LogContextOverflowStats overflowStats) {
+        this(logNotifier, addHooks, flushHooks, overflowPolicy, overflowLimits, sizeEstimator, overflowStats,
+            new KeepAllTailSamplingPolicy());
+    }
+
+    public DefaultLogEntryContextManager(LogNotifier logNotifier, List<LogAddHook> addHooks, List<LogFlushHook> flushHooks,
+                                         OverflowPolicy overflowPolicy, OverflowLimits overflowLimits,
+                                         LogEntrySizeEstimator sizeEstimator, LogContextOverflowStats overflowStats,
+                                         TailSamplingPolicy tailSamplingPolicy) {
+        this(logNotifier, addHooks, flushHooks, overflowPolicy, overflowLimits, sizeEstimator, overflowStats,
+            tailSamplingPolicy, LogLevelThresholds.none());
+    }
+
+    public DefaultLogEntryContextManager(LogNotifier logNotifier, List<LogAddHook> addHooks, List<LogFlushHook> flushHooks,
+                                         OverflowPolicy overflowPolicy, OverflowLimits overflowLimits,
+                                         LogEntrySizeEstimator sizeEstimator, LogContextOverflowStats overflowStats,
+                                         TailSamplingPolicy tailSamplingPolicy, LogLevelThresholds levelThresholds) {
         this.logNotifier = logNotifier;
         this.addHooks = addHooks;
         this.flushHooks = flushHooks;
+        this.overflowPolicy = overflowPolicy;
+        this.overflowLimits = overflowLimits;
+        this.sizeEstimator = sizeEstimator;
+        this.overflowStats = overflowStats;
+        this.tailSamplingPolicy = tailSamplingPolicy;
+        this.levelThresholds = levelThresholds;
+        this.sampling = !(tailSamplingPolicy instanceof KeepAllTailSamplingPolicy);
+        this.bufferDemanded = !flushHooks.isEmpty() || sampling;
+
+        LogType[] types = LogType.values();
+        LogLevel[] levels = LogLevel.values();
+        this.levelAllowed = new boolean[types.length][levels.length];
+        this.hookDemanded = new boolean[types.length][levels.length];
+        for (LogType type : types) {
+            boolean demanded = bufferDemanded || addHooks.stream().anyMatch(h -> h.supports(type));
+            for (LogLevel level : levels) {
+                boolean allowed = levelThresholds.allows(type, level);
+                levelAllowed[type.ordinal()][level.ordinal()] = allowed;
+                hookDemanded[type.ordinal()][level.ordinal()] = allowed && demanded;
+            }
+        }
     }
 
     @Override
     public void addLog(LogEntry logEntry) {
-        if (LogEntryContext.size() >= MAX_LOG_SIZE) {
-            logNotifier.notify(LogLevel.WARN, "LogEntryContext cleared due to size limit");
-            flush();
+        if (!levelThresholds.allows(logEntry.getLogType(), logEntry.getLogLevel())) {
+            return;
+        }
+        if (!bufferDemanded && !logNotifier.supports(logEntry.getLogType())) {
+            addHooks.forEach(h -> h.onAdd(logEntry));
+            return;
+        }
+
+        RequestContext context = LogEntryContext.current();
+        LogEntryBuffer buffer = context.buffer();
+        long bytes = estimate(logEntry);
+
+        boolean accepted = true;
+        if (!hasRoom(buffer, bytes)) {
+            overflowStats.recordOverflow();
+            accepted = overflowPolicy.makeRoom(new BufferOverflowContext(buffer, logEntry, bytes));
+        }
+
+        if (accepted) {
+            buffer.add(logEntry, bytes);
+            context.publish();
+        } else {
+            overflowStats.recordDropped(1);
         }
-        LogEntryContext.addLog(logEntry);
         addHooks.forEach(h -> h.onAdd(logEntry));
     }
 
+    /**
+     * Sink 구성은 {@code DefaultLogNotifier#updateSinks}로 바뀔 수 있으므로 {@link LogNotifier#supports}는 매번 확인한다.
+     */
+    @Override
+    public boolean isEnabled(LogType logType, LogLevel logLevel) {
+        if (logLevel == null) {
+            return true;
+        }
+        int type = logType.ordinal();
+        int level = logLevel.ordinal();
+        if (hookDemanded[type][level]) {
+            return true;
+        }
+        return levelAllowed[type][level] && logNotifier.supports(logType);
+    }
 
     @Override
     public void flush() {
-        List<LogEntry> logs = LogEntryContext.getLogs().stream().toList();
-        for (LogEntry log : logs) {
-            logNotifier.notify(log);
-        }
+        LogEntryBuffer buffer = LogEntryContext.buffer();
+        overflowStats.recordFlushedSize(buffer.size(), buffer.estimatedBytes());
 
+        List<LogEntry> logs = buffer.view();
+        List<LogEntry> sampled = tailSamplingPolicy.sample(logs, LogEntryContext.hasError());
+        if (!sampled.isEmpty()) {
+            logNotifier.notifyBatch(sampled);
+        }
         flushHooks.forEach(h -> h.onFlush(logs));
         clear();
     }
@@ -76,4 +188,87 @@ public class DefaultLogEntryContextManager implements LogEntryContextManager {
         LogEntryContext.clear();
     }
 
+    /**
+     * overflow로 요청 도중 로그를 전송한다. 요청 결과를 아직 알 수 없으므로 tail sampling을 거치지 않는다.
+     */
+    private void emit(List<LogEntry> logs) {
+        if (sampling) {
+            overflowStats.recordUnsampled(logs.size());
+        }
+        logNotifier.notifyBatch(logs);
+        flushHooks.forEach(h -> h.onFlush(logs));
+    }
+
+    private boolean hasRoom(LogEntryBuffer buffer, long incomingBytes) {
+        if (buffer.isEmpty()) {
+            return true;
+        }
+        if (buffer.size() >= overflowLimits.getMaxEntries()) {
+            return false;
+        }
+        return !overflowLimits.isByteLimited()
+            || buffer.estimatedBytes() + incomingBytes <= overflowLimits.getMaxBytes();
+    }
+
+    private long estimate(LogEntry logEntry) {
+        return overflowLimits.isByteLimited() ? sizeEstimator.estimate(logEntry) : 0;
+    }
+
+    /**
+     * overflow 정책에 현재 스레드의 버퍼를 노출하는 컨텍스트.
+     */
+    private final class BufferOverflowContext implements OverflowContext {
+
+        private final LogEntryBuffer buffer;
+        private final LogEntry incoming;
+        private final long incomingBytes;
+
+        private BufferOverflowContext(LogEntryBuffer buffer, LogEntry incoming, long incomingBytes) {
+            this.buffer = buffer;
+            this.incoming = incoming;
+            this.incomingBytes = incomingBytes;
+        }
+
+        @Override
+        public LogEntryBuffer buffer() {
+            return buffer;
+        }
+
+        @Override
+        public LogEntry incoming() {
+            return incoming;
+        }
+
+        @Override
+        public boolean hasRoom() {
+            return DefaultLogEntryContextManager.this.hasRoom(buffer, incomingBytes);
+        }
+
+        @Override
+        public void drop(int index) {
+            buffer.removeAt(index);
+            overflowStats.recordDropped(1);
+        }
+
+        @Override
+        public void spillOldest(int count) {
+            LogEntry[] spilled = buffer.removeFirst(count);
+            if (spilled.length == 0) {
+                return;
+            }
+            overflowStats.recordSpilled(spilled.length);
+            emit(Arrays.asList(spilled));
+        }
+
+        @Override
+        public void flushAll() {
+            overflowStats.recordFullFlush();
+            logNotifier.notify(LogLevel.WARN, "LogEntryContext cleared due to size limit");
+            overflowStats.recordFlushedSize(buffer.size(), buffer.estimatedBytes());
+            emit(buffer.view());
+            buffer.clear();
+        }
+
+    }
+
 }
\ No newline at end of file
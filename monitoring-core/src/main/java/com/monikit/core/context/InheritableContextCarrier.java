@@ -0,0 +1,46 @@
+package com.monikit.core.context;
+
+/**
+ * {@link InheritableThreadLocal} 하나로 {@link RequestContext}를 보관하는 기본 {@link ContextCarrier}.
+ * <p>
+ * - 스레드마다 컨텍스트 하나를 두고 요청이 끝나도 제거하지 않으므로 플랫폼 스레드 풀에서 버퍼를 재사용한다.
+ * - 자식 스레드는 생성 시점의 부모 로그를 복사 없이 공유하는 자식 컨텍스트({@link RequestContext#fork()})를 물려받는다.
+ *   스레드를 직접 만든 경우에는 자식 로그가 부모에 합쳐지지 않는다.
+ * - {@link #open()}은 아무것도 연결하지 않는다. {@link #attach(RequestContext)}로 연결한 컨텍스트는 범위를 닫으면 이전 컨텍스트로 되돌린다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class InheritableContextCarrier implements ContextCarrier {
+
+    private final InheritableThreadLocal<RequestContext> holder = new InheritableThreadLocal<>() {
+        @Override
+        protected RequestContext initialValue() {
+            return new RequestContext();
+        }
+
+        @Override
+        protected RequestContext childValue(RequestContext parentValue) {
+            return parentValue.fork().newChild();
+        }
+    };
+
+    @Override
+    public RequestContext current() {
+        return holder.get();
+    }
+
+    @Override
+    public Scope open() {
+        return Scope.NOOP;
+    }
+
+    @Override
+    public Scope attach(RequestContext context) {
+        RequestContext previous = holder.get();
+        holder.set(context);
+        return () -> holder.set(previous);
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.monikit.core.context;
+
+import com.monikit.core.model.LogEntry;
+
+/**
+ * 부모 컨텍스트에서 물려받은 읽기 전용 로그 스냅샷.
+ * <p>
+ * 부모 버퍼의 배열을 복사하지 않고 참조하며({@link LogEntryBuffer#share()}), 부모도 다른 컨텍스트에서 물려받은 로그가 있으면
+ * 그 스냅샷을 {@code parent}로 연결한다. 불변이므로 여러 자식이 같은 인스턴스를 공유한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+final class InheritedLogs {
+
+    private final InheritedLogs parent;
+    private final LogEntry[] entries;
+    private final int count;
+    private final int totalSize;
+
+    private InheritedLogs(InheritedLogs parent, LogEntry[] entries, int count) {
+        this.parent = parent;
+        this.entries = entries;
+        this.count = count;
+        this.totalSize = (parent != null ? parent.totalSize : 0) + count;
+    }
+
+    /**
+     * @return {@code parent} 뒤에 {@code entries[0, count)}를 이은 스냅샷. 덧붙일 로그가 없으면 {@code parent}
+     */
+    static InheritedLogs of(InheritedLogs parent, LogEntry[] entries, int count) {
+        if (count == 0) {
+            return parent;
+        }
+        return new InheritedLogs(parent, entries, count);
+    }
+
+    int size() {
+        return totalSize;
+    }
+
+    /**
+     * 스냅샷의 로그를 오래된 순으로 {@code target}의 {@code offset}부터 복사한다.
+     */
+    void copyTo(LogEntry[] target, int offset) {
+        int start = offset + totalSize - count;
+        System.arraycopy(entries, 0, target, start, count);
+        if (parent != null) {
+            parent.copyTo(target, offset);
+        }
+    }
+
+}
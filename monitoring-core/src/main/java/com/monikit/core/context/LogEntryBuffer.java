@@ -0,0 +1,284 @@
+package com.monikit.core.context;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.monikit.core.model.LogEntry;
+
+/**
+ * 요청 단위 로그를 보관하는 배열 기반 버퍼.
+ * <p>
+ * - 스레드마다 하나씩 생성되어 요청이 끝나도 버리지 않고 {@link #clear()} 후 재사용된다.
+ * - 로그 하나당 노드 객체를 만들지 않으며, 늘어난 배열 용량은 다음 요청에서 그대로 사용한다.
+ * - 한 요청에서 용량이 {@link #MAX_RETAINED_CAPACITY}를 넘게 커졌다면 clear 시 기본 크기로 되돌려
+ *   유휴 스레드가 큰 배열을 계속 붙잡지 않도록 한다.
+ * - 단일 스레드 전용이다. 스레드 간 공유는 {@link #copy()}로 분리된 사본을 사용한다.
+ * - {@link #share()}로 내부 배열을 읽기 전용 스냅샷으로 내보낼 수 있다. 공유 중에는 기존 위치를 덮어쓰는 변경(제거, clear)
+ *   직전에 배열을 한 번 복사하므로(copy-on-write) 내보낸 구간은 바뀌지 않는다. 뒤에 덧붙이는 {@link #add(LogEntry)}는 복사하지 않는다.
+ * - 로그마다 추가 시점의 추정 크기를 함께 보관하고, 제거할 때는 다시 추정하지 않고 보관한 값을 뺀다.
+ *   추정값이 렌더링 여부 등 로그 상태에 따라 달라져도 {@link #estimatedBytes()}가 실제 내용과 어긋나지 않는다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class LogEntryBuffer {
+
+    static final int DEFAULT_CAPACITY = 32;
+    static final int MAX_RETAINED_CAPACITY = 1024;
+
+    private static final LogEntry[] EMPTY = new LogEntry[0];
+    private static final long[] NO_SIZES = new long[0];
+
+    private LogEntry[] entries;
+    /** entries와 같은 위치에 추가 시점의 추정 크기 (byte). 공유되지 않으므로 copy-on-write 대상이 아니다 */
+    private long[] sizes;
+    private int size;
+    private long estimatedBytes;
+    private boolean shared;
+
+    public LogEntryBuffer() {
+        this.entries = new LogEntry[DEFAULT_CAPACITY];
+        this.sizes = new long[DEFAULT_CAPACITY];
+    }
+
+    private LogEntryBuffer(LogEntry[] entries, long[] sizes, int size, long estimatedBytes) {
+        this.entries = entries;
+        this.sizes = sizes;
+        this.size = size;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    public void add(LogEntry logEntry) {
+        add(logEntry, 0);
+    }
+
+    /**
+     * 로그를 추가하고 추정 크기를 누적한다.
+     *
+     * @param logEntry 추가할 로그
+     * @param bytes 로그의 추정 크기 (byte). 제거할 때 이 값을 그대로 뺀다
+     */
+    public void add(LogEntry logEntry, long bytes) {
+        if (size == entries.length) {
+            grow(Math.max(DEFAULT_CAPACITY, entries.length << 1));
+        }
+        sizes[size] = bytes;
+        entries[size++] = logEntry;
+        estimatedBytes += bytes;
+    }
+
+    public LogEntry get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return entries[index];
+    }
+
+    /**
+     * @return 지정한 위치의 로그를 추가할 때 기록한 추정 크기 (byte)
+     */
+    public long sizeAt(int index) {
+        get(index);
+        return sizes[index];
+    }
+
+    /**
+     * 지정한 위치의 로그를 제거하고 뒤의 로그를 앞으로 당긴다. 추가할 때 기록한 추정 크기를 차감한다.
+     *
+     * @param index 제거할 위치
+     * @return 제거된 로그
+     */
+    public LogEntry removeAt(int index) {
+        LogEntry removed = get(index);
+        unshare();
+        estimatedBytes -= sizes[index];
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(entries, index + 1, entries, index, moved);
+            System.arraycopy(sizes, index + 1, sizes, index, moved);
+        }
+        entries[--size] = null;
+        return removed;
+    }
+
+    /**
+     * 가장 오래된 로그부터 최대 {@code count}개를 제거해 반환한다. 추가할 때 기록한 추정 크기를 차감한다.
+     *
+     * @param count 제거할 개수
+     * @return 제거된 로그 (오래된 순)
+     */
+    public LogEntry[] removeFirst(int count) {
+        int removedCount = Math.min(count, size);
+        if (removedCount <= 0) {
+            return EMPTY;
+        }
+        LogEntry[] removed = Arrays.copyOf(entries, removedCount);
+        for (int i = 0; i < removedCount; i++) {
+            estimatedBytes -= sizes[i];
+        }
+        unshare();
+        int remaining = size - removedCount;
+        System.arraycopy(entries, removedCount, entries, 0, remaining);
+        System.arraycopy(sizes, removedCount, sizes, 0, remaining);
+        Arrays.fill(entries, remaining, size, null);
+        size = remaining;
+        return removed;
+    }
+
+    /**
+     * 다른 버퍼의 로그를 뒤에 덧붙이고 추정 크기를 누적한다.
+     *
+     * @param logEntries 덧붙일 로그 (오래된 순)
+     * @param logSizes 로그마다 추가 시점의 추정 크기 (byte). {@code logEntries}와 길이가 같아야 한다
+     */
+    public void addAll(LogEntry[] logEntries, long[] logSizes) {
+        if (logEntries.length != logSizes.length) {
+            throw new IllegalArgumentException("entries and sizes differ in length: "
+                + logEntries.length + " != " + logSizes.length);
+        }
+        int required = size + logEntries.length;
+        if (required > entries.length) {
+            grow(Math.max(required, entries.length << 1));
+        }
+        System.arraycopy(logEntries, 0, entries, size, logEntries.length);
+        System.arraycopy(logSizes, 0, sizes, size, logSizes.length);
+        for (long bytes : logSizes) {
+            estimatedBytes += bytes;
+        }
+        size = required;
+    }
+
+    /**
+     * @return 현재 버퍼에 담긴 로그의 추정 크기 합 (byte). 크기 제한을 사용하지 않으면 0
+     */
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 현재 로그를 복사 없이 감싼 읽기 전용 뷰를 반환한다.
+     * <p>
+     * 뷰는 생성 시점의 로그 개수를 기준으로 하며, {@link #clear()} 이후에는 유효하지 않다.
+     * 버퍼 수명을 넘어 보관하려면 호출자가 직접 복사해야 한다.
+     * </p>
+     *
+     * @return 읽기 전용 로그 목록 뷰
+     */
+    public List<LogEntry> view() {
+        return size == 0 ? List.of() : new View(entries, size);
+    }
+
+    /**
+     * @return 현재 로그를 담은 독립된 버퍼 사본
+     */
+    public LogEntryBuffer copy() {
+        if (size == 0) {
+            return new LogEntryBuffer();
+        }
+        int capacity = Math.max(DEFAULT_CAPACITY, size);
+        return new LogEntryBuffer(Arrays.copyOf(entries, capacity), Arrays.copyOf(sizes, capacity), size, estimatedBytes);
+    }
+
+    /**
+     * 현재 내부 배열을 복사 없이 내보낸다. 반환된 배열의 {@code [0, size())} 구간은 이후에도 바뀌지 않는다.
+     *
+     * @return 내부 배열. 호출 시점의 {@link #size()}까지만 읽어야 한다
+     */
+    LogEntry[] share() {
+        shared = true;
+        return entries;
+    }
+
+    /**
+     * 현재 로그를 {@code target}의 {@code offset}부터 복사한다.
+     */
+    void copyTo(LogEntry[] target, int offset) {
+        System.arraycopy(entries, 0, target, offset, size);
+    }
+
+    /**
+     * @return 현재 로그를 담은 배열 사본
+     */
+    public LogEntry[] toArray() {
+        return size == 0 ? EMPTY : Arrays.copyOf(entries, size);
+    }
+
+    /**
+     * @return 현재 로그마다 추가 시점의 추정 크기를 담은 배열 사본. {@link #toArray()}와 같은 순서
+     */
+    long[] sizesToArray() {
+        return size == 0 ? NO_SIZES : Arrays.copyOf(sizes, size);
+    }
+
+    /**
+     * 버퍼를 비운다. 배열은 재사용하되 참조는 모두 해제한다. 공유 중인 배열은 그대로 두고 새 배열을 사용한다.
+     */
+    public void clear() {
+        if (shared) {
+            entries = new LogEntry[DEFAULT_CAPACITY];
+            shared = false;
+        } else if (entries.length > MAX_RETAINED_CAPACITY) {
+            entries = new LogEntry[DEFAULT_CAPACITY];
+        } else {
+            Arrays.fill(entries, 0, size, null);
+        }
+        if (sizes.length > MAX_RETAINED_CAPACITY) {
+            sizes = new long[DEFAULT_CAPACITY];
+        }
+        size = 0;
+        estimatedBytes = 0;
+    }
+
+    int capacity() {
+        return entries.length;
+    }
+
+    private void grow(int capacity) {
+        entries = Arrays.copyOf(entries, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+    }
+
+    private void unshare() {
+        if (shared) {
+            entries = Arrays.copyOf(entries, entries.length);
+            shared = false;
+        }
+    }
+
+    private static final class View extends AbstractList<LogEntry> implements RandomAccess {
+
+        private final LogEntry[] entries;
+        private final int size;
+
+        private View(LogEntry[] entries, int size) {
+            this.entries = entries;
+            this.size = size;
+        }
+
+        @Override
+        public LogEntry get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return entries[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+}
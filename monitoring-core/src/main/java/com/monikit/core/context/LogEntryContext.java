@@ -1,14 +1,26 @@
 package com.monikit.core.context;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 import com.monikit.core.model.LogEntry;
 
 /**
  * 요청 단위로 로그를 저장하고 관리하는 컨텍스트.
  * <p>
- * InheritableThreadLocal을 사용하여 부모 스레드에서 자식 스레드로 로그 컨텍스트를 전파할 수 있도록 한다.
+ * 로그 버퍼, 예외 발생 여부, traceId를 하나의 {@link RequestContext}로 묶고, 스레드와의 연결은 {@link ContextCarrier}에 맡긴다.
+ * 모든 정적 메서드는 컨텍스트를 한 번만 조회한다. 기본 Carrier는 {@link InheritableContextCarrier}이며
+ * 가상 스레드 환경에서는 {@link #setCarrier(ContextCarrier)}로 {@link ScopedContextCarrier}를 지정한다.
+ * </p>
+ * <p>
+ * 로그는 스레드마다 재사용되는 {@link LogEntryBuffer}에 저장된다. 요청이 끝나도 버퍼를 제거하지 않고 비우기만 하므로
+ * 요청마다 새 컬렉션을 만들지 않는다. 자식 스레드는 생성 시점의 부모 로그를 복사 없이 읽기 전용으로 공유하고
+ * 자신의 로그는 별도 버퍼에 쌓으며({@link RequestContext#fork()}), 자식의 {@link #clear()}가 부모 버퍼를 비우지 않는다.
+ * {@link #getLogs()}, {@link #view()}, {@link #snapshot()}, {@link #size()}는 물려받은 로그를 포함한다.
  * </p>
  *
  * @author ryu-qqq
@@ -16,21 +28,48 @@ import com.monikit.core.model.LogEntry;
  */
 public class LogEntryContext {
 
-    private static final InheritableThreadLocal<Queue<LogEntry>> logThreadLocal =
-        new InheritableThreadLocal<>() {
-            @Override
-            protected Queue<LogEntry> initialValue() {
-                return new ConcurrentLinkedQueue<>();
-            }
-        };
-
-    private static final InheritableThreadLocal<Boolean> hasError =
-        new InheritableThreadLocal<>() {
-            @Override
-            protected Boolean initialValue() {
-                return false;
-            }
-        };
+    private static volatile ContextCarrier carrier = new InheritableContextCarrier();
+
+    /**
+     * 컨텍스트를 스레드에 연결할 Carrier를 지정한다. 요청이 처리되기 전, 애플리케이션 시작 시점에 한 번 호출해야 한다.
+     *
+     * @param contextCarrier 사용할 Carrier
+     */
+    public static void setCarrier(ContextCarrier contextCarrier) {
+        carrier = Objects.requireNonNull(contextCarrier, "contextCarrier");
+    }
+
+    public static ContextCarrier getCarrier() {
+        return carrier;
+    }
+
+    /**
+     * @return 현재 요청(스레드)의 컨텍스트
+     */
+    public static RequestContext current() {
+        return carrier.current();
+    }
+
+    /**
+     * 현재 스레드에서 새 요청 컨텍스트를 시작한다.
+     *
+     * @return 요청이 끝날 때 닫아야 하는 범위
+     * @see ContextCarrier#open()
+     */
+    public static ContextCarrier.Scope open() {
+        return carrier.open();
+    }
+
+    /**
+     * 다른 스레드에서 넘겨받은 컨텍스트를 현재 스레드에 연결한다.
+     *
+     * @param context 이 작업만 사용하는 컨텍스트 사본
+     * @return 작업이 끝날 때 닫아야 하는 범위
+     * @see ContextCarrier#attach(RequestContext)
+     */
+    public static ContextCarrier.Scope attach(RequestContext context) {
+        return carrier.attach(context);
+    }
 
     /**
      * 현재 요청(스레드)에서 실행된 로그를 저장한다.
@@ -38,16 +77,49 @@ public class LogEntryContext {
      * @param logEntry 저장할 로그 객체
      */
     public static void addLog(LogEntry logEntry) {
-        logThreadLocal.get().add(logEntry);
+        RequestContext context = carrier.current();
+        context.buffer().add(logEntry);
+        context.publish();
+    }
+
+    /**
+     * 현재 요청(스레드)의 로그 버퍼를 반환한다. overflow 처리 등 버퍼를 직접 다뤄야 하는 경우에만 사용한다.
+     * 부모 스레드에서 물려받은 로그는 포함하지 않는다.
+     *
+     * @return 현재 스레드의 로그 버퍼
+     */
+    static LogEntryBuffer buffer() {
+        return carrier.current().buffer();
     }
 
     /**
-     * 현재 요청(스레드)에서 실행된 모든 로그를 반환한다.
+     * 현재 요청(스레드)에서 실행된 모든 로그의 사본을 반환한다.
      *
      * @return 현재 요청에서 발생한 로그 리스트
      */
     public static Queue<LogEntry> getLogs() {
-        return new ConcurrentLinkedQueue<>(logThreadLocal.get());
+        return new ArrayDeque<>(carrier.current().view());
+    }
+
+    /**
+     * 현재 요청(스레드)의 로그를 복사 없이 감싼 읽기 전용 뷰를 반환한다.
+     * <p>
+     * {@link #clear()} 이후에는 유효하지 않으므로 flush 처리 중에만 사용해야 한다.
+     * </p>
+     *
+     * @return 현재 요청에서 발생한 로그의 읽기 전용 뷰
+     */
+    public static List<LogEntry> view() {
+        return carrier.current().view();
+    }
+
+    /**
+     * 현재 요청(스레드)의 로그를 다른 스레드로 넘길 수 있도록 불변 사본으로 반환한다.
+     *
+     * @return 현재 요청에서 발생한 로그의 불변 사본
+     */
+    public static List<LogEntry> snapshot() {
+        return Collections.unmodifiableList(Arrays.asList(carrier.current().toArray()));
     }
 
     /**
@@ -55,7 +127,7 @@ public class LogEntryContext {
      * @return 현재 요청에서 발생한 로그 리스트의 사이즈
      */
     public static int size() {
-        return logThreadLocal.get().size();
+        return carrier.current().size();
     }
 
     /**
@@ -63,8 +135,7 @@ public class LogEntryContext {
      * (요청이 끝나면 호출해야 함)
      */
     public static void clear() {
-        logThreadLocal.remove();
-        hasError.set(false);
+        carrier.current().clear();
     }
 
     /**
@@ -73,14 +144,14 @@ public class LogEntryContext {
      * @return 예외 발생 여부 (true면 예외 발생)
      */
     public static boolean hasError() {
-        return hasError.get();
+        return carrier.current().hasError();
     }
 
     /**
      * 현재 요청에서 예외가 발생했음을 설정한다.
      */
     public static void setErrorOccurred(boolean errorOccurred) {
-        hasError.set(errorOccurred);
+        carrier.current().setErrorOccurred(errorOccurred);
     }
 
 }
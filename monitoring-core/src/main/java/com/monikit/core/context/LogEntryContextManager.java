@@ -1,5 +1,9 @@
 package com.monikit.core.context;
 
+import java.util.function.Supplier;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
 import com.monikit.core.concurrent.ThreadContextPropagator;
 import com.monikit.core.model.LogEntry;
 
@@ -23,6 +27,34 @@ public interface LogEntryContextManager {
      */
     void addLog(LogEntry logEntry);
 
+    /**
+     * 해당 타입/레벨의 로그를 받을 곳이 있을 때만 로그를 만들어 추가한다.
+     * <p>
+     * {@link #isEnabled(LogType, LogLevel)}가 false이면 {@code supplier}를 호출하지 않으므로,
+     * 타임스탬프, 스레드 이름, 문자열 등 로그 생성 비용이 들지 않는다.
+     * </p>
+     *
+     * @param logType 만들 로그의 타입
+     * @param logLevel 만들 로그의 레벨
+     * @param supplier 로그 생성 함수
+     * @since 1.1.3
+     */
+    default void addLog(LogType logType, LogLevel logLevel, Supplier<? extends LogEntry> supplier) {
+        if (isEnabled(logType, logLevel)) {
+            addLog(supplier.get());
+        }
+    }
+
+    /**
+     * 해당 타입/레벨의 로그를 기록할 필요가 있는지 반환한다.
+     *
+     * @return 기본 구현은 항상 true
+     * @since 1.1.3
+     */
+    default boolean isEnabled(LogType logType, LogLevel logLevel) {
+        return true;
+    }
+
     /**
      * 현재 요청에서 수집된 모든 로그를 출력하고 컨텍스트를 초기화한다.
      * <p>
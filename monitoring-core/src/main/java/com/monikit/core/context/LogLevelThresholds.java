@@ -0,0 +1,56 @@
+package com.monikit.core.context;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+
+/**
+ * {@link LogType}별 최소 로그 레벨.
+ * <p>
+ * 지정하지 않은 타입은 {@link LogLevel#TRACE}(모든 레벨 허용)로 간주한다.
+ * {@link DefaultLogEntryContextManager}는 이 값으로 타입 x 레벨 허용 행렬을 생성 시점에 한 번 계산한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class LogLevelThresholds {
+
+    private static final LogLevelThresholds NONE = new LogLevelThresholds(Map.of());
+
+    private final LogLevel[] minimumByType;
+
+    private LogLevelThresholds(Map<LogType, LogLevel> minimumLevels) {
+        LogType[] types = LogType.values();
+        this.minimumByType = new LogLevel[types.length];
+        for (LogType type : types) {
+            LogLevel minimum = minimumLevels.get(type);
+            minimumByType[type.ordinal()] = minimum != null ? minimum : LogLevel.TRACE;
+        }
+    }
+
+    public static LogLevelThresholds of(Map<LogType, LogLevel> minimumLevels) {
+        if (minimumLevels == null || minimumLevels.isEmpty()) {
+            return NONE;
+        }
+        return new LogLevelThresholds(new EnumMap<>(minimumLevels));
+    }
+
+    public static LogLevelThresholds none() {
+        return NONE;
+    }
+
+    public LogLevel getMinimum(LogType logType) {
+        return minimumByType[logType.ordinal()];
+    }
+
+    /**
+     * @return 해당 타입에서 이 레벨의 로그를 허용하면 true. 타입이나 레벨이 없으면 항상 true
+     */
+    public boolean allows(LogType logType, LogLevel logLevel) {
+        return logType == null || logLevel == null || logLevel.isAtLeast(minimumByType[logType.ordinal()]);
+    }
+
+}
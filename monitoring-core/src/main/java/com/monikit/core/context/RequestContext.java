@@ -0,0 +1,287 @@
+package com.monikit.core.context;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.monikit.core.model.LogEntry;
+
+/**
+ * 요청 하나의 로그 컨텍스트 상태.
+ * <p>
+ * 로그 버퍼, 예외 발생 여부, traceId를 한 객체에 담아 {@link ContextCarrier}가 스레드(또는 작업)에 한 번의 조회로 연결한다.
+ * 단일 스레드 전용이며, 다른 스레드로 넘길 때는 {@link #fork()}로 자식 컨텍스트를 만들거나 {@link #copy()}로 분리된 사본을 사용한다.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@link #fork()}는 로그를 복사하지 않는다. 자식은 부모 로그를 읽기 전용 스냅샷으로 공유하고 자신의 로그는 별도 버퍼에 쌓는다.</li>
+ *   <li>{@link Fork#mergeBack(RequestContext)}로 자식이 쌓은 로그와 예외 여부를 부모에 돌려준다. 부모는 다음 접근 시 자신의 스레드에서 합친다.</li>
+ *   <li>{@link Fork#newMergingChild()}로 만든 자식은 로그를 쌓거나 예외를 표시할 때마다 바로 부모에 넘긴다({@link #publish()}).
+ *       작업 종료를 기다리지 않으므로, 작업을 감싼 {@code Future}가 완료된 직후 부모가 flush해도 자식 로그가 빠지지 않는다.
+ *       이 자식이 다시 fork하면 손자는 같은 부모에 직접 넘긴다.</li>
+ *   <li>부모가 그 사이 {@link #clear()}(flush 포함)되었다면 늦게 돌아온 자식 로그는 버린다. 이전 요청의 로그가 다음 요청에 섞이지 않게 하기 위함이다.</li>
+ *   <li>합쳐지는 로그는 overflow 한도 검사를 거치지 않는다. 바로 넘기는 자식은 자기 버퍼가 늘 비어 있으므로 자식 쪽 한도도 적용되지 않는다.</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class RequestContext {
+
+    private final LogEntryBuffer buffer;
+    private final Queue<MergedLogs> merged = new ConcurrentLinkedQueue<>();
+    /** 로그를 바로 넘길 대상. {@link Fork#newMergingChild()}로 만든 자식에만 있다 */
+    private final Fork origin;
+    /** 부모에 넘긴 자기 로그. 자식에서 조회할 때 보이도록 남겨 둔다. {@code origin}이 있을 때만 있다 */
+    private final LogEntryBuffer published;
+    private InheritedLogs inherited;
+    private boolean errorOccurred;
+    private String traceId;
+    private int generation;
+    private boolean errorPublished;
+
+    public RequestContext() {
+        this(new LogEntryBuffer(), null, false, null, null);
+    }
+
+    private RequestContext(LogEntryBuffer buffer, InheritedLogs inherited, boolean errorOccurred, String traceId,
+                           Fork origin) {
+        this.buffer = buffer;
+        this.origin = origin;
+        this.published = origin != null ? new LogEntryBuffer() : null;
+        this.inherited = inherited;
+        this.errorOccurred = errorOccurred;
+        this.traceId = traceId;
+    }
+
+    /**
+     * @return 이 컨텍스트가 직접 쌓은 로그 버퍼. 부모에게서 물려받은 로그는 포함하지 않는다
+     */
+    LogEntryBuffer buffer() {
+        drainMerged();
+        return buffer;
+    }
+
+    public boolean hasError() {
+        drainMerged();
+        return errorOccurred;
+    }
+
+    public void setErrorOccurred(boolean errorOccurred) {
+        this.errorOccurred = errorOccurred;
+        publish();
+    }
+
+    /**
+     * @return 현재 요청의 traceId. 설정되지 않았으면 null
+     */
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public void setTraceId(String traceId) {
+        this.traceId = traceId;
+    }
+
+    /**
+     * @return 물려받은 로그와 직접 쌓은 로그(부모에 넘긴 로그 포함)를 합한 개수
+     */
+    public int size() {
+        return inheritedSize() + publishedSize() + buffer().size();
+    }
+
+    /**
+     * @return 물려받은 로그와 직접 쌓은 로그(부모에 넘긴 로그 포함)를 오래된 순으로 담은 배열 사본
+     */
+    public LogEntry[] toArray() {
+        LogEntryBuffer own = buffer();
+        int inheritedSize = inheritedSize();
+        int publishedSize = publishedSize();
+        if (inheritedSize == 0 && publishedSize == 0) {
+            return own.toArray();
+        }
+        LogEntry[] logs = new LogEntry[inheritedSize + publishedSize + own.size()];
+        if (inherited != null) {
+            inherited.copyTo(logs, 0);
+        }
+        if (publishedSize > 0) {
+            published.copyTo(logs, inheritedSize);
+        }
+        own.copyTo(logs, inheritedSize + publishedSize);
+        return logs;
+    }
+
+    /**
+     * 물려받은 로그와 부모에 넘긴 로그가 없으면 버퍼를 복사 없이 감싼 뷰를, 있으면 모두 합친 읽기 전용 사본을 반환한다.
+     */
+    List<LogEntry> view() {
+        if (inherited == null && publishedSize() == 0) {
+            return buffer().view();
+        }
+        return Collections.unmodifiableList(Arrays.asList(toArray()));
+    }
+
+    /**
+     * 로그와 예외 여부, 물려받은 로그를 비운다. traceId는 {@link com.monikit.core.TraceIdProvider#clear()}가 따로 관리하므로 유지한다.
+     * 아직 합쳐지지 않은 자식 로그도 버려진다.
+     */
+    public void clear() {
+        generation++;
+        merged.clear();
+        buffer.clear();
+        if (published != null) {
+            published.clear();
+        }
+        inherited = null;
+        errorOccurred = false;
+        errorPublished = false;
+    }
+
+    /**
+     * @return 물려받은 로그, 직접 쌓은 로그, 예외 여부, traceId를 복사한 독립된 사본
+     */
+    public RequestContext copy() {
+        LogEntryBuffer own = buffer();
+        if (publishedSize() == 0) {
+            return new RequestContext(own.copy(), inherited, errorOccurred, traceId, null);
+        }
+        LogEntryBuffer copied = published.copy();
+        copied.addAll(own.toArray(), own.sizesToArray());
+        return new RequestContext(copied, inherited, errorOccurred, traceId, null);
+    }
+
+    /**
+     * {@link Fork#newMergingChild()}로 만든 자식이면 아직 넘기지 않은 로그와 예외 여부를 부모에 넘기고 버퍼를 비운다.
+     * 그 외 컨텍스트에서는 아무것도 하지 않는다. 로그를 버퍼에 추가한 직후 호출한다.
+     */
+    void publish() {
+        if (origin != null) {
+            origin.mergeBack(this);
+        }
+    }
+
+    /**
+     * 현재 로그를 복사 없이 공유하는 자식 컨텍스트의 원본을 만든다. 이 컨텍스트를 소유한 스레드에서 호출해야 한다.
+     *
+     * @return 자식 컨텍스트를 만들고 결과를 돌려받는 {@link Fork}
+     */
+    public Fork fork() {
+        publish();
+        InheritedLogs snapshot = share(published != null ? share(inherited, published) : inherited, buffer());
+        if (origin != null) {
+            return new Fork(origin.parent, snapshot, errorOccurred, traceId, origin.generation);
+        }
+        return new Fork(this, snapshot, errorOccurred, traceId, generation);
+    }
+
+    private int inheritedSize() {
+        return inherited != null ? inherited.size() : 0;
+    }
+
+    private int publishedSize() {
+        return published != null ? published.size() : 0;
+    }
+
+    private static InheritedLogs share(InheritedLogs base, LogEntryBuffer logs) {
+        int count = logs.size();
+        return InheritedLogs.of(base, count == 0 ? null : logs.share(), count);
+    }
+
+    private void merge(LogEntry[] logs, long[] sizes, boolean error, int forkGeneration) {
+        if (logs.length == 0 && !error) {
+            return;
+        }
+        merged.add(new MergedLogs(logs, sizes, error, forkGeneration));
+    }
+
+    private void drainMerged() {
+        if (merged.isEmpty()) {
+            return;
+        }
+        int current = generation;
+        MergedLogs logs;
+        while ((logs = merged.poll()) != null) {
+            if (logs.generation != current) {
+                continue;
+            }
+            buffer.addAll(logs.entries, logs.sizes);
+            errorOccurred |= logs.error;
+        }
+    }
+
+    /**
+     * {@link #fork()} 시점의 부모 상태. 여러 스레드에서 공유해도 안전하다.
+     */
+    public static final class Fork {
+
+        private final RequestContext parent;
+        private final InheritedLogs snapshot;
+        private final boolean errorOccurred;
+        private final String traceId;
+        private final int generation;
+
+        private Fork(RequestContext parent, InheritedLogs snapshot, boolean errorOccurred, String traceId, int generation) {
+            this.parent = parent;
+            this.snapshot = snapshot;
+            this.errorOccurred = errorOccurred;
+            this.traceId = traceId;
+            this.generation = generation;
+        }
+
+        /**
+         * @return 부모 로그를 공유하고 빈 버퍼를 가진 새 자식 컨텍스트
+         */
+        public RequestContext newChild() {
+            return new RequestContext(new LogEntryBuffer(), snapshot, errorOccurred, traceId, null);
+        }
+
+        /**
+         * @return 부모 로그를 공유하고, 쌓는 로그와 예외 여부를 그때마다 부모에 넘기는 새 자식 컨텍스트.
+         *         넘긴 로그는 overflow 대상 버퍼에서 빠지지만 자식에서 조회하면 계속 보인다
+         */
+        public RequestContext newMergingChild() {
+            return new RequestContext(new LogEntryBuffer(), snapshot, errorOccurred, traceId, this);
+        }
+
+        /**
+         * 자식이 직접 쌓은 로그와 예외 여부를 부모에 돌려주고 자식 버퍼를 비운다. 자식 컨텍스트를 실행한 스레드에서 호출해야 한다.
+         *
+         * @param child {@link #newChild()} 또는 {@link #newMergingChild()}로 만든 컨텍스트
+         */
+        public void mergeBack(RequestContext child) {
+            LogEntryBuffer own = child.buffer();
+            boolean error = child.errorOccurred && !errorOccurred && !child.errorPublished;
+            if (own.isEmpty() && !error) {
+                return;
+            }
+            LogEntry[] logs = own.toArray();
+            long[] sizes = own.sizesToArray();
+            parent.merge(logs, sizes, error, generation);
+            if (child.published != null) {
+                child.published.addAll(logs, sizes);
+            }
+            own.clear();
+            child.errorPublished |= error;
+        }
+
+    }
+
+    private static final class MergedLogs {
+
+        private final LogEntry[] entries;
+        private final long[] sizes;
+        private final boolean error;
+        private final int generation;
+
+        private MergedLogs(LogEntry[] entries, long[] sizes, boolean error, int generation) {
+            this.entries = entries;
+            this.sizes = sizes;
+            this.error = error;
+            this.generation = generation;
+        }
+
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.monikit.core.context;
+
+/**
+ * 상속되지 않는 {@link ThreadLocal}에 {@link RequestContext}를 작업 단위로 연결하는 {@link ContextCarrier}.
+ * <p>
+ * 가상 스레드용이다. 새로 만든 스레드는 부모 컨텍스트를 물려받지 않으므로 요청 중에 시작한 스레드가 부모 로그를 참조하지 않으며,
+ * 컨텍스트는 {@link #open()} / {@link #attach(RequestContext)}로 명시적으로 연결하고 범위를 닫으면 이전 상태로 되돌린다.
+ * 범위가 닫히면 스레드에 아무것도 남지 않는다.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@link #open()}은 빈 컨텍스트를 새로 연결한다. 바깥 컨텍스트가 있으면 traceId만 이어받는다.</li>
+ *   <li>{@link #attach(RequestContext)}로 연결한 컨텍스트는 범위를 닫으면 스레드에서 떨어진다. 작업 로그를 부모에 돌려주는 것은
+ *       {@link RequestContext.Fork#mergeBack(RequestContext)}의 몫이다({@link com.monikit.core.concurrent.ThreadContextPropagator}).</li>
+ *   <li>연결 없이 {@link #current()}를 호출하면 새 컨텍스트를 만들어 스레드가 끝날 때까지 연결해 둔다.</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class ScopedContextCarrier implements ContextCarrier {
+
+    private final ThreadLocal<RequestContext> holder = new ThreadLocal<>();
+
+    @Override
+    public RequestContext current() {
+        RequestContext context = holder.get();
+        if (context == null) {
+            context = new RequestContext();
+            holder.set(context);
+        }
+        return context;
+    }
+
+    @Override
+    public Scope open() {
+        RequestContext previous = holder.get();
+        RequestContext context = new RequestContext();
+        if (previous != null) {
+            context.setTraceId(previous.getTraceId());
+        }
+        holder.set(context);
+        return () -> restore(previous);
+    }
+
+    @Override
+    public Scope attach(RequestContext context) {
+        RequestContext previous = holder.get();
+        holder.set(context);
+        return () -> restore(previous);
+    }
+
+    private void restore(RequestContext previous) {
+        if (previous == null) {
+            holder.remove();
+        } else {
+            holder.set(previous);
+        }
+    }
+
+}
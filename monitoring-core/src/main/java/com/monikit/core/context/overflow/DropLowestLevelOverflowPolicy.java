@@ -0,0 +1,47 @@
+package com.monikit.core.context.overflow;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.context.LogEntryBuffer;
+
+/**
+ * 한도 초과 시 가장 낮은 레벨의 로그부터 버리는 정책.
+ * <p>
+ * - 심각도 순서는 TRACE &lt; DEBUG &lt; INFO &lt; WARN &lt; ERROR 이다.
+ * - 같은 레벨이면 오래된 로그부터 버린다.
+ * - 새 로그가 버퍼의 모든 로그보다 낮은 레벨이면 새 로그를 버린다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class DropLowestLevelOverflowPolicy implements OverflowPolicy {
+
+    @Override
+    public boolean makeRoom(OverflowContext context) {
+        int incomingRank = rank(context.incoming().getLogLevel());
+
+        while (!context.hasRoom()) {
+            LogEntryBuffer buffer = context.buffer();
+            int lowestIndex = 0;
+            int lowestRank = Integer.MAX_VALUE;
+            for (int i = 0; i < buffer.size(); i++) {
+                int rank = rank(buffer.get(i).getLogLevel());
+                if (rank < lowestRank) {
+                    lowestRank = rank;
+                    lowestIndex = i;
+                }
+            }
+
+            if (incomingRank < lowestRank) {
+                return false;
+            }
+            context.drop(lowestIndex);
+        }
+        return true;
+    }
+
+    private static int rank(LogLevel logLevel) {
+        return logLevel == null ? 0 : logLevel.getSeverity();
+    }
+
+}
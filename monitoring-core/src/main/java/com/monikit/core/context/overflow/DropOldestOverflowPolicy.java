@@ -0,0 +1,22 @@
+package com.monikit.core.context.overflow;
+
+/**
+ * 한도 초과 시 가장 오래된 로그부터 버리는 정책.
+ * <p>
+ * 요청 후반부의 로그(보통 응답, 예외)를 보존하고 싶을 때 사용한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class DropOldestOverflowPolicy implements OverflowPolicy {
+
+    @Override
+    public boolean makeRoom(OverflowContext context) {
+        while (!context.hasRoom()) {
+            context.drop(0);
+        }
+        return true;
+    }
+
+}
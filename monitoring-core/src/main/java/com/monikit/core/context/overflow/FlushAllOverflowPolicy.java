@@ -0,0 +1,20 @@
+package com.monikit.core.context.overflow;
+
+/**
+ * 한도 초과 시 WARN 로그를 남기고 버퍼 전체를 flush 하는 기본 정책.
+ * <p>
+ * 1.1.2 까지의 {@code MAX_LOG_SIZE} 동작과 같다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class FlushAllOverflowPolicy implements OverflowPolicy {
+
+    @Override
+    public boolean makeRoom(OverflowContext context) {
+        context.flushAll();
+        return true;
+    }
+
+}
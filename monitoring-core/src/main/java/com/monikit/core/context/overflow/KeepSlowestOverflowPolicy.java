@@ -0,0 +1,69 @@
+package com.monikit.core.context.overflow;
+
+import com.monikit.core.context.LogEntryBuffer;
+import com.monikit.core.model.BatchJobLog;
+import com.monikit.core.model.DatabaseQueryLog;
+import com.monikit.core.model.ExecutionLog;
+import com.monikit.core.model.HttpInboundResponseLog;
+import com.monikit.core.model.HttpOutboundResponseLog;
+import com.monikit.core.model.LogEntry;
+
+/**
+ * 한도 초과 시 실행 시간이 가장 짧은 로그부터 버려, 실행 시간 기준 상위 K개를 남기는 정책.
+ * <p>
+ * - 실행 시간이 있는 로그(메서드 실행, 쿼리, HTTP 응답, 배치 Job)만 제거 대상이다.
+ * - 새 로그가 버퍼의 어떤 로그보다도 빠르면 새 로그를 버린다.
+ * - 제거 대상이 없으면(예외, 요청 로그 등만 남은 경우) 가장 오래된 로그를 버린다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class KeepSlowestOverflowPolicy implements OverflowPolicy {
+
+    private static final long NOT_TIMED = -1L;
+
+    @Override
+    public boolean makeRoom(OverflowContext context) {
+        long incomingTime = executionTimeOf(context.incoming());
+
+        while (!context.hasRoom()) {
+            LogEntryBuffer buffer = context.buffer();
+            int fastestIndex = -1;
+            long fastestTime = Long.MAX_VALUE;
+            for (int i = 0; i < buffer.size(); i++) {
+                long time = executionTimeOf(buffer.get(i));
+                if (time != NOT_TIMED && time < fastestTime) {
+                    fastestTime = time;
+                    fastestIndex = i;
+                }
+            }
+
+            if (fastestIndex >= 0 && incomingTime != NOT_TIMED && incomingTime <= fastestTime) {
+                return false;
+            }
+            context.drop(fastestIndex >= 0 ? fastestIndex : 0);
+        }
+        return true;
+    }
+
+    static long executionTimeOf(LogEntry logEntry) {
+        if (logEntry instanceof ExecutionLog log) {
+            return log.getExecutionTime();
+        }
+        if (logEntry instanceof DatabaseQueryLog log) {
+            return log.getExecutionTime();
+        }
+        if (logEntry instanceof HttpInboundResponseLog log) {
+            return log.getExecutionTime();
+        }
+        if (logEntry instanceof HttpOutboundResponseLog log) {
+            return log.getExecutionTime();
+        }
+        if (logEntry instanceof BatchJobLog log) {
+            return log.getExecutionTime();
+        }
+        return NOT_TIMED;
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.monikit.core.context.overflow;
+
+import java.util.Map;
+
+import com.monikit.core.model.DatabaseQueryLog;
+import com.monikit.core.model.ExceptionLog;
+import com.monikit.core.model.ExecutionDetailLog;
+import com.monikit.core.model.ExecutionLog;
+import com.monikit.core.model.HttpInboundRequestLog;
+import com.monikit.core.model.HttpInboundResponseLog;
+import com.monikit.core.model.HttpOutboundRequestLog;
+import com.monikit.core.model.HttpOutboundResponseLog;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.model.SimpleLog;
+
+/**
+ * 로그 한 건이 차지하는 메모리 크기를 대략적으로 추정한다.
+ * <p>
+ * 정확한 측정이 아니라 요청 버퍼의 크기 한도({@code maxBytes})를 판단하기 위한 값이며,
+ * 고정 헤더 크기에 가변 길이 문자열 필드(본문, 쿼리, 스택트레이스, 헤더 등)의 길이를 더한다.
+ * 문자열은 Latin-1 기준 1 byte/char로 계산한다.
+ * </p>
+ * <p>
+ * 아직 렌더링되지 않은 지연 필드(인자, 바디, 스택트레이스 등)는 크기 추정을 위해 렌더링하지 않고
+ * {@link #DEFERRED_FIELD_BYTES}로 계산한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class LogEntrySizeEstimator {
+
+    static final int BASE_ENTRY_BYTES = 96;
+    static final int DEFERRED_FIELD_BYTES = 256;
+    private static final int MAP_ENTRY_BYTES = 32;
+
+    /**
+     * @param logEntry 크기를 추정할 로그
+     * @return 추정 크기 (byte)
+     */
+    public long estimate(LogEntry logEntry) {
+        return BASE_ENTRY_BYTES + variableBytes(logEntry);
+    }
+
+    protected long variableBytes(LogEntry logEntry) {
+        if (logEntry instanceof ExecutionDetailLog log) {
+            long base = length(log.getClassName()) + length(log.getMethodName()) + length(log.getTag());
+            return base + (log.isRendered() ? length(log.getInput()) + length(log.getOutput()) : 2L * DEFERRED_FIELD_BYTES);
+        }
+        if (logEntry instanceof ExecutionLog log) {
+            return length(log.getClassName()) + length(log.getMethodName());
+        }
+        if (logEntry instanceof DatabaseQueryLog log) {
+            return length(log.getQuery()) + length(log.getParameters()) + length(log.getDataSource());
+        }
+        if (logEntry instanceof ExceptionLog log) {
+            return length(log.getMessage()) + length(log.getExceptionType())
+                + (log.isRendered() ? length(log.getStackTrace()) : DEFERRED_FIELD_BYTES);
+        }
+        if (logEntry instanceof HttpInboundRequestLog log) {
+            long base = length(log.getUri()) + length(log.getQuery()) + length(log.getUserAgent());
+            return base + (log.isRendered() ? length(log.getBody()) + length(log.getHeaders()) : 2L * DEFERRED_FIELD_BYTES);
+        }
+        if (logEntry instanceof HttpInboundResponseLog log) {
+            return length(log.getUri())
+                + (log.isRendered() ? length(log.getResponseBody()) + length(log.getHeaders()) : 2L * DEFERRED_FIELD_BYTES);
+        }
+        if (logEntry instanceof HttpOutboundRequestLog log) {
+            return length(log.getUri()) + length(log.getQuery()) + length(log.getBody()) + length(log.getHeaders());
+        }
+        if (logEntry instanceof HttpOutboundResponseLog log) {
+            return length(log.getUri()) + length(log.getResponseBody()) + length(log.getHeaders());
+        }
+        if (logEntry instanceof SimpleLog log) {
+            return length(log.getMessage());
+        }
+        return 0;
+    }
+
+    protected static long length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    protected static long length(Map<String, String> headers) {
+        if (headers == null || headers.isEmpty()) {
+            return 0;
+        }
+        long total = 0;
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            total += MAP_ENTRY_BYTES + length(header.getKey()) + length(header.getValue());
+        }
+        return total;
+    }
+
+}
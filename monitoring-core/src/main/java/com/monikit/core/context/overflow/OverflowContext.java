@@ -0,0 +1,51 @@
+package com.monikit.core.context.overflow;
+
+import com.monikit.core.context.LogEntryBuffer;
+import com.monikit.core.model.LogEntry;
+
+/**
+ * {@link OverflowPolicy}가 버퍼를 조작할 때 사용하는 컨텍스트.
+ * <p>
+ * 제거/전송은 반드시 이 컨텍스트를 통해 수행해야 추정 크기와 overflow 통계가 함께 갱신된다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public interface OverflowContext {
+
+    /**
+     * @return 현재 요청의 로그 버퍼 (읽기 용도)
+     */
+    LogEntryBuffer buffer();
+
+    /**
+     * @return 새로 추가하려는 로그
+     */
+    LogEntry incoming();
+
+    /**
+     * @return 새 로그를 넣어도 한도를 넘지 않으면 true. 버퍼가 비어 있으면 항상 true
+     */
+    boolean hasRoom();
+
+    /**
+     * 지정한 위치의 로그를 전송하지 않고 버린다.
+     *
+     * @param index 버릴 로그의 위치
+     */
+    void drop(int index);
+
+    /**
+     * 가장 오래된 로그부터 {@code count}개를 먼저 전송하고 버퍼에서 제거한다.
+     *
+     * @param count 전송할 개수
+     */
+    void spillOldest(int count);
+
+    /**
+     * 버퍼 전체를 flush 한다.
+     */
+    void flushAll();
+
+}
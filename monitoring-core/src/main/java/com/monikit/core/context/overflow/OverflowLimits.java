@@ -0,0 +1,48 @@
+package com.monikit.core.context.overflow;
+
+/**
+ * 요청 로그 버퍼의 한도.
+ * <p>
+ * - maxEntries: 요청당 보관할 최대 로그 수
+ * - maxBytes: 요청당 보관할 로그의 최대 추정 크기 (byte). 0 이하이면 크기 제한을 사용하지 않는다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class OverflowLimits {
+
+    public static final int DEFAULT_MAX_ENTRIES = 300;
+
+    private final int maxEntries;
+    private final long maxBytes;
+
+    private OverflowLimits(int maxEntries, long maxBytes) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be >= 1: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    public static OverflowLimits of(int maxEntries, long maxBytes) {
+        return new OverflowLimits(maxEntries, maxBytes);
+    }
+
+    public static OverflowLimits defaults() {
+        return new OverflowLimits(DEFAULT_MAX_ENTRIES, 0);
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public boolean isByteLimited() {
+        return maxBytes > 0;
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.monikit.core.context.overflow;
+
+/**
+ * 요청 로그 버퍼가 한도(개수 또는 추정 크기)를 넘을 때의 처리 정책.
+ * <p>
+ * {@code DefaultLogEntryContextManager}는 새 로그를 넣기 전에 한도를 확인하고,
+ * 넘을 경우 {@link #makeRoom(OverflowContext)}를 호출해 공간을 확보한다.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link FlushAllOverflowPolicy}: 전체 flush (기본값, 1.1.2 이전 동작)</li>
+ *     <li>{@link SpillOldestOverflowPolicy}: 오래된 N개만 먼저 전송</li>
+ *     <li>{@link DropOldestOverflowPolicy}: 가장 오래된 로그부터 버림</li>
+ *     <li>{@link KeepSlowestOverflowPolicy}: 실행 시간이 긴 로그를 우선 보존</li>
+ *     <li>{@link DropLowestLevelOverflowPolicy}: 낮은 레벨의 로그부터 버림</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public interface OverflowPolicy {
+
+    /**
+     * 새 로그가 들어갈 공간을 확보한다.
+     *
+     * @param context 현재 버퍼와 새 로그, 제거/전송 동작을 제공하는 컨텍스트
+     * @return 새 로그를 버퍼에 넣어야 하면 true, 새 로그를 버려야 하면 false
+     */
+    boolean makeRoom(OverflowContext context);
+
+}
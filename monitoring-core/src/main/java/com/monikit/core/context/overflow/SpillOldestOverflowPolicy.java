@@ -0,0 +1,35 @@
+package com.monikit.core.context.overflow;
+
+/**
+ * 한도 초과 시 가장 오래된 로그 N개만 먼저 전송하는 정책.
+ * <p>
+ * 전체 flush 대신 조금씩 내보내므로 요청 로그가 잘게 쪼개지지 않고, 버려지는 로그도 없다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class SpillOldestOverflowPolicy implements OverflowPolicy {
+
+    private final int spillSize;
+
+    public SpillOldestOverflowPolicy(int spillSize) {
+        if (spillSize < 1) {
+            throw new IllegalArgumentException("spillSize must be >= 1: " + spillSize);
+        }
+        this.spillSize = spillSize;
+    }
+
+    @Override
+    public boolean makeRoom(OverflowContext context) {
+        while (!context.hasRoom()) {
+            context.spillOldest(spillSize);
+        }
+        return true;
+    }
+
+    public int getSpillSize() {
+        return spillSize;
+    }
+
+}
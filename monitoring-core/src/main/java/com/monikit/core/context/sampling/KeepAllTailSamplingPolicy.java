@@ -0,0 +1,20 @@
+package com.monikit.core.context.sampling;
+
+import java.util.List;
+
+import com.monikit.core.model.LogEntry;
+
+/**
+ * 요청 로그를 모두 전송하는 기본 정책. tail sampling을 사용하지 않을 때와 같다.
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class KeepAllTailSamplingPolicy implements TailSamplingPolicy {
+
+    @Override
+    public List<LogEntry> sample(List<LogEntry> logs, boolean hasError) {
+        return logs;
+    }
+
+}
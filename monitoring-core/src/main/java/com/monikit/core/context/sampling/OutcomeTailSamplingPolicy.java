@@ -0,0 +1,116 @@
+package com.monikit.core.context.sampling;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.monikit.core.LogType;
+import com.monikit.core.model.ExecutionLog;
+import com.monikit.core.model.HttpInboundResponseLog;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.model.RequestSummaryLog;
+
+/**
+ * 요청 결과(오류, 응답 상태, 지연)에 따라 전송할 로그를 고르는 tail sampling 정책.
+ * <p>
+ * 다음 중 하나라도 해당하면 요청 로그 전체를 전송한다.
+ * </p>
+ * <ul>
+ *     <li>{@code keepOnError}가 true이고, 요청에 오류가 표시되었거나 {@link LogType#EXCEPTION} 로그가 있는 경우</li>
+ *     <li>{@link HttpInboundResponseLog}의 상태 코드가 {@code keepStatusCodeFrom} 이상인 경우 (0 이하이면 사용 안 함)</li>
+ *     <li>{@link HttpInboundResponseLog} 또는 {@link ExecutionLog}의 실행 시간이 {@code slowThresholdMs}를 넘는 경우 (0 이하이면 사용 안 함)</li>
+ * </ul>
+ * <p>
+ * 그 외 요청은 {@code keepRate} 비율만 전체 전송하고, 나머지는 {@code summarizeUnsampled}가 true이면
+ * {@link RequestSummaryLog} 하나로, false이면 아무것도 전송하지 않는다.
+ * 표본 여부는 traceId 해시로 결정하므로 같은 traceId를 쓰는 다른 서비스와 같은 결정을 내린다.
+ * traceId가 없으면 무작위로 결정한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class OutcomeTailSamplingPolicy implements TailSamplingPolicy {
+
+    private static final long SAMPLE_SCALE = 1L << 24;
+
+    private final boolean keepOnError;
+    private final int keepStatusCodeFrom;
+    private final long slowThresholdMs;
+    private final long keepThreshold;
+    private final boolean summarizeUnsampled;
+
+    /**
+     * @param keepOnError 오류가 난 요청을 전체 전송할지 여부
+     * @param keepStatusCodeFrom 전체 전송할 최소 응답 상태 코드 (예: 500)
+     * @param slowThresholdMs 전체 전송할 실행 시간 기준 (ms)
+     * @param keepRate 나머지 요청 중 전체 전송할 비율 (0.0 ~ 1.0)
+     * @param summarizeUnsampled 표본에서 빠진 요청을 요약 로그로 남길지 여부
+     */
+    public OutcomeTailSamplingPolicy(boolean keepOnError, int keepStatusCodeFrom, long slowThresholdMs,
+                                     double keepRate, boolean summarizeUnsampled) {
+        if (keepRate < 0.0 || keepRate > 1.0) {
+            throw new IllegalArgumentException("keepRate must be between 0.0 and 1.0: " + keepRate);
+        }
+        this.keepOnError = keepOnError;
+        this.keepStatusCodeFrom = keepStatusCodeFrom;
+        this.slowThresholdMs = slowThresholdMs;
+        this.keepThreshold = (long) (keepRate * SAMPLE_SCALE);
+        this.summarizeUnsampled = summarizeUnsampled;
+    }
+
+    @Override
+    public List<LogEntry> sample(List<LogEntry> logs, boolean hasError) {
+        if (logs.isEmpty() || (keepOnError && hasError) || isNotable(logs) || isSampled(logs.get(0).getTraceId())) {
+            return logs;
+        }
+        return summarizeUnsampled ? List.of(RequestSummaryLog.of(logs)) : List.of();
+    }
+
+    private boolean isNotable(List<LogEntry> logs) {
+        for (int i = 0, size = logs.size(); i < size; i++) {
+            LogEntry log = logs.get(i);
+            if (log instanceof HttpInboundResponseLog response) {
+                if ((keepStatusCodeFrom > 0 && response.getStatusCode() >= keepStatusCodeFrom) || isSlow(response.getExecutionTime())) {
+                    return true;
+                }
+            } else if (log instanceof ExecutionLog execution) {
+                if (isSlow(execution.getExecutionTime())) {
+                    return true;
+                }
+            } else if (keepOnError && log.getLogType() == LogType.EXCEPTION) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isSlow(long executionTime) {
+        return slowThresholdMs > 0 && executionTime > slowThresholdMs;
+    }
+
+    private boolean isSampled(String traceId) {
+        if (keepThreshold >= SAMPLE_SCALE) {
+            return true;
+        }
+        if (keepThreshold <= 0) {
+            return false;
+        }
+        long bucket = traceId != null ? mix(traceId.hashCode()) & (SAMPLE_SCALE - 1)
+            : ThreadLocalRandom.current().nextLong(SAMPLE_SCALE);
+        return bucket < keepThreshold;
+    }
+
+    /**
+     * {@link String#hashCode()}의 하위 비트 편향을 줄이기 위한 비트 섞기 (MurmurHash3 finalizer).
+     */
+    private static long mix(int hash) {
+        int h = hash;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+}
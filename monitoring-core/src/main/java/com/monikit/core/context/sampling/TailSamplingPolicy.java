@@ -0,0 +1,33 @@
+package com.monikit.core.context.sampling;
+
+import java.util.List;
+
+import com.monikit.core.model.LogEntry;
+
+/**
+ * 요청이 끝난 뒤(flush 시점) 요청 결과를 보고 전송할 로그를 고르는 tail sampling 정책.
+ * <p>
+ * {@code DefaultLogEntryContextManager}는 flush 시 요청 로그 전체와 오류 여부를 넘기고,
+ * 반환된 목록만 {@code LogNotifier}로 전송한다. {@code LogFlushHook}에는 항상 전체 로그가 전달된다.
+ * 요청 도중 overflow 정책으로 먼저 전송된 로그는 요청 결과를 알기 전이므로 샘플링 대상이 아니며 모두 전송된다.
+ * 그 수는 {@code LogContextOverflowStats#getUnsampledCount()}로 확인할 수 있다.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link KeepAllTailSamplingPolicy}: 모든 로그 전송 (기본값)</li>
+ *     <li>{@link OutcomeTailSamplingPolicy}: 오류/5xx/느린 요청은 전체, 나머지는 일부만 전체 전송하고 나머지는 요약 또는 생략</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public interface TailSamplingPolicy {
+
+    /**
+     * @param logs 요청 로그 전체 (읽기 전용 뷰, 호출 이후 재사용될 수 있음)
+     * @param hasError 요청 처리 중 예외가 발생했는지 여부
+     * @return 전송할 로그 목록. 전체를 보낼 때는 {@code logs}를 그대로 반환한다.
+     */
+    List<LogEntry> sample(List<LogEntry> logs, boolean hasError);
+
+}
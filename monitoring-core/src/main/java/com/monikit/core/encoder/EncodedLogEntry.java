@@ -0,0 +1,77 @@
+package com.monikit.core.encoder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.model.LogEntry;
+
+/**
+ * 이미 JSON으로 인코딩된 로그 엔트리.
+ * <p>
+ * 디스크 스풀처럼 로그를 바이트로 보관했다가 다시 Sink로 전달할 때 사용한다.
+ * 공통 필드(timestamp, traceId, logType, logLevel)만 객체로 들고 나머지는 원본 JSON을 그대로 유지하므로,
+ * {@link LogEntryEncoder}는 이 엔트리를 다시 인코딩하지 않고 원본 바이트를 그대로 쓴다.
+ * {@link #toString()}은 원본 JSON 문자열을 반환한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class EncodedLogEntry implements LogEntry {
+
+    private final Instant timestamp;
+    private final String traceId;
+    private final LogType logType;
+    private final LogLevel logLevel;
+    final byte[] json;
+
+    private EncodedLogEntry(Instant timestamp, String traceId, LogType logType, LogLevel logLevel, byte[] json) {
+        this.timestamp = timestamp;
+        this.traceId = traceId;
+        this.logType = logType;
+        this.logLevel = logLevel;
+        this.json = json;
+    }
+
+    /**
+     * @param json 개행 없는 JSON 객체의 UTF-8 바이트. 호출 이후 변경하지 않아야 한다.
+     */
+    public static EncodedLogEntry of(Instant timestamp, String traceId, LogType logType, LogLevel logLevel, byte[] json) {
+        return new EncodedLogEntry(timestamp, traceId, logType, logLevel, json);
+    }
+
+    @Override
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String getTraceId() {
+        return traceId;
+    }
+
+    @Override
+    public LogType getLogType() {
+        return logType;
+    }
+
+    @Override
+    public LogLevel getLogLevel() {
+        return logLevel;
+    }
+
+    /**
+     * @return 원본 JSON 바이트 길이
+     */
+    public int jsonLength() {
+        return json.length;
+    }
+
+    @Override
+    public String toString() {
+        return new String(json, StandardCharsets.UTF_8);
+    }
+
+}
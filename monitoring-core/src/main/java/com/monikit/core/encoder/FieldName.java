@@ -0,0 +1,45 @@
+package com.monikit.core.encoder;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 미리 인코딩된 JSON 필드 이름.
+ * <p>
+ * {@code "name":} 형태의 UTF-8 바이트를 생성 시 한 번만 만들어 두고, 인코딩 시에는 그대로 복사한다.
+ * 로그 모델에서 {@code static final} 상수로 선언해 사용한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class FieldName {
+
+    private final String name;
+    private final byte[] encoded;
+
+    private FieldName(String name) {
+        this.name = name;
+        this.encoded = ('"' + JsonEscaper.escape(name) + "\":").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static FieldName of(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Field name must not be empty");
+        }
+        return new FieldName(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    byte[] encoded() {
+        return encoded;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.monikit.core.encoder;
+
+/**
+ * JSON 문자열 이스케이프 규칙.
+ * <p>
+ * {@code "}, {@code \}, 제어 문자(U+0000~U+001F)만 이스케이프하며 나머지 문자는 그대로 둔다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+final class JsonEscaper {
+
+    static final byte[] HEX = "0123456789abcdef".getBytes();
+
+    /**
+     * 이스케이프 없이 그대로 쓸 수 있는 ASCII 문자 여부 (index: 문자 코드).
+     */
+    static final boolean[] PLAIN_ASCII = new boolean[128];
+
+    static {
+        for (int c = 0x20; c < 128; c++) {
+            PLAIN_ASCII[c] = c != '"' && c != '\\';
+        }
+    }
+
+    private JsonEscaper() {
+    }
+
+    /**
+     * @return 이스케이프가 필요한 경우 이스케이프 문자({@code n}, {@code t} 등), {@code \}u 형식이 필요하면 0
+     */
+    static char shortEscape(char c) {
+        return switch (c) {
+            case '"' -> '"';
+            case '\\' -> '\\';
+            case '\n' -> 'n';
+            case '\r' -> 'r';
+            case '\t' -> 't';
+            case '\b' -> 'b';
+            case '\f' -> 'f';
+            default -> 0;
+        };
+    }
+
+    static String escape(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 128 && PLAIN_ASCII[c]) {
+                sb.append(c);
+                continue;
+            }
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            char escape = shortEscape(c);
+            if (escape != 0) {
+                sb.append('\\').append(escape);
+            } else {
+                sb.append("\\u00").append((char) HEX[c >> 4]).append((char) HEX[c & 0xF]);
+            }
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,444 @@
+package com.monikit.core.encoder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.monikit.core.model.AbstractLogEntry;
+import com.monikit.core.model.LogEntry;
+
+/**
+ * {@link LogEntry}를 NDJSON(한 줄에 JSON 객체 하나)으로 인코딩하는 스트리밍 인코더.
+ * <p>
+ * - 로그 모델이 {@link AbstractLogEntry#writeFields(LogFieldWriter)}로 필드를 직접 쓰므로 중간 Map을 만들지 않는다.
+ * - 필드 이름은 {@link FieldName}으로 미리 인코딩된 바이트를 복사하고, 문자열은 ASCII 구간을 바이트 단위로 바로 쓴다.
+ * - 인코딩 결과는 내부 byte[]에 쌓인 뒤 {@link OutputStream} 또는 {@link ByteBuffer}로 한 번에 복사된다.
+ *   내부 배열은 재사용되며, {@link #MAX_RETAINED_CAPACITY}를 넘게 커지면 다음 인코딩 전에 기본 크기로 되돌린다.
+ * - {@link EncodedLogEntry}는 다시 인코딩하지 않고 보관 중인 JSON 바이트를 그대로 쓴다.
+ * - 인스턴스는 스레드 안전하지 않다. Sink 전송 스레드마다 하나씩 사용한다.
+ * </p>
+ *
+ * <pre>
+ * {"timestamp":"2025-01-01T00:00:00.123Z","traceId":"...","logType":"SIMPLE","logLevel":"INFO",...}\n
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class LogEntryEncoder {
+
+    static final int DEFAULT_CAPACITY = 1024;
+    static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final FieldName TIMESTAMP = FieldName.of("timestamp");
+    private static final FieldName TRACE_ID = FieldName.of("traceId");
+    private static final FieldName LOG_TYPE = FieldName.of("logType");
+    private static final FieldName LOG_LEVEL = FieldName.of("logLevel");
+    private static final FieldName MESSAGE = FieldName.of("message");
+
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes();
+
+    private final Writer writer = new Writer();
+    private byte[] bytes = new byte[DEFAULT_CAPACITY];
+    private int length;
+    private boolean firstField;
+
+    /**
+     * 로그 하나를 인코딩해 개행과 함께 스트림에 쓴다.
+     */
+    public void encode(LogEntry logEntry, OutputStream out) throws IOException {
+        reset();
+        appendLine(logEntry);
+        out.write(bytes, 0, length);
+    }
+
+    /**
+     * 로그 목록을 NDJSON으로 인코딩해 스트림에 한 번에 쓴다.
+     * 내부 버퍼가 {@link #MAX_RETAINED_CAPACITY}를 넘으면 중간에 나눠 쓴다.
+     */
+    public void encode(List<LogEntry> logEntries, OutputStream out) throws IOException {
+        reset();
+        for (LogEntry logEntry : logEntries) {
+            appendLine(logEntry);
+            if (length >= MAX_RETAINED_CAPACITY) {
+                out.write(bytes, 0, length);
+                length = 0;
+            }
+        }
+        if (length > 0) {
+            out.write(bytes, 0, length);
+        }
+    }
+
+    /**
+     * 로그 하나를 인코딩해 개행과 함께 {@code target}에 쓴다.
+     *
+     * @return 기록한 바이트 수
+     * @throws java.nio.BufferOverflowException {@code target}의 남은 공간이 부족한 경우 (이때 {@code target}은 변경되지 않는다)
+     */
+    public int encode(LogEntry logEntry, ByteBuffer target) {
+        reset();
+        appendLine(logEntry);
+        target.put(bytes, 0, length);
+        return length;
+    }
+
+    /**
+     * 로그 하나를 개행 없이 인코딩한 JSON 바이트를 반환한다. 반환된 배열은 호출자가 소유한다.
+     */
+    public byte[] encodeToBytes(LogEntry logEntry) {
+        reset();
+        appendObject(logEntry);
+        return Arrays.copyOf(bytes, length);
+    }
+
+    /**
+     * 로그 하나를 개행 없이 JSON 문자열로 인코딩한다. 테스트나 디버깅 용도.
+     */
+    public String encodeToString(LogEntry logEntry) {
+        reset();
+        appendObject(logEntry);
+        return new String(bytes, 0, length, java.nio.charset.StandardCharsets.UTF_8);
+    }
+
+    private void reset() {
+        if (bytes.length > MAX_RETAINED_CAPACITY) {
+            bytes = new byte[DEFAULT_CAPACITY];
+        }
+        length = 0;
+    }
+
+    private void appendLine(LogEntry logEntry) {
+        appendObject(logEntry);
+        writeByte('\n');
+    }
+
+    private void appendObject(LogEntry logEntry) {
+        if (logEntry instanceof EncodedLogEntry encoded) {
+            writeBytes(encoded.json);
+            return;
+        }
+        writeByte('{');
+        firstField = true;
+        if (logEntry instanceof AbstractLogEntry abstractLogEntry) {
+            abstractLogEntry.writeFields(writer);
+        } else {
+            writer.timestamp(TIMESTAMP, logEntry.getTimestamp());
+            writer.string(TRACE_ID, logEntry.getTraceId());
+            writer.string(LOG_TYPE, logEntry.getLogType() != null ? logEntry.getLogType().name() : null);
+            writer.string(LOG_LEVEL, logEntry.getLogLevel() != null ? logEntry.getLogLevel().name() : null);
+            writer.string(MESSAGE, logEntry.toString());
+        }
+        writeByte('}');
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = length + additional;
+        if (required > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length << 1));
+        }
+    }
+
+    private void writeByte(char c) {
+        ensureCapacity(1);
+        bytes[length++] = (byte) c;
+    }
+
+    private void writeBytes(byte[] source) {
+        ensureCapacity(source.length);
+        System.arraycopy(source, 0, bytes, length, source.length);
+        length += source.length;
+    }
+
+    private void writeFieldName(FieldName name) {
+        if (!firstField) {
+            writeByte(',');
+        }
+        firstField = false;
+        writeBytes(name.encoded());
+    }
+
+    private void writeDynamicFieldName(String name) {
+        if (!firstField) {
+            writeByte(',');
+        }
+        firstField = false;
+        writeQuoted(name);
+        writeByte(':');
+    }
+
+    private void writeQuoted(String value) {
+        if (value == null) {
+            writeBytes(NULL);
+            return;
+        }
+        int len = value.length();
+        ensureCapacity(len + 2);
+        byte[] b = bytes;
+        int pos = length;
+        b[pos++] = '"';
+        int i = 0;
+        // 대부분의 로그 문자열은 이스케이프가 필요 없는 ASCII이므로 바이트로 바로 복사한다.
+        while (i < len) {
+            char c = value.charAt(i);
+            if (c >= 128 || !JsonEscaper.PLAIN_ASCII[c]) {
+                break;
+            }
+            b[pos++] = (byte) c;
+            i++;
+        }
+        length = pos;
+        if (i < len) {
+            writeEscapedTail(value, i);
+        }
+        writeByte('"');
+    }
+
+    private void writeEscapedTail(String value, int from) {
+        int len = value.length();
+        for (int i = from; i < len; i++) {
+            char c = value.charAt(i);
+            if (c < 128) {
+                if (JsonEscaper.PLAIN_ASCII[c]) {
+                    writeByte(c);
+                    continue;
+                }
+                char escape = JsonEscaper.shortEscape(c);
+                ensureCapacity(6);
+                bytes[length++] = '\\';
+                if (escape != 0) {
+                    bytes[length++] = (byte) escape;
+                } else {
+                    bytes[length++] = 'u';
+                    bytes[length++] = '0';
+                    bytes[length++] = '0';
+                    bytes[length++] = JsonEscaper.HEX[c >> 4];
+                    bytes[length++] = JsonEscaper.HEX[c & 0xF];
+                }
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                bytes[length++] = (byte) (0xC0 | (c >> 6));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                ensureCapacity(4);
+                bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // 짝이 맞지 않는 surrogate는 U+FFFD로 대체한다.
+                ensureCapacity(3);
+                bytes[length++] = (byte) 0xEF;
+                bytes[length++] = (byte) 0xBF;
+                bytes[length++] = (byte) 0xBD;
+            } else {
+                ensureCapacity(3);
+                bytes[length++] = (byte) (0xE0 | (c >> 12));
+                bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeBytes(MIN_LONG);
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            bytes[length++] = '-';
+            value = -value;
+        }
+        int start = length;
+        do {
+            bytes[length++] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        for (int i = start, j = length - 1; i < j; i++, j--) {
+            byte tmp = bytes[i];
+            bytes[i] = bytes[j];
+            bytes[j] = tmp;
+        }
+    }
+
+    /**
+     * UTC 기준 ISO-8601 형식(밀리초 정밀도, 예: {@code 2025-01-01T00:00:00.123Z})으로 쓴다.
+     */
+    private void writeTimestamp(Instant instant) {
+        long epochSecond = instant.getEpochSecond();
+        long days = Math.floorDiv(epochSecond, 86_400L);
+        int secondOfDay = (int) Math.floorMod(epochSecond, 86_400L);
+
+        // days from civil 역변환 (proleptic Gregorian)
+        long z = days + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < 0 || year > 9999) {
+            writeQuoted(instant.toString());
+            return;
+        }
+
+        ensureCapacity(26);
+        bytes[length++] = '"';
+        writeDigits((int) year, 4);
+        bytes[length++] = '-';
+        writeDigits(month, 2);
+        bytes[length++] = '-';
+        writeDigits(day, 2);
+        bytes[length++] = 'T';
+        writeDigits(secondOfDay / 3600, 2);
+        bytes[length++] = ':';
+        writeDigits((secondOfDay / 60) % 60, 2);
+        bytes[length++] = ':';
+        writeDigits(secondOfDay % 60, 2);
+        bytes[length++] = '.';
+        writeDigits(instant.getNano() / 1_000_000, 3);
+        bytes[length++] = 'Z';
+        bytes[length++] = '"';
+    }
+
+    private void writeDigits(int value, int width) {
+        for (int i = length + width - 1; i >= length; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += width;
+    }
+
+    private void writeValue(Object value) {
+        if (value == null) {
+            writeBytes(NULL);
+        } else if (value instanceof CharSequence chars) {
+            writeQuoted(chars.toString());
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            writeLong(((Number) value).longValue());
+        } else if (value instanceof Number number) {
+            double d = number.doubleValue();
+            if (Double.isFinite(d)) {
+                writeBytes(number.toString().getBytes());
+            } else {
+                writeQuoted(number.toString());
+            }
+        } else if (value instanceof Boolean bool) {
+            writeBytes(bool ? TRUE : FALSE);
+        } else if (value instanceof Instant instant) {
+            writeTimestamp(instant);
+        } else if (value instanceof Map<?, ?> map) {
+            writeByte('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    writeByte(',');
+                }
+                first = false;
+                writeQuoted(String.valueOf(entry.getKey()));
+                writeByte(':');
+                writeValue(entry.getValue());
+            }
+            writeByte('}');
+        } else if (value instanceof Iterable<?> iterable) {
+            writeByte('[');
+            boolean first = true;
+            for (Object element : iterable) {
+                if (!first) {
+                    writeByte(',');
+                }
+                first = false;
+                writeValue(element);
+            }
+            writeByte(']');
+        } else if (value.getClass().isArray()) {
+            writeByte('[');
+            int size = Array.getLength(value);
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    writeByte(',');
+                }
+                writeValue(Array.get(value, i));
+            }
+            writeByte(']');
+        } else {
+            writeQuoted(value.toString());
+        }
+    }
+
+    /**
+     * 모델에 노출되는 {@link LogFieldWriter} 구현. 인코더의 내부 버퍼에 바로 쓴다.
+     */
+    private final class Writer implements LogFieldWriter {
+
+        @Override
+        public void string(FieldName name, String value) {
+            writeFieldName(name);
+            writeQuoted(value);
+        }
+
+        @Override
+        public void number(FieldName name, long value) {
+            writeFieldName(name);
+            writeLong(value);
+        }
+
+        @Override
+        public void bool(FieldName name, boolean value) {
+            writeFieldName(name);
+            writeBytes(value ? TRUE : FALSE);
+        }
+
+        @Override
+        public void timestamp(FieldName name, Instant value) {
+            writeFieldName(name);
+            if (value == null) {
+                writeBytes(NULL);
+            } else {
+                writeTimestamp(value);
+            }
+        }
+
+        @Override
+        public void stringMap(FieldName name, Map<String, String> value) {
+            writeFieldName(name);
+            if (value == null) {
+                writeBytes(NULL);
+                return;
+            }
+            writeByte('{');
+            boolean first = true;
+            for (Map.Entry<String, String> entry : value.entrySet()) {
+                if (!first) {
+                    writeByte(',');
+                }
+                first = false;
+                writeQuoted(entry.getKey());
+                writeByte(':');
+                writeQuoted(entry.getValue());
+            }
+            writeByte('}');
+        }
+
+        @Override
+        public void value(String name, Object value) {
+            writeDynamicFieldName(name);
+            writeValue(value);
+        }
+
+    }
+
+}
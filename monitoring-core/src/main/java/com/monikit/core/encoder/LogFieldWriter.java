@@ -0,0 +1,39 @@
+package com.monikit.core.encoder;
+
+import java.time.Instant;
+import java.util.Map;
+
+import com.monikit.core.model.AbstractLogEntry;
+
+/**
+ * 로그 필드를 중간 {@link Map} 없이 바로 출력 형식으로 쓰는 writer.
+ * <p>
+ * {@link AbstractLogEntry#writeFields(LogFieldWriter)}가 공통 필드와 모델별 필드를 이 인터페이스로 전달한다.
+ * null 값은 JSON {@code null}로 기록된다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ * @see LogEntryEncoder
+ */
+public interface LogFieldWriter {
+
+    void string(FieldName name, String value);
+
+    void number(FieldName name, long value);
+
+    void bool(FieldName name, boolean value);
+
+    void timestamp(FieldName name, Instant value);
+
+    void stringMap(FieldName name, Map<String, String> value);
+
+    /**
+     * 타입을 알 수 없는 값을 기록한다. 문자열, 숫자, boolean, Map, Iterable, 배열 외의 값은 {@code toString()} 결과로 기록한다.
+     *
+     * @param name 필드 이름 (미리 인코딩되지 않은 이름)
+     * @param value 값
+     */
+    void value(String name, Object value);
+
+}
@@ -0,0 +1,277 @@
+package com.monikit.core.exception;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.monikit.core.metrics.ExceptionFingerprintStats;
+import com.monikit.core.metrics.ExceptionFingerprintStatsRegistry;
+import com.monikit.core.model.ExceptionLog;
+import com.monikit.core.model.ExceptionSummaryLog;
+import com.monikit.core.notifier.LogNotifier;
+
+/**
+ * 같은 예외가 짧은 시간에 반복될 때 요청마다 {@link ExceptionLog}를 남기는 대신 하나의 요약 로그로 묶는 집계기.
+ * <p>
+ * 예외는 {@link ExceptionFingerprint}(예외 타입 + 상위 프레임)로 구분한다. 지문별로 {@code window} 길이의 집계 구간을 두고,
+ * 구간의 첫 예외만 평소처럼 요청 로그에 {@link ExceptionLog}로 남긴다. 같은 구간의 반복 예외는 횟수와 traceId만 기록하며,
+ * 구간이 끝나면 반복이 있었던 지문에 대해 {@link ExceptionSummaryLog} 하나를 {@link LogNotifier}로 바로 전송한다.
+ * 전용 데몬 스레드({@code monikit-exception-aggregator})가 {@code window}마다 끝난 구간을 정리한다.
+ * </p>
+ *
+ * <ul>
+ *   <li>지문 맵은 {@code maxFingerprints}로 제한된다. 한도가 찬 상태에서 새 지문이 들어오면 집계하지 않고 개별 로그로 남긴다.</li>
+ *   <li>구간이 끝난 지문은 정리 주기에 맵에서 제거되므로, 한도는 "최근 구간에 발생한 지문 수" 기준이다.</li>
+ *   <li>요약 로그는 여러 요청에 걸친 집계이므로 요청 로그 버퍼, {@code LogAddHook}, tail sampling을 거치지 않는다.</li>
+ *   <li>지문별 발생/요약 횟수는 {@link ExceptionFingerprintStatsRegistry}에 기록된다.</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class ExceptionAggregator implements AutoCloseable {
+
+    public static final Duration DEFAULT_WINDOW = Duration.ofSeconds(10);
+    public static final int DEFAULT_FRAME_DEPTH = 5;
+    public static final int DEFAULT_MAX_FINGERPRINTS = 1000;
+    public static final int DEFAULT_SAMPLE_SIZE = 5;
+
+    private final LogNotifier logNotifier;
+    private final long windowNanos;
+    private final int frameDepth;
+    private final int maxFingerprints;
+    private final int sampleSize;
+    private final ExceptionFingerprintStatsRegistry statsRegistry;
+    private final Map<ExceptionFingerprint, Aggregate> aggregates = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper;
+
+    public ExceptionAggregator(LogNotifier logNotifier) {
+        this(logNotifier, DEFAULT_WINDOW, DEFAULT_FRAME_DEPTH, DEFAULT_MAX_FINGERPRINTS, DEFAULT_SAMPLE_SIZE,
+            new ExceptionFingerprintStatsRegistry());
+    }
+
+    /**
+     * @param logNotifier 요약 로그를 전송할 Notifier
+     * @param window 지문별 집계 구간 길이
+     * @param frameDepth 지문에 포함할 상위 스택 프레임 수
+     * @param maxFingerprints 동시에 집계할 최대 지문 수
+     * @param sampleSize 요약 로그에 남길 traceId 표본 수
+     * @param statsRegistry 지문별 통계 저장소
+     */
+    public ExceptionAggregator(LogNotifier logNotifier, Duration window, int frameDepth, int maxFingerprints,
+                               int sampleSize, ExceptionFingerprintStatsRegistry statsRegistry) {
+        if (window == null || window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("window must be positive: " + window);
+        }
+        if (maxFingerprints <= 0) {
+            throw new IllegalArgumentException("maxFingerprints must be > 0: " + maxFingerprints);
+        }
+        this.logNotifier = logNotifier;
+        this.windowNanos = window.toNanos();
+        this.frameDepth = Math.max(frameDepth, 0);
+        this.maxFingerprints = maxFingerprints;
+        this.sampleSize = Math.max(sampleSize, 0);
+        this.statsRegistry = statsRegistry;
+
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "monikit-exception-aggregator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = Math.max(1, window.toMillis());
+        sweeper.scheduleWithFixedDelay(() -> sweep(System.nanoTime()), intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 예외 발생을 기록한다.
+     *
+     * @param exception 발생한 예외
+     * @param traceId 예외가 발생한 요청의 traceId
+     * @return 호출자가 {@link ExceptionLog}를 남겨야 하면 true, 요약 로그로 묶였으면 false
+     */
+    public boolean record(Throwable exception, String traceId) {
+        return record(exception, traceId, System.nanoTime());
+    }
+
+    boolean record(Throwable exception, String traceId, long nowNanos) {
+        ExceptionFingerprint fingerprint = ExceptionFingerprint.of(exception, frameDepth);
+        ExceptionFingerprintStats stats = statsRegistry.forFingerprint(fingerprint.getId(), fingerprint.getExceptionType());
+        stats.recordOccurrence();
+
+        while (true) {
+            Aggregate aggregate = aggregates.get(fingerprint);
+            if (aggregate == null) {
+                if (aggregates.size() >= maxFingerprints) {
+                    return true;
+                }
+                aggregate = aggregates.computeIfAbsent(fingerprint, Aggregate::new);
+            }
+
+            ExceptionSummaryLog summary;
+            boolean coalesced;
+            synchronized (aggregate) {
+                if (aggregate.removed) {
+                    continue;
+                }
+                summary = aggregate.isExpired(nowNanos, windowNanos) ? aggregate.close(nowNanos) : null;
+                if (aggregate.isOpen()) {
+                    aggregate.repeat(traceId, sampleSize);
+                    coalesced = true;
+                } else {
+                    aggregate.open(exception, traceId, nowNanos);
+                    coalesced = false;
+                }
+            }
+            emit(summary);
+            if (coalesced) {
+                stats.recordCoalesced();
+            }
+            return !coalesced;
+        }
+    }
+
+    /**
+     * 끝난 집계 구간을 닫아 반복이 있었으면 요약 로그를 전송하고, 해당 지문을 맵에서 제거한다.
+     */
+    void sweep(long nowNanos) {
+        try {
+            for (Aggregate aggregate : aggregates.values()) {
+                ExceptionSummaryLog summary;
+                synchronized (aggregate) {
+                    if (aggregate.isOpen() && !aggregate.isExpired(nowNanos, windowNanos)) {
+                        continue;
+                    }
+                    summary = aggregate.isOpen() ? aggregate.close(nowNanos) : null;
+                    aggregate.removed = true;
+                    aggregates.remove(aggregate.fingerprint, aggregate);
+                }
+                emit(summary);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("[monikit] failed to sweep exception aggregates: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return 현재 집계 중인 지문 수
+     */
+    public int size() {
+        return aggregates.size();
+    }
+
+    public ExceptionFingerprintStatsRegistry getStatsRegistry() {
+        return statsRegistry;
+    }
+
+    /**
+     * 정리 스레드를 멈추고, 반복이 남아 있는 모든 구간의 요약 로그를 전송한다.
+     */
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+        try {
+            sweeper.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long now = System.nanoTime();
+        for (Aggregate aggregate : aggregates.values()) {
+            ExceptionSummaryLog summary;
+            synchronized (aggregate) {
+                summary = aggregate.hasRepeats() ? aggregate.close(now) : null;
+            }
+            emit(summary);
+        }
+        aggregates.clear();
+    }
+
+    private void emit(ExceptionSummaryLog summary) {
+        if (summary == null) {
+            return;
+        }
+        try {
+            logNotifier.notify(summary);
+        } catch (Exception e) {
+            System.err.println("[monikit] failed to deliver exception summary: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 지문 하나의 현재 집계 구간. 모든 필드는 인스턴스 락 안에서만 읽고 쓴다.
+     */
+    private static final class Aggregate {
+
+        private final ExceptionFingerprint fingerprint;
+        private boolean removed;
+
+        private long windowStartNanos;
+        private Instant windowStart;
+        private String message;
+        private long occurrenceCount;
+        private String firstTraceId;
+        private String lastTraceId;
+        private final List<String> sampledTraceIds = new ArrayList<>();
+
+        private Aggregate(ExceptionFingerprint fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private boolean isOpen() {
+            return occurrenceCount > 0;
+        }
+
+        private boolean hasRepeats() {
+            return occurrenceCount > 1;
+        }
+
+        private boolean isExpired(long nowNanos, long windowNanos) {
+            return isOpen() && nowNanos - windowStartNanos >= windowNanos;
+        }
+
+        private void open(Throwable exception, String traceId, long nowNanos) {
+            windowStartNanos = nowNanos;
+            windowStart = Instant.now();
+            message = exception.getMessage();
+            occurrenceCount = 1;
+            firstTraceId = traceId;
+            lastTraceId = traceId;
+        }
+
+        private void repeat(String traceId, int sampleSize) {
+            occurrenceCount++;
+            lastTraceId = traceId;
+            if (sampledTraceIds.size() < sampleSize) {
+                sampledTraceIds.add(traceId);
+            }
+        }
+
+        /**
+         * 현재 구간을 닫는다.
+         *
+         * @return 반복이 있었으면 요약 로그, 없으면 null
+         */
+        private ExceptionSummaryLog close(long nowNanos) {
+            ExceptionSummaryLog summary = null;
+            if (hasRepeats()) {
+                StackTraceElement frame = fingerprint.getTopFrame();
+                summary = ExceptionSummaryLog.of(fingerprint.getId(), fingerprint.getExceptionType(), message,
+                    frame != null ? frame.getClassName() : null, frame != null ? frame.getMethodName() : null,
+                    occurrenceCount, firstTraceId, lastTraceId, sampledTraceIds,
+                    windowStart, windowStart.plusNanos(nowNanos - windowStartNanos));
+            }
+            occurrenceCount = 0;
+            message = null;
+            firstTraceId = null;
+            lastTraceId = null;
+            sampledTraceIds.clear();
+            return summary;
+        }
+    }
+
+}
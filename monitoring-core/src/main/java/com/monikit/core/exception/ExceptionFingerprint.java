@@ -0,0 +1,109 @@
+package com.monikit.core.exception;
+
+import java.util.Objects;
+
+/**
+ * 예외 타입과 상위 스택 프레임으로 만든 예외 지문.
+ * <p>
+ * 메시지는 요청마다 달라질 수 있으므로(예: ID 포함) 지문에 포함하지 않는다.
+ * 프레임은 클래스명, 메서드명, 줄 번호만 사용하며, 문자열을 만들지 않고 64비트 FNV-1a 해시로 바로 누적한다.
+ * </p>
+ *
+ * <ul>
+ *     <li>id: 해시를 16자리 16진수로 표현한 값. 메트릭 태그와 요약 로그의 {@code fingerprint} 필드로 사용</li>
+ *     <li>exceptionType: 예외 클래스의 단순 이름 ({@code ExceptionLog}와 동일)</li>
+ *     <li>topFrame: 예외가 던져진 첫 번째 프레임 (없으면 null)</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class ExceptionFingerprint {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long hash;
+    private final String id;
+    private final String exceptionType;
+    private final StackTraceElement topFrame;
+
+    private ExceptionFingerprint(long hash, String exceptionType, StackTraceElement topFrame) {
+        this.hash = hash;
+        this.id = toHex(hash);
+        this.exceptionType = exceptionType;
+        this.topFrame = topFrame;
+    }
+
+    /**
+     * @param exception 지문을 만들 예외
+     * @param frameDepth 지문에 포함할 상위 프레임 수 (0이면 예외 타입만 사용)
+     */
+    public static ExceptionFingerprint of(Throwable exception, int frameDepth) {
+        Class<?> type = exception.getClass();
+        StackTraceElement[] frames = exception.getStackTrace();
+
+        long hash = mix(FNV_OFFSET_BASIS, type.getName());
+        int depth = Math.min(Math.max(frameDepth, 0), frames.length);
+        for (int i = 0; i < depth; i++) {
+            StackTraceElement frame = frames[i];
+            hash = mix(hash, frame.getClassName());
+            hash = mix(hash, frame.getMethodName());
+            hash = mix(hash, frame.getLineNumber());
+        }
+        return new ExceptionFingerprint(hash, type.getSimpleName(), frames.length > 0 ? frames[0] : null);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getExceptionType() {
+        return exceptionType;
+    }
+
+    public StackTraceElement getTopFrame() {
+        return topFrame;
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return mix(hash, 0);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return (hash ^ 0xff) * FNV_PRIME;
+    }
+
+    private static long mix(long hash, int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            hash = (hash ^ ((value >>> shift) & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static String toHex(long hash) {
+        String hex = Long.toHexString(hash);
+        return hex.length() == 16 ? hex : "0".repeat(16 - hex.length()) + hex;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ExceptionFingerprint that = (ExceptionFingerprint) o;
+        return hash == that.hash && Objects.equals(exceptionType, that.exceptionType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash);
+    }
+
+    @Override
+    public String toString() {
+        return exceptionType + "#" + id;
+    }
+
+}
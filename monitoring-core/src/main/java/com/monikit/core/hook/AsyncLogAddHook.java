@@ -0,0 +1,161 @@
+package com.monikit.core.hook;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.monikit.core.LogType;
+import com.monikit.core.concurrent.MpscRingBuffer;
+import com.monikit.core.metrics.LogAddHookStats;
+import com.monikit.core.model.LogEntry;
+
+/**
+ * {@link LogAddHook} 하나를 전용 버퍼와 작업 스레드에서 실행하는 래퍼.
+ * <p>
+ * 요청 스레드는 로그를 훅 전용 {@link MpscRingBuffer}에 넣기만 하고 바로 반환한다.
+ * 작업 스레드({@code monikit-hook-<훅 이름>})가 버퍼를 꺼내 위임 훅을 호출하므로,
+ * 느린 훅이 요청 스레드나 다른 훅의 지연으로 번지지 않는다.
+ * </p>
+ *
+ * <ul>
+ *   <li>버퍼가 차면 {@link HookDropPolicy}에 따라 로그를 버리고 {@link LogAddHookStats#recordDropped()}로 집계한다.</li>
+ *   <li>위임 훅이 던진 예외와 {@link Error}는 작업 스레드에서 삼키고 {@link LogAddHookStats#recordFailure()}로 집계한다. 작업 스레드는 계속 실행된다.</li>
+ *   <li>{@link #close()} 이후 들어온 로그는 버린 것으로 집계한다.</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class AsyncLogAddHook implements LogAddHook, AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final int DRAIN_BATCH_SIZE = 64;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(1);
+
+    private final LogAddHook delegate;
+    private final MpscRingBuffer<LogEntry> ringBuffer;
+    private final HookDropPolicy dropPolicy;
+    private final int reserveThreshold;
+    private final long budgetNanos;
+    private final LogAddHookStats stats;
+    private final Thread worker;
+
+    private volatile boolean running = true;
+    private volatile boolean workerWaiting;
+
+    /**
+     * @param delegate 실제 처리를 담당하는 훅
+     * @param capacity 버퍼 용량 (2의 거듭제곱으로 올림)
+     * @param dropPolicy 버퍼가 찼을 때의 정책
+     * @param budget 한 번의 실행에 허용하는 시간. 넘기면 {@link LogAddHookStats#recordBudgetExceeded()}로 집계만 한다 (null 또는 0이면 미사용)
+     * @param stats 훅 실행 통계
+     */
+    public AsyncLogAddHook(LogAddHook delegate, int capacity, HookDropPolicy dropPolicy, Duration budget,
+                           LogAddHookStats stats) {
+        this.delegate = delegate;
+        this.ringBuffer = new MpscRingBuffer<>(capacity);
+        this.dropPolicy = dropPolicy != null ? dropPolicy : HookDropPolicy.DROP_NEWEST;
+        this.reserveThreshold = ringBuffer.capacity() - ringBuffer.capacity() / 4;
+        this.budgetNanos = budget != null && !budget.isNegative() ? budget.toNanos() : 0;
+        this.stats = stats;
+        stats.bindQueueDepth(ringBuffer::size);
+
+        this.worker = new Thread(this::runLoop, "monikit-hook-" + stats.getHookName());
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public void onAdd(LogEntry logEntry) {
+        if (!running || shouldDrop(logEntry) || !ringBuffer.offer(logEntry)) {
+            stats.recordDropped();
+            return;
+        }
+        if (workerWaiting) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    @Override
+    public HookExecution execution() {
+        return HookExecution.ASYNC;
+    }
+
+    private boolean shouldDrop(LogEntry logEntry) {
+        return dropPolicy == HookDropPolicy.RESERVE_FOR_ERRORS
+            && !logEntry.getLogLevel().isEmergency()
+            && ringBuffer.size() >= reserveThreshold;
+    }
+
+    private void runLoop() {
+        while (running) {
+            if (ringBuffer.drain(this::invoke, DRAIN_BATCH_SIZE) > 0) {
+                continue;
+            }
+            workerWaiting = true;
+            if (running && ringBuffer.isEmpty()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            workerWaiting = false;
+        }
+
+        long deadline = System.nanoTime() + SHUTDOWN_TIMEOUT.toNanos();
+        while (System.nanoTime() - deadline < 0 && ringBuffer.drain(this::invoke, DRAIN_BATCH_SIZE) > 0) {
+            // 종료 기한 내에서 남은 로그 처리
+        }
+        int remaining = ringBuffer.size();
+        for (int i = 0; i < remaining; i++) {
+            stats.recordDropped();
+        }
+    }
+
+    private void invoke(LogEntry logEntry) {
+        long start = System.nanoTime();
+        try {
+            delegate.onAdd(logEntry);
+        } catch (Throwable e) {
+            stats.recordFailure();
+        }
+        long elapsed = System.nanoTime() - start;
+        stats.recordInvocation(elapsed);
+        if (budgetNanos > 0 && elapsed > budgetNanos) {
+            stats.recordBudgetExceeded();
+        }
+    }
+
+    /**
+     * 작업 스레드를 멈춘다. 버퍼에 남은 로그는 짧은 기한 안에서 처리하고, 나머지는 버린 것으로 집계한다.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(SHUTDOWN_TIMEOUT.toMillis() + 100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean supports(LogType logType) {
+        return delegate.supports(logType);
+    }
+
+    public LogAddHook getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return 현재 버퍼에 대기 중인 로그 수 (근사값)
+     */
+    public int getPendingCount() {
+        return ringBuffer.size();
+    }
+
+}
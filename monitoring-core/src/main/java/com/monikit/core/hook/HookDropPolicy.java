@@ -0,0 +1,19 @@
+package com.monikit.core.hook;
+
+/**
+ * 비동기 {@link LogAddHook}의 버퍼가 찼을 때 어떤 로그를 버릴지 정하는 정책.
+ *
+ * <ul>
+ *     <li>{@link #DROP_NEWEST}: 버퍼가 가득 차면 새로 들어온 로그를 버린다 (기본값).</li>
+ *     <li>{@link #RESERVE_FOR_ERRORS}: 버퍼가 3/4 이상 차면 ERROR 레벨이 아닌 로그를 버려 남은 공간을 ERROR 로그에 남겨 둔다.</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public enum HookDropPolicy {
+
+    DROP_NEWEST,
+    RESERVE_FOR_ERRORS
+
+}
@@ -0,0 +1,19 @@
+package com.monikit.core.hook;
+
+/**
+ * {@link LogAddHook} 실행 방식.
+ *
+ * <ul>
+ *     <li>{@link #SYNC}: {@code addLog}를 호출한 요청 스레드에서 바로 실행 (기본값). 지연 예산을 넘기면 자동으로 {@link #ASYNC}로 격리된다.</li>
+ *     <li>{@link #ASYNC}: 훅 전용 버퍼와 작업 스레드에서 실행. 요청 스레드는 버퍼에 넣기만 한다.</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public enum HookExecution {
+
+    SYNC,
+    ASYNC
+
+}
@@ -0,0 +1,130 @@
+package com.monikit.core.hook;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.monikit.core.LogType;
+import com.monikit.core.metrics.LogAddHookStats;
+import com.monikit.core.model.LogEntry;
+
+/**
+ * 동기 {@link LogAddHook}의 실행 시간을 예산과 비교하고, 예산을 반복해서 넘기면 비동기 실행으로 격리하는 래퍼.
+ * <p>
+ * 평소에는 요청 스레드에서 위임 훅을 바로 호출한다. 한 번의 호출이 {@code budget}을 넘긴 횟수가
+ * 연속으로 {@code violationsBeforeIsolation}에 이르면, 이후 로그는 {@link AsyncLogAddHook}을 통해 전용 작업 스레드에서 처리한다.
+ * 격리는 되돌리지 않는다.
+ * </p>
+ *
+ * <ul>
+ *   <li>예산은 이미 진행 중인 호출을 중단하지 않는다. 격리는 다음 로그부터 적용된다.</li>
+ *   <li>위임 훅이 던진 예외와 {@link Error}는 요청 스레드로 전파하지 않고 {@link LogAddHookStats#recordFailure()}로 집계한다.</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class IsolatingLogAddHook implements LogAddHook, AutoCloseable {
+
+    private final LogAddHook delegate;
+    private final long budgetNanos;
+    private final int violationsBeforeIsolation;
+    private final LogAddHookStats stats;
+    private final Supplier<AsyncLogAddHook> asyncFactory;
+    private final AtomicInteger consecutiveViolations = new AtomicInteger();
+    private final Object isolationLock = new Object();
+
+    private volatile AsyncLogAddHook isolated;
+
+    /**
+     * @param delegate 실제 처리를 담당하는 훅
+     * @param budget 한 번의 호출에 허용하는 시간 (null 또는 0이면 격리하지 않고 실행 시간과 예외만 집계)
+     * @param violationsBeforeIsolation 격리까지 허용하는 연속 예산 초과 횟수 (1 이상)
+     * @param stats 훅 실행 통계
+     * @param asyncFactory 격리 시 사용할 비동기 래퍼 생성 함수
+     */
+    public IsolatingLogAddHook(LogAddHook delegate, Duration budget, int violationsBeforeIsolation,
+                               LogAddHookStats stats, Supplier<AsyncLogAddHook> asyncFactory) {
+        this.delegate = delegate;
+        this.budgetNanos = budget != null && !budget.isNegative() ? budget.toNanos() : 0;
+        this.violationsBeforeIsolation = Math.max(1, violationsBeforeIsolation);
+        this.stats = stats;
+        this.asyncFactory = asyncFactory;
+    }
+
+    @Override
+    public void onAdd(LogEntry logEntry) {
+        AsyncLogAddHook async = isolated;
+        if (async != null) {
+            async.onAdd(logEntry);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            delegate.onAdd(logEntry);
+        } catch (Throwable e) {
+            stats.recordFailure();
+        }
+        long elapsed = System.nanoTime() - start;
+        stats.recordInvocation(elapsed);
+        if (budgetNanos > 0) {
+            checkBudget(elapsed);
+        }
+    }
+
+    private void checkBudget(long elapsedNanos) {
+        if (elapsedNanos <= budgetNanos) {
+            if (consecutiveViolations.get() != 0) {
+                consecutiveViolations.set(0);
+            }
+            return;
+        }
+        stats.recordBudgetExceeded();
+        if (consecutiveViolations.incrementAndGet() < violationsBeforeIsolation) {
+            return;
+        }
+        synchronized (isolationLock) {
+            if (isolated != null) {
+                return;
+            }
+            isolated = asyncFactory.get();
+            stats.markIsolated();
+        }
+        System.err.println("[monikit] LogAddHook exceeded latency budget " + violationsBeforeIsolation
+            + " times in a row, isolating to async worker (" + stats.getHookName() + ")");
+    }
+
+    @Override
+    public HookExecution execution() {
+        return isolated != null ? HookExecution.ASYNC : HookExecution.SYNC;
+    }
+
+    /**
+     * @return 비동기 실행으로 격리되었으면 true
+     */
+    public boolean isIsolated() {
+        return isolated != null;
+    }
+
+    @Override
+    public boolean supports(LogType logType) {
+        return delegate.supports(logType);
+    }
+
+    public LogAddHook getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void close() {
+        AsyncLogAddHook async;
+        synchronized (isolationLock) {
+            async = isolated;
+        }
+        if (async != null) {
+            async.close();
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.monikit.core.hook;
 
+import com.monikit.core.LogType;
 import com.monikit.core.context.LogEntryContextManager;
 import com.monikit.core.notifier.LogSink;
 import com.monikit.core.model.LogEntry;
@@ -23,6 +24,13 @@ import com.monikit.core.model.LogEntry;
  * 이 훅은 **전송 목적이 아닌 부가 처리**를 위한 용도입니다.
  * </p>
  *
+ * <p>
+ * 외부 I/O처럼 느릴 수 있는 훅은 {@link #execution()}에서 {@link HookExecution#ASYNC}를 반환해 전용 버퍼와 작업 스레드에서 실행되도록 선언한다.
+ * 동기 훅도 지연 예산을 반복해서 넘기면 {@link LogAddHookIsolator}가 자동으로 비동기 실행으로 격리한다.
+ * 두 동작 모두 {@link LogAddHookIsolator}를 적용한 경우(스타터에서는 {@code monikit.logging.add-hook.isolation-enabled=true})에만 일어나며,
+ * 이때 훅은 요청 스레드가 아닌 작업 스레드에서 호출되므로 ThreadLocal이나 MDC 값을 읽을 수 없다.
+ * </p>
+ *
  * @see LogSink
  * @see LogFlushHook
  * @since 1.1.0
@@ -35,4 +43,27 @@ public interface LogAddHook {
      * @param logEntry 추가된 로그
      */
     void onAdd(LogEntry logEntry);
+
+    /**
+     * 이 훅의 실행 방식을 반환합니다.
+     *
+     * @return 기본값은 {@link HookExecution#SYNC}
+     */
+    default HookExecution execution() {
+        return HookExecution.SYNC;
+    }
+
+    /**
+     * 이 훅이 해당 타입의 로그를 처리하는지 반환합니다.
+     * <p>
+     * 모든 훅이 false를 반환하고 전송할 Sink도 없는 타입의 로그는
+     * {@link LogEntryContextManager#addLog(com.monikit.core.LogType, com.monikit.core.LogLevel, java.util.function.Supplier)}에서 만들지 않습니다.
+     * </p>
+     *
+     * @return 기본값은 true
+     * @since 1.1.3
+     */
+    default boolean supports(LogType logType) {
+        return true;
+    }
 }
\ No newline at end of file
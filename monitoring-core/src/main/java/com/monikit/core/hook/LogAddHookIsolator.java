@@ -0,0 +1,128 @@
+package com.monikit.core.hook;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.monikit.core.metrics.LogAddHookStats;
+import com.monikit.core.metrics.LogAddHookStatsRegistry;
+
+/**
+ * {@link LogAddHook} 목록을 실행 방식에 맞는 래퍼로 감싸는 구성 요소.
+ * <p>
+ * {@link HookExecution#ASYNC}를 선언한 훅은 {@link AsyncLogAddHook}으로, 나머지 훅은 {@link IsolatingLogAddHook}으로 감싼다.
+ * 모든 훅은 클래스 이름(람다라면 선언한 클래스 이름) 기준의 {@link LogAddHookStats}를 가지며, 같은 클래스의 훅이 여러 개면 {@code -2}, {@code -3} 접미사를 붙인다.
+ * </p>
+ * <p>
+ * 만든 래퍼의 작업 스레드는 {@link #close()}에서 함께 정리된다.
+ * </p>
+ * <p>
+ * 적용하면 ASYNC 훅과 격리된 훅은 요청 스레드가 아닌 작업 스레드에서 호출된다. ThreadLocal / MDC에 기대는 훅이 있다면 적용 전에 확인해야 한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class LogAddHookIsolator implements AutoCloseable {
+
+    public static final Duration DEFAULT_BUDGET = Duration.ofMillis(5);
+    public static final int DEFAULT_VIOLATIONS_BEFORE_ISOLATION = 3;
+
+    private final Duration budget;
+    private final int violationsBeforeIsolation;
+    private final int queueCapacity;
+    private final HookDropPolicy dropPolicy;
+    private final LogAddHookStatsRegistry statsRegistry;
+    private final List<AutoCloseable> wrappers = new CopyOnWriteArrayList<>();
+
+    public LogAddHookIsolator(LogAddHookStatsRegistry statsRegistry) {
+        this(DEFAULT_BUDGET, DEFAULT_VIOLATIONS_BEFORE_ISOLATION, AsyncLogAddHook.DEFAULT_CAPACITY,
+            HookDropPolicy.DROP_NEWEST, statsRegistry);
+    }
+
+    /**
+     * @param budget 훅 한 번의 실행에 허용하는 시간 (null 또는 0이면 동기 훅을 격리하지 않음)
+     * @param violationsBeforeIsolation 동기 훅을 격리하기까지 허용하는 연속 예산 초과 횟수
+     * @param queueCapacity 비동기 훅별 버퍼 용량
+     * @param dropPolicy 비동기 훅 버퍼가 찼을 때의 정책
+     * @param statsRegistry 훅별 통계 저장소
+     */
+    public LogAddHookIsolator(Duration budget, int violationsBeforeIsolation, int queueCapacity,
+                              HookDropPolicy dropPolicy, LogAddHookStatsRegistry statsRegistry) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be >= 1: " + queueCapacity);
+        }
+        this.budget = budget;
+        this.violationsBeforeIsolation = violationsBeforeIsolation;
+        this.queueCapacity = queueCapacity;
+        this.dropPolicy = dropPolicy;
+        this.statsRegistry = statsRegistry;
+    }
+
+    /**
+     * @param hooks 원본 훅 목록
+     * @return 실행 방식에 맞게 감싼 훅 목록 (순서 유지)
+     */
+    public List<LogAddHook> apply(List<LogAddHook> hooks) {
+        List<LogAddHook> wrapped = new ArrayList<>(hooks.size());
+        Map<String, Integer> names = new HashMap<>();
+        for (LogAddHook hook : hooks) {
+            String baseName = hookName(hook);
+            int seq = names.merge(baseName, 1, Integer::sum);
+            LogAddHookStats stats = statsRegistry.forHook(seq == 1 ? baseName : baseName + "-" + seq);
+            wrapped.add(wrap(hook, stats));
+        }
+        return wrapped;
+    }
+
+    /**
+     * 람다나 익명 클래스 훅은 선언한 클래스 이름을 사용한다.
+     */
+    private static String hookName(LogAddHook hook) {
+        Class<?> type = hook.getClass();
+        String name = type.getName();
+        int lambda = name.indexOf("$$");
+        if (lambda < 0 && !type.getSimpleName().isEmpty()) {
+            return type.getSimpleName();
+        }
+        if (lambda > 0) {
+            name = name.substring(0, lambda);
+        }
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    private LogAddHook wrap(LogAddHook hook, LogAddHookStats stats) {
+        if (hook.execution() == HookExecution.ASYNC) {
+            AsyncLogAddHook async = newAsync(hook, stats);
+            wrappers.add(async);
+            return async;
+        }
+        IsolatingLogAddHook isolating = new IsolatingLogAddHook(hook, budget, violationsBeforeIsolation, stats,
+            () -> newAsync(hook, stats));
+        wrappers.add(isolating);
+        return isolating;
+    }
+
+    private AsyncLogAddHook newAsync(LogAddHook hook, LogAddHookStats stats) {
+        return new AsyncLogAddHook(hook, queueCapacity, dropPolicy, budget, stats);
+    }
+
+    /**
+     * 만든 비동기 래퍼의 작업 스레드를 모두 종료한다.
+     */
+    @Override
+    public void close() {
+        for (AutoCloseable wrapper : wrappers) {
+            try {
+                wrapper.close();
+            } catch (Exception e) {
+                System.err.println("[monikit] failed to close LogAddHook wrapper: " + e.getMessage());
+            }
+        }
+        wrappers.clear();
+    }
+
+}
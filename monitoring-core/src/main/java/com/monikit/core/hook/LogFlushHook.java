@@ -34,6 +34,10 @@ import com.monikit.core.model.LogEntry;
 public interface LogFlushHook {
     /**
      * 로그가 flush 될 때 호출됩니다.
+     * <p>
+     * 전달되는 목록은 요청 버퍼의 읽기 전용 뷰이며 flush가 끝나면 재사용됩니다.
+     * 호출 이후에도 로그를 보관해야 한다면 직접 복사해야 합니다.
+     * </p>
      *
      * @param logEntries flush 대상 로그 목록
      */
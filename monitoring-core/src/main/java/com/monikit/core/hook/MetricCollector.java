@@ -7,6 +7,8 @@ import com.monikit.core.model.LogEntry;
  * 모든 메트릭 수집기를 위한 공통 인터페이스.
  * <p>
  * - LogType 에 따라 다양한 메트릭 시스템과 연동할 수 있도록 설계.
+ * - {@link #entryType()}로 처리할 로그 클래스를 선언하면 {@link MetricCollectorLogAddHook}이 등록 시점에 한 번 읽어 로그 클래스별 수집기 배열을 만들고,
+ *   해당 클래스가 아닌 로그는 {@link #record(LogEntry)}를 호출하지 않고 건너뛴다.
  * </p>
  *
  * @author ryu-qqq
@@ -16,4 +18,14 @@ public interface MetricCollector <T extends LogEntry>{
 
     boolean supports(LogType logType);
     void record(T logEntry);
+
+    /**
+     * 이 수집기가 처리하는 로그 클래스를 반환합니다.
+     *
+     * @return 기본값은 {@link LogEntry} (검사 없이 모든 로그를 전달)
+     * @since 1.1.3
+     */
+    default Class<? extends LogEntry> entryType() {
+        return LogEntry.class;
+    }
 }
@@ -1,11 +1,9 @@
 package com.monikit.core.hook;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import com.monikit.core.context.DefaultLogEntryContextManager;
 import com.monikit.core.context.LogEntryContextManager;
@@ -26,8 +24,12 @@ import com.monikit.core.model.LogEntry;
  * </p>
  *
  * <p>
- * 내부적으로 {@code Map<LogType, List<MetricCollector>>} 구조를 구성하여
- * 로그 타입 기반 빠른 조회 및 분기 처리를 수행합니다.
+ * 생성 시점에 {@link LogType#ordinal()}로 인덱싱한 {@code MetricCollector[][]} 테이블을 한 번 구성하고,
+ * 로그마다 배열 조회와 인덱스 루프만 수행하므로 맵 조회, 람다, 반복자 할당이 없습니다.
+ * {@link MetricCollector#entryType()}은 등록 시점에 한 번 읽어, {@link LogEntry}보다 좁은 타입을 선언한 수집기가 있는 로그 타입만 표시해 둡니다.
+ * 표시된 로그 타입은 로그 클래스별로 받을 수 있는 수집기 배열을 미리 걸러 두고, 로그마다 클래스 참조 비교 한 번으로 그 배열을 고릅니다.
+ * 같은 로그 타입에 여러 클래스가 번갈아 들어오면 마지막으로 본 클래스만 기억하므로 클래스가 바뀔 때 배열을 다시 거릅니다.
+ * 선언한 클래스가 아닌 로그는 {@link MetricCollector#record(LogEntry)}를 호출하지 않고 건너뜁니다.
  * </p>
  *
  * @see LogAddHook
@@ -37,25 +39,118 @@ import com.monikit.core.model.LogEntry;
 
 public class MetricCollectorLogAddHook implements LogAddHook {
 
-    private final Map<LogType, List<MetricCollector<? extends LogEntry>>> metricCollectorMap;
+    private static final MetricCollector<LogEntry>[] NO_COLLECTORS = newCollectorArray(0);
+
+    private final MetricCollector<LogEntry>[][] collectorsByType;
+    private final Class<?>[][] entryTypesByType;
+    private final boolean[] filteredByType;
+    private final Dispatch[] dispatchByType;
 
     public MetricCollectorLogAddHook(List<MetricCollector<? extends LogEntry>> metricCollectors) {
-        this.metricCollectorMap = Optional.ofNullable(metricCollectors)
-            .orElse(Collections.emptyList())
-            .stream()
-            .flatMap(collector -> Arrays.stream(LogType.values())
-                .filter(collector::supports)
-                .map(type -> Map.entry(type, collector)))
-            .collect(Collectors.groupingBy(Map.Entry::getKey,
-                Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
-    }
+        List<MetricCollector<? extends LogEntry>> collectors =
+            Optional.ofNullable(metricCollectors).orElse(Collections.emptyList());
+
+        LogType[] logTypes = LogType.values();
+        this.collectorsByType = newCollectorTable(logTypes.length);
+        this.entryTypesByType = new Class<?>[logTypes.length][];
+        this.filteredByType = new boolean[logTypes.length];
+        this.dispatchByType = new Dispatch[logTypes.length];
 
+        for (LogType logType : logTypes) {
+            List<MetricCollector<LogEntry>> supported = new ArrayList<>();
+            List<Class<?>> entryTypes = new ArrayList<>();
+            boolean filtered = false;
+            for (MetricCollector<? extends LogEntry> collector : collectors) {
+                if (collector.supports(logType)) {
+                    Class<?> entryType = narrowedEntryType(collector);
+                    supported.add(asRecorder(collector));
+                    entryTypes.add(entryType);
+                    filtered |= entryType != null;
+                }
+            }
+            int ordinal = logType.ordinal();
+            collectorsByType[ordinal] = supported.isEmpty() ? NO_COLLECTORS : supported.toArray(newCollectorArray(0));
+            entryTypesByType[ordinal] = entryTypes.toArray(new Class<?>[0]);
+            filteredByType[ordinal] = filtered;
+        }
+    }
 
     @Override
     public void onAdd(LogEntry logEntry) {
-        List<MetricCollector<LogEntry>> collectors = (List<MetricCollector<LogEntry>>)
-            (List<?>) metricCollectorMap.getOrDefault(logEntry.getLogType(), Collections.emptyList());
-        collectors.forEach(c -> c.record(logEntry));
+        int ordinal = logEntry.getLogType().ordinal();
+        MetricCollector<LogEntry>[] collectors = filteredByType[ordinal]
+            ? collectorsFor(ordinal, logEntry.getClass())
+            : collectorsByType[ordinal];
+        for (int i = 0; i < collectors.length; i++) {
+            collectors[i].record(logEntry);
+        }
+    }
+
+    @Override
+    public boolean supports(LogType logType) {
+        return collectorsByType[logType.ordinal()].length > 0;
+    }
+
+    /**
+     * 로그 클래스가 마지막으로 본 클래스와 같으면 미리 걸러 둔 배열을, 다르면 새로 걸러 기억한 배열을 반환한다.
+     * {@link Dispatch}는 불변이므로 여러 스레드가 동시에 갱신해도 잘못된 배열을 읽지 않는다.
+     */
+    private MetricCollector<LogEntry>[] collectorsFor(int ordinal, Class<?> entryClass) {
+        Dispatch dispatch = dispatchByType[ordinal];
+        if (dispatch != null && dispatch.entryClass == entryClass) {
+            return dispatch.collectors;
+        }
+        MetricCollector<LogEntry>[] all = collectorsByType[ordinal];
+        Class<?>[] entryTypes = entryTypesByType[ordinal];
+        List<MetricCollector<LogEntry>> accepted = new ArrayList<>(all.length);
+        for (int i = 0; i < all.length; i++) {
+            if (entryTypes[i] == null || entryTypes[i].isAssignableFrom(entryClass)) {
+                accepted.add(all[i]);
+            }
+        }
+        dispatch = new Dispatch(entryClass, accepted.isEmpty() ? NO_COLLECTORS : accepted.toArray(newCollectorArray(0)));
+        dispatchByType[ordinal] = dispatch;
+        return dispatch.collectors;
+    }
+
+    /**
+     * 등록 시점에 선언된 로그 클래스를 읽는다. {@link LogEntry} 전체를 받으면 null을 반환해 클래스별 분기를 만들지 않는다.
+     */
+    private static Class<?> narrowedEntryType(MetricCollector<? extends LogEntry> collector) {
+        Class<? extends LogEntry> entryType = collector.entryType();
+        return entryType == null || entryType == LogEntry.class ? null : entryType;
+    }
+
+    /**
+     * 수집기의 타입 파라미터는 {@link #narrowedEntryType}과 {@link #collectorsFor}의 분기로 보장되므로 이 지점에서 한 번만 변환한다.
+     */
+    @SuppressWarnings("unchecked")
+    private static MetricCollector<LogEntry> asRecorder(MetricCollector<? extends LogEntry> collector) {
+        return (MetricCollector<LogEntry>) collector;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MetricCollector<LogEntry>[] newCollectorArray(int length) {
+        return (MetricCollector<LogEntry>[]) new MetricCollector<?>[length];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MetricCollector<LogEntry>[][] newCollectorTable(int length) {
+        return (MetricCollector<LogEntry>[][]) new MetricCollector<?>[length][];
+    }
+
+    /**
+     * 로그 클래스 하나에 대해 미리 걸러 둔 수집기 배열.
+     */
+    private static final class Dispatch {
+
+        private final Class<?> entryClass;
+        private final MetricCollector<LogEntry>[] collectors;
+
+        private Dispatch(Class<?> entryClass, MetricCollector<LogEntry>[] collectors) {
+            this.entryClass = entryClass;
+            this.collectors = collectors;
+        }
     }
 
 }
@@ -0,0 +1,75 @@
+package com.monikit.core.instrument;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.TraceIdProvider;
+import com.monikit.core.context.LogEntryContext;
+import com.monikit.core.context.LogEntryContextManager;
+import com.monikit.core.exception.ExceptionAggregator;
+import com.monikit.core.model.ExceptionLog;
+import com.monikit.core.model.ExecutionDetailLog;
+
+/**
+ * 컴파일 시점에 계측된 메서드의 실행 결과를 {@link LogEntryContextManager}에 기록한다.
+ * <p>
+ * {@code ExecutionLoggingAspect}와 같은 규칙으로 기록한다.
+ * </p>
+ * <ul>
+ *     <li>실행 시간이 {@link ExecutionSite#getThresholdMillis()} 미만이면 기록하지 않음</li>
+ *     <li>예외가 발생했으면 {@link ExceptionLog} 기록 ({@link ExceptionAggregator}가 있으면 반복 예외는 요약)</li>
+ *     <li>{@link ExecutionDetailLog}는 기준 시간을 넘기면 WARN, 아니면 INFO. 인자/반환값은 기록하지 않음</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class ExecutionRecorder {
+
+    private final LogEntryContextManager logEntryContextManager;
+    private final TraceIdProvider traceIdProvider;
+    private final ExceptionAggregator exceptionAggregator;
+
+    public ExecutionRecorder(LogEntryContextManager logEntryContextManager, TraceIdProvider traceIdProvider) {
+        this(logEntryContextManager, traceIdProvider, null);
+    }
+
+    public ExecutionRecorder(LogEntryContextManager logEntryContextManager, TraceIdProvider traceIdProvider,
+                             ExceptionAggregator exceptionAggregator) {
+        this.logEntryContextManager = logEntryContextManager;
+        this.traceIdProvider = traceIdProvider;
+        this.exceptionAggregator = exceptionAggregator;
+    }
+
+    /**
+     * @param site 계측된 메서드
+     * @param elapsedNanos 실행 시간 (ns)
+     * @param error 실행 중 발생한 예외 (없으면 null)
+     */
+    public void record(ExecutionSite site, long elapsedNanos, Throwable error) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        long threshold = site.getThresholdMillis();
+        if (elapsedMillis < threshold) {
+            return;
+        }
+
+        String traceId = traceIdProvider.getTraceId();
+        if (error != null) {
+            logException(traceId, error);
+        }
+        logEntryContextManager.addLog(LogType.EXECUTION_DETAIL, ExecutionDetailLog.levelOf(elapsedMillis, threshold),
+            () -> ExecutionDetailLog.of(traceId, site.getClassName(), site.getMethodName(), Duration.ofNanos(elapsedNanos),
+                "", "", threshold, site.getTag()));
+    }
+
+    private void logException(String traceId, Throwable thrown) {
+        if (exceptionAggregator == null || exceptionAggregator.record(thrown, traceId)) {
+            logEntryContextManager.addLog(LogType.EXCEPTION, LogLevel.ERROR, () -> ExceptionLog.of(traceId, thrown));
+        } else {
+            LogEntryContext.setErrorOccurred(true);
+        }
+    }
+
+}
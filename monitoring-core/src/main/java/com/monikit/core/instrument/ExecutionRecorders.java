@@ -0,0 +1,43 @@
+package com.monikit.core.instrument;
+
+/**
+ * 생성된 계측 코드가 사용하는 전역 {@link ExecutionRecorder} 보관소.
+ * <p>
+ * 생성된 클래스는 사용자 코드가 직접 생성하므로 기록기를 주입받을 수 없어, 실행이 끝날 때 이 보관소를 읽는다.
+ * 설치된 기록기가 없으면 계측된 메서드는 시간만 재고 아무것도 기록하지 않는다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class ExecutionRecorders {
+
+    private static volatile ExecutionRecorder recorder;
+
+    private ExecutionRecorders() {
+    }
+
+    /**
+     * @return 현재 설치된 기록기 (없으면 null)
+     */
+    public static ExecutionRecorder get() {
+        return recorder;
+    }
+
+    /**
+     * 전역 기록기를 교체한다.
+     *
+     * @param newRecorder 사용할 기록기. null이면 기록하지 않음
+     */
+    public static void set(ExecutionRecorder newRecorder) {
+        recorder = newRecorder;
+    }
+
+    /**
+     * 설치된 기록기를 제거한다.
+     */
+    public static void reset() {
+        recorder = null;
+    }
+
+}
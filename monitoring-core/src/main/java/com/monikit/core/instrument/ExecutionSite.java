@@ -0,0 +1,85 @@
+package com.monikit.core.instrument;
+
+import com.monikit.core.clock.MoniKitClocks;
+
+/**
+ * 컴파일 시점에 계측된 메서드 하나의 메타데이터.
+ * <p>
+ * monitoring-processor가 생성한 클래스가 메서드마다 static 상수로 갖는다. 클래스/메서드 이름과 규칙이 상수로 고정되어 있어
+ * 호출 시점에 리플렉션, 조인 포인트, 인자 배열이 필요 없다.
+ * </p>
+ *
+ * <pre>
+ * long start = SITE.start();
+ * try { result = super.place(orderId); } catch (Throwable t) { SITE.end(start, t); throw t; }
+ * SITE.end(start, null);
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class ExecutionSite {
+
+    private final String className;
+    private final String methodName;
+    private final long thresholdMillis;
+    private final String tag;
+
+    private ExecutionSite(String className, String methodName, long thresholdMillis, String tag) {
+        this.className = className;
+        this.methodName = methodName;
+        this.thresholdMillis = thresholdMillis;
+        this.tag = tag != null ? tag : "";
+    }
+
+    public static ExecutionSite of(String className, String methodName, long thresholdMillis, String tag) {
+        return new ExecutionSite(className, methodName, thresholdMillis, tag);
+    }
+
+    /**
+     * @return 실행 시작 시각 (ns, {@link MoniKitClocks} 기준)
+     */
+    public long start() {
+        return MoniKitClocks.get().nanoTime();
+    }
+
+    /**
+     * 실행 종료를 기록한다. {@link ExecutionRecorders}에 기록기가 없으면 아무것도 하지 않으며, 예외를 던지지 않는다.
+     *
+     * @param startNanos {@link #start()}가 반환한 값
+     * @param error 실행 중 발생한 예외 (없으면 null)
+     */
+    public void end(long startNanos, Throwable error) {
+        ExecutionRecorder recorder = ExecutionRecorders.get();
+        if (recorder == null) {
+            return;
+        }
+        try {
+            recorder.record(this, MoniKitClocks.get().elapsedNanos(startNanos), error);
+        } catch (RuntimeException e) {
+            System.err.println("[monikit] Failed to record execution of " + className + "." + methodName + ": " + e);
+        }
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    @Override
+    public String toString() {
+        return className + "." + methodName;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.monikit.core.instrument;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * monitoring-processor가 생성한 계측 클래스 표시.
+ * <p>
+ * 런타임 AOP는 이 어노테이션이 붙은 클래스를 다시 감싸지 않는다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface MoniKitInstrumented {
+
+    /**
+     * @return 계측 대상 원본 클래스
+     */
+    Class<?> value();
+
+}
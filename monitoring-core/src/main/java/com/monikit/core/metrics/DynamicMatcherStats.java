@@ -0,0 +1,139 @@
+package com.monikit.core.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+/**
+ * 동적 로깅 규칙 매칭({@code DynamicMatcher}) 자체의 비용 통계.
+ * <p>
+ * 매처가 갱신하고, {@code monitoring-metric} 모듈의 MeterBinder가 읽어 Micrometer로 노출한다.
+ * 카운터는 {@link LongAdder}로 스레드 간 경합 없이 증가시키며, SpEL 평가 시간은 {@code sampleInterval}번에 한 번만 측정한다.
+ * </p>
+ *
+ * <ul>
+ *     <li>regexCheckCount: 매칭 계획을 만들며 규칙의 클래스/메서드 이름 정규식을 확인한 횟수</li>
+ *     <li>prefilterSkipCount: 기준 시간(thresholdMillis)에 못 미쳐 SpEL 평가 없이 건너뛴 규칙 수</li>
+ *     <li>spelEvaluationCount: SpEL 조건식 평가 횟수 (평가 실패 포함)</li>
+ *     <li>sampledEvaluationCount / sampledEvaluationNanos: 시간을 측정한 SpEL 평가 횟수 / 시간 합</li>
+ *     <li>matchedCount / unmatchedCount: 규칙이 매칭된 / 매칭되지 않은 호출 수</li>
+ *     <li>noApplicableRuleCount: 적용될 규칙이 없어 매칭 없이 실행된 호출 수</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class DynamicMatcherStats {
+
+    public static final int DEFAULT_SAMPLE_INTERVAL = 64;
+
+    private final int sampleMask;
+    private final LongAdder regexCheckCount = new LongAdder();
+    private final LongAdder prefilterSkipCount = new LongAdder();
+    private final LongAdder spelEvaluationCount = new LongAdder();
+    private final LongAdder sampledEvaluationCount = new LongAdder();
+    private final LongAdder sampledEvaluationNanos = new LongAdder();
+    private final LongAdder matchedCount = new LongAdder();
+    private final LongAdder unmatchedCount = new LongAdder();
+    private final LongAdder noApplicableRuleCount = new LongAdder();
+    private volatile LongConsumer evaluationTimeRecorder = nanos -> { };
+
+    public DynamicMatcherStats() {
+        this(DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * @param sampleInterval SpEL 평가 시간을 측정할 간격 (2의 거듭제곱으로 올림, 1이면 매번 측정)
+     */
+    public DynamicMatcherStats(int sampleInterval) {
+        if (sampleInterval < 1 || sampleInterval > (1 << 30)) {
+            throw new IllegalArgumentException("sampleInterval must be between 1 and 2^30: " + sampleInterval);
+        }
+        int highest = Integer.highestOneBit(sampleInterval);
+        this.sampleMask = (highest == sampleInterval ? sampleInterval : highest << 1) - 1;
+    }
+
+    public void recordRegexChecks(int count) {
+        regexCheckCount.add(count);
+    }
+
+    public void recordPrefilterSkips(int count) {
+        prefilterSkipCount.add(count);
+    }
+
+    /**
+     * SpEL 평가 한 번을 센다.
+     *
+     * @return 이번 평가의 시간을 측정해야 하면 true
+     */
+    public boolean recordSpelEvaluation() {
+        spelEvaluationCount.increment();
+        return sampleMask == 0 || (ThreadLocalRandom.current().nextInt() & sampleMask) == 0;
+    }
+
+    /**
+     * 표본으로 측정한 SpEL 평가 시간을 기록한다.
+     */
+    public void recordSampledEvaluationTime(long elapsedNanos) {
+        long nanos = Math.max(0, elapsedNanos);
+        sampledEvaluationCount.increment();
+        sampledEvaluationNanos.add(nanos);
+        evaluationTimeRecorder.accept(nanos);
+    }
+
+    public void recordMatched() {
+        matchedCount.increment();
+    }
+
+    public void recordUnmatched() {
+        unmatchedCount.increment();
+    }
+
+    public void recordNoApplicableRule() {
+        noApplicableRuleCount.increment();
+    }
+
+    /**
+     * 표본 SpEL 평가 시간을 받을 함수를 연결한다. 분포(백분위) 메트릭을 만드는 MeterBinder가 사용한다.
+     */
+    public void bindEvaluationTimeRecorder(LongConsumer evaluationTimeRecorder) {
+        this.evaluationTimeRecorder = evaluationTimeRecorder;
+    }
+
+    public int getSampleInterval() {
+        return sampleMask + 1;
+    }
+
+    public long getRegexCheckCount() {
+        return regexCheckCount.sum();
+    }
+
+    public long getPrefilterSkipCount() {
+        return prefilterSkipCount.sum();
+    }
+
+    public long getSpelEvaluationCount() {
+        return spelEvaluationCount.sum();
+    }
+
+    public long getSampledEvaluationCount() {
+        return sampledEvaluationCount.sum();
+    }
+
+    public long getSampledEvaluationNanos() {
+        return sampledEvaluationNanos.sum();
+    }
+
+    public long getMatchedCount() {
+        return matchedCount.sum();
+    }
+
+    public long getUnmatchedCount() {
+        return unmatchedCount.sum();
+    }
+
+    public long getNoApplicableRuleCount() {
+        return noApplicableRuleCount.sum();
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.monikit.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 예외 지문 하나의 발생 통계.
+ * <p>
+ * {@code ExceptionAggregator}가 갱신하고, {@code monitoring-metric} 모듈의 MeterBinder가 읽어 Micrometer로 노출한다.
+ * </p>
+ *
+ * <ul>
+ *     <li>occurrenceCount: 해당 지문의 예외가 기록된 횟수</li>
+ *     <li>coalescedCount: 그중 개별 {@code ExceptionLog} 대신 요약 로그로 묶인 횟수</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class ExceptionFingerprintStats {
+
+    private final String fingerprint;
+    private final String exceptionType;
+    private final LongAdder occurrenceCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    public ExceptionFingerprintStats(String fingerprint, String exceptionType) {
+        this.fingerprint = fingerprint;
+        this.exceptionType = exceptionType;
+    }
+
+    public void recordOccurrence() {
+        occurrenceCount.increment();
+    }
+
+    public void recordCoalesced() {
+        coalescedCount.increment();
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public String getExceptionType() {
+        return exceptionType;
+    }
+
+    public long getOccurrenceCount() {
+        return occurrenceCount.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.monikit.core.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 예외 지문별 {@link ExceptionFingerprintStats} 저장소.
+ * <p>
+ * 지문 수는 {@code maxFingerprints}로 제한되며, 한도를 넘는 지문은 모두 {@link #OVERFLOW_FINGERPRINT} 하나로 합산해
+ * 메트릭 태그 카디널리티가 한도 + 1을 넘지 않게 한다.
+ * MeterBinder는 {@link #addListener(Consumer)}로 바인딩 이후에 등록되는 지문도 받아 메트릭을 추가한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class ExceptionFingerprintStatsRegistry {
+
+    public static final int DEFAULT_MAX_FINGERPRINTS = 1000;
+    public static final String OVERFLOW_FINGERPRINT = "overflow";
+
+    private final int maxFingerprints;
+    private final Map<String, ExceptionFingerprintStats> stats = new ConcurrentHashMap<>();
+    private final List<Consumer<ExceptionFingerprintStats>> listeners = new CopyOnWriteArrayList<>();
+    private volatile ExceptionFingerprintStats overflow;
+
+    public ExceptionFingerprintStatsRegistry() {
+        this(DEFAULT_MAX_FINGERPRINTS);
+    }
+
+    /**
+     * @param maxFingerprints 개별 통계를 유지할 최대 지문 수
+     */
+    public ExceptionFingerprintStatsRegistry(int maxFingerprints) {
+        if (maxFingerprints <= 0) {
+            throw new IllegalArgumentException("maxFingerprints must be > 0: " + maxFingerprints);
+        }
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    /**
+     * @param fingerprint 지문 ID
+     * @param exceptionType 예외 클래스 이름
+     * @return 해당 지문의 통계. 처음 요청되면 새로 만들어 리스너에 알리고, 한도를 넘었으면 overflow 통계를 반환한다
+     */
+    public ExceptionFingerprintStats forFingerprint(String fingerprint, String exceptionType) {
+        ExceptionFingerprintStats existing = stats.get(fingerprint);
+        if (existing != null) {
+            return existing;
+        }
+        if (stats.size() >= maxFingerprints) {
+            return overflow();
+        }
+        ExceptionFingerprintStats created = new ExceptionFingerprintStats(fingerprint, exceptionType);
+        ExceptionFingerprintStats previous = stats.putIfAbsent(fingerprint, created);
+        if (previous != null) {
+            return previous;
+        }
+        listeners.forEach(listener -> listener.accept(created));
+        return created;
+    }
+
+    /**
+     * 이미 등록된 지문과 이후 등록되는 지문 모두에 대해 호출될 리스너를 추가한다. 리스너는 멱등이어야 한다.
+     */
+    public void addListener(Consumer<ExceptionFingerprintStats> listener) {
+        listeners.add(listener);
+        getAll().forEach(listener);
+    }
+
+    /**
+     * @return 지문별 통계와 (한도를 넘은 적이 있으면) overflow 통계
+     */
+    public Collection<ExceptionFingerprintStats> getAll() {
+        List<ExceptionFingerprintStats> all = new ArrayList<>(stats.values());
+        if (overflow != null) {
+            all.add(overflow);
+        }
+        return all;
+    }
+
+    private ExceptionFingerprintStats overflow() {
+        ExceptionFingerprintStats current = overflow;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (overflow == null) {
+                overflow = new ExceptionFingerprintStats(OVERFLOW_FINGERPRINT, OVERFLOW_FINGERPRINT);
+                listeners.forEach(listener -> listener.accept(overflow));
+            }
+            return overflow;
+        }
+    }
+
+}
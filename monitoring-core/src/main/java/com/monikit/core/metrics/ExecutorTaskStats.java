@@ -0,0 +1,83 @@
+package com.monikit.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행기(Executor) 하나의 작업 대기/실행 시간 통계.
+ * <p>
+ * 컨텍스트 전파 래퍼({@code ContextPropagatingExecutorService}, {@code ContextPropagatingTaskDecorator})가 갱신하고,
+ * {@code monitoring-metric} 모듈의 MeterBinder가 읽어 Micrometer로 노출한다. 작업당 {@link LongAdder} 갱신만 하므로 부하가 작다.
+ * </p>
+ *
+ * <ul>
+ *     <li>startedCount / queueWaitNanos: 실행을 시작한 작업 수 / 제출부터 실행 시작까지 기다린 시간 합</li>
+ *     <li>completedCount / runNanos: 실행을 마친 작업 수 / 실행 시간 합</li>
+ *     <li>failedCount: 예외로 끝난 작업 수</li>
+ *     <li>activeCount: 실행 중인 작업 수</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class ExecutorTaskStats {
+
+    private final String executorName;
+    private final LongAdder startedCount = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder runNanos = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    public ExecutorTaskStats(String executorName) {
+        this.executorName = executorName;
+    }
+
+    /**
+     * @param waitNanos 제출부터 실행 시작까지 기다린 시간 (ns)
+     */
+    public void recordStart(long waitNanos) {
+        startedCount.increment();
+        queueWaitNanos.add(Math.max(0, waitNanos));
+    }
+
+    /**
+     * @param elapsedNanos 실행 시간 (ns)
+     * @param failed 예외로 끝났는지 여부
+     */
+    public void recordCompletion(long elapsedNanos, boolean failed) {
+        completedCount.increment();
+        runNanos.add(Math.max(0, elapsedNanos));
+        if (failed) {
+            failedCount.increment();
+        }
+    }
+
+    public String getExecutorName() {
+        return executorName;
+    }
+
+    public long getStartedCount() {
+        return startedCount.sum();
+    }
+
+    public long getQueueWaitNanos() {
+        return queueWaitNanos.sum();
+    }
+
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    public long getRunNanos() {
+        return runNanos.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public long getActiveCount() {
+        return Math.max(0, getStartedCount() - getCompletedCount());
+    }
+
+}
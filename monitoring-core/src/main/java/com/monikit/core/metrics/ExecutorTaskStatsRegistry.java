@@ -0,0 +1,57 @@
+package com.monikit.core.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 실행기 이름별 {@link ExecutorTaskStats} 저장소.
+ * <p>
+ * 실행기는 애플리케이션 구동 중 언제든 등록될 수 있으므로, MeterBinder는 {@link #addListener(Consumer)}로
+ * 이후에 등록되는 실행기도 받아 메트릭을 추가한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class ExecutorTaskStatsRegistry {
+
+    private final Map<String, ExecutorTaskStats> stats = new ConcurrentHashMap<>();
+    private final List<Consumer<ExecutorTaskStats>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param executorName 실행기 이름 (보통 빈 이름)
+     * @return 해당 실행기의 통계. 처음 요청되면 새로 만들어 리스너에 알린다
+     */
+    public ExecutorTaskStats forExecutor(String executorName) {
+        ExecutorTaskStats existing = stats.get(executorName);
+        if (existing != null) {
+            return existing;
+        }
+        ExecutorTaskStats created = new ExecutorTaskStats(executorName);
+        ExecutorTaskStats previous = stats.putIfAbsent(executorName, created);
+        if (previous != null) {
+            return previous;
+        }
+        listeners.forEach(listener -> listener.accept(created));
+        return created;
+    }
+
+    /**
+     * 이미 등록된 실행기와 이후 등록되는 실행기 모두에 대해 호출될 리스너를 추가한다.
+     * 경합 시 같은 실행기로 두 번 호출될 수 있으므로 리스너는 멱등이어야 한다.
+     */
+    public void addListener(Consumer<ExecutorTaskStats> listener) {
+        listeners.add(listener);
+        getAll().forEach(listener);
+    }
+
+    public Collection<ExecutorTaskStats> getAll() {
+        return new ArrayList<>(stats.values());
+    }
+
+}
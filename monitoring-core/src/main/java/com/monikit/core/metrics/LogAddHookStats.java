@@ -0,0 +1,99 @@
+package com.monikit.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * {@code LogAddHook} 하나의 실행 통계.
+ * <p>
+ * {@code LogAddHookIsolator}가 만든 래퍼가 갱신하고, {@code monitoring-metric} 모듈의 MeterBinder가 읽어 Micrometer로 노출한다.
+ * </p>
+ *
+ * <ul>
+ *     <li>invocationCount / latencyNanos: 훅 실행 횟수 / 실행 시간 합</li>
+ *     <li>budgetExceededCount: 한 번의 실행이 지연 예산을 넘긴 횟수</li>
+ *     <li>droppedCount: 비동기 버퍼가 가득 차 버려진 로그 수</li>
+ *     <li>failureCount: 훅이 예외를 던진 횟수</li>
+ *     <li>isolated: 동기 훅이 예산 초과로 비동기 실행으로 격리되었는지 여부</li>
+ *     <li>queueDepth: 비동기 버퍼에 대기 중인 로그 수</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class LogAddHookStats {
+
+    private final String hookName;
+    private final LongAdder invocationCount = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final LongAdder budgetExceededCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private volatile boolean isolated;
+    private volatile IntSupplier queueDepth = () -> 0;
+
+    public LogAddHookStats(String hookName) {
+        this.hookName = hookName;
+    }
+
+    public void recordInvocation(long elapsedNanos) {
+        invocationCount.increment();
+        latencyNanos.add(Math.max(0, elapsedNanos));
+    }
+
+    public void recordBudgetExceeded() {
+        budgetExceededCount.increment();
+    }
+
+    public void recordDropped() {
+        droppedCount.increment();
+    }
+
+    public void recordFailure() {
+        failureCount.increment();
+    }
+
+    public void markIsolated() {
+        isolated = true;
+    }
+
+    /**
+     * 비동기 버퍼의 대기 로그 수를 읽을 함수를 연결한다.
+     */
+    public void bindQueueDepth(IntSupplier queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    public String getHookName() {
+        return hookName;
+    }
+
+    public long getInvocationCount() {
+        return invocationCount.sum();
+    }
+
+    public long getLatencyNanos() {
+        return latencyNanos.sum();
+    }
+
+    public long getBudgetExceededCount() {
+        return budgetExceededCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    public boolean isIsolated() {
+        return isolated;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.getAsInt();
+    }
+
+}
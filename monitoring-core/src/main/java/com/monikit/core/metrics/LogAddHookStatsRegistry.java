@@ -0,0 +1,55 @@
+package com.monikit.core.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 훅 이름별 {@link LogAddHookStats} 저장소.
+ * <p>
+ * MeterBinder는 {@link #addListener(Consumer)}로 바인딩 이후에 등록되는 훅도 받아 메트릭을 추가한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class LogAddHookStatsRegistry {
+
+    private final Map<String, LogAddHookStats> stats = new ConcurrentHashMap<>();
+    private final List<Consumer<LogAddHookStats>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param hookName 훅 이름
+     * @return 해당 훅의 통계. 처음 요청되면 새로 만들어 리스너에 알린다
+     */
+    public LogAddHookStats forHook(String hookName) {
+        LogAddHookStats existing = stats.get(hookName);
+        if (existing != null) {
+            return existing;
+        }
+        LogAddHookStats created = new LogAddHookStats(hookName);
+        LogAddHookStats previous = stats.putIfAbsent(hookName, created);
+        if (previous != null) {
+            return previous;
+        }
+        listeners.forEach(listener -> listener.accept(created));
+        return created;
+    }
+
+    /**
+     * 이미 등록된 훅과 이후 등록되는 훅 모두에 대해 호출될 리스너를 추가한다. 리스너는 멱등이어야 한다.
+     */
+    public void addListener(Consumer<LogAddHookStats> listener) {
+        listeners.add(listener);
+        getAll().forEach(listener);
+    }
+
+    public Collection<LogAddHookStats> getAll() {
+        return new ArrayList<>(stats.values());
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.monikit.core.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 로그 버퍼의 overflow 통계.
+ * <p>
+ * {@code DefaultLogEntryContextManager}가 갱신하고, {@code monitoring-metric} 모듈의 MeterBinder가 읽어
+ * Micrometer로 노출한다. 한도({@code maxEntries}, {@code maxBytes})를 조정할 때 근거로 사용한다.
+ * </p>
+ *
+ * <ul>
+ *     <li>overflowCount: 한도를 넘어 overflow 정책이 실행된 횟수</li>
+ *     <li>spilledCount: 요청 도중 먼저 전송된 로그 수</li>
+ *     <li>droppedCount: 전송되지 않고 버려진 로그 수</li>
+ *     <li>fullFlushCount: 요청 도중 전체 flush가 일어난 횟수</li>
+ *     <li>unsampledCount: tail sampling 정책이 설정되어 있지만 요청 도중 먼저 전송되어 정책을 거치지 않은 로그 수</li>
+ *     <li>peakEntries / peakBytes: flush 시점에 관측된 요청 버퍼의 최대 로그 수 / 추정 크기</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class LogContextOverflowStats {
+
+    private final LongAdder overflowCount = new LongAdder();
+    private final LongAdder spilledCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder fullFlushCount = new LongAdder();
+    private final LongAdder unsampledCount = new LongAdder();
+    private final LongAccumulator peakEntries = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator peakBytes = new LongAccumulator(Math::max, 0);
+
+    public void recordOverflow() {
+        overflowCount.increment();
+    }
+
+    public void recordSpilled(int count) {
+        spilledCount.add(count);
+    }
+
+    public void recordDropped(int count) {
+        droppedCount.add(count);
+    }
+
+    public void recordFullFlush() {
+        fullFlushCount.increment();
+    }
+
+    public void recordUnsampled(int count) {
+        unsampledCount.add(count);
+    }
+
+    public void recordFlushedSize(int entries, long bytes) {
+        peakEntries.accumulate(entries);
+        peakBytes.accumulate(bytes);
+    }
+
+    public long getOverflowCount() {
+        return overflowCount.sum();
+    }
+
+    public long getSpilledCount() {
+        return spilledCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getFullFlushCount() {
+        return fullFlushCount.sum();
+    }
+
+    public long getUnsampledCount() {
+        return unsampledCount.sum();
+    }
+
+    public long getPeakEntries() {
+        return peakEntries.get();
+    }
+
+    public long getPeakBytes() {
+        return peakBytes.get();
+    }
+
+}
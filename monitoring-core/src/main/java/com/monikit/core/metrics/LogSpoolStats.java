@@ -0,0 +1,129 @@
+package com.monikit.core.metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.monikit.core.notifier.spool.LogSpool;
+
+/**
+ * 디스크 스풀 통계.
+ * <p>
+ * {@code SpoolingLogSink}가 갱신하고, {@code monitoring-metric} 모듈의 MeterBinder가 읽어 Micrometer로 노출한다.
+ * 여러 Sink가 각자 스풀을 가지더라도 통계는 하나로 합산된다.
+ * </p>
+ *
+ * <ul>
+ *     <li>spooledCount: 위임 Sink 대신 스풀에 기록된 로그 수</li>
+ *     <li>replayedCount: 스풀에서 위임 Sink로 재전송된 로그 수</li>
+ *     <li>droppedCount: 디스크 한도 초과나 I/O 실패로 버려진 로그 수</li>
+ *     <li>delegateFailureCount / budgetExceededCount: 위임 Sink가 예외를 던지거나 지연 예산을 넘긴 횟수</li>
+ *     <li>replayFailureCount: 재전송이 실패한 횟수</li>
+ *     <li>depthEntries / depthBytes: 전달되지 않고 스풀에 남은 로그 수 / 크기</li>
+ *     <li>replayLagMillis: 스풀에 남은 가장 오래된 로그가 생성된 뒤 지난 시간 (ms)</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class LogSpoolStats {
+
+    private final LongAdder spooledCount = new LongAdder();
+    private final LongAdder replayedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder delegateFailureCount = new LongAdder();
+    private final LongAdder budgetExceededCount = new LongAdder();
+    private final LongAdder replayFailureCount = new LongAdder();
+    private final List<LogSpool> spools = new CopyOnWriteArrayList<>();
+
+    /**
+     * 깊이와 재전송 지연을 집계할 스풀을 등록한다.
+     */
+    public void register(LogSpool spool) {
+        spools.add(spool);
+    }
+
+    public void unregister(LogSpool spool) {
+        spools.remove(spool);
+    }
+
+    public void recordSpooled(int count) {
+        spooledCount.add(count);
+    }
+
+    public void recordReplayed(int count) {
+        replayedCount.add(count);
+    }
+
+    public void recordDropped(int count) {
+        droppedCount.add(count);
+    }
+
+    public void recordDelegateFailure() {
+        delegateFailureCount.increment();
+    }
+
+    public void recordBudgetExceeded() {
+        budgetExceededCount.increment();
+    }
+
+    public void recordReplayFailure() {
+        replayFailureCount.increment();
+    }
+
+    public long getSpooledCount() {
+        return spooledCount.sum();
+    }
+
+    public long getReplayedCount() {
+        return replayedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getDelegateFailureCount() {
+        return delegateFailureCount.sum();
+    }
+
+    public long getBudgetExceededCount() {
+        return budgetExceededCount.sum();
+    }
+
+    public long getReplayFailureCount() {
+        return replayFailureCount.sum();
+    }
+
+    public long getDepthEntries() {
+        long depth = 0;
+        for (LogSpool spool : spools) {
+            depth += spool.depth();
+        }
+        return depth;
+    }
+
+    public long getDepthBytes() {
+        long bytes = 0;
+        for (LogSpool spool : spools) {
+            bytes += spool.pendingBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * @return 등록된 스풀 중 가장 오래 밀린 로그의 대기 시간 (ms). 모두 비어 있으면 0
+     */
+    public long getReplayLagMillis() {
+        long now = System.currentTimeMillis();
+        long lag = 0;
+        for (LogSpool spool : spools) {
+            long oldest = spool.oldestEpochMillis();
+            if (oldest > 0) {
+                lag = Math.max(lag, now - oldest);
+            }
+        }
+        return lag;
+    }
+
+}
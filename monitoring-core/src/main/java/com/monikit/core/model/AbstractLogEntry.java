@@ -1,9 +1,13 @@
 package com.monikit.core.model;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import com.monikit.core.LogLevel;
+import com.monikit.core.clock.MoniKitClocks;
+import com.monikit.core.encoder.LogEntryEncoder;
+import com.monikit.core.encoder.LogFieldWriter;
 
 /**
  * 모든 로그 엔트리가 상속해야 하는 추상 클래스.
@@ -11,6 +15,10 @@ import com.monikit.core.LogLevel;
  * 공통 필드 (timestamp, traceId, logLevel, threadName, threadId)를 관리하며,
  * JSON 변환 로직을 제공한다.
  * </p>
+ * <p>
+ * timestamp는 {@link MoniKitClocks}에 등록된 시계에서 읽는다. 스레드 이름은 생성 시점에 복사하지 않고
+ * 스레드 참조만 보관했다가 처음 읽힐 때 한 번 조회한다.
+ * </p>
  *
  * @author ryu-qqq
  * @since 1.0.0
@@ -20,8 +28,9 @@ public abstract class AbstractLogEntry implements LogEntry {
     private final Instant timestamp;
     private final String traceId;
     private final LogLevel logLevel;
-    private final String threadName;
+    private final Thread thread;
     private final long threadId;
+    private volatile String threadName;
 
     /**
      * 하위 클래스에서만 호출 가능하도록 protected 설정.
@@ -32,11 +41,12 @@ public abstract class AbstractLogEntry implements LogEntry {
      * @param logLevel 로그 레벨
      */
     protected AbstractLogEntry(String traceId, LogLevel logLevel) {
-        this.timestamp = Instant.now();
+        Thread current = Thread.currentThread();
+        this.timestamp = MoniKitClocks.get().instant();
         this.traceId = traceId;
         this.logLevel = logLevel;
-        this.threadName = Thread.currentThread().getName();
-        this.threadId = Thread.currentThread().threadId();
+        this.thread = current;
+        this.threadId = current.threadId();
     }
 
     @Override
@@ -54,6 +64,27 @@ public abstract class AbstractLogEntry implements LogEntry {
         return logLevel;
     }
 
+    /**
+     * @return 로그를 생성한 스레드의 이름. 처음 호출될 때 조회한다.
+     * @since 1.1.3
+     */
+    public String getThreadName() {
+        String name = threadName;
+        if (name == null) {
+            name = thread.getName();
+            threadName = name;
+        }
+        return name;
+    }
+
+    /**
+     * @return 로그를 생성한 스레드의 ID
+     * @since 1.1.3
+     */
+    public long getThreadId() {
+        return threadId;
+    }
+
     /**
      * 하위 클래스에서 추가 필드를 JSON에 포함할 수 있도록 메서드 제공.
      *
@@ -62,4 +93,39 @@ public abstract class AbstractLogEntry implements LogEntry {
 
     protected abstract void addExtraFields(Map<String, Object> logMap);
 
+    /**
+     * 공통 필드와 하위 클래스 필드를 {@link LogFieldWriter}로 기록한다.
+     * <p>
+     * {@link LogEntryEncoder}가 중간 Map 없이 로그를 직렬화할 때 사용한다.
+     * </p>
+     *
+     * @param writer 필드를 기록할 writer
+     * @since 1.1.3
+     */
+    public final void writeFields(LogFieldWriter writer) {
+        writer.timestamp(LogFields.TIMESTAMP, timestamp);
+        writer.string(LogFields.TRACE_ID, traceId);
+        writer.string(LogFields.LOG_TYPE, getLogType() != null ? getLogType().name() : null);
+        writer.string(LogFields.LOG_LEVEL, logLevel != null ? logLevel.name() : null);
+        writer.string(LogFields.THREAD_NAME, getThreadName());
+        writer.number(LogFields.THREAD_ID, threadId);
+        writeExtraFields(writer);
+    }
+
+    /**
+     * 하위 클래스 필드를 {@link LogFieldWriter}로 기록한다.
+     * <p>
+     * 기본 구현은 {@link #addExtraFields(Map)} 결과를 그대로 기록하므로 별도 재정의 없이도 동작한다.
+     * 기본 제공 모델은 Map 생성을 피하기 위해 이 메서드를 재정의한다.
+     * </p>
+     *
+     * @param writer 필드를 기록할 writer
+     * @since 1.1.3
+     */
+    protected void writeExtraFields(LogFieldWriter writer) {
+        Map<String, Object> logMap = new LinkedHashMap<>();
+        addExtraFields(logMap);
+        logMap.forEach(writer::value);
+    }
+
 }
@@ -5,6 +5,7 @@ import java.util.Objects;
 
 import com.monikit.core.LogLevel;
 import com.monikit.core.LogType;
+import com.monikit.core.encoder.LogFieldWriter;
 
 /**
  * Chunk 단위 배치 로그 엔트리.
@@ -91,6 +92,17 @@ public class BatchChunkLog extends AbstractLogEntry {
         logMap.put("errorMessage", errorMessage);
     }
 
+    @Override
+    protected void writeExtraFields(LogFieldWriter writer) {
+        writer.string(LogFields.JOB_NAME, jobName);
+        writer.string(LogFields.STEP_NAME, stepName);
+        writer.number(LogFields.CHUNK_INDEX, chunkIndex);
+        writer.number(LogFields.READ_COUNT, readCount);
+        writer.number(LogFields.WRITE_COUNT, writeCount);
+        writer.bool(LogFields.FAILED, failed);
+        writer.string(LogFields.ERROR_MESSAGE, errorMessage);
+    }
+
     @Override
     public boolean equals(Object object) {
         if (this
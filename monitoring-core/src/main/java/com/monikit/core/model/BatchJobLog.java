@@ -6,6 +6,7 @@ import java.util.Objects;
 
 import com.monikit.core.LogLevel;
 import com.monikit.core.LogType;
+import com.monikit.core.encoder.LogFieldWriter;
 
 /**
  * 배치 작업 실행 정보를 기록하는 로그 클래스.
@@ -88,6 +89,17 @@ public class BatchJobLog extends AbstractLogEntry {
         logMap.put("errorMessage", errorMessage);
     }
 
+    @Override
+    protected void writeExtraFields(LogFieldWriter writer) {
+        writer.string(LogFields.JOB_NAME, jobName);
+        writer.timestamp(LogFields.START_TIME, startTime);
+        writer.timestamp(LogFields.END_TIME, endTime);
+        writer.number(LogFields.EXECUTION_TIME, executionTime);
+        writer.string(LogFields.STATUS, status);
+        writer.string(LogFields.EXIT_CODE, exitCode);
+        writer.string(LogFields.ERROR_MESSAGE, errorMessage);
+    }
+
     @Override
     public boolean equals(Object object) {
         if (this
@@ -6,6 +6,7 @@ import java.util.Objects;
 
 import com.monikit.core.LogLevel;
 import com.monikit.core.LogType;
+import com.monikit.core.encoder.LogFieldWriter;
 
 /**
  * Step 단위 배치 로그 엔트리.
@@ -107,6 +108,19 @@ public class BatchStepLog extends AbstractLogEntry {
         logMap.put("status", status);
     }
 
+    @Override
+    protected void writeExtraFields(LogFieldWriter writer) {
+        writer.string(LogFields.JOB_NAME, jobName);
+        writer.string(LogFields.STEP_NAME, stepName);
+        writer.timestamp(LogFields.START_TIME, startTime);
+        writer.timestamp(LogFields.END_TIME, endTime);
+        writer.number(LogFields.READ_COUNT, readCount);
+        writer.number(LogFields.WRITE_COUNT, writeCount);
+        writer.number(LogFields.SKIP_COUNT, skipCount);
+        writer.string(LogFields.EXIT_CODE, exitCode);
+        writer.string(LogFields.STATUS, status);
+    }
+
     @Override
     public boolean equals(Object object) {
         if (this
@@ -0,0 +1,140 @@
+package com.monikit.core.model;
+
+import java.util.Arrays;
+
+/**
+ * {@link ExceptionLog}가 보관하는 스택 트레이스 스냅샷.
+ * <p>
+ * 생성 시점에는 예외의 상위 {@link #MAX_FRAMES}개 프레임을 {@link StackFrameTable} ID 배열로만 보관하고,
+ * {@code Throwable} 참조나 문자열은 만들지 않는다. 문자열은 {@link #render()}가 호출될 때 intern된 프레임 문자열을 이어 붙여 만든다.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@code getStackTrace()}는 예외 자신에 대해 한 번만 호출한다. 발생 위치(sourceClass/sourceMethod)는 원인 예외가 없으면 같은 배열의 첫 프레임을 쓰고,
+ *     원인 예외가 있을 때만 최하위 원인의 첫 프레임을 읽는다.</li>
+ *     <li>intern 테이블이 가득 차 ID를 받지 못한 프레임이 있으면 원본 프레임 배열을 대신 보관한다.</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+final class CapturedStackTrace {
+
+    static final int MAX_FRAMES = 10;
+    private static final String UNKNOWN = "Unknown";
+    private static final String TRUNCATED = "... 이하 생략 ...\n";
+
+    private final int[] frameIds;
+    private final StackTraceElement[] rawFrames;
+    private final boolean truncated;
+    private final String sourceClass;
+    private final String sourceMethod;
+
+    private CapturedStackTrace(int[] frameIds, StackTraceElement[] rawFrames, boolean truncated,
+                               String sourceClass, String sourceMethod) {
+        this.frameIds = frameIds;
+        this.rawFrames = rawFrames;
+        this.truncated = truncated;
+        this.sourceClass = sourceClass;
+        this.sourceMethod = sourceMethod;
+    }
+
+    static CapturedStackTrace capture(Throwable exception) {
+        StackTraceElement[] frames = exception.getStackTrace();
+        int depth = Math.min(frames.length, MAX_FRAMES);
+
+        int[] frameIds = new int[depth];
+        StackTraceElement[] rawFrames = null;
+        for (int i = 0; i < depth; i++) {
+            int id = StackFrameTable.intern(frames[i]);
+            if (id == StackFrameTable.NOT_INTERNED) {
+                rawFrames = Arrays.copyOf(frames, depth);
+                frameIds = null;
+                break;
+            }
+            frameIds[i] = id;
+        }
+
+        StackTraceElement source = sourceFrame(exception, frames);
+        return new CapturedStackTrace(frameIds, rawFrames, frames.length > MAX_FRAMES,
+            source != null ? source.getClassName() : UNKNOWN,
+            source != null ? source.getMethodName() : UNKNOWN);
+    }
+
+    String getSourceClass() {
+        return sourceClass;
+    }
+
+    String getSourceMethod() {
+        return sourceMethod;
+    }
+
+    int depth() {
+        return frameIds != null ? frameIds.length : rawFrames.length;
+    }
+
+    /**
+     * @return 프레임마다 한 줄씩, 잘린 경우 생략 표시를 붙인 스택 트레이스 문자열
+     */
+    String render() {
+        StringBuilder sb = new StringBuilder();
+        if (frameIds != null) {
+            for (int id : frameIds) {
+                sb.append(StackFrameTable.render(id)).append('\n');
+            }
+        } else {
+            for (StackTraceElement frame : rawFrames) {
+                sb.append(frame).append('\n');
+            }
+        }
+        if (truncated) {
+            sb.append(TRUNCATED);
+        }
+        return sb.toString();
+    }
+
+    private static StackTraceElement sourceFrame(Throwable exception, StackTraceElement[] frames) {
+        Throwable root = exception;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        if (root == exception) {
+            return frames.length > 0 ? frames[0] : null;
+        }
+        StackTraceElement[] rootFrames = root.getStackTrace();
+        return rootFrames.length > 0 ? rootFrames[0] : null;
+    }
+
+    private StackTraceElement frameAt(int index) {
+        return frameIds != null ? StackFrameTable.frame(frameIds[index]) : rawFrames[index];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CapturedStackTrace that = (CapturedStackTrace) o;
+        if (truncated != that.truncated || depth() != that.depth()) {
+            return false;
+        }
+        if (frameIds != null && that.frameIds != null) {
+            return Arrays.equals(frameIds, that.frameIds);
+        }
+        for (int i = 0; i < depth(); i++) {
+            if (!frameAt(i).equals(that.frameAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(truncated);
+        for (int i = 0; i < depth(); i++) {
+            result = 31 * result + frameAt(i).hashCode();
+        }
+        return result;
+    }
+
+}
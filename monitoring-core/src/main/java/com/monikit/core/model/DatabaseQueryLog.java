@@ -1,10 +1,13 @@
 package com.monikit.core.model;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import com.monikit.core.LogLevel;
 import com.monikit.core.LogType;
+import com.monikit.core.encoder.LogFieldWriter;
 
 /**
  * SQL 쿼리 실행 정보를 기록하는 로그 클래스.
@@ -12,6 +15,9 @@ import com.monikit.core.LogType;
  * 실행된 SQL 쿼리, 실행 시간, 데이터베이스 연결 정보, 바인딩된 파라미터,
  * 변경된 행 개수 및 결과 개수를 포함하여 데이터베이스 성능 분석에 활용된다.
  * </p>
+ * <p>
+ * 실행 시간은 ns 단위로 보관하며, executionTime(ms)과 executionTimeNanos를 함께 기록한다.
+ * </p>
  *
  * @author ryu-qqq
  * @since 1.0.0
@@ -19,6 +25,7 @@ import com.monikit.core.LogType;
 public class DatabaseQueryLog extends AbstractLogEntry {
     private final String query;
     private final long executionTime;
+    private final long executionTimeNanos;
     private final String dataSource;
     private final String parameters;
     private final int rowsAffected;
@@ -26,9 +33,19 @@ public class DatabaseQueryLog extends AbstractLogEntry {
 
     protected DatabaseQueryLog(String traceId, String query, long executionTime, String dataSource,
                                String parameters, int rowsAffected, int resultSize, LogLevel logLevel) {
+        this(traceId, query, Duration.ofMillis(executionTime), dataSource, parameters, rowsAffected, resultSize, logLevel);
+    }
+
+    /**
+     * @param executionTime ns 정밀도의 쿼리 실행 시간
+     * @since 1.1.3
+     */
+    protected DatabaseQueryLog(String traceId, String query, Duration executionTime, String dataSource,
+                               String parameters, int rowsAffected, int resultSize, LogLevel logLevel) {
         super(traceId, logLevel);
         this.query = query;
-        this.executionTime = executionTime;
+        this.executionTimeNanos = executionTime.toNanos();
+        this.executionTime = TimeUnit.NANOSECONDS.toMillis(executionTimeNanos);
         this.dataSource = dataSource;
         this.parameters = parameters;
         this.rowsAffected = rowsAffected;
@@ -50,6 +67,18 @@ public class DatabaseQueryLog extends AbstractLogEntry {
         logMap.put("parameters", parameters);
         logMap.put("rowsAffected", rowsAffected);
         logMap.put("resultSize", resultSize);
+        logMap.put("executionTimeNanos", executionTimeNanos);
+    }
+
+    @Override
+    protected void writeExtraFields(LogFieldWriter writer) {
+        writer.string(LogFields.QUERY, query);
+        writer.number(LogFields.EXECUTION_TIME, executionTime);
+        writer.string(LogFields.DATA_SOURCE, dataSource);
+        writer.string(LogFields.PARAMETERS, parameters);
+        writer.number(LogFields.ROWS_AFFECTED, rowsAffected);
+        writer.number(LogFields.RESULT_SIZE, resultSize);
+        writer.number(LogFields.EXECUTION_TIME_NANOS, executionTimeNanos);
     }
 
     public String getQuery() {
@@ -60,6 +89,14 @@ public class DatabaseQueryLog extends AbstractLogEntry {
         return executionTime;
     }
 
+    /**
+     * @return 쿼리 실행 시간 (ns)
+     * @since 1.1.3
+     */
+    public long getExecutionTimeNanos() {
+        return executionTimeNanos;
+    }
+
     public String getDataSource() {
         return dataSource;
     }
@@ -81,6 +118,15 @@ public class DatabaseQueryLog extends AbstractLogEntry {
         return new DatabaseQueryLog(traceId, query, executionTime, dataSource, parameters, rowsAffected, resultSize, logLevel);
     }
 
+    /**
+     * @param executionTime ns 정밀도의 쿼리 실행 시간
+     * @since 1.1.3
+     */
+    public static DatabaseQueryLog of(String traceId, String query, Duration executionTime, String dataSource,
+                                      String parameters, int rowsAffected, int resultSize, LogLevel logLevel) {
+        return new DatabaseQueryLog(traceId, query, executionTime, dataSource, parameters, rowsAffected, resultSize, logLevel);
+    }
+
     @Override
     public boolean equals(Object object) {
         if (this
@@ -90,8 +136,8 @@ public class DatabaseQueryLog extends AbstractLogEntry {
             || getClass()
             != object.getClass()) return false;
         DatabaseQueryLog that = (DatabaseQueryLog) object;
-        return executionTime
-            == that.executionTime
+        return executionTimeNanos
+            == that.executionTimeNanos
             && rowsAffected
             == that.rowsAffected
             && resultSize
@@ -103,7 +149,7 @@ public class DatabaseQueryLog extends AbstractLogEntry {
 
     @Override
     public int hashCode() {
-        return Objects.hash(query, executionTime, dataSource, parameters, rowsAffected, resultSize);
+        return Objects.hash(query, executionTimeNanos, dataSource, parameters, rowsAffected, resultSize);
     }
 
 }
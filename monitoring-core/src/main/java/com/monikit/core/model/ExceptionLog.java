@@ -5,6 +5,7 @@ import java.util.Objects;
 
 import com.monikit.core.LogLevel;
 import com.monikit.core.LogType;
+import com.monikit.core.encoder.LogFieldWriter;
 
 /**
  * 예외 발생 시 스택 트레이스를 기록하는 로그 클래스.
@@ -12,6 +13,9 @@ import com.monikit.core.LogType;
  * - 애플리케이션 내에서 발생한 예외를 기록하여 디버깅 및 장애 분석에 활용됩니다.
  * - {@code Throwable}을 받아, 내부적으로 예외 타입, 메시지, 스택 트레이스를 문자열로 저장합니다.
  * - 별도의 ErrorCategory 없이, 예외 클래스명(exceptionType)을 통해 메트릭 분석 및 필터링이 가능합니다.
+ * - 생성 시점에는 상위 프레임을 전역 프레임 테이블의 ID 배열({@link CapturedStackTrace})로만 보관하며, {@code Throwable}은 참조하지 않습니다.
+ * - 스택 트레이스 문자열은 처음 읽힐 때(인코딩 시점) intern된 프레임 문자열로 한 번만 만들고,
+ *   발생 위치(sourceClass, sourceMethod)는 캡처한 프레임에서 바로 읽습니다.
  * </p>
  *
  * @author ryu-qqq
@@ -19,29 +23,26 @@ import com.monikit.core.LogType;
  */
 
 public class ExceptionLog extends AbstractLogEntry {
-    private final String sourceClass;
-    private final String sourceMethod;
+
     private final String exceptionType;
     private final String message;
-    private final String stackTrace;
+    private final CapturedStackTrace capturedStackTrace;
+    private final LazyValue<String> stackTrace;
 
     public ExceptionLog(String traceId, Throwable exception) {
         super(traceId, LogLevel.ERROR);
-        Throwable rootCause = getRootCause(exception);
-        StackTraceElement[] stackTraceElements = rootCause.getStackTrace();
-        this.sourceClass = stackTraceElements.length > 0 ? stackTraceElements[0].getClassName() : "Unknown";
-        this.sourceMethod = stackTraceElements.length > 0 ? stackTraceElements[0].getMethodName() : "Unknown";
         this.exceptionType = exception.getClass().getSimpleName();
         this.message = exception.getMessage();
-        this.stackTrace = getStackTraceAsString(exception);
+        this.capturedStackTrace = CapturedStackTrace.capture(exception);
+        this.stackTrace = LazyValue.of(capturedStackTrace::render, "");
     }
 
     public String getSourceClass() {
-        return sourceClass;
+        return capturedStackTrace.getSourceClass();
     }
 
     public String getSourceMethod() {
-        return sourceMethod;
+        return capturedStackTrace.getSourceMethod();
     }
 
     public String getExceptionType() {
@@ -53,15 +54,21 @@ public class ExceptionLog extends AbstractLogEntry {
     }
 
     public String getStackTrace() {
-        return stackTrace;
+        return stackTrace.get();
+    }
+
+    /**
+     * @return 스택 트레이스 문자열이 이미 만들어졌는지 여부
+     */
+    public boolean isRendered() {
+        return stackTrace.isResolved();
     }
 
-    private Throwable getRootCause(Throwable throwable) {
-        Throwable cause = throwable;
-        while (cause.getCause() != null) {
-            cause = cause.getCause();
-        }
-        return cause;
+    /**
+     * @return 보관 중인 스택 프레임 수 (최대 {@value CapturedStackTrace#MAX_FRAMES})
+     */
+    public int getFrameCount() {
+        return capturedStackTrace.depth();
     }
 
     @Override
@@ -73,25 +80,18 @@ public class ExceptionLog extends AbstractLogEntry {
     protected void addExtraFields(Map<String, Object> logMap) {
         logMap.put("exceptionType", exceptionType);
         logMap.put("message", message);
-        logMap.put("stackTrace", stackTrace);
+        logMap.put("stackTrace", getStackTrace());
     }
 
-    public static ExceptionLog of(String traceId, Throwable exception){
-        return new ExceptionLog(traceId, exception);
+    @Override
+    protected void writeExtraFields(LogFieldWriter writer) {
+        writer.string(LogFields.EXCEPTION_TYPE, exceptionType);
+        writer.string(LogFields.MESSAGE, message);
+        writer.string(LogFields.STACK_TRACE, getStackTrace());
     }
 
-    private String getStackTraceAsString(Throwable e) {
-        StringBuilder sb = new StringBuilder();
-        StackTraceElement[] stackTraceElements = e.getStackTrace();
-
-        int maxElements = 10;
-        for (int i = 0; i < Math.min(stackTraceElements.length, maxElements); i++) {
-            sb.append(stackTraceElements[i].toString()).append("\n");
-        }
-        if (stackTraceElements.length > maxElements) {
-            sb.append("... 이하 생략 ...\n");
-        }
-        return sb.toString();
+    public static ExceptionLog of(String traceId, Throwable exception){
+        return new ExceptionLog(traceId, exception);
     }
 
     @Override
@@ -101,12 +101,12 @@ public class ExceptionLog extends AbstractLogEntry {
         ExceptionLog that = (ExceptionLog) o;
         return Objects.equals(exceptionType, that.exceptionType) &&
             Objects.equals(message, that.message) &&
-            Objects.equals(stackTrace, that.stackTrace);
+            Objects.equals(capturedStackTrace, that.capturedStackTrace);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(exceptionType, message, stackTrace);
+        return Objects.hash(exceptionType, message, capturedStackTrace);
     }
 
 }
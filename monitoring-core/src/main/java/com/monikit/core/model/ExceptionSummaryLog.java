@@ -0,0 +1,165 @@
+package com.monikit.core.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.encoder.LogFieldWriter;
+
+/**
+ * 집계 구간 동안 반복된 같은 지문의 예외를 하나로 묶은 요약 로그.
+ * <p>
+ * 구간의 첫 예외는 평소처럼 {@link ExceptionLog}로 요청 로그에 남고, 이후 반복된 예외는 요청 로그에 넣지 않고 이 로그 하나로 집계된다.
+ * 여러 요청에 걸친 집계이므로 traceId는 구간의 첫 예외가 발생한 요청의 traceId를 사용한다.
+ * </p>
+ *
+ * <ul>
+ *     <li>fingerprint / exceptionType: 예외 지문 ID와 예외 클래스 이름</li>
+ *     <li>message / className / methodName: 구간 첫 예외의 메시지와 발생 위치</li>
+ *     <li>occurrenceCount: 구간 동안 발생한 전체 횟수 (첫 예외 포함)</li>
+ *     <li>firstTraceId / lastTraceId: 구간의 첫 / 마지막 예외가 발생한 요청의 traceId</li>
+ *     <li>sampledTraceIds: 요약으로 묶인 예외 중 일부 요청의 traceId (앞에서부터 최대 표본 수)</li>
+ *     <li>windowStart / windowEnd: 집계 구간의 시작 / 종료 시각</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class ExceptionSummaryLog extends AbstractLogEntry {
+
+    private final String fingerprint;
+    private final String exceptionType;
+    private final String message;
+    private final String className;
+    private final String methodName;
+    private final long occurrenceCount;
+    private final String firstTraceId;
+    private final String lastTraceId;
+    private final List<String> sampledTraceIds;
+    private final Instant windowStart;
+    private final Instant windowEnd;
+
+    protected ExceptionSummaryLog(String fingerprint, String exceptionType, String message, String className,
+                                  String methodName, long occurrenceCount, String firstTraceId, String lastTraceId,
+                                  List<String> sampledTraceIds, Instant windowStart, Instant windowEnd) {
+        super(firstTraceId, LogLevel.ERROR);
+        this.fingerprint = fingerprint;
+        this.exceptionType = exceptionType;
+        this.message = message;
+        this.className = className;
+        this.methodName = methodName;
+        this.occurrenceCount = occurrenceCount;
+        this.firstTraceId = firstTraceId;
+        this.lastTraceId = lastTraceId;
+        this.sampledTraceIds = List.copyOf(sampledTraceIds);
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+    }
+
+    public static ExceptionSummaryLog of(String fingerprint, String exceptionType, String message, String className,
+                                         String methodName, long occurrenceCount, String firstTraceId, String lastTraceId,
+                                         List<String> sampledTraceIds, Instant windowStart, Instant windowEnd) {
+        return new ExceptionSummaryLog(fingerprint, exceptionType, message, className, methodName, occurrenceCount,
+            firstTraceId, lastTraceId, sampledTraceIds, windowStart, windowEnd);
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public String getExceptionType() {
+        return exceptionType;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public long getOccurrenceCount() {
+        return occurrenceCount;
+    }
+
+    public String getFirstTraceId() {
+        return firstTraceId;
+    }
+
+    public String getLastTraceId() {
+        return lastTraceId;
+    }
+
+    public List<String> getSampledTraceIds() {
+        return sampledTraceIds;
+    }
+
+    public Instant getWindowStart() {
+        return windowStart;
+    }
+
+    public Instant getWindowEnd() {
+        return windowEnd;
+    }
+
+    @Override
+    public LogType getLogType() {
+        return LogType.EXCEPTION_SUMMARY;
+    }
+
+    @Override
+    protected void addExtraFields(Map<String, Object> logMap) {
+        logMap.put("fingerprint", fingerprint);
+        logMap.put("exceptionType", exceptionType);
+        logMap.put("message", message);
+        logMap.put("className", className);
+        logMap.put("methodName", methodName);
+        logMap.put("occurrenceCount", occurrenceCount);
+        logMap.put("firstTraceId", firstTraceId);
+        logMap.put("lastTraceId", lastTraceId);
+        logMap.put("sampledTraceIds", sampledTraceIds);
+        logMap.put("windowStart", windowStart.toString());
+        logMap.put("windowEnd", windowEnd.toString());
+    }
+
+    @Override
+    protected void writeExtraFields(LogFieldWriter writer) {
+        writer.string(LogFields.FINGERPRINT, fingerprint);
+        writer.string(LogFields.EXCEPTION_TYPE, exceptionType);
+        writer.string(LogFields.MESSAGE, message);
+        writer.string(LogFields.CLASS_NAME, className);
+        writer.string(LogFields.METHOD_NAME, methodName);
+        writer.number(LogFields.OCCURRENCE_COUNT, occurrenceCount);
+        writer.string(LogFields.FIRST_TRACE_ID, firstTraceId);
+        writer.string(LogFields.LAST_TRACE_ID, lastTraceId);
+        writer.value("sampledTraceIds", sampledTraceIds);
+        writer.timestamp(LogFields.WINDOW_START, windowStart);
+        writer.timestamp(LogFields.WINDOW_END, windowEnd);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (object == null || getClass() != object.getClass()) return false;
+        ExceptionSummaryLog that = (ExceptionSummaryLog) object;
+        return occurrenceCount == that.occurrenceCount
+            && Objects.equals(fingerprint, that.fingerprint)
+            && Objects.equals(firstTraceId, that.firstTraceId)
+            && Objects.equals(lastTraceId, that.lastTraceId)
+            && Objects.equals(windowStart, that.windowStart);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fingerprint, occurrenceCount, firstTraceId, lastTraceId, windowStart);
+    }
+
+}
@@ -1,16 +1,23 @@
 package com.monikit.core.model;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import com.monikit.core.LogLevel;
 import com.monikit.core.LogType;
+import com.monikit.core.encoder.LogFieldWriter;
 
 /**
  * 메서드 실행 시간과 함께 입력값 및 출력값을 기록하는 상세 로그 클래스.
  * <p>
  * 실행 시간이 설정된 임계값(threshold)을 초과한 경우에만 로깅되도록 설계됨.
  * </p>
+ * <p>
+ * 입력값/출력값은 {@link Supplier}로 받아 {@link #getInput()}, {@link #getOutput()}이 처음 호출될 때 한 번만 렌더링한다.
+ * 이 로그를 읽는 Sink가 없으면 인자 문자열화 비용이 발생하지 않는다.
+ * </p>
  *
  * @author ryu-qqq
  * @since 1.1.0
@@ -18,8 +25,10 @@ import com.monikit.core.LogType;
 
 public class ExecutionDetailLog extends ExecutionLog {
 
-    private final String input;
-    private final String output;
+    private static final String UNRENDERABLE = "[unserializable]";
+
+    private final LazyValue<String> input;
+    private final LazyValue<String> output;
     private final boolean thresholdExceeded;
     private final long threshold;
     private final String tag;
@@ -27,6 +36,24 @@ public class ExecutionDetailLog extends ExecutionLog {
     public ExecutionDetailLog(String traceId, String className, String methodName,
                               long executionTime, String input, String output,
                               LogLevel logLevel, boolean thresholdExceeded, long threshold, String tag) {
+        this(traceId, className, methodName, executionTime, LazyValue.resolved(input), LazyValue.resolved(output),
+            logLevel, thresholdExceeded, threshold, tag);
+    }
+
+    protected ExecutionDetailLog(String traceId, String className, String methodName,
+                                 long executionTime, LazyValue<String> input, LazyValue<String> output,
+                                 LogLevel logLevel, boolean thresholdExceeded, long threshold, String tag) {
+        this(traceId, className, methodName, Duration.ofMillis(executionTime), input, output, logLevel,
+            thresholdExceeded, threshold, tag);
+    }
+
+    /**
+     * @param executionTime ns 정밀도의 실행 시간
+     * @since 1.1.3
+     */
+    protected ExecutionDetailLog(String traceId, String className, String methodName,
+                                 Duration executionTime, LazyValue<String> input, LazyValue<String> output,
+                                 LogLevel logLevel, boolean thresholdExceeded, long threshold, String tag) {
         super(traceId, logLevel, className, methodName, executionTime);
         this.input = input;
         this.output = output;
@@ -38,16 +65,77 @@ public class ExecutionDetailLog extends ExecutionLog {
     public static ExecutionDetailLog of(String traceId, String className, String methodName,
                                         long executionTime, String input, String output, long threshold, String tag) {
         boolean exceeded = executionTime > threshold;
-        LogLevel level = exceeded ? LogLevel.WARN : LogLevel.INFO;
-        return new ExecutionDetailLog(traceId, className, methodName, executionTime, input, output, level, exceeded, threshold, tag);
+        return new ExecutionDetailLog(traceId, className, methodName, executionTime, input, output,
+            levelOf(executionTime, threshold), exceeded, threshold, tag);
+    }
+
+    /**
+     * 입력값/출력값 렌더링을 처음 읽는 시점으로 미루는 팩토리.
+     *
+     * @param input 입력값 문자열을 만들 Supplier
+     * @param output 출력값 문자열을 만들 Supplier
+     */
+    public static ExecutionDetailLog deferred(String traceId, String className, String methodName,
+                                              long executionTime, Supplier<String> input, Supplier<String> output,
+                                              long threshold, String tag) {
+        boolean exceeded = executionTime > threshold;
+        return new ExecutionDetailLog(traceId, className, methodName, executionTime,
+            LazyValue.of(input, UNRENDERABLE), LazyValue.of(output, UNRENDERABLE), levelOf(executionTime, threshold),
+            exceeded, threshold, tag);
+    }
+
+    /**
+     * 실행 시간을 ns 정밀도로 보관하는 {@link #deferred} 팩토리. 기준 시간 비교는 ms 단위로 한다.
+     *
+     * @param executionTime 실행 시간
+     * @param input 입력값 문자열을 만들 Supplier
+     * @param output 출력값 문자열을 만들 Supplier
+     * @since 1.1.3
+     */
+    public static ExecutionDetailLog deferred(String traceId, String className, String methodName,
+                                              Duration executionTime, Supplier<String> input, Supplier<String> output,
+                                              long threshold, String tag) {
+        long executionMillis = executionTime.toMillis();
+        return new ExecutionDetailLog(traceId, className, methodName, executionTime,
+            LazyValue.of(input, UNRENDERABLE), LazyValue.of(output, UNRENDERABLE), levelOf(executionMillis, threshold),
+            executionMillis > threshold, threshold, tag);
+    }
+
+    /**
+     * 실행 시간을 ns 정밀도로 보관하는 {@link #of} 팩토리. 기준 시간 비교는 ms 단위로 한다.
+     *
+     * @param executionTime 실행 시간
+     * @since 1.1.3
+     */
+    public static ExecutionDetailLog of(String traceId, String className, String methodName,
+                                        Duration executionTime, String input, String output, long threshold, String tag) {
+        long executionMillis = executionTime.toMillis();
+        return new ExecutionDetailLog(traceId, className, methodName, executionTime, LazyValue.resolved(input),
+            LazyValue.resolved(output), levelOf(executionMillis, threshold), executionMillis > threshold, threshold, tag);
+    }
+
+    /**
+     * 로그를 만들기 전에 레벨을 알아야 할 때 사용한다. 기준 시간을 넘기면 WARN, 아니면 INFO.
+     *
+     * @since 1.1.3
+     */
+    public static LogLevel levelOf(long executionTime, long threshold) {
+        return executionTime > threshold ? LogLevel.WARN : LogLevel.INFO;
     }
 
     public String getInput() {
-        return input;
+        return input.get();
     }
 
     public String getOutput() {
-        return output;
+        return output.get();
+    }
+
+    /**
+     * @return 입력값/출력값이 모두 렌더링되었는지 여부
+     */
+    public boolean isRendered() {
+        return input.isResolved() && output.isResolved();
     }
 
     public boolean isThresholdExceeded() {
@@ -65,14 +153,24 @@ public class ExecutionDetailLog extends ExecutionLog {
     @Override
     protected void addExtraFields(Map<String, Object> logMap) {
         super.addExtraFields(logMap);
-        logMap.put("input", input);
-        logMap.put("output", output);
+        logMap.put("input", getInput());
+        logMap.put("output", getOutput());
         logMap.put("threshold", threshold + "ms");
         logMap.put("thresholdExceeded", thresholdExceeded);
         logMap.put("tag", tag);
 
     }
 
+    @Override
+    protected void writeExtraFields(LogFieldWriter writer) {
+        super.writeExtraFields(writer);
+        writer.string(LogFields.INPUT, getInput());
+        writer.string(LogFields.OUTPUT, getOutput());
+        writer.number(LogFields.THRESHOLD, threshold);
+        writer.bool(LogFields.THRESHOLD_EXCEEDED, thresholdExceeded);
+        writer.string(LogFields.TAG, tag);
+    }
+
     @Override
     public LogType getLogType() {
         return LogType.EXECUTION_DETAIL;
@@ -91,14 +189,14 @@ public class ExecutionDetailLog extends ExecutionLog {
             == that.thresholdExceeded
             && threshold
             == that.threshold
-            && Objects.equals(input, that.input)
-            && Objects.equals(output, that.output)
+            && Objects.equals(getInput(), that.getInput())
+            && Objects.equals(getOutput(), that.getOutput())
             && Objects.equals(tag, that.tag);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(input, output, thresholdExceeded, threshold, tag);
+        return Objects.hash(getInput(), getOutput(), thresholdExceeded, threshold, tag);
     }
 
 }
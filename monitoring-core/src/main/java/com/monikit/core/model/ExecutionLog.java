@@ -1,15 +1,22 @@
 package com.monikit.core.model;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import com.monikit.core.LogLevel;
 import com.monikit.core.LogType;
+import com.monikit.core.encoder.LogFieldWriter;
 
 /**
  * 메서드 실행 정보를 기록하는 공통 Execution 로그 추상 클래스.
  * <p>
  * ExecutionDetailLog 에서 공통으로 사용하는 필드 및 로직을 정의함.
  * </p>
+ * <p>
+ * 실행 시간은 ns 단위로 보관한다. executionTime(ms)은 기존 필드와의 호환을 위해 그대로 기록하고,
+ * 1ms 미만의 정밀도가 필요하면 executionTimeNanos를 사용한다.
+ * </p>
  *
  * @author ryu-qqq
  * @since 1.1.0
@@ -19,12 +26,22 @@ public class ExecutionLog extends AbstractLogEntry {
     protected final String className;
     protected final String methodName;
     protected final long executionTime;
+    protected final long executionTimeNanos;
 
     protected ExecutionLog(String traceId, LogLevel logLevel, String className, String methodName, long executionTime) {
+        this(traceId, logLevel, className, methodName, Duration.ofMillis(executionTime));
+    }
+
+    /**
+     * @param executionTime 실행 시간. ns 단위까지 보관한다.
+     * @since 1.1.3
+     */
+    protected ExecutionLog(String traceId, LogLevel logLevel, String className, String methodName, Duration executionTime) {
         super(traceId, logLevel);
         this.className = className;
         this.methodName = methodName;
-        this.executionTime = executionTime;
+        this.executionTimeNanos = executionTime.toNanos();
+        this.executionTime = TimeUnit.NANOSECONDS.toMillis(executionTimeNanos);
     }
 
     public String getClassName() {
@@ -39,6 +56,14 @@ public class ExecutionLog extends AbstractLogEntry {
         return executionTime;
     }
 
+    /**
+     * @return 실행 시간 (ns)
+     * @since 1.1.3
+     */
+    public long getExecutionTimeNanos() {
+        return executionTimeNanos;
+    }
+
     @Override
     public LogType getLogType() {
         return LogType.EXECUTION_TIME;
@@ -50,12 +75,29 @@ public class ExecutionLog extends AbstractLogEntry {
         return new ExecutionLog(traceId, LogLevel.INFO, className, methodName, executionTime);
     }
 
+    /**
+     * @param executionTime ns 정밀도의 실행 시간
+     * @since 1.1.3
+     */
+    public static ExecutionLog of(String traceId, String className, String methodName, Duration executionTime) {
+        return new ExecutionLog(traceId, LogLevel.INFO, className, methodName, executionTime);
+    }
+
 
     @Override
     protected void addExtraFields(Map<String, Object> logMap) {
         logMap.put("className", className);
         logMap.put("methodName", methodName);
         logMap.put("executionTime", executionTime + "ms");
+        logMap.put("executionTimeNanos", executionTimeNanos);
+    }
+
+    @Override
+    protected void writeExtraFields(LogFieldWriter writer) {
+        writer.string(LogFields.CLASS_NAME, className);
+        writer.string(LogFields.METHOD_NAME, methodName);
+        writer.number(LogFields.EXECUTION_TIME, executionTime);
+        writer.number(LogFields.EXECUTION_TIME_NANOS, executionTimeNanos);
     }
 
 }
@@ -2,9 +2,11 @@ package com.monikit.core.model;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import com.monikit.core.LogLevel;
 import com.monikit.core.LogType;
+import com.monikit.core.encoder.LogFieldWriter;
 
 /**
  * 외부에서 내 서버로 들어오는 HTTP 요청을 기록하는 로그 클래스.
@@ -12,6 +14,9 @@ import com.monikit.core.LogType;
  * 요청 URI, HTTP 메서드, 쿼리 스트링, 헤더 정보, 요청 바디,
  * 클라이언트 IP 및 User-Agent 정보를 포함하여 API 요청 이력을 추적할 수 있다.
  * </p>
+ * <p>
+ * 요청 바디와 헤더는 {@link #deferred} 팩토리로 생성하면 처음 읽힐 때 한 번만 문자열/Map으로 변환된다.
+ * </p>
  *
  * @author ryu-qqq
  * @since 1.1.0
@@ -20,14 +25,21 @@ public class HttpInboundRequestLog extends AbstractLogEntry implements HttpLogEn
 
     private final String uri;
     private final String method;
-    private final Map<String, String> headers;
+    private final LazyValue<Map<String, String>> headers;
     private final String query;
-    private final String body;
+    private final LazyValue<String> body;
     private final String clientIp;
     private final String userAgent;
 
     public HttpInboundRequestLog(String traceId, LogLevel logLevel, String uri, String method, String query, String body,
                                  Map<String, String> headers, String clientIp, String userAgent) {
+        this(traceId, logLevel, uri, method, query, LazyValue.resolved(body), LazyValue.resolved(headers),
+            clientIp, userAgent);
+    }
+
+    protected HttpInboundRequestLog(String traceId, LogLevel logLevel, String uri, String method, String query,
+                                    LazyValue<String> body, LazyValue<Map<String, String>> headers,
+                                    String clientIp, String userAgent) {
         super(traceId, logLevel);
         this.uri = uri;
         this.method = method;
@@ -48,17 +60,41 @@ public class HttpInboundRequestLog extends AbstractLogEntry implements HttpLogEn
         logMap.put("uri", uri);
         logMap.put("method", method);
         logMap.put("query", query);
-        logMap.put("body", body);
-        logMap.put("headers", headers);
+        logMap.put("body", getBody());
+        logMap.put("headers", getHeaders());
         logMap.put("clientIp", clientIp);
         logMap.put("userAgent", userAgent);
     }
 
+    @Override
+    protected void writeExtraFields(LogFieldWriter writer) {
+        writer.string(LogFields.URI, uri);
+        writer.string(LogFields.METHOD, method);
+        writer.string(LogFields.QUERY, query);
+        writer.string(LogFields.BODY, getBody());
+        writer.stringMap(LogFields.HEADERS, getHeaders());
+        writer.string(LogFields.CLIENT_IP, clientIp);
+        writer.string(LogFields.USER_AGENT, userAgent);
+    }
+
     public static HttpInboundRequestLog of(String traceId, LogLevel logLevel, String uri, String method, String query, String body,
                                            Map<String, String> headers, String clientIp, String userAgent) {
         return new HttpInboundRequestLog(traceId, logLevel, uri, method, query, body, headers, clientIp, userAgent);
     }
 
+    /**
+     * 바디와 헤더 변환을 처음 읽는 시점으로 미루는 팩토리.
+     *
+     * @param body 요청 바디 문자열을 만들 Supplier
+     * @param headers 요청 헤더 Map을 만들 Supplier
+     */
+    public static HttpInboundRequestLog deferred(String traceId, LogLevel logLevel, String uri, String method, String query,
+                                                 Supplier<String> body, Supplier<Map<String, String>> headers,
+                                                 String clientIp, String userAgent) {
+        return new HttpInboundRequestLog(traceId, logLevel, uri, method, query, LazyValue.of(body, ""),
+            LazyValue.of(headers, Map.of()), clientIp, userAgent);
+    }
+
     @Override
     public String getUri() {
         return uri;
@@ -76,7 +112,7 @@ public class HttpInboundRequestLog extends AbstractLogEntry implements HttpLogEn
 
     @Override
     public Map<String, String> getHeaders() {
-        return headers;
+        return headers.get();
     }
 
     public String getQuery() {
@@ -84,7 +120,14 @@ public class HttpInboundRequestLog extends AbstractLogEntry implements HttpLogEn
     }
 
     public String getBody() {
-        return body;
+        return body.get();
+    }
+
+    /**
+     * @return 바디와 헤더가 모두 변환되었는지 여부
+     */
+    public boolean isRendered() {
+        return body.isResolved() && headers.isResolved();
     }
 
     public String getClientIp() {
@@ -103,15 +146,15 @@ public class HttpInboundRequestLog extends AbstractLogEntry implements HttpLogEn
         return Objects.equals(uri, that.uri) &&
             Objects.equals(method, that.method) &&
             Objects.equals(query, that.query) &&
-            Objects.equals(body, that.body) &&
-            Objects.equals(headers, that.headers) &&
+            Objects.equals(getBody(), that.getBody()) &&
+            Objects.equals(getHeaders(), that.getHeaders()) &&
             Objects.equals(clientIp, that.clientIp) &&
             Objects.equals(userAgent, that.userAgent);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(uri, method, query, body, headers, clientIp, userAgent);
+        return Objects.hash(uri, method, query, getBody(), getHeaders(), clientIp, userAgent);
     }
 
 }
@@ -1,16 +1,26 @@
 package com.monikit.core.model;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import com.monikit.core.LogLevel;
 import com.monikit.core.LogType;
+import com.monikit.core.encoder.LogFieldWriter;
 
 /**
  * 내 서버가 클라이언트에게 반환하는 HTTP 응답을 기록하는 로그 클래스.
  * <p>
  * 응답 상태 코드, 요청 URI, HTTP 메서드, 헤더 정보, 실행 시간을 포함하여 API 성능 모니터링 및 분석에 활용된다.
  * </p>
+ * <p>
+ * 응답 바디와 헤더는 {@link #deferred} 팩토리로 생성하면 처음 읽힐 때 한 번만 문자열/Map으로 변환된다.
+ * </p>
+ * <p>
+ * 실행 시간은 ns 단위로 보관하며, executionTime(ms)과 executionTimeNanos를 함께 기록한다.
+ * </p>
  *
  * @author ryu-qqq
  * @since 1.1.0
@@ -20,19 +30,38 @@ public class HttpInboundResponseLog extends AbstractLogEntry implements HttpLogE
     private final String method;
     private final String uri;
     private final int statusCode;
-    private final Map<String, String> headers;
-    private final String responseBody;
+    private final LazyValue<Map<String, String>> headers;
+    private final LazyValue<String> responseBody;
     private final long executionTime;
+    private final long executionTimeNanos;
 
     public HttpInboundResponseLog(String traceId, LogLevel logLevel, String method, String uri, int statusCode,
                                   Map<String, String> headers, String responseBody, long executionTime) {
+        this(traceId, logLevel, method, uri, statusCode, LazyValue.resolved(headers), LazyValue.resolved(responseBody),
+            executionTime);
+    }
+
+    protected HttpInboundResponseLog(String traceId, LogLevel logLevel, String method, String uri, int statusCode,
+                                     LazyValue<Map<String, String>> headers, LazyValue<String> responseBody,
+                                     long executionTime) {
+        this(traceId, logLevel, method, uri, statusCode, headers, responseBody, Duration.ofMillis(executionTime));
+    }
+
+    /**
+     * @param executionTime ns 정밀도의 요청 처리 시간
+     * @since 1.1.3
+     */
+    protected HttpInboundResponseLog(String traceId, LogLevel logLevel, String method, String uri, int statusCode,
+                                     LazyValue<Map<String, String>> headers, LazyValue<String> responseBody,
+                                     Duration executionTime) {
         super(traceId, logLevel);
         this.method = method;
         this.uri = uri;
         this.statusCode = statusCode;
         this.headers = headers;
         this.responseBody = responseBody;
-        this.executionTime = executionTime;
+        this.executionTimeNanos = executionTime.toNanos();
+        this.executionTime = TimeUnit.NANOSECONDS.toMillis(executionTimeNanos);
     }
 
     public static HttpInboundResponseLog of(String traceId, LogLevel logLevel, String method, String uri, int statusCode,
@@ -40,6 +69,34 @@ public class HttpInboundResponseLog extends AbstractLogEntry implements HttpLogE
         return new HttpInboundResponseLog(traceId, logLevel, method, uri, statusCode, headers, responseBody, executionTime);
     }
 
+    /**
+     * 바디와 헤더 변환을 처음 읽는 시점으로 미루는 팩토리.
+     *
+     * @param headers 응답 헤더 Map을 만들 Supplier
+     * @param responseBody 응답 바디 문자열을 만들 Supplier
+     */
+    public static HttpInboundResponseLog deferred(String traceId, LogLevel logLevel, String method, String uri, int statusCode,
+                                                  Supplier<Map<String, String>> headers, Supplier<String> responseBody,
+                                                  long executionTime) {
+        return new HttpInboundResponseLog(traceId, logLevel, method, uri, statusCode, LazyValue.of(headers, Map.of()),
+            LazyValue.of(responseBody, ""), executionTime);
+    }
+
+    /**
+     * 요청 처리 시간을 ns 정밀도로 보관하는 {@link #deferred} 팩토리.
+     *
+     * @param headers 응답 헤더 Map을 만들 Supplier
+     * @param responseBody 응답 바디 문자열을 만들 Supplier
+     * @param executionTime 요청 처리 시간
+     * @since 1.1.3
+     */
+    public static HttpInboundResponseLog deferred(String traceId, LogLevel logLevel, String method, String uri, int statusCode,
+                                                  Supplier<Map<String, String>> headers, Supplier<String> responseBody,
+                                                  Duration executionTime) {
+        return new HttpInboundResponseLog(traceId, logLevel, method, uri, statusCode, LazyValue.of(headers, Map.of()),
+            LazyValue.of(responseBody, ""), executionTime);
+    }
+
     @Override
     public LogType getLogType() {
         return LogType.INBOUND_RESPONSE;
@@ -50,9 +107,21 @@ public class HttpInboundResponseLog extends AbstractLogEntry implements HttpLogE
         logMap.put("method", method);
         logMap.put("uri", uri);
         logMap.put("statusCode", statusCode);
-        logMap.put("headers", headers);
-        logMap.put("responseBody", responseBody);
+        logMap.put("headers", getHeaders());
+        logMap.put("responseBody", getResponseBody());
         logMap.put("executionTime", executionTime + "ms");
+        logMap.put("executionTimeNanos", executionTimeNanos);
+    }
+
+    @Override
+    protected void writeExtraFields(LogFieldWriter writer) {
+        writer.string(LogFields.METHOD, method);
+        writer.string(LogFields.URI, uri);
+        writer.number(LogFields.STATUS_CODE, statusCode);
+        writer.stringMap(LogFields.HEADERS, getHeaders());
+        writer.string(LogFields.RESPONSE_BODY, getResponseBody());
+        writer.number(LogFields.EXECUTION_TIME, executionTime);
+        writer.number(LogFields.EXECUTION_TIME_NANOS, executionTimeNanos);
     }
 
     @Override
@@ -72,17 +141,32 @@ public class HttpInboundResponseLog extends AbstractLogEntry implements HttpLogE
 
     @Override
     public Map<String, String> getHeaders() {
-        return headers;
+        return headers.get();
     }
 
     public String getResponseBody() {
-        return responseBody;
+        return responseBody.get();
+    }
+
+    /**
+     * @return 바디와 헤더가 모두 변환되었는지 여부
+     */
+    public boolean isRendered() {
+        return headers.isResolved() && responseBody.isResolved();
     }
 
     public long getExecutionTime() {
         return executionTime;
     }
 
+    /**
+     * @return 요청 처리 시간 (ns)
+     * @since 1.1.3
+     */
+    public long getExecutionTimeNanos() {
+        return executionTimeNanos;
+    }
+
     @Override
     public boolean equals(Object object) {
         if (this
@@ -94,17 +178,17 @@ public class HttpInboundResponseLog extends AbstractLogEntry implements HttpLogE
         HttpInboundResponseLog that = (HttpInboundResponseLog) object;
         return statusCode
             == that.statusCode
-            && executionTime
-            == that.executionTime
+            && executionTimeNanos
+            == that.executionTimeNanos
             && Objects.equals(method, that.method)
             && Objects.equals(uri, that.uri)
-            && Objects.equals(headers, that.headers)
-            && Objects.equals(responseBody, that.responseBody);
+            && Objects.equals(getHeaders(), that.getHeaders())
+            && Objects.equals(getResponseBody(), that.getResponseBody());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(method, uri, statusCode, headers, responseBody, executionTime);
+        return Objects.hash(method, uri, statusCode, getHeaders(), getResponseBody(), executionTimeNanos);
     }
 
 }
\ No newline at end of file
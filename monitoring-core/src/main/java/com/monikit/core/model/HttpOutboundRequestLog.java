@@ -5,6 +5,7 @@ import java.util.Objects;
 
 import com.monikit.core.LogLevel;
 import com.monikit.core.LogType;
+import com.monikit.core.encoder.LogFieldWriter;
 
 /**
  * 내 서버에서 외부 API로 요청을 보낼 때 실행된 HTTP 요청을 기록하는 로그 클래스.
@@ -49,6 +50,15 @@ public class HttpOutboundRequestLog extends AbstractLogEntry implements HttpLogE
         logMap.put("headers", headers);
     }
 
+    @Override
+    protected void writeExtraFields(LogFieldWriter writer) {
+        writer.string(LogFields.URI, uri);
+        writer.string(LogFields.METHOD, method);
+        writer.string(LogFields.QUERY, query);
+        writer.string(LogFields.BODY, body);
+        writer.stringMap(LogFields.HEADERS, headers);
+    }
+
     @Override
     public String getUri() {
         return uri;
@@ -1,16 +1,22 @@
 package com.monikit.core.model;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import com.monikit.core.LogLevel;
 import com.monikit.core.LogType;
+import com.monikit.core.encoder.LogFieldWriter;
 
 /**
  * 외부 API에서 받은 응답을 기록하는 로그 클래스.
  * <p>
  * 응답 상태 코드, 응답 헤더, 응답 바디, 실행 시간을 포함하여 API 연동 응답을 분석할 수 있다.
  * </p>
+ * <p>
+ * 실행 시간은 ns 단위로 보관하며, executionTime(ms)과 executionTimeNanos를 함께 기록한다.
+ * </p>
  *
  * @author ryu-qqq
  * @since 1.1.0
@@ -23,16 +29,27 @@ public class HttpOutboundResponseLog extends AbstractLogEntry implements HttpLog
     private final Map<String, String> headers;
     private final String responseBody;
     private final long executionTime;
+    private final long executionTimeNanos;
 
     protected HttpOutboundResponseLog(String traceId, LogLevel logLevel, String method, String uri, int statusCode,
                                       Map<String, String> headers, String responseBody, long executionTime) {
+        this(traceId, logLevel, method, uri, statusCode, headers, responseBody, Duration.ofMillis(executionTime));
+    }
+
+    /**
+     * @param executionTime ns 정밀도의 외부 호출 시간
+     * @since 1.1.3
+     */
+    protected HttpOutboundResponseLog(String traceId, LogLevel logLevel, String method, String uri, int statusCode,
+                                      Map<String, String> headers, String responseBody, Duration executionTime) {
         super(traceId, logLevel);
         this.method = method;
         this.uri = uri;
         this.statusCode = statusCode;
         this.headers = headers;
         this.responseBody = responseBody;
-        this.executionTime = executionTime;
+        this.executionTimeNanos = executionTime.toNanos();
+        this.executionTime = TimeUnit.NANOSECONDS.toMillis(executionTimeNanos);
     }
 
     @Override
@@ -48,6 +65,18 @@ public class HttpOutboundResponseLog extends AbstractLogEntry implements HttpLog
         logMap.put("headers", headers);
         logMap.put("responseBody", responseBody);
         logMap.put("executionTime", executionTime + "ms");
+        logMap.put("executionTimeNanos", executionTimeNanos);
+    }
+
+    @Override
+    protected void writeExtraFields(LogFieldWriter writer) {
+        writer.string(LogFields.METHOD, method);
+        writer.string(LogFields.URI, uri);
+        writer.number(LogFields.STATUS_CODE, statusCode);
+        writer.stringMap(LogFields.HEADERS, headers);
+        writer.string(LogFields.RESPONSE_BODY, responseBody);
+        writer.number(LogFields.EXECUTION_TIME, executionTime);
+        writer.number(LogFields.EXECUTION_TIME_NANOS, executionTimeNanos);
     }
 
     public static HttpOutboundResponseLog of(String traceId, LogLevel logLevel, String method, String uri, int statusCode,
@@ -55,6 +84,15 @@ public class HttpOutboundResponseLog extends AbstractLogEntry implements HttpLog
         return new HttpOutboundResponseLog(traceId, logLevel, method, uri, statusCode, headers, responseBody, executionTime);
     }
 
+    /**
+     * @param executionTime ns 정밀도의 외부 호출 시간
+     * @since 1.1.3
+     */
+    public static HttpOutboundResponseLog of(String traceId, LogLevel logLevel, String method, String uri, int statusCode,
+                                             Map<String, String> headers, String responseBody, Duration executionTime) {
+        return new HttpOutboundResponseLog(traceId, logLevel, method, uri, statusCode, headers, responseBody, executionTime);
+    }
+
 
     @Override
     public String getMethod() {
@@ -84,6 +122,14 @@ public class HttpOutboundResponseLog extends AbstractLogEntry implements HttpLog
         return executionTime;
     }
 
+    /**
+     * @return 외부 호출 시간 (ns)
+     * @since 1.1.3
+     */
+    public long getExecutionTimeNanos() {
+        return executionTimeNanos;
+    }
+
     @Override
     public boolean equals(Object object) {
         if (this
@@ -95,8 +141,8 @@ public class HttpOutboundResponseLog extends AbstractLogEntry implements HttpLog
         HttpOutboundResponseLog that = (HttpOutboundResponseLog) object;
         return statusCode
             == that.statusCode
-            && executionTime
-            == that.executionTime
+            && executionTimeNanos
+            == that.executionTimeNanos
             && Objects.equals(method, that.method)
             && Objects.equals(uri, that.uri)
             && Objects.equals(headers, that.headers)
@@ -105,7 +151,7 @@ public class HttpOutboundResponseLog extends AbstractLogEntry implements HttpLog
 
     @Override
     public int hashCode() {
-        return Objects.hash(method, uri, statusCode, headers, responseBody, executionTime);
+        return Objects.hash(method, uri, statusCode, headers, responseBody, executionTimeNanos);
     }
 
 }
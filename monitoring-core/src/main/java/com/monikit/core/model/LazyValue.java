@@ -0,0 +1,94 @@
+package com.monikit.core.model;
+
+import java.util.function.Supplier;
+
+/**
+ * 처음 읽힐 때 한 번만 계산되는 값.
+ * <p>
+ * 로그 생성 시점에는 원본 참조나 {@link Supplier}만 보관하고, 실제 문자열 렌더링은
+ * Sink 또는 Flush Hook이 값을 읽는 시점으로 미룬다. 해당 로그를 읽는 Sink가 없으면 렌더링 비용이 들지 않는다.
+ * </p>
+ * <p>
+ * - 여러 스레드(요청 스레드, 비동기 Notifier 스레드 등)에서 동시에 읽어도 한 번만 계산된다.
+ * - 계산 중 예외가 발생하면 지정한 대체값(기본 null)으로 고정한다.
+ * - 계산이 끝나면 {@link Supplier} 참조를 해제해 캡처된 원본 객체가 GC될 수 있도록 한다.
+ * </p>
+ *
+ * @param <T> 값 타입
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class LazyValue<T> implements Supplier<T> {
+
+    private volatile Supplier<? extends T> supplier;
+    private volatile boolean resolved;
+    private T value;
+    private T fallback;
+
+    private LazyValue(Supplier<? extends T> supplier, T fallback) {
+        this.supplier = supplier;
+        this.fallback = fallback;
+    }
+
+    private LazyValue(T value) {
+        this.value = value;
+        this.resolved = true;
+    }
+
+    /**
+     * @param supplier 값을 처음 읽을 때 호출될 Supplier. null이면 값도 null
+     */
+    public static <T> LazyValue<T> of(Supplier<? extends T> supplier) {
+        return of(supplier, null);
+    }
+
+    /**
+     * @param supplier 값을 처음 읽을 때 호출될 Supplier. null이면 값도 null
+     * @param fallback Supplier가 예외를 던졌을 때 사용할 값
+     */
+    public static <T> LazyValue<T> of(Supplier<? extends T> supplier, T fallback) {
+        if (supplier == null) {
+            return new LazyValue<>(null);
+        }
+        return new LazyValue<>(supplier, fallback);
+    }
+
+    /**
+     * @param value 이미 계산된 값
+     */
+    public static <T> LazyValue<T> resolved(T value) {
+        return new LazyValue<>(value);
+    }
+
+    @Override
+    public T get() {
+        if (!resolved) {
+            synchronized (this) {
+                if (!resolved) {
+                    try {
+                        value = supplier.get();
+                    } catch (RuntimeException e) {
+                        value = fallback;
+                    }
+                    resolved = true;
+                    supplier = null;
+                    fallback = null;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return 값이 이미 계산되었는지 여부
+     */
+    public boolean isResolved() {
+        return resolved;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(get());
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.monikit.core.model;
+
+import com.monikit.core.encoder.FieldName;
+
+/**
+ * 기본 로그 모델이 사용하는 미리 인코딩된 필드 이름.
+ * <p>
+ * 이름은 각 모델의 {@code addExtraFields}가 사용하는 키와 동일하다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+final class LogFields {
+
+    static final FieldName TIMESTAMP = FieldName.of("timestamp");
+    static final FieldName TRACE_ID = FieldName.of("traceId");
+    static final FieldName LOG_TYPE = FieldName.of("logType");
+    static final FieldName LOG_LEVEL = FieldName.of("logLevel");
+    static final FieldName THREAD_NAME = FieldName.of("threadName");
+    static final FieldName THREAD_ID = FieldName.of("threadId");
+
+    static final FieldName BODY = FieldName.of("body");
+    static final FieldName CHUNK_INDEX = FieldName.of("chunkIndex");
+    static final FieldName CLASS_NAME = FieldName.of("className");
+    static final FieldName CLIENT_IP = FieldName.of("clientIp");
+    static final FieldName DATA_SOURCE = FieldName.of("dataSource");
+    static final FieldName END_TIME = FieldName.of("endTime");
+    static final FieldName ENTRY_COUNT = FieldName.of("entryCount");
+    static final FieldName ERROR_MESSAGE = FieldName.of("errorMessage");
+    static final FieldName EXCEPTION_TYPE = FieldName.of("exceptionType");
+    static final FieldName EXECUTION_TIME = FieldName.of("executionTime");
+    static final FieldName EXECUTION_TIME_NANOS = FieldName.of("executionTimeNanos");
+    static final FieldName EXIT_CODE = FieldName.of("exitCode");
+    static final FieldName FAILED = FieldName.of("failed");
+    static final FieldName FINGERPRINT = FieldName.of("fingerprint");
+    static final FieldName FIRST_TRACE_ID = FieldName.of("firstTraceId");
+    static final FieldName HEADERS = FieldName.of("headers");
+    static final FieldName INPUT = FieldName.of("input");
+    static final FieldName JOB_NAME = FieldName.of("jobName");
+    static final FieldName LAST_TRACE_ID = FieldName.of("lastTraceId");
+    static final FieldName MESSAGE = FieldName.of("message");
+    static final FieldName METHOD = FieldName.of("method");
+    static final FieldName METHOD_NAME = FieldName.of("methodName");
+    static final FieldName OCCURRENCE_COUNT = FieldName.of("occurrenceCount");
+    static final FieldName OUTBOUND_COUNT = FieldName.of("outboundCount");
+    static final FieldName OUTPUT = FieldName.of("output");
+    static final FieldName PARAMETERS = FieldName.of("parameters");
+    static final FieldName QUERY = FieldName.of("query");
+    static final FieldName QUERY_COUNT = FieldName.of("queryCount");
+    static final FieldName READ_COUNT = FieldName.of("readCount");
+    static final FieldName RESPONSE_BODY = FieldName.of("responseBody");
+    static final FieldName RESULT_SIZE = FieldName.of("resultSize");
+    static final FieldName ROWS_AFFECTED = FieldName.of("rowsAffected");
+    static final FieldName SKIP_COUNT = FieldName.of("skipCount");
+    static final FieldName STACK_TRACE = FieldName.of("stackTrace");
+    static final FieldName START_TIME = FieldName.of("startTime");
+    static final FieldName STATUS = FieldName.of("status");
+    static final FieldName STATUS_CODE = FieldName.of("statusCode");
+    static final FieldName STEP_NAME = FieldName.of("stepName");
+    static final FieldName TAG = FieldName.of("tag");
+    static final FieldName THRESHOLD = FieldName.of("threshold");
+    static final FieldName THRESHOLD_EXCEEDED = FieldName.of("thresholdExceeded");
+    static final FieldName URI = FieldName.of("uri");
+    static final FieldName USER_AGENT = FieldName.of("userAgent");
+    static final FieldName WINDOW_END = FieldName.of("windowEnd");
+    static final FieldName WINDOW_START = FieldName.of("windowStart");
+    static final FieldName WRITE_COUNT = FieldName.of("writeCount");
+
+    private LogFields() {
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.monikit.core.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.encoder.LogFieldWriter;
+
+/**
+ * tail sampling에서 상세 로그 대신 전송되는 요청 단위 요약 로그.
+ * <p>
+ * 정상적으로 끝난 요청의 전체 로그를 보내지 않을 때, 요청이 있었다는 사실과 핵심 수치만 남기기 위해 사용한다.
+ * HTTP 정보는 요청 로그 중 {@link HttpInboundResponseLog}가 있을 때만 채워진다.
+ * </p>
+ *
+ * <ul>
+ *     <li>method / uri / statusCode / executionTime: 인바운드 응답 로그 기준 (없으면 null / 0)</li>
+ *     <li>entryCount: 요약으로 대체된 로그 수</li>
+ *     <li>queryCount / outboundCount: DB 쿼리 / 외부 HTTP 호출 로그 수</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class RequestSummaryLog extends AbstractLogEntry {
+
+    private final String method;
+    private final String uri;
+    private final int statusCode;
+    private final long executionTime;
+    private final int entryCount;
+    private final int queryCount;
+    private final int outboundCount;
+
+    protected RequestSummaryLog(String traceId, String method, String uri, int statusCode, long executionTime,
+                                int entryCount, int queryCount, int outboundCount) {
+        super(traceId, LogLevel.INFO);
+        this.method = method;
+        this.uri = uri;
+        this.statusCode = statusCode;
+        this.executionTime = executionTime;
+        this.entryCount = entryCount;
+        this.queryCount = queryCount;
+        this.outboundCount = outboundCount;
+    }
+
+    /**
+     * 요청 로그 목록을 한 번 훑어 요약 로그를 만든다.
+     *
+     * @param logs 요약할 요청 로그 (비어 있지 않아야 한다)
+     */
+    public static RequestSummaryLog of(List<LogEntry> logs) {
+        String traceId = null;
+        HttpInboundResponseLog response = null;
+        int queryCount = 0;
+        int outboundCount = 0;
+        for (LogEntry log : logs) {
+            if (traceId == null) {
+                traceId = log.getTraceId();
+            }
+            if (log instanceof HttpInboundResponseLog inboundResponse) {
+                response = inboundResponse;
+            } else if (log.getLogType() == LogType.DATABASE_QUERY) {
+                queryCount++;
+            } else if (log.getLogType() == LogType.OUTBOUND_RESPONSE) {
+                outboundCount++;
+            }
+        }
+        if (response == null) {
+            return new RequestSummaryLog(traceId, null, null, 0, 0, logs.size(), queryCount, outboundCount);
+        }
+        return new RequestSummaryLog(traceId, response.getMethod(), response.getUri(), response.getStatusCode(),
+            response.getExecutionTime(), logs.size(), queryCount, outboundCount);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public long getExecutionTime() {
+        return executionTime;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public int getQueryCount() {
+        return queryCount;
+    }
+
+    public int getOutboundCount() {
+        return outboundCount;
+    }
+
+    @Override
+    public LogType getLogType() {
+        return LogType.REQUEST_SUMMARY;
+    }
+
+    @Override
+    protected void addExtraFields(Map<String, Object> logMap) {
+        logMap.put("method", method);
+        logMap.put("uri", uri);
+        logMap.put("statusCode", statusCode);
+        logMap.put("executionTime", executionTime + "ms");
+        logMap.put("entryCount", entryCount);
+        logMap.put("queryCount", queryCount);
+        logMap.put("outboundCount", outboundCount);
+    }
+
+    @Override
+    protected void writeExtraFields(LogFieldWriter writer) {
+        writer.string(LogFields.METHOD, method);
+        writer.string(LogFields.URI, uri);
+        writer.number(LogFields.STATUS_CODE, statusCode);
+        writer.number(LogFields.EXECUTION_TIME, executionTime);
+        writer.number(LogFields.ENTRY_COUNT, entryCount);
+        writer.number(LogFields.QUERY_COUNT, queryCount);
+        writer.number(LogFields.OUTBOUND_COUNT, outboundCount);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (object == null || getClass() != object.getClass()) return false;
+        RequestSummaryLog that = (RequestSummaryLog) object;
+        return statusCode == that.statusCode
+            && executionTime == that.executionTime
+            && entryCount == that.entryCount
+            && queryCount == that.queryCount
+            && outboundCount == that.outboundCount
+            && Objects.equals(method, that.method)
+            && Objects.equals(uri, that.uri);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(method, uri, statusCode, executionTime, entryCount, queryCount, outboundCount);
+    }
+
+}
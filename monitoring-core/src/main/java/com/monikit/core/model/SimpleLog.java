@@ -5,6 +5,7 @@ import java.util.Objects;
 
 import com.monikit.core.LogLevel;
 import com.monikit.core.LogType;
+import com.monikit.core.encoder.LogFieldWriter;
 
 /**
  * 가장 단순한 형태의 구조화 로그 엔트리.
@@ -50,6 +51,11 @@ public class SimpleLog extends AbstractLogEntry {
         logMap.put("message", message);
     }
 
+    @Override
+    protected void writeExtraFields(LogFieldWriter writer) {
+        writer.string(LogFields.MESSAGE, message);
+    }
+
     @Override
     public boolean equals(Object object) {
         if (this
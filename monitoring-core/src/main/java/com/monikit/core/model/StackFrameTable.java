@@ -0,0 +1,103 @@
+package com.monikit.core.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 스택 프레임을 정수 ID로 바꿔 보관하는 전역 intern 테이블.
+ * <p>
+ * 같은 예외가 반복되면 같은 프레임이 계속 나타나므로, 프레임마다 ID를 한 번 발급하고
+ * {@link StackTraceElement#toString()} 결과도 ID별로 처음 렌더링할 때 한 번만 만든다.
+ * {@link CapturedStackTrace}는 프레임 대신 이 ID 배열만 보관한다.
+ * </p>
+ *
+ * <ul>
+ *     <li>테이블 크기는 {@link #CAPACITY}로 제한된다. 가득 차면 {@link #intern(StackTraceElement)}가 잠금 없이 바로 -1을 반환하고,
+ *     호출자는 원본 프레임을 그대로 보관한다.</li>
+ *     <li>발급된 ID는 프로세스가 끝날 때까지 유지된다 (제거 없음).</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+final class StackFrameTable {
+
+    static final int CAPACITY = 4096;
+    static final int NOT_INTERNED = -1;
+
+    private static final Map<StackTraceElement, Integer> IDS = new ConcurrentHashMap<>();
+    private static final AtomicReferenceArray<StackTraceElement> FRAMES = new AtomicReferenceArray<>(CAPACITY);
+    private static final AtomicReferenceArray<String> RENDERED = new AtomicReferenceArray<>(CAPACITY);
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private StackFrameTable() {
+    }
+
+    /**
+     * @return 프레임 ID. 테이블이 가득 찼으면 {@link #NOT_INTERNED}
+     */
+    static int intern(StackTraceElement frame) {
+        Integer id = IDS.get(frame);
+        if (id == null) {
+            if (NEXT_ID.get() >= CAPACITY) {
+                return NOT_INTERNED;
+            }
+            id = IDS.computeIfAbsent(frame, StackFrameTable::allocate);
+        }
+        return id != null ? id : NOT_INTERNED;
+    }
+
+    static StackTraceElement frame(int id) {
+        return FRAMES.get(id);
+    }
+
+    /**
+     * @return 프레임 문자열. 처음 요청될 때 한 번만 렌더링한다
+     */
+    static String render(int id) {
+        String rendered = RENDERED.get(id);
+        if (rendered == null) {
+            rendered = FRAMES.get(id).toString();
+            RENDERED.compareAndSet(id, null, rendered);
+        }
+        return rendered;
+    }
+
+    /**
+     * @return 현재 발급된 프레임 ID 수
+     */
+    static int size() {
+        return NEXT_ID.get();
+    }
+
+    /**
+     * 발급된 ID를 모두 지운다. 테스트에서만 사용한다.
+     * <p>
+     * 이전에 발급된 ID를 들고 있는 {@link CapturedStackTrace}는 더 이상 올바른 프레임을 가리키지 않으므로
+     * 다른 스레드가 테이블을 사용하는 중에는 호출하면 안 된다.
+     * </p>
+     */
+    static void reset() {
+        IDS.clear();
+        for (int i = 0; i < CAPACITY; i++) {
+            FRAMES.set(i, null);
+            RENDERED.set(i, null);
+        }
+        NEXT_ID.set(0);
+    }
+
+    /**
+     * 테이블이 가득 차면 ID를 더 올리지 않는다. 가득 찬 뒤에도 증가시키면 int가 넘쳐 음수 ID가 발급될 수 있다.
+     */
+    private static Integer allocate(StackTraceElement frame) {
+        int id = NEXT_ID.getAndUpdate(next -> next < CAPACITY ? next + 1 : next);
+        if (id >= CAPACITY) {
+            return null;
+        }
+        FRAMES.set(id, frame);
+        return id;
+    }
+
+}
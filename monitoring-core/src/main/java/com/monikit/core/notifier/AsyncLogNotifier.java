@@ -0,0 +1,226 @@
+package com.monikit.core.notifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.TraceIdProvider;
+import com.monikit.core.concurrent.MpscRingBuffer;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.model.SimpleLog;
+
+/**
+ * 요청 스레드에서 Sink I/O를 분리하는 비동기 {@link LogNotifier} 구현체.
+ * <p>
+ * 요청 스레드는 로그를 고정 크기 {@link MpscRingBuffer}에 넣기만 하고 바로 반환하며,
+ * 전용 소비자 스레드가 버퍼를 배치 단위로 꺼내 위임 {@link LogNotifier}(보통 {@link DefaultLogNotifier})의
+ * {@link LogNotifier#notifyBatch(List)}로 전달한다.
+ * </p>
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li>버퍼가 가득 차면 요청 스레드를 막지 않고 해당 로그를 버린 뒤 {@link #getDroppedCount()}를 증가시킨다.</li>
+ *   <li>버퍼가 비었을 때 소비자 스레드의 대기 방식은 {@link WaitStrategy}로 결정한다.</li>
+ *   <li>{@link #close()} 시 남은 로그를 shutdown drain 기한 내에서 최대한 전달하고 종료한다.</li>
+ *   <li>종료 이후 들어온 로그는 호출 스레드에서 위임 Notifier로 동기 전달한다.</li>
+ * </ul>
+ *
+ * <p>
+ * {@code monikit.logging.async-notifier.enabled=true} 설정 시
+ * {@code LogEntryContextManagerConfig}에서 기본 {@link LogNotifier}로 등록된다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class AsyncLogNotifier implements LogNotifier, AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+    public static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(3);
+
+    private final LogNotifier delegate;
+    private final TraceIdProvider traceIdProvider;
+    private final MpscRingBuffer<LogEntry> ringBuffer;
+    private final WaitStrategy waitStrategy;
+    private final int maxBatchSize;
+    private final Duration shutdownTimeout;
+    private final Thread consumerThread;
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder deliveredCount = new LongAdder();
+
+    private volatile boolean running = true;
+    private volatile boolean terminated;
+    private volatile boolean consumerWaiting;
+    private volatile long shutdownDeadlineNanos;
+
+    public AsyncLogNotifier(LogNotifier delegate, TraceIdProvider traceIdProvider) {
+        this(delegate, traceIdProvider, DEFAULT_CAPACITY, WaitStrategy.SLEEPING, DEFAULT_MAX_BATCH_SIZE,
+            DEFAULT_SHUTDOWN_TIMEOUT);
+    }
+
+    /**
+     * @param delegate 실제로 Sink에 전달할 Notifier
+     * @param traceIdProvider {@link #notify(LogLevel, String)} 호출 시 traceId 조회용
+     * @param capacity 링 버퍼 용량 (2의 거듭제곱으로 올림)
+     * @param waitStrategy 버퍼가 비었을 때 소비자 대기 방식
+     * @param maxBatchSize 소비자가 한 번에 꺼내는 최대 로그 수
+     * @param shutdownTimeout 종료 시 남은 로그를 전달하는 최대 시간
+     */
+    public AsyncLogNotifier(LogNotifier delegate, TraceIdProvider traceIdProvider, int capacity,
+                            WaitStrategy waitStrategy, int maxBatchSize, Duration shutdownTimeout) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be >= 1: " + maxBatchSize);
+        }
+        this.delegate = delegate;
+        this.traceIdProvider = traceIdProvider;
+        this.ringBuffer = new MpscRingBuffer<>(capacity);
+        this.waitStrategy = waitStrategy;
+        this.maxBatchSize = maxBatchSize;
+        this.shutdownTimeout = shutdownTimeout;
+        this.consumerThread = new Thread(this::consumeLoop, "monikit-async-notifier");
+        this.consumerThread.setDaemon(true);
+        this.consumerThread.start();
+    }
+
+    @Override
+    public void notify(LogLevel logLevel, String message) {
+        notify(SimpleLog.of(traceIdProvider.getTraceId(), logLevel, message));
+    }
+
+    @Override
+    public void notify(LogEntry logEntry) {
+        if (!running) {
+            delegate.notify(logEntry);
+            return;
+        }
+        if (!ringBuffer.offer(logEntry)) {
+            droppedCount.increment();
+            return;
+        }
+        if (!running) {
+            // close()와 경합해 소비자가 마지막 drain을 마친 뒤에 들어간 로그는 버린 것으로 집계
+            discardStranded();
+            return;
+        }
+        if (consumerWaiting) {
+            LockSupport.unpark(consumerThread);
+        }
+    }
+
+    @Override
+    public boolean supports(LogType logType) {
+        return delegate.supports(logType);
+    }
+
+    private void consumeLoop() {
+        List<LogEntry> batch = new ArrayList<>(maxBatchSize);
+        int idleCount = 0;
+
+        while (running) {
+            if (drainBatch(batch) > 0) {
+                idleCount = 0;
+                continue;
+            }
+            if (waitStrategy.requiresSignal()) {
+                consumerWaiting = true;
+                if (running && ringBuffer.isEmpty()) {
+                    idleCount = waitStrategy.idle(idleCount);
+                }
+                consumerWaiting = false;
+            } else {
+                idleCount = waitStrategy.idle(idleCount);
+            }
+        }
+
+        while (System.nanoTime() - shutdownDeadlineNanos < 0 && drainBatch(batch) > 0) {
+            // 종료 기한 내에서 남은 로그 전달
+        }
+        terminated = true;
+        discardStranded();
+    }
+
+    /**
+     * 소비자 스레드가 종료된 뒤 버퍼에 남은 로그를 비우고 버린 것으로 집계한다.
+     * <p>
+     * 생산자는 {@code offer} 후 {@code running}을, 소비자는 {@code terminated}를 기록한 뒤 버퍼를 읽으므로
+     * 종료 직전에 들어간 로그는 둘 중 한쪽에서 반드시 집계된다.
+     * </p>
+     */
+    private void discardStranded() {
+        if (!terminated) {
+            return;
+        }
+        synchronized (this) {
+            droppedCount.add(ringBuffer.drain(logEntry -> { }, Integer.MAX_VALUE));
+        }
+    }
+
+    private int drainBatch(List<LogEntry> batch) {
+        int drained = ringBuffer.drain(batch::add, maxBatchSize);
+        if (drained == 0) {
+            return 0;
+        }
+        try {
+            delegate.notifyBatch(batch);
+            deliveredCount.add(drained);
+        } catch (Exception e) {
+            System.err.println("[monikit] async log delivery failed: " + e.getMessage());
+        }
+        batch.clear();
+        return drained;
+    }
+
+    /**
+     * 소비자 스레드를 종료한다.
+     * <p>
+     * shutdown drain 기한 내에 버퍼에 남은 로그를 전달하고, 기한을 넘긴 로그와
+     * 종료와 경합해 마지막 drain 이후 버퍼에 들어간 로그는 버린 것으로 집계한다.
+     * </p>
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        shutdownDeadlineNanos = System.nanoTime() + shutdownTimeout.toNanos();
+        running = false;
+        LockSupport.unpark(consumerThread);
+        try {
+            consumerThread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(shutdownTimeout.toNanos()) + 100));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return 버퍼 포화 또는 종료 기한 초과로 버려진 로그 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * @return 소비자 스레드가 위임 Notifier로 전달한 로그 수
+     */
+    public long getDeliveredCount() {
+        return deliveredCount.sum();
+    }
+
+    /**
+     * @return 현재 버퍼에 대기 중인 로그 수 (근사값)
+     */
+    public int getPendingCount() {
+        return ringBuffer.size();
+    }
+
+    public int getCapacity() {
+        return ringBuffer.capacity();
+    }
+
+}
@@ -1,9 +1,11 @@
 package com.monikit.core.notifier;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import com.monikit.core.DefaultTraceIdProvider;
 import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
 import com.monikit.core.TraceIdProvider;
 import com.monikit.core.model.LogEntry;
 import com.monikit.core.model.SimpleLog;
@@ -26,17 +28,35 @@ import com.monikit.core.model.SimpleLog;
  * {@code LogSink} 리스트는 외부에서 조립되며, {@code LogSinkCustomizer}를 통해 확장 가능합니다.
  * </p>
  *
+ * <p>
+ * 생성 시점에 {@link LogType}별 대상 Sink 배열을 미리 계산해 두므로, 전송 시에는 {@link LogSink#supports}를
+ * 다시 호출하지 않습니다. 따라서 Sink의 {@code supports} 결과는 등록 이후 바뀌지 않는다고 가정하며,
+ * Sink 구성이 바뀌면 {@link #updateSinks(List)}로 테이블을 다시 만들어야 합니다.
+ * </p>
+ *
  * @author ryu
  * @since 1.1.2
  */
 public class DefaultLogNotifier implements LogNotifier {
 
+    private static final LogSink[] NO_SINKS = new LogSink[0];
+
     private final TraceIdProvider traceIdProvider;
-    private final List<LogSink> sinks;
+    private volatile DispatchTable dispatchTable;
 
     public DefaultLogNotifier(List<LogSink> sinks, TraceIdProvider traceIdProvider) {
         this.traceIdProvider = traceIdProvider;
-        this.sinks = sinks;
+        this.dispatchTable = new DispatchTable(sinks);
+    }
+
+    /**
+     * Sink 구성을 교체한다. 새 테이블을 만든 뒤 한 번에 교체하므로 전송 중인 스레드는 이전/새 구성 중 하나만 본다.
+     *
+     * @param sinks 새 Sink 목록
+     * @since 1.1.3
+     */
+    public void updateSinks(List<LogSink> sinks) {
+        this.dispatchTable = new DispatchTable(sinks);
     }
 
     @Override
@@ -46,11 +66,92 @@ public class DefaultLogNotifier implements LogNotifier {
 
     @Override
     public void notify(LogEntry entry) {
-        for (LogSink sink : sinks) {
-            if (sink.supports(entry.getLogType())) {
-                sink.send(entry);
+        LogSink[] targets = dispatchTable.sinksByType[entry.getLogType().ordinal()];
+        for (LogSink sink : targets) {
+            sink.send(entry);
+        }
+    }
+
+    /**
+     * 각 Sink가 지원하는 로그만 골라 {@link LogSink#sendBatch(List)}로 한 번에 전달한다.
+     * <p>
+     * 배치의 모든 로그를 지원하는 Sink에는 목록을 복사 없이 그대로 넘긴다.
+     * 한 Sink의 실패는 다른 Sink의 전송을 막지 않는다.
+     * </p>
+     */
+    @Override
+    public void notifyBatch(List<LogEntry> logEntries) {
+        if (logEntries.isEmpty()) {
+            return;
+        }
+        DispatchTable table = dispatchTable;
+        for (int i = 0; i < table.sinks.length; i++) {
+            List<LogEntry> supported = table.filter(i, logEntries);
+            if (supported.isEmpty()) {
+                continue;
+            }
+            LogSink sink = table.sinks[i];
+            try {
+                sink.sendBatch(supported);
+            } catch (Exception e) {
+                System.err.println("[monikit] LogSink batch delivery failed (" + sink.getClass().getSimpleName() + "): " + e.getMessage());
             }
         }
     }
 
+    @Override
+    public boolean supports(LogType logType) {
+        return dispatchTable.sinksByType[logType.ordinal()].length > 0;
+    }
+
+    /**
+     * Sink 구성으로부터 미리 계산한 전송 대상 테이블. 생성 이후 변경되지 않는다.
+     */
+    private static final class DispatchTable {
+
+        private final LogSink[] sinks;
+        private final boolean[][] supportsByType;
+        private final LogSink[][] sinksByType;
+
+        private DispatchTable(List<LogSink> sinkList) {
+            LogType[] types = LogType.values();
+            this.sinks = sinkList == null ? NO_SINKS : sinkList.toArray(NO_SINKS);
+            this.supportsByType = new boolean[sinks.length][types.length];
+            this.sinksByType = new LogSink[types.length][];
+
+            for (LogType type : types) {
+                List<LogSink> targets = new ArrayList<>();
+                for (int i = 0; i < sinks.length; i++) {
+                    if (sinks[i].supports(type)) {
+                        supportsByType[i][type.ordinal()] = true;
+                        targets.add(sinks[i]);
+                    }
+                }
+                sinksByType[type.ordinal()] = targets.isEmpty() ? NO_SINKS : targets.toArray(NO_SINKS);
+            }
+        }
+
+        private List<LogEntry> filter(int sinkIndex, List<LogEntry> logEntries) {
+            boolean[] supported = supportsByType[sinkIndex];
+            int size = logEntries.size();
+            int firstUnsupported = 0;
+            while (firstUnsupported < size && supported[logEntries.get(firstUnsupported).getLogType().ordinal()]) {
+                firstUnsupported++;
+            }
+            if (firstUnsupported == size) {
+                return logEntries;
+            }
+
+            List<LogEntry> filtered = new ArrayList<>(size - 1);
+            for (int i = 0; i < size; i++) {
+                LogEntry entry = logEntries.get(i);
+                if (i < firstUnsupported || supported[entry.getLogType().ordinal()]) {
+                    filtered.add(entry);
+                }
+            }
+            return filtered;
+        }
+
+    }
+
 }
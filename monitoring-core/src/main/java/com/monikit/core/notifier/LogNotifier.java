@@ -1,6 +1,9 @@
 package com.monikit.core.notifier;
 
+import java.util.List;
+
 import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
 import com.monikit.core.model.LogEntry;
 
 /**
@@ -13,4 +16,38 @@ import com.monikit.core.model.LogEntry;
 public interface LogNotifier {
     void notify(LogLevel logLevel, String message);
     void notify(LogEntry logEntry);
+
+    /**
+     * 여러 로그를 한 번에 전송한다.
+     * <p>
+     * 기본 구현은 로그마다 {@link #notify(LogEntry)}를 호출하며, 한 로그의 전송 실패가 나머지 로그의 전송을 막지 않는다.
+     * 전달된 목록은 호출 이후 재사용될 수 있으므로 보관하려면 복사해야 한다.
+     * </p>
+     *
+     * @param logEntries 전송할 로그 목록
+     * @since 1.1.3
+     */
+    default void notifyBatch(List<LogEntry> logEntries) {
+        for (LogEntry logEntry : logEntries) {
+            try {
+                notify(logEntry);
+            } catch (Exception e) {
+                System.err.println("[monikit] log delivery failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 해당 타입의 로그를 전달받을 Sink가 있는지 여부.
+     * <p>
+     * false이면 {@link #notify(LogEntry)}는 아무 일도 하지 않으므로, 호출자는 로그 보관 자체를 생략할 수 있다.
+     * </p>
+     *
+     * @param logType 로그 타입
+     * @return 전달 대상이 있으면 true (기본값 true)
+     * @since 1.1.3
+     */
+    default boolean supports(LogType logType) {
+        return true;
+    }
 }
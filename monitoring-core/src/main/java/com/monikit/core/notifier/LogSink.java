@@ -1,5 +1,7 @@
 package com.monikit.core.notifier;
 
+import java.util.List;
+
 import com.monikit.core.LogType;
 import com.monikit.core.hook.LogAddHook;
 import com.monikit.core.hook.LogFlushHook;
@@ -16,7 +18,7 @@ import com.monikit.core.model.LogEntry;
  * <ul>
  *   <li>로그의 최종 전송 처리 (I/O 포함)</li>
  *   <li>{@link LogType} 기준으로 처리 여부 결정 (예: EXCEPTION만 전송)</li>
- *   <li>단일 로그 단위로 동작</li>
+ *   <li>단일 로그 단위로 동작하며, 파일/소켓/벌크 API처럼 묶어 보내는 편이 유리하면 {@link #sendBatch(List)}를 재정의</li>
  * </ul>
  *
  * <p>
@@ -45,4 +47,21 @@ public interface LogSink {
      */
     void send(LogEntry logEntry);
 
+    /**
+     * 여러 로그를 한 번에 전송합니다.
+     * <p>
+     * flush 시 요청 단위로 이 Sink가 지원하는 로그만 모아 호출됩니다.
+     * 기본 구현은 로그마다 {@link #send(LogEntry)}를 호출합니다.
+     * 전달된 목록은 호출 이후 재사용될 수 있으므로, 비동기로 처리하려면 복사해야 합니다.
+     * </p>
+     *
+     * @param logEntries 이 Sink가 지원하는 로그 목록 (발생 순서 유지)
+     * @since 1.1.3
+     */
+    default void sendBatch(List<LogEntry> logEntries) {
+        for (LogEntry logEntry : logEntries) {
+            send(logEntry);
+        }
+    }
+
 }
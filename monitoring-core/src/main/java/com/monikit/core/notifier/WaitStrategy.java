@@ -0,0 +1,90 @@
+package com.monikit.core.notifier;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link AsyncLogNotifier}의 소비자 스레드가 버퍼가 비었을 때 대기하는 방식.
+ * <p>
+ * 지연 시간과 CPU 사용량 사이의 트레이드오프를 선택한다.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link #BUSY_SPIN}: 계속 스핀. 지연 최소, CPU 코어 하나를 점유</li>
+ *     <li>{@link #YIELDING}: 잠시 스핀 후 {@link Thread#yield()}</li>
+ *     <li>{@link #SLEEPING}: 스핀 → yield → 짧은 park 순으로 점진적 후퇴 (기본값)</li>
+ *     <li>{@link #BLOCKING}: 생산자가 깨워줄 때까지 park. CPU 사용 최소</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public enum WaitStrategy {
+
+    BUSY_SPIN {
+        @Override
+        int idle(int idleCount) {
+            Thread.onSpinWait();
+            return idleCount + 1;
+        }
+    },
+
+    YIELDING {
+        @Override
+        int idle(int idleCount) {
+            if (idleCount < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+            return idleCount + 1;
+        }
+    },
+
+    SLEEPING {
+        @Override
+        int idle(int idleCount) {
+            if (idleCount < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else if (idleCount < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(SLEEP_NANOS);
+            }
+            return idleCount + 1;
+        }
+    },
+
+    BLOCKING {
+        @Override
+        int idle(int idleCount) {
+            LockSupport.parkNanos(BLOCKING_PARK_NANOS);
+            return idleCount + 1;
+        }
+
+        @Override
+        boolean requiresSignal() {
+            return true;
+        }
+    };
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long SLEEP_NANOS = 100_000L;
+    private static final long BLOCKING_PARK_NANOS = 10_000_000L;
+
+    /**
+     * 버퍼가 비어 있을 때 한 번 대기한다.
+     *
+     * @param idleCount 연속으로 비어 있던 횟수
+     * @return 갱신된 idleCount
+     */
+    abstract int idle(int idleCount);
+
+    /**
+     * @return 생산자가 데이터를 넣은 뒤 소비자를 깨워야 하는지 여부
+     */
+    boolean requiresSignal() {
+        return false;
+    }
+
+}
@@ -0,0 +1,412 @@
+package com.monikit.core.notifier.file;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.monikit.core.LogType;
+import com.monikit.core.encoder.LogEntryEncoder;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.notifier.LogSink;
+
+/**
+ * 로그를 메모리 매핑된 고정 크기 세그먼트 파일에 NDJSON으로 기록하는 {@link LogSink}.
+ * <p>
+ * 로컬 파일을 tail하는 로그 수집기(Filebeat, Fluent Bit 등)가 있는 호스트를 위한 Sink로,
+ * {@link FileChannel#map}으로 매핑한 버퍼에 {@link LogEntryEncoder} 결과를 바로 복사하므로 쓰기마다 시스템 콜이 발생하지 않는다.
+ * </p>
+ *
+ * <h3>세그먼트</h3>
+ * <ul>
+ *   <li>기록 중인 세그먼트는 {@code <prefix>-<seq>.log.active} 이름으로 {@code segmentSize} 만큼 미리 할당된다.</li>
+ *   <li>남은 공간이 부족하거나 Sink가 닫히면 실제 기록 길이로 잘라낸 뒤 {@code <prefix>-<seq>.log}로 이름을 바꾸고 새 세그먼트를 연다.
+ *       수집기는 {@code *.log}만 읽으면 0으로 채워진 영역을 보지 않는다.</li>
+ *   <li>완료된 세그먼트가 {@code maxSegments}개를 넘으면 오래된 것부터 삭제한다.</li>
+ *   <li>시작 시 이전 프로세스가 남긴 {@code .active} 세그먼트는 기록된 길이로 잘라 완료 처리한다.</li>
+ *   <li>{@code forceInterval}이 0보다 크면 전용 데몬 스레드가 주기적으로 {@link MappedByteBuffer#force()}를 호출한다.
+ *       0이면 디스크 반영은 OS에 맡긴다.</li>
+ * </ul>
+ *
+ * <p>
+ * 세그먼트보다 큰 로그나 I/O 실패로 기록하지 못한 로그는 버리고 {@link #getDroppedCount()}로 집계하며,
+ * 예외를 호출 스레드로 전파하지 않는다. 인코딩(지연 필드의 첫 렌더링 포함)은 호출 스레드별 스테이징 버퍼에 락 밖에서 수행하고,
+ * 내부 락 안에서는 인코딩된 바이트를 매핑 버퍼로 복사하고 세그먼트를 교체하는 작업만 직렬화한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class MappedFileLogSink implements LogSink, AutoCloseable {
+
+    static final String ACTIVE_SUFFIX = ".log.active";
+    static final String COMPLETED_SUFFIX = ".log";
+
+    private final Path directory;
+    private final String filePrefix;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final Set<LogType> logTypes;
+    private final ThreadLocal<Staging> staging = ThreadLocal.withInitial(Staging::new);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScheduledExecutorService forceScheduler;
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+
+    private long sequence;
+    private Path activePath;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private volatile boolean dirty;
+    private boolean closed;
+
+    /**
+     * @param directory 세그먼트 파일 디렉토리 (없으면 생성)
+     * @param filePrefix 세그먼트 파일 이름 접두사
+     * @param segmentSize 세그먼트 하나의 크기 (byte)
+     * @param maxSegments 보관할 완료 세그먼트 최대 개수 (0 이하이면 삭제하지 않음)
+     * @param forceInterval 주기적 force() 간격 (null 또는 0이면 사용하지 않음)
+     * @param logTypes 기록할 로그 타입 (null 또는 비어 있으면 전체)
+     * @throws IOException 디렉토리나 첫 세그먼트를 만들 수 없는 경우
+     */
+    public MappedFileLogSink(Path directory, String filePrefix, int segmentSize, int maxSegments,
+                             Duration forceInterval, Set<LogType> logTypes) throws IOException {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("segmentSize must be > 0: " + segmentSize);
+        }
+        this.directory = directory;
+        this.filePrefix = filePrefix;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.logTypes = logTypes == null || logTypes.isEmpty() ? EnumSet.allOf(LogType.class) : EnumSet.copyOf(logTypes);
+
+        Files.createDirectories(directory);
+        recoverActiveSegments();
+        openSegment();
+
+        if (forceInterval != null && !forceInterval.isZero() && !forceInterval.isNegative()) {
+            this.forceScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "monikit-mapped-file-force");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMs = forceInterval.toMillis();
+            forceScheduler.scheduleWithFixedDelay(this::forceIfDirty, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.forceScheduler = null;
+        }
+    }
+
+    @Override
+    public boolean supports(LogType logType) {
+        return logTypes.contains(logType);
+    }
+
+    @Override
+    public void send(LogEntry logEntry) {
+        sendBatch(Collections.singletonList(logEntry));
+    }
+
+    @Override
+    public void sendBatch(List<LogEntry> logEntries) {
+        Staging encoded = staging.get();
+        encoded.clear();
+        for (LogEntry logEntry : logEntries) {
+            stage(encoded, logEntry);
+        }
+        if (encoded.count == 0) {
+            encoded.release();
+            return;
+        }
+
+        lock.lock();
+        try {
+            int start = 0;
+            for (int i = 0; i < encoded.count; i++) {
+                append(encoded.bytes.array(), start, encoded.ends[i] - start);
+                start = encoded.ends[i];
+            }
+        } finally {
+            lock.unlock();
+            encoded.release();
+        }
+    }
+
+    /**
+     * @return 기록에 성공한 로그 수
+     */
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    /**
+     * @return 세그먼트보다 크거나 I/O 실패로 버려진 로그 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 현재 세그먼트를 완료 처리하고 파일을 닫는다. 이후 들어온 로그는 버려진다.
+     */
+    @Override
+    public void close() {
+        if (forceScheduler != null) {
+            forceScheduler.shutdownNow();
+        }
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            completeSegment();
+            applyRetention();
+        } catch (IOException e) {
+            System.err.println("[monikit] failed to close mapped log segment: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 로그 하나를 스테이징 버퍼에 인코딩한다. 세그먼트보다 크거나 인코딩에 실패한 로그는 버린다.
+     */
+    private void stage(Staging encoded, LogEntry logEntry) {
+        int start = encoded.bytes.position();
+        try {
+            while (true) {
+                try {
+                    encoded.encoder.encode(logEntry, encoded.bytes);
+                    break;
+                } catch (BufferOverflowException e) {
+                    if (encoded.bytes.capacity() - start >= segmentSize) {
+                        droppedCount.increment();
+                        return;
+                    }
+                    encoded.grow();
+                }
+            }
+        } catch (RuntimeException e) {
+            encoded.bytes.position(start);
+            droppedCount.increment();
+            System.err.println("[monikit] failed to encode log for mapped segment: " + e.getMessage());
+            return;
+        }
+        if (encoded.bytes.position() - start > segmentSize) {
+            encoded.bytes.position(start);
+            droppedCount.increment();
+            return;
+        }
+        encoded.add(encoded.bytes.position());
+    }
+
+    private void append(byte[] bytes, int offset, int length) {
+        if (closed || buffer == null) {
+            droppedCount.increment();
+            return;
+        }
+        try {
+            if (buffer.remaining() < length) {
+                if (buffer.position() == 0) {
+                    droppedCount.increment();
+                    return;
+                }
+                rollover();
+            }
+            buffer.put(bytes, offset, length);
+            dirty = true;
+            writtenCount.increment();
+        } catch (BufferOverflowException e) {
+            droppedCount.increment();
+        } catch (IOException | RuntimeException e) {
+            droppedCount.increment();
+            System.err.println("[monikit] failed to write mapped log segment: " + e.getMessage());
+        }
+    }
+
+    private void rollover() throws IOException {
+        completeSegment();
+        openSegment();
+        applyRetention();
+    }
+
+    private void openSegment() throws IOException {
+        sequence = Math.max(sequence, lastSequence()) + 1;
+        activePath = directory.resolve(segmentName(sequence) + ACTIVE_SUFFIX);
+        channel = FileChannel.open(activePath, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+
+    private void completeSegment() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        int written = buffer.position();
+        buffer.force();
+        buffer = null;
+        channel.truncate(written);
+        channel.close();
+        channel = null;
+        dirty = false;
+        if (written == 0) {
+            Files.deleteIfExists(activePath);
+            return;
+        }
+        Files.move(activePath, completedPath(activePath), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void forceIfDirty() {
+        if (!dirty) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (buffer != null) {
+                dirty = false;
+                buffer.force();
+            }
+        } catch (RuntimeException e) {
+            System.err.println("[monikit] failed to force mapped log segment: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 비정상 종료로 남은 {@code .active} 세그먼트를 마지막으로 기록된 바이트까지 잘라 완료 처리한다.
+     */
+    private void recoverActiveSegments() throws IOException {
+        for (Path active : listSegments(ACTIVE_SUFFIX)) {
+            try (FileChannel recovering = FileChannel.open(active, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long size = recovering.size();
+                if (size > 0) {
+                    MappedByteBuffer mapped = recovering.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                    int end = (int) size;
+                    while (end > 0 && mapped.get(end - 1) == 0) {
+                        end--;
+                    }
+                    recovering.truncate(end);
+                }
+            }
+            Files.move(active, completedPath(active), StandardCopyOption.REPLACE_EXISTING);
+        }
+        applyRetention();
+    }
+
+    private void applyRetention() throws IOException {
+        if (maxSegments <= 0) {
+            return;
+        }
+        List<Path> completed = listSegments(COMPLETED_SUFFIX);
+        for (int i = 0; i < completed.size() - maxSegments; i++) {
+            Files.deleteIfExists(completed.get(i));
+        }
+    }
+
+    private long lastSequence() throws IOException {
+        long last = 0;
+        for (Path path : listSegments(COMPLETED_SUFFIX)) {
+            last = Math.max(last, sequenceOf(path));
+        }
+        return last;
+    }
+
+    /**
+     * @return 접미사가 일치하는 세그먼트 목록 (순번 오름차순)
+     */
+    private List<Path> listSegments(String suffix) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, filePrefix + "-*" + suffix)) {
+            for (Path path : stream) {
+                if (sequenceOf(path) > 0) {
+                    segments.add(path);
+                }
+            }
+        }
+        segments.sort((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)));
+        return segments;
+    }
+
+    private String segmentName(long seq) {
+        return String.format("%s-%012d", filePrefix, seq);
+    }
+
+    private long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        int start = filePrefix.length() + 1;
+        int end = name.indexOf('.', start);
+        if (end <= start) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(start, end));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 호출 스레드별로 재사용하는 인코딩 결과 버퍼. 로그마다 끝 위치를 기록해 세그먼트 경계에서 한 줄이 나뉘지 않게 한다.
+     */
+    private static final class Staging {
+
+        private static final int DEFAULT_CAPACITY = 4 * 1024;
+        private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+        private final LogEntryEncoder encoder = new LogEntryEncoder();
+        private ByteBuffer bytes = ByteBuffer.allocate(DEFAULT_CAPACITY);
+        private int[] ends = new int[16];
+        private int count;
+
+        void clear() {
+            bytes.clear();
+            count = 0;
+        }
+
+        void add(int end) {
+            if (count == ends.length) {
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            ends[count++] = end;
+        }
+
+        void grow() {
+            ByteBuffer larger = ByteBuffer.allocate(bytes.capacity() * 2);
+            bytes.flip();
+            larger.put(bytes);
+            bytes = larger;
+        }
+
+        void release() {
+            if (bytes.capacity() > MAX_RETAINED_CAPACITY) {
+                bytes = ByteBuffer.allocate(DEFAULT_CAPACITY);
+            }
+            clear();
+        }
+    }
+
+    private static Path completedPath(Path active) {
+        String name = active.getFileName().toString();
+        return active.resolveSibling(name.substring(0, name.length() - ACTIVE_SUFFIX.length()) + COMPLETED_SUFFIX);
+    }
+
+}
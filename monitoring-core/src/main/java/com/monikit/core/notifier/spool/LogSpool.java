@@ -0,0 +1,542 @@
+package com.monikit.core.notifier.spool;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.encoder.EncodedLogEntry;
+import com.monikit.core.encoder.LogEntryEncoder;
+import com.monikit.core.model.LogEntry;
+
+/**
+ * 전달하지 못한 로그를 로컬 디스크에 순서대로 보관하는 세그먼트 기반 FIFO 큐.
+ * <p>
+ * {@link SpoolingLogSink}가 위임 Sink로 보내지 못한 로그를 {@link #append(LogEntry)}로 쌓고,
+ * 재전송 스레드가 {@link #read(int)}로 읽어 전달에 성공하면 {@link #acknowledge(Batch)}로 확정한다.
+ * </p>
+ *
+ * <h3>파일 구조</h3>
+ * <ul>
+ *   <li>세그먼트: {@code spool-<seq>.seg}. {@link FileChannel}로 끝에 이어 쓰며, {@code segmentSize}를 넘으면 다음 세그먼트로 넘어간다.</li>
+ *   <li>레코드: {@code [int 길이][byte logType][byte logLevel][long epochSecond][int nano][short traceId 길이][traceId][JSON]}.
+ *       JSON은 {@link LogEntryEncoder} 결과이며, 읽을 때는 {@link EncodedLogEntry}로 복원된다.</li>
+ *   <li>체크포인트: {@code spool.checkpoint}에 확정된 읽기 위치(세그먼트 순번, 오프셋)를 기록한다.
+ *       재시작 시 이 위치부터 다시 읽으므로 전달은 최소 한 번(at-least-once)이다.</li>
+ *   <li>모두 읽은 세그먼트는 삭제한다. 비정상 종료로 잘린 마지막 레코드는 시작 시 잘라낸다.</li>
+ * </ul>
+ *
+ * <p>
+ * 디스크 사용량이 {@code maxBytes}를 넘게 되는 로그는 보관하지 않고 {@link #append(LogEntry)}가 false를 반환한다.
+ * 이미 쌓인 로그는 재전송 순서를 지키기 위해 지우지 않는다.
+ * 모든 메서드는 내부 락으로 직렬화되며, 깊이 관련 조회 메서드는 락 없이 읽을 수 있다.
+ * 단, {@link #append(LogEntry)}의 인코딩(지연 필드의 첫 렌더링 포함)과 레코드 조립은 호출 스레드별 버퍼에서 락 밖에서 수행하고,
+ * 락 안에서는 조립된 바이트를 세그먼트에 쓰는 작업만 한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class LogSpool implements AutoCloseable {
+
+    static final String SEGMENT_PREFIX = "spool-";
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final String CHECKPOINT_FILE = "spool.checkpoint";
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final int HEADER_BYTES = 1 + 1 + Long.BYTES + Integer.BYTES + Short.BYTES;
+    private static final LogType[] LOG_TYPES = LogType.values();
+    private static final LogLevel[] LOG_LEVELS = LogLevel.values();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long maxBytes;
+    private final ThreadLocal<Staging> staging = ThreadLocal.withInitial(Staging::new);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ByteBuffer lengthBuffer = ByteBuffer.allocate(LENGTH_BYTES);
+    private final ByteBuffer checkpointBuffer = ByteBuffer.allocate(Long.BYTES * 2);
+    private final FileChannel checkpointChannel;
+
+    private long writeSequence;
+    private FileChannel writeChannel;
+    private long writeSize;
+
+    private long readSequence;
+    private long readOffset;
+    private FileChannel readChannel;
+    private long readChannelSequence;
+
+    private long diskBytes;
+    private volatile long depth;
+    private volatile long pendingBytes;
+    private volatile long oldestEpochMillis;
+    private boolean closed;
+
+    /**
+     * @param directory 스풀 디렉토리 (없으면 생성)
+     * @param segmentSize 세그먼트 하나의 최대 크기 (byte)
+     * @param maxBytes 스풀 전체 디스크 사용량 한도 (byte, 0 이하이면 제한 없음)
+     * @throws IOException 디렉토리나 체크포인트 파일을 열 수 없는 경우
+     */
+    public LogSpool(Path directory, int segmentSize, long maxBytes) throws IOException {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("segmentSize must be > 0: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxBytes = maxBytes;
+
+        Files.createDirectories(directory);
+        this.checkpointChannel = FileChannel.open(directory.resolve(CHECKPOINT_FILE),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        recover();
+    }
+
+    /**
+     * 로그를 스풀 끝에 추가한다.
+     *
+     * @return 보관했으면 true, 디스크 한도를 넘거나 스풀이 닫혀 보관하지 못했으면 false
+     * @throws IOException 파일 쓰기 실패
+     */
+    public boolean append(LogEntry logEntry) throws IOException {
+        Staging encoded = staging.get();
+        try {
+            ByteBuffer record = encoded.stage(logEntry);
+            Instant timestamp = logEntry.getTimestamp() != null ? logEntry.getTimestamp() : Instant.EPOCH;
+            lock.lock();
+            try {
+                if (closed) {
+                    return false;
+                }
+                return appendRecord(record, timestamp);
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            encoded.release();
+        }
+    }
+
+    private boolean appendRecord(ByteBuffer record, Instant timestamp) throws IOException {
+        int recordLength = record.remaining();
+        if (maxBytes > 0 && diskBytes + recordLength > maxBytes) {
+            return false;
+        }
+        if (writeSize > 0 && writeSize + recordLength > segmentSize) {
+            openWriteSegment(writeSequence + 1);
+        }
+        while (record.hasRemaining()) {
+            writeChannel.write(record, writeSize + record.position());
+        }
+        writeSize += recordLength;
+        diskBytes += recordLength;
+        if (depth == 0) {
+            oldestEpochMillis = timestamp.toEpochMilli();
+        }
+        pendingBytes += recordLength;
+        depth++;
+        return true;
+    }
+
+    /**
+     * 확정되지 않은 가장 오래된 로그부터 최대 {@code maxEntries}개를 읽는다. 읽기 위치는 바뀌지 않는다.
+     *
+     * @return 읽은 로그와 확정 위치. 비어 있으면 {@link Batch#isEmpty()}가 true
+     * @throws IOException 파일 읽기 실패
+     */
+    public Batch read(int maxEntries) throws IOException {
+        lock.lock();
+        try {
+            List<LogEntry> entries = new ArrayList<>(Math.min(maxEntries, 256));
+            long sequence = readSequence;
+            long offset = readOffset;
+            long bytes = 0;
+            while (entries.size() < maxEntries && !closed) {
+                FileChannel channel = readChannel(sequence);
+                long size = sequence == writeSequence ? writeSize : channel.size();
+                if (offset >= size) {
+                    if (sequence >= writeSequence) {
+                        break;
+                    }
+                    sequence++;
+                    offset = 0;
+                    continue;
+                }
+                int payloadLength = readLength(channel, offset);
+                ByteBuffer payload = ByteBuffer.allocate(payloadLength);
+                readFully(channel, payload, offset + LENGTH_BYTES);
+                entries.add(decode(payload));
+                offset += LENGTH_BYTES + payloadLength;
+                bytes += LENGTH_BYTES + payloadLength;
+            }
+            return new Batch(entries, sequence, offset, bytes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@link #read(int)}로 읽은 로그가 전달되었음을 확정하고, 다 읽은 세그먼트를 삭제한다.
+     *
+     * @throws IOException 체크포인트 기록 또는 세그먼트 삭제 실패
+     */
+    public void acknowledge(Batch batch) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            while (readSequence < batch.sequence) {
+                deleteSegment(readSequence);
+                readSequence++;
+            }
+            readOffset = batch.offset;
+            writeCheckpoint();
+            depth = Math.max(0, depth - batch.entries.size());
+            pendingBytes = Math.max(0, pendingBytes - batch.bytes);
+            oldestEpochMillis = depth > 0 ? readOldestEpochMillis() : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return 전달되지 않은 로그 수
+     */
+    public long depth() {
+        return depth;
+    }
+
+    public boolean isEmpty() {
+        return depth == 0;
+    }
+
+    /**
+     * @return 전달되지 않은 로그의 디스크 크기 (byte)
+     */
+    public long pendingBytes() {
+        return pendingBytes;
+    }
+
+    /**
+     * @return 전달되지 않은 가장 오래된 로그의 생성 시각 (epoch ms). 비어 있으면 0
+     */
+    public long oldestEpochMillis() {
+        return oldestEpochMillis;
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            closeQuietly(readChannel);
+            closeQuietly(writeChannel);
+            closeQuietly(checkpointChannel);
+            readChannel = null;
+            writeChannel = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 체크포인트와 남은 세그먼트로부터 읽기/쓰기 위치와 깊이를 복원한다.
+     */
+    private void recover() throws IOException {
+        long checkpointSequence = 0;
+        long checkpointOffset = 0;
+        if (checkpointChannel.size() >= checkpointBuffer.capacity()) {
+            checkpointBuffer.clear();
+            readFully(checkpointChannel, checkpointBuffer, 0);
+            checkpointBuffer.flip();
+            checkpointSequence = checkpointBuffer.getLong();
+            checkpointOffset = checkpointBuffer.getLong();
+        }
+
+        List<Long> sequences = new ArrayList<>();
+        for (long sequence : listSequences()) {
+            if (sequence < checkpointSequence) {
+                Files.deleteIfExists(segmentPath(sequence));
+            } else {
+                sequences.add(sequence);
+            }
+        }
+
+        if (sequences.isEmpty()) {
+            readSequence = Math.max(1, checkpointSequence);
+            readOffset = 0;
+            openWriteSegment(readSequence);
+            writeCheckpoint();
+            return;
+        }
+
+        readSequence = sequences.get(0);
+        readOffset = readSequence == checkpointSequence ? checkpointOffset : 0;
+        for (long sequence : sequences) {
+            long start = sequence == readSequence ? readOffset : 0;
+            try (FileChannel channel = FileChannel.open(segmentPath(sequence), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long valid = scanRecords(channel, start);
+                if (valid < channel.size()) {
+                    channel.truncate(valid);
+                }
+                diskBytes += valid;
+            }
+        }
+        long last = sequences.get(sequences.size() - 1);
+        writeSequence = last;
+        writeChannel = FileChannel.open(segmentPath(last), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        writeSize = writeChannel.size();
+        if (depth > 0) {
+            oldestEpochMillis = readOldestEpochMillis();
+        }
+        writeCheckpoint();
+    }
+
+    /**
+     * {@code start}부터 온전한 레코드 수와 크기를 집계한다.
+     *
+     * @return 마지막 온전한 레코드의 끝 위치
+     */
+    private long scanRecords(FileChannel channel, long start) throws IOException {
+        long size = channel.size();
+        long position = start;
+        while (position + LENGTH_BYTES <= size) {
+            int payloadLength = readLength(channel, position);
+            if (payloadLength < HEADER_BYTES || position + LENGTH_BYTES + payloadLength > size) {
+                break;
+            }
+            position += LENGTH_BYTES + payloadLength;
+            depth++;
+            pendingBytes += LENGTH_BYTES + payloadLength;
+        }
+        return position;
+    }
+
+    private long readOldestEpochMillis() throws IOException {
+        long sequence = readSequence;
+        long offset = readOffset;
+        while (sequence <= writeSequence) {
+            FileChannel channel = readChannel(sequence);
+            long size = sequence == writeSequence ? writeSize : channel.size();
+            if (offset + LENGTH_BYTES + HEADER_BYTES <= size) {
+                ByteBuffer header = ByteBuffer.allocate(Long.BYTES + Integer.BYTES);
+                readFully(channel, header, offset + LENGTH_BYTES + 2);
+                header.flip();
+                return Instant.ofEpochSecond(header.getLong(), header.getInt()).toEpochMilli();
+            }
+            sequence++;
+            offset = 0;
+        }
+        return 0;
+    }
+
+    private EncodedLogEntry decode(ByteBuffer payload) {
+        payload.flip();
+        LogType logType = LOG_TYPES[payload.get()];
+        LogLevel logLevel = LOG_LEVELS[payload.get()];
+        Instant timestamp = Instant.ofEpochSecond(payload.getLong(), payload.getInt());
+        short traceIdLength = payload.getShort();
+        String traceId = null;
+        if (traceIdLength >= 0) {
+            traceId = new String(payload.array(), payload.position(), traceIdLength, StandardCharsets.UTF_8);
+            payload.position(payload.position() + traceIdLength);
+        }
+        byte[] json = new byte[payload.remaining()];
+        payload.get(json);
+        return EncodedLogEntry.of(timestamp, traceId, logType, logLevel, json);
+    }
+
+    private void openWriteSegment(long sequence) throws IOException {
+        closeQuietly(writeChannel);
+        writeSequence = sequence;
+        writeChannel = FileChannel.open(segmentPath(sequence),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        writeSize = writeChannel.size();
+    }
+
+    private FileChannel readChannel(long sequence) throws IOException {
+        if (sequence == writeSequence) {
+            return writeChannel;
+        }
+        if (readChannel == null || readChannelSequence != sequence) {
+            closeQuietly(readChannel);
+            readChannel = FileChannel.open(segmentPath(sequence), StandardOpenOption.READ);
+            readChannelSequence = sequence;
+        }
+        return readChannel;
+    }
+
+    private void deleteSegment(long sequence) throws IOException {
+        if (readChannel != null && readChannelSequence == sequence) {
+            closeQuietly(readChannel);
+            readChannel = null;
+        }
+        Path path = segmentPath(sequence);
+        if (Files.exists(path)) {
+            diskBytes = Math.max(0, diskBytes - Files.size(path));
+            Files.delete(path);
+        }
+    }
+
+    private void writeCheckpoint() throws IOException {
+        checkpointBuffer.clear();
+        checkpointBuffer.putLong(readSequence);
+        checkpointBuffer.putLong(readOffset);
+        checkpointBuffer.flip();
+        while (checkpointBuffer.hasRemaining()) {
+            checkpointChannel.write(checkpointBuffer, checkpointBuffer.position());
+        }
+    }
+
+    private int readLength(FileChannel channel, long position) throws IOException {
+        lengthBuffer.clear();
+        readFully(channel, lengthBuffer, position);
+        lengthBuffer.flip();
+        return lengthBuffer.getInt();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            int read = channel.read(target, position + target.position());
+            if (read < 0) {
+                throw new EOFException("Unexpected end of spool segment at " + position);
+            }
+        }
+    }
+
+    private List<Long> listSequences() throws IOException {
+        List<Long> sequences = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                try {
+                    sequences.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+                } catch (NumberFormatException ignored) {
+                    // 스풀이 만든 파일이 아니면 무시한다.
+                }
+            }
+        }
+        sequences.sort(null);
+        return sequences;
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("%s%012d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+    }
+
+    private static int ordinal(Enum<?> value) {
+        return value != null ? value.ordinal() : 0;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("[monikit] failed to close spool segment: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 호출 스레드별로 재사용하는 레코드 조립 버퍼. 락 밖에서 로그를 인코딩해 길이 접두사까지 포함한 레코드를 만든다.
+     */
+    private static final class Staging {
+
+        private static final int DEFAULT_CAPACITY = 4 * 1024;
+        private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+        private final LogEntryEncoder encoder = new LogEntryEncoder();
+        private ByteBuffer record = ByteBuffer.allocate(DEFAULT_CAPACITY);
+
+        /**
+         * @return 쓰기 준비가 된(flip된) 레코드
+         */
+        ByteBuffer stage(LogEntry logEntry) {
+            byte[] json = encoder.encodeToBytes(logEntry);
+            String traceId = logEntry.getTraceId();
+            byte[] traceIdBytes = traceId != null ? traceId.getBytes(StandardCharsets.UTF_8) : null;
+            int traceIdLength = traceIdBytes != null ? Math.min(traceIdBytes.length, Short.MAX_VALUE) : 0;
+            int payloadLength = HEADER_BYTES + traceIdLength + json.length;
+            int recordLength = LENGTH_BYTES + payloadLength;
+
+            if (record.capacity() < recordLength) {
+                record = ByteBuffer.allocate(Math.max(recordLength, record.capacity() * 2));
+            }
+            Instant timestamp = logEntry.getTimestamp() != null ? logEntry.getTimestamp() : Instant.EPOCH;
+            record.clear();
+            record.putInt(payloadLength);
+            record.put((byte) ordinal(logEntry.getLogType()));
+            record.put((byte) ordinal(logEntry.getLogLevel()));
+            record.putLong(timestamp.getEpochSecond());
+            record.putInt(timestamp.getNano());
+            record.putShort(traceIdBytes != null ? (short) traceIdLength : -1);
+            if (traceIdBytes != null) {
+                record.put(traceIdBytes, 0, traceIdLength);
+            }
+            record.put(json);
+            return record.flip();
+        }
+
+        void release() {
+            if (record.capacity() > MAX_RETAINED_CAPACITY) {
+                record = ByteBuffer.allocate(DEFAULT_CAPACITY);
+            }
+            record.clear();
+        }
+    }
+
+    /**
+     * {@link #read(int)} 결과. {@link #acknowledge(Batch)}에 그대로 넘겨 읽기 위치를 확정한다.
+     */
+    public static final class Batch {
+
+        private final List<LogEntry> entries;
+        private final long sequence;
+        private final long offset;
+        private final long bytes;
+
+        private Batch(List<LogEntry> entries, long sequence, long offset, long bytes) {
+            this.entries = entries;
+            this.sequence = sequence;
+            this.offset = offset;
+            this.bytes = bytes;
+        }
+
+        /**
+         * @return 읽은 로그 ({@link EncodedLogEntry}, 저장 순서)
+         */
+        public List<LogEntry> getEntries() {
+            return entries;
+        }
+
+        public int size() {
+            return entries.size();
+        }
+
+        public boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+    }
+
+}
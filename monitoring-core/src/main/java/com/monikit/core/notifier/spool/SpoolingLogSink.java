@@ -0,0 +1,198 @@
+package com.monikit.core.notifier.spool;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.monikit.core.LogType;
+import com.monikit.core.metrics.LogSpoolStats;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.notifier.LogSink;
+
+/**
+ * 느리거나 실패하는 {@link LogSink} 앞에 디스크 스풀을 두는 데코레이터.
+ * <p>
+ * 평소에는 위임 Sink로 바로 전송한다. 위임 Sink가 예외를 던지거나 한 번의 전송이 지연 예산({@code latencyBudget})을 넘기면
+ * 스풀 모드로 전환하고, 이후 로그는 위임 Sink를 호출하지 않고 {@link LogSpool}에 기록한다.
+ * 전용 데몬 스레드({@code monikit-spool-replayer})가 {@code replayInterval}마다 스풀을 읽어 위임 Sink로 재전송하며,
+ * 스풀이 비면 다시 직접 전송으로 돌아간다.
+ * </p>
+ *
+ * <ul>
+ *   <li>지연 예산은 이미 진행 중인 호출을 중단하지 않는다. 예산을 넘긴 호출 이후의 로그부터 호출 스레드를 막지 않도록 스풀로 돌린다.</li>
+ *   <li>예외로 실패한 배치는 통째로 스풀에 기록되므로, 위임 Sink가 일부를 이미 보냈다면 중복 전송될 수 있다(at-least-once).</li>
+ *   <li>재전송 시 위임 Sink는 원본 모델 대신 JSON을 보관한 {@link com.monikit.core.encoder.EncodedLogEntry}를 받는다.</li>
+ *   <li>재전송이 실패하거나 예산을 넘기면 이번 주기를 멈추고 다음 주기에 다시 시도한다.</li>
+ *   <li>시작 시 스풀에 이전 프로세스가 남긴 로그가 있으면 스풀 모드로 시작한다.</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class SpoolingLogSink implements LogSink, AutoCloseable {
+
+    private final LogSink delegate;
+    private final LogSpool spool;
+    private final long latencyBudgetNanos;
+    private final int replayBatchSize;
+    private final LogSpoolStats stats;
+    private final ScheduledExecutorService replayer;
+    private volatile boolean spooling;
+
+    /**
+     * @param delegate 실제 전송을 담당하는 Sink
+     * @param spool 전달하지 못한 로그를 보관할 스풀
+     * @param latencyBudget 한 번의 전송에 허용하는 시간 (null 또는 0이면 지연으로는 전환하지 않음)
+     * @param replayInterval 재전송 주기
+     * @param replayBatchSize 재전송 시 한 번에 읽는 최대 로그 수
+     * @param stats 스풀 통계
+     */
+    public SpoolingLogSink(LogSink delegate, LogSpool spool, Duration latencyBudget, Duration replayInterval,
+                           int replayBatchSize, LogSpoolStats stats) {
+        if (replayBatchSize <= 0) {
+            throw new IllegalArgumentException("replayBatchSize must be > 0: " + replayBatchSize);
+        }
+        this.delegate = delegate;
+        this.spool = spool;
+        this.latencyBudgetNanos = latencyBudget != null && !latencyBudget.isNegative() ? latencyBudget.toNanos() : 0;
+        this.replayBatchSize = replayBatchSize;
+        this.stats = stats;
+        this.spooling = !spool.isEmpty();
+        stats.register(spool);
+
+        this.replayer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "monikit-spool-replayer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = Math.max(1, replayInterval.toMillis());
+        replayer.scheduleWithFixedDelay(this::replay, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean supports(LogType logType) {
+        return delegate.supports(logType);
+    }
+
+    @Override
+    public void send(LogEntry logEntry) {
+        sendBatch(List.of(logEntry));
+    }
+
+    @Override
+    public void sendBatch(List<LogEntry> logEntries) {
+        if (logEntries.isEmpty()) {
+            return;
+        }
+        if (spooling) {
+            spool(logEntries);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            delegate.sendBatch(logEntries);
+        } catch (Exception e) {
+            stats.recordDelegateFailure();
+            spooling = true;
+            System.err.println("[monikit] LogSink delivery failed, spooling to disk (" + delegate.getClass().getSimpleName() + "): " + e.getMessage());
+            spool(logEntries);
+            return;
+        }
+        if (exceedsBudget(System.nanoTime() - start)) {
+            stats.recordBudgetExceeded();
+            spooling = true;
+        }
+    }
+
+    /**
+     * @return 현재 위임 Sink 대신 스풀에 기록 중이면 true
+     */
+    public boolean isSpooling() {
+        return spooling;
+    }
+
+    public LogSink getDelegate() {
+        return delegate;
+    }
+
+    public LogSpool getSpool() {
+        return spool;
+    }
+
+    /**
+     * 재전송 스레드를 멈추고 스풀을 닫는다. 남은 로그는 디스크에 남아 다음 시작 시 재전송된다.
+     */
+    @Override
+    public void close() {
+        replayer.shutdownNow();
+        try {
+            replayer.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        stats.unregister(spool);
+        spool.close();
+    }
+
+    /**
+     * 스풀에 쌓인 로그를 위임 Sink로 재전송한다. 실패하거나 예산을 넘기면 다음 주기로 미룬다.
+     */
+    void replay() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (spool.isEmpty()) {
+                    spooling = false;
+                    return;
+                }
+                LogSpool.Batch batch = spool.read(replayBatchSize);
+                if (batch.isEmpty()) {
+                    spooling = false;
+                    return;
+                }
+
+                long start = System.nanoTime();
+                try {
+                    delegate.sendBatch(batch.getEntries());
+                } catch (Exception e) {
+                    stats.recordReplayFailure();
+                    return;
+                }
+                long elapsed = System.nanoTime() - start;
+                spool.acknowledge(batch);
+                stats.recordReplayed(batch.size());
+                if (exceedsBudget(elapsed)) {
+                    return;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            stats.recordReplayFailure();
+            System.err.println("[monikit] failed to replay log spool: " + e.getMessage());
+        }
+    }
+
+    private void spool(List<LogEntry> logEntries) {
+        int spooled = 0;
+        try {
+            for (LogEntry logEntry : logEntries) {
+                if (spool.append(logEntry)) {
+                    spooled++;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[monikit] failed to write log spool: " + e.getMessage());
+        }
+        stats.recordSpooled(spooled);
+        if (spooled < logEntries.size()) {
+            stats.recordDropped(logEntries.size() - spooled);
+        }
+    }
+
+    private boolean exceedsBudget(long elapsedNanos) {
+        return latencyBudgetNanos > 0 && elapsedNanos > latencyBudgetNanos;
+    }
+
+}
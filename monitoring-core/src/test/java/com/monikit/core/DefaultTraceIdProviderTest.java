@@ -1,5 +1,6 @@
 package com.monikit.core;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -8,8 +9,13 @@ import static org.junit.jupiter.api.Assertions.*;
 @DisplayName("DefaultTraceIdProvider")
 class DefaultTraceIdProviderTest {
 
+    @AfterEach
+    void tearDown() {
+        new DefaultTraceIdProvider().clear();
+    }
+
     @Test
-    @DisplayName("getTraceId()는 UUID 형식의 ID를 반환하고 재사용한다")
+    @DisplayName("getTraceId()는 W3C 형식(16진수 32자)의 ID를 반환하고 재사용한다")
     void shouldGenerateAndReuseTraceId() {
         DefaultTraceIdProvider provider = new DefaultTraceIdProvider();
 
@@ -17,9 +23,19 @@ class DefaultTraceIdProviderTest {
         String traceId2 = provider.getTraceId();
 
         assertNotNull(traceId1);
+        assertTrue(TraceParent.isValidTraceId(traceId1));
         assertEquals(traceId1, traceId2);
     }
 
+    @Test
+    @DisplayName("지정한 TraceIdGenerator로 ID를 생성한다")
+    void shouldUseGivenGenerator() {
+        DefaultTraceIdProvider provider = new DefaultTraceIdProvider(() -> "custom-trace-id");
+        provider.clear();
+
+        assertEquals("custom-trace-id", provider.getTraceId());
+    }
+
     @Test
     @DisplayName("setTraceId()로 지정된 ID를 반환한다")
     void shouldReturnSetTraceId() {
@@ -0,0 +1,30 @@
+package com.monikit.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("LogLevel 테스트")
+class LogLevelTest {
+
+    @Test
+    @DisplayName("심각도는 TRACE < DEBUG < INFO < WARN < ERROR 순서여야 한다")
+    void shouldOrderBySeverity() {
+        assertTrue(LogLevel.TRACE.getSeverity() < LogLevel.DEBUG.getSeverity());
+        assertTrue(LogLevel.DEBUG.getSeverity() < LogLevel.INFO.getSeverity());
+        assertTrue(LogLevel.INFO.getSeverity() < LogLevel.WARN.getSeverity());
+        assertTrue(LogLevel.WARN.getSeverity() < LogLevel.ERROR.getSeverity());
+        assertTrue(LogLevel.ERROR.isAtLeast(LogLevel.WARN));
+        assertFalse(LogLevel.DEBUG.isAtLeast(LogLevel.INFO));
+    }
+
+    @Test
+    @DisplayName("선언 순서(ordinal)는 저장된 데이터 호환을 위해 바뀌지 않아야 한다")
+    void shouldKeepDeclarationOrder() {
+        assertArrayEquals(new LogLevel[]{LogLevel.INFO, LogLevel.WARN, LogLevel.ERROR, LogLevel.DEBUG, LogLevel.TRACE},
+            LogLevel.values());
+    }
+}
@@ -0,0 +1,73 @@
+package com.monikit.core;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TraceParent / W3CTraceIdGenerator 테스트")
+class TraceParentTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    @Nested
+    @DisplayName("traceparent 파싱")
+    class Parsing {
+
+        @Test
+        @DisplayName("유효한 version 00 헤더에서 trace-id를 꺼내야 한다")
+        void shouldParseVersion00() {
+            assertEquals(TRACE_ID, TraceParent.parseTraceId("00-" + TRACE_ID + "-00f067aa0ba902b7-01"));
+        }
+
+        @Test
+        @DisplayName("이후 버전은 뒤에 붙은 추가 필드를 허용해야 한다")
+        void shouldAllowTrailingFieldsForFutureVersions() {
+            assertEquals(TRACE_ID, TraceParent.parseTraceId("01-" + TRACE_ID + "-00f067aa0ba902b7-01-extra"));
+            assertNull(TraceParent.parseTraceId("00-" + TRACE_ID + "-00f067aa0ba902b7-01-extra"));
+        }
+
+        @Test
+        @DisplayName("형식이 맞지 않는 헤더는 null을 반환해야 한다")
+        void shouldRejectMalformedHeaders() {
+            assertNull(TraceParent.parseTraceId(null));
+            assertNull(TraceParent.parseTraceId(""));
+            assertNull(TraceParent.parseTraceId("ff-" + TRACE_ID + "-00f067aa0ba902b7-01"));
+            assertNull(TraceParent.parseTraceId("00-" + TRACE_ID.toUpperCase() + "-00f067aa0ba902b7-01"));
+            assertNull(TraceParent.parseTraceId("00-00000000000000000000000000000000-00f067aa0ba902b7-01"));
+            assertNull(TraceParent.parseTraceId("00-" + TRACE_ID + "-0000000000000000-01"));
+            assertNull(TraceParent.parseTraceId("00_" + TRACE_ID + "-00f067aa0ba902b7-01"));
+            assertNull(TraceParent.parseTraceId("00-" + TRACE_ID + "-00f067aa0ba902b7-0g"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Trace ID 생성")
+    class Generation {
+
+        @Test
+        @DisplayName("128비트 값을 소문자 16진수 32자로 인코딩해야 한다")
+        void shouldEncodeHex() {
+            assertEquals("000000000000000100000000000000ff", TraceParent.toHex(1L, 255L));
+            assertEquals("ffffffffffffffff8000000000000000", TraceParent.toHex(-1L, Long.MIN_VALUE));
+        }
+
+        @Test
+        @DisplayName("W3CTraceIdGenerator는 유효하고 서로 다른 trace-id를 만들어야 한다")
+        void shouldGenerateValidUniqueIds() {
+            TraceIdGenerator generator = new W3CTraceIdGenerator();
+            Set<String> ids = new HashSet<>();
+            for (int i = 0; i < 1000; i++) {
+                String id = generator.generate();
+                assertTrue(TraceParent.isValidTraceId(id), id);
+                ids.add(id);
+            }
+            assertEquals(1000, ids.size());
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.monikit.core.clock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.model.ExecutionLog;
+import com.monikit.core.model.SimpleLog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MoniKitClock 테스트")
+class MoniKitClockTest {
+
+    @AfterEach
+    void tearDown() {
+        MoniKitClocks.reset();
+    }
+
+    @Nested
+    @DisplayName("CoarseMoniKitClock")
+    class CoarseClockTests {
+
+        @Test
+        @DisplayName("갱신 전까지는 캐시된 시각을 그대로 반환해야 한다")
+        void shouldReturnCachedInstantUntilTick() throws InterruptedException {
+            try (CoarseMoniKitClock clock = new CoarseMoniKitClock(Duration.ofHours(1))) {
+                Instant cached = clock.instant();
+                Thread.sleep(5);
+
+                assertSame(cached, clock.instant());
+
+                clock.tick();
+                assertTrue(clock.instant().isAfter(cached));
+            }
+        }
+
+        @Test
+        @DisplayName("갱신 스레드가 resolution마다 캐시된 시각을 갱신해야 한다")
+        void shouldAdvanceWithTicker() throws InterruptedException {
+            try (CoarseMoniKitClock clock = new CoarseMoniKitClock(Duration.ofMillis(1))) {
+                Instant first = clock.instant();
+                Thread.sleep(50);
+
+                assertTrue(clock.instant().isAfter(first));
+            }
+        }
+
+        @Test
+        @DisplayName("캐시된 시각은 ms 단위로 잘리고 실제 시각보다 앞서지 않아야 한다")
+        void shouldTruncateToMillisAndNeverRunAhead() {
+            try (CoarseMoniKitClock clock = new CoarseMoniKitClock()) {
+                Instant instant = clock.instant();
+
+                assertEquals(0, instant.getNano() % 1_000_000);
+                assertFalse(instant.isAfter(Instant.now()));
+                assertTrue(CoarseMoniKitClock.DEFAULT_RESOLUTION.toMillis() >= 10);
+            }
+        }
+
+        @Test
+        @DisplayName("close 이후에는 현재 시각을 직접 읽어야 한다")
+        void shouldFallBackToSystemTimeAfterClose() throws InterruptedException {
+            CoarseMoniKitClock clock = new CoarseMoniKitClock(Duration.ofHours(1));
+            Instant cached = clock.instant();
+            clock.close();
+            Thread.sleep(5);
+
+            assertTrue(clock.instant().isAfter(cached));
+        }
+    }
+
+    @Nested
+    @DisplayName("로그 엔트리")
+    class LogEntryTests {
+
+        @Test
+        @DisplayName("로그 timestamp는 전역 시계에서 읽어야 한다")
+        void shouldUseInstalledClockForTimestamp() {
+            Instant fixed = Instant.parse("2024-01-01T00:00:00Z");
+            MoniKitClocks.set(new MoniKitClock() {
+                @Override
+                public Instant instant() {
+                    return fixed;
+                }
+
+                @Override
+                public long nanoTime() {
+                    return 0;
+                }
+            });
+
+            assertEquals(fixed, SimpleLog.of("trace", LogLevel.INFO, "message").getTimestamp());
+        }
+
+        @Test
+        @DisplayName("스레드 이름은 처음 읽을 때 조회하고 이후에는 같은 값을 반환해야 한다")
+        void shouldResolveThreadNameLazily() throws InterruptedException {
+            AtomicReference<SimpleLog> created = new AtomicReference<>();
+            Thread thread = new Thread(() -> created.set(SimpleLog.of("trace", LogLevel.INFO, "message")), "before");
+            thread.start();
+            thread.join();
+
+            thread.setName("after");
+            SimpleLog log = created.get();
+
+            assertEquals("after", log.getThreadName());
+            thread.setName("renamed-again");
+            assertEquals("after", log.getThreadName());
+            assertEquals(thread.threadId(), log.getThreadId());
+        }
+
+        @Test
+        @DisplayName("실행 시간은 ns 정밀도로 보관하고 ms 값은 내림으로 계산해야 한다")
+        void shouldKeepSubMillisecondExecutionTime() {
+            ExecutionLog log = ExecutionLog.of("trace", "OrderService", "place", Duration.ofNanos(2_999_999));
+
+            assertEquals(2, log.getExecutionTime());
+            assertEquals(2_999_999, log.getExecutionTimeNanos());
+        }
+
+        @Test
+        @DisplayName("ms 단위 팩토리는 ns 값을 ms에서 환산해야 한다")
+        void shouldConvertMillisecondFactoryToNanos() {
+            ExecutionLog log = ExecutionLog.of("trace", "OrderService", "place", 15);
+
+            assertEquals(15, log.getExecutionTime());
+            assertEquals(15_000_000, log.getExecutionTimeNanos());
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.monikit.core.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.context.DefaultLogEntryContextManager;
+import com.monikit.core.context.LogEntryContext;
+import com.monikit.core.metrics.ExecutorTaskStats;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.notifier.LogNotifier;
+import com.monikit.core.utils.TestLogEntryProvider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ContextPropagatingExecutorService 테스트")
+class ContextPropagatingExecutorServiceTest {
+
+    private ExecutorTaskStats stats;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        LogEntryContext.clear();
+        stats = new ExecutorTaskStats("test-executor");
+        executor = new ContextPropagatingExecutorService(Executors.newSingleThreadExecutor(),
+            new DefaultThreadContextHandler(), stats);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("직접 감싸지 않아도 제출된 작업에 부모 컨텍스트가 전파된다")
+    void shouldPropagateContextWithoutManualWrapping() throws Exception {
+        LogEntryContext.addLog(TestLogEntryProvider.executionTimeLog());
+        LogEntryContext.setErrorOccurred(true);
+
+        Future<Integer> size = executor.submit(LogEntryContext::size);
+        Future<Boolean> hasError = executor.submit(LogEntryContext::hasError);
+
+        assertEquals(1, size.get());
+        assertTrue(hasError.get());
+    }
+
+    @Test
+    @DisplayName("invokeAll로 실행한 작업의 로그도 부모 요청에 합쳐진다")
+    void shouldMergeLogsFromInvokeAll() throws Exception {
+        Callable<Boolean> task = () -> {
+            LogEntryContext.addLog(TestLogEntryProvider.databaseQueryLog());
+            return true;
+        };
+
+        List<Future<Boolean>> futures = executor.invokeAll(List.of(task, task, task));
+        for (Future<Boolean> future : futures) {
+            future.get();
+        }
+
+        assertEquals(3, LogEntryContext.size());
+    }
+
+    @Test
+    @DisplayName("CompletableFuture가 완료된 직후 flush해도 자식 로그가 Sink에 전달된다")
+    void shouldDeliverChildLogsWhenFlushedRightAfterJoin() throws Exception {
+        List<LogEntry> delivered = new ArrayList<>();
+        DefaultLogEntryContextManager manager = new DefaultLogEntryContextManager(new LogNotifier() {
+            @Override
+            public void notify(LogLevel logLevel, String message) {
+            }
+
+            @Override
+            public void notify(LogEntry logEntry) {
+                delivered.add(logEntry);
+            }
+        }, List.of(), List.of());
+        CountDownLatch registered = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        CountDownLatch flushed = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(() -> {
+            manager.addLog(TestLogEntryProvider.databaseQueryLog());
+            try {
+                return registered.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }, executor);
+        // 완료 직후 작업 스레드에서 실행되는 후속 작업으로, 작업 종료 처리를 부모의 flush 이후로 늦춘다
+        future.thenRun(() -> {
+            completed.countDown();
+            try {
+                flushed.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        registered.countDown();
+
+        assertTrue(completed.await(1, TimeUnit.SECONDS));
+        assertTrue(future.join());
+        manager.flush();
+        flushed.countDown();
+
+        assertEquals(1, delivered.size());
+    }
+
+    @Test
+    @DisplayName("큐 대기 시간과 실행 시간을 따로 기록한다")
+    void shouldRecordQueueWaitSeparatelyFromRunTime() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> blocker = executor.submit(() -> {
+            started.countDown();
+            release.await();
+            return null;
+        });
+        Future<?> queued = executor.submit(() -> { });
+
+        started.await();
+        TimeUnit.MILLISECONDS.sleep(50);
+        release.countDown();
+        blocker.get();
+        queued.get();
+
+        assertEquals(2, stats.getStartedCount());
+        assertEquals(2, stats.getCompletedCount());
+        assertEquals(0, stats.getActiveCount());
+        assertTrue(stats.getQueueWaitNanos() >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(stats.getRunNanos() >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    @DisplayName("예외로 끝난 작업은 실패로 기록한다")
+    void shouldRecordFailedTask() {
+        Future<?> future = executor.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThrows(Exception.class, future::get);
+        assertEquals(1, stats.getFailedCount());
+        assertEquals(1, stats.getCompletedCount());
+    }
+
+}
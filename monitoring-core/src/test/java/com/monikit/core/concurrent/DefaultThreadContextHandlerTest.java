@@ -11,8 +11,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import com.monikit.core.context.LogEntryContext;
+import com.monikit.core.exception.ExceptionAggregator;
 import com.monikit.core.model.ExceptionLog;
 import com.monikit.core.model.LogEntry;
+import com.monikit.core.notifier.LogNotifier;
 import com.monikit.core.utils.TestLogEntryProvider;
 
 import static java.util.concurrent.Executors.newFixedThreadPool;
@@ -21,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 
 @DisplayName("DefaultThreadContextHandler 테스트")
 class DefaultThreadContextHandlerTest {
@@ -195,6 +198,27 @@ class DefaultThreadContextHandlerTest {
             assertInstanceOf(ExceptionLog.class, logs.iterator().next());
             assertTrue(LogEntryContext.hasError());
         }
+
+        @Test
+        @DisplayName("ExceptionAggregator가 있으면 다른 요청에서 반복된 같은 예외는 기록하지 않고 예외 여부만 표시해야 한다")
+        void shouldSkipRepeatedExceptionWhenAggregated() {
+            // Given
+            Exception exception = new RuntimeException("Repeated exception");
+            try (ExceptionAggregator aggregator = new ExceptionAggregator(mock(LogNotifier.class))) {
+                DefaultThreadContextHandler handler = new DefaultThreadContextHandler(aggregator);
+                handler.logException("first-trace-id", exception);
+                assertEquals(1, LogEntryContext.size());
+
+                // When
+                LogEntryContext.clear();
+                LogEntryContext.setErrorOccurred(false);
+                handler.logException("second-trace-id", exception);
+
+                // Then
+                assertEquals(0, LogEntryContext.size());
+                assertTrue(LogEntryContext.hasError());
+            }
+        }
     }
 
 
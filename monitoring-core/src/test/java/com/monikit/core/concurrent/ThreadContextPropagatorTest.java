@@ -17,6 +17,7 @@ import com.monikit.core.context.LogEntryContext;
 import com.monikit.core.model.LogEntry;
 import com.monikit.core.utils.TestLogEntryProvider;
 
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -146,6 +147,75 @@ class ThreadContextPropagatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("자식 로그 병합 테스트")
+    class MergeBackTests {
+
+        @Test
+        @DisplayName("자식이 쌓은 로그와 예외 여부는 작업이 끝나면 부모 컨텍스트에 합쳐진다")
+        void shouldMergeChildLogsIntoParent() throws Exception {
+            LogEntry parentLog = TestLogEntryProvider.executionTimeLog();
+            LogEntry childLog = TestLogEntryProvider.databaseQueryLog();
+            LogEntryContext.addLog(parentLog);
+
+            Runnable childTask = ThreadContextPropagator.propagateToChildThread(() -> {
+                LogEntryContext.addLog(childLog);
+                LogEntryContext.setErrorOccurred(true);
+            });
+
+            ExecutorService executor = newFixedThreadPool(2);
+            Future<?> first = executor.submit(childTask);
+            Future<?> second = executor.submit(childTask);
+            first.get();
+            second.get();
+            executor.shutdown();
+
+            Queue<LogEntry> logs = LogEntryContext.getLogs();
+            assertEquals(3, logs.size());
+            assertEquals(parentLog, logs.peek());
+            assertTrue(logs.contains(childLog));
+            assertTrue(LogEntryContext.hasError());
+        }
+
+        @Test
+        @DisplayName("제출 이후 부모가 버퍼를 비워도 자식은 제출 시점의 부모 로그를 본다")
+        void shouldKeepParentSnapshotAfterParentMutates() throws Exception {
+            LogEntry parentLog = TestLogEntryProvider.executionTimeLog();
+            LogEntryContext.addLog(parentLog);
+            CountDownLatch submitted = new CountDownLatch(1);
+
+            Callable<Queue<LogEntry>> childTask = ThreadContextPropagator.propagateToChildThread(() -> {
+                submitted.await();
+                return LogEntryContext.getLogs();
+            });
+            ExecutorService executor = newSingleThreadExecutor();
+            Future<Queue<LogEntry>> future = executor.submit(childTask);
+
+            LogEntryContext.clear();
+            LogEntryContext.addLog(TestLogEntryProvider.databaseQueryLog());
+            submitted.countDown();
+            Queue<LogEntry> childLogs = future.get();
+            executor.shutdown();
+
+            assertEquals(1, childLogs.size());
+            assertEquals(parentLog, childLogs.peek());
+        }
+
+        @Test
+        @DisplayName("부모가 flush(clear)된 뒤에 끝난 자식의 로그는 합쳐지지 않는다")
+        void shouldDropChildLogsAfterParentCleared() throws Exception {
+            Runnable childTask = ThreadContextPropagator.propagateToChildThread(
+                () -> LogEntryContext.addLog(TestLogEntryProvider.databaseQueryLog()));
+
+            LogEntryContext.clear();
+            ExecutorService executor = newSingleThreadExecutor();
+            executor.submit(childTask).get();
+            executor.shutdown();
+
+            assertEquals(0, LogEntryContext.size());
+        }
+    }
+
     @Nested
     @DisplayName("ConcurrentLinkedQueue 레이스 컨딕션 테스트")
     class ConcurrentLinkedQueueRaceTest {
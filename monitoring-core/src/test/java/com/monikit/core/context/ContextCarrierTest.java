@@ -0,0 +1,178 @@
+package com.monikit.core.context;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.monikit.core.concurrent.ThreadContextPropagator;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.utils.TestLogEntryProvider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ContextCarrier 테스트")
+class ContextCarrierTest {
+
+    @Nested
+    @DisplayName("InheritableContextCarrier")
+    class InheritableTests {
+
+        private final InheritableContextCarrier carrier = new InheritableContextCarrier();
+
+        @Test
+        @DisplayName("같은 스레드에서는 같은 컨텍스트를 재사용한다")
+        void shouldReuseContextOnSameThread() {
+            assertSame(carrier.current(), carrier.current());
+        }
+
+        @Test
+        @DisplayName("자식 스레드는 부모 컨텍스트의 사본을 물려받는다")
+        void shouldInheritCopyInChildThread() throws InterruptedException {
+            RequestContext parent = carrier.current();
+            parent.clear();
+            parent.buffer().add(TestLogEntryProvider.executionTimeLog());
+            parent.setErrorOccurred(true);
+            parent.setTraceId("parent-trace");
+
+            AtomicReference<RequestContext> child = new AtomicReference<>();
+            Thread thread = new Thread(() -> child.set(carrier.current()));
+            thread.start();
+            thread.join();
+
+            assertNotSame(parent, child.get());
+            assertEquals(1, child.get().size());
+            assertEquals(0, child.get().buffer().size());
+            assertTrue(child.get().hasError());
+            assertEquals("parent-trace", child.get().getTraceId());
+        }
+    }
+
+    @Nested
+    @DisplayName("ScopedContextCarrier")
+    class ScopedTests {
+
+        private final ScopedContextCarrier carrier = new ScopedContextCarrier();
+
+        @Test
+        @DisplayName("자식 스레드는 부모 컨텍스트를 물려받지 않는다")
+        void shouldNotInheritInChildThread() throws InterruptedException {
+            carrier.current().buffer().add(TestLogEntryProvider.executionTimeLog());
+            carrier.current().setTraceId("parent-trace");
+
+            AtomicReference<RequestContext> child = new AtomicReference<>();
+            Thread thread = new Thread(() -> child.set(carrier.current()));
+            thread.start();
+            thread.join();
+
+            assertEquals(0, child.get().buffer().size());
+            assertNull(child.get().getTraceId());
+        }
+
+        @Test
+        @DisplayName("open()은 traceId만 이어받은 새 컨텍스트를 연결하고 닫으면 이전 컨텍스트로 돌아간다")
+        void shouldOpenFreshContextAndRestore() {
+            RequestContext outer = carrier.current();
+            outer.buffer().add(TestLogEntryProvider.executionTimeLog());
+            outer.setTraceId("outer-trace");
+
+            try (ContextCarrier.Scope scope = carrier.open()) {
+                RequestContext inner = carrier.current();
+                assertNotSame(outer, inner);
+                assertEquals(0, inner.buffer().size());
+                assertEquals("outer-trace", inner.getTraceId());
+            }
+
+            assertSame(outer, carrier.current());
+        }
+
+        @Test
+        @DisplayName("attach()로 연결한 컨텍스트는 범위를 닫으면 스레드에 남지 않는다")
+        void shouldNotLeaveContextAfterAttachScopeCloses() throws InterruptedException {
+            RequestContext task = new RequestContext();
+            AtomicReference<RequestContext> during = new AtomicReference<>();
+            AtomicReference<RequestContext> after = new AtomicReference<>();
+
+            Thread thread = new Thread(() -> {
+                try (ContextCarrier.Scope scope = carrier.attach(task)) {
+                    during.set(carrier.current());
+                }
+                after.set(carrier.current());
+            });
+            thread.start();
+            thread.join();
+
+            assertSame(task, during.get());
+            assertNotSame(task, after.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("LogEntryContext에 ScopedContextCarrier를 지정한 경우")
+    class LogEntryContextWithScopedCarrierTests {
+
+        @BeforeEach
+        void setup() {
+            LogEntryContext.setCarrier(new ScopedContextCarrier());
+        }
+
+        @AfterEach
+        void tearDown() {
+            LogEntryContext.setCarrier(new InheritableContextCarrier());
+        }
+
+        @Test
+        @DisplayName("ThreadContextPropagator로 감싼 작업에만 부모 로그와 예외 여부가 전달된다")
+        void shouldPropagateOnlyThroughExplicitBinding() throws InterruptedException {
+            LogEntry log = TestLogEntryProvider.executionTimeLog();
+            LogEntryContext.addLog(log);
+            LogEntryContext.setErrorOccurred(true);
+
+            AtomicInteger propagatedSize = new AtomicInteger(-1);
+            AtomicInteger rawSize = new AtomicInteger(-1);
+            Runnable propagated = ThreadContextPropagator.propagateToChildThread(() -> {
+                propagatedSize.set(LogEntryContext.size());
+                assertTrue(LogEntryContext.hasError());
+            });
+
+            Thread propagatedThread = new Thread(propagated);
+            Thread rawThread = new Thread(() -> rawSize.set(LogEntryContext.size()));
+            propagatedThread.start();
+            rawThread.start();
+            propagatedThread.join();
+            rawThread.join();
+
+            assertEquals(1, propagatedSize.get());
+            assertEquals(0, rawSize.get());
+            assertEquals(1, LogEntryContext.size());
+        }
+
+        @Test
+        @DisplayName("같은 스레드에서 실행한 전파 작업의 로그는 작업이 끝나면 바깥 컨텍스트에 합쳐진다")
+        void shouldMergeTaskRunOnSameThread() {
+            LogEntryContext.clear();
+            RequestContext outer = LogEntryContext.current();
+            LogEntryContext.addLog(TestLogEntryProvider.executionTimeLog());
+
+            ThreadContextPropagator.propagateToChildThread(() -> {
+                assertNotSame(outer, LogEntryContext.current());
+                LogEntryContext.addLog(TestLogEntryProvider.databaseQueryLog());
+                assertEquals(2, LogEntryContext.size());
+            }).run();
+
+            assertSame(outer, LogEntryContext.current());
+            assertEquals(2, LogEntryContext.size());
+            assertFalse(LogEntryContext.hasError());
+        }
+    }
+
+}
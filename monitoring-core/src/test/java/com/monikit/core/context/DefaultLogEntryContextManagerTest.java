@@ -1,8 +1,29 @@
 package com.monikit.core.context;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.context.overflow.DropLowestLevelOverflowPolicy;
+import com.monikit.core.context.overflow.DropOldestOverflowPolicy;
+import com.monikit.core.context.overflow.FlushAllOverflowPolicy;
+import com.monikit.core.context.overflow.KeepSlowestOverflowPolicy;
+import com.monikit.core.context.overflow.LogEntrySizeEstimator;
+import com.monikit.core.context.overflow.OverflowLimits;
+import com.monikit.core.context.overflow.OverflowPolicy;
+import com.monikit.core.context.overflow.SpillOldestOverflowPolicy;
+import com.monikit.core.context.sampling.KeepAllTailSamplingPolicy;
+import com.monikit.core.context.sampling.OutcomeTailSamplingPolicy;
+import com.monikit.core.context.sampling.TailSamplingPolicy;
+import com.monikit.core.metrics.LogContextOverflowStats;
+import com.monikit.core.model.ExceptionLog;
+import com.monikit.core.model.ExecutionLog;
+import com.monikit.core.model.HttpInboundRequestLog;
+import com.monikit.core.model.HttpInboundResponseLog;
+import com.monikit.core.model.RequestSummaryLog;
+import com.monikit.core.model.SimpleLog;
 import com.monikit.core.hook.LogAddHook;
 import com.monikit.core.hook.LogFlushHook;
 import com.monikit.core.model.LogEntry;
@@ -62,6 +83,20 @@ class DefaultLogEntryContextManagerTest {
             assertTrue(LogEntryContext.size() <= 300);
             verify(mockLogNotifier, atLeastOnce()).notify(eq(LogLevel.WARN), anyString());
         }
+
+        @Test
+        @DisplayName("FlushHook이 없고 전달할 Sink가 없는 타입의 로그는 보관하지 않아야 한다")
+        void shouldNotStoreLogWithoutSupportingSink() {
+            DefaultLogEntryContextManager manager = new DefaultLogEntryContextManager(mockLogNotifier,
+                List.of(mockLogAddHook), List.of());
+            LogEntry log = TestLogEntryProvider.executionTimeLog();
+            when(mockLogNotifier.supports(log.getLogType())).thenReturn(false);
+
+            manager.addLog(log);
+
+            assertEquals(0, LogEntryContext.size());
+            verify(mockLogAddHook, times(1)).onAdd(log);
+        }
     }
 
     @Nested
@@ -77,7 +112,7 @@ class DefaultLogEntryContextManagerTest {
             logEntryContextManager.flush();
 
             assertEquals(0, LogEntryContext.size());
-            verify(mockLogNotifier, times(2)).notify(any(LogEntry.class));
+            verify(mockLogNotifier, times(1)).notifyBatch(argThat(logs -> logs.size() == 2));
             verify(mockLogFlushHook, times(1)).onFlush(anyList());
         }
 
@@ -97,4 +132,251 @@ class DefaultLogEntryContextManagerTest {
             assertFalse(LogEntryContext.hasError());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Overflow 정책 테스트")
+    class OverflowPolicyTests {
+
+        private LogContextOverflowStats stats;
+
+        private DefaultLogEntryContextManager managerWith(OverflowPolicy policy, OverflowLimits limits) {
+            stats = new LogContextOverflowStats();
+            return new DefaultLogEntryContextManager(mockLogNotifier, List.of(mockLogAddHook), List.of(mockLogFlushHook),
+                policy, limits, new LogEntrySizeEstimator(), stats);
+        }
+
+        @Test
+        @DisplayName("SpillOldest 정책은 오래된 로그 N개만 먼저 전송해야 한다")
+        void shouldSpillOldestEntries() {
+            DefaultLogEntryContextManager manager = managerWith(new SpillOldestOverflowPolicy(2), OverflowLimits.of(3, 0));
+
+            for (int i = 0; i < 4; i++) {
+                manager.addLog(TestLogEntryProvider.executionTimeLog());
+            }
+
+            assertEquals(2, LogEntryContext.size());
+            verify(mockLogNotifier, times(1)).notifyBatch(argThat(logs -> logs.size() == 2));
+            verify(mockLogNotifier, never()).notify(eq(LogLevel.WARN), anyString());
+            assertEquals(2, stats.getSpilledCount());
+            assertEquals(1, stats.getOverflowCount());
+            assertEquals(0, stats.getUnsampledCount());
+        }
+
+        @Test
+        @DisplayName("tail sampling 정책이 있으면 샘플링 없이 먼저 전송된 로그 수를 세어야 한다")
+        void shouldCountSpilledEntriesAsUnsampled() {
+            stats = new LogContextOverflowStats();
+            DefaultLogEntryContextManager manager = new DefaultLogEntryContextManager(mockLogNotifier,
+                List.of(mockLogAddHook), List.of(mockLogFlushHook), new SpillOldestOverflowPolicy(2),
+                OverflowLimits.of(3, 0), new LogEntrySizeEstimator(), stats,
+                new OutcomeTailSamplingPolicy(true, 500, 0, 0.0, false));
+
+            for (int i = 0; i < 4; i++) {
+                manager.addLog(TestLogEntryProvider.executionTimeLog());
+            }
+
+            verify(mockLogNotifier, times(1)).notifyBatch(argThat(logs -> logs.size() == 2));
+            assertEquals(2, stats.getUnsampledCount());
+        }
+
+        @Test
+        @DisplayName("DropOldest 정책은 가장 오래된 로그를 버려야 한다")
+        void shouldDropOldestEntry() {
+            DefaultLogEntryContextManager manager = managerWith(new DropOldestOverflowPolicy(), OverflowLimits.of(2, 0));
+            LogEntry first = SimpleLog.of("trace", LogLevel.INFO, "first");
+            LogEntry second = SimpleLog.of("trace", LogLevel.INFO, "second");
+            LogEntry third = SimpleLog.of("trace", LogLevel.INFO, "third");
+
+            manager.addLog(first);
+            manager.addLog(second);
+            manager.addLog(third);
+
+            assertEquals(List.of(second, third), List.copyOf(LogEntryContext.getLogs()));
+            verify(mockLogNotifier, never()).notifyBatch(anyList());
+            assertEquals(1, stats.getDroppedCount());
+        }
+
+        @Test
+        @DisplayName("KeepSlowest 정책은 실행 시간이 가장 짧은 로그를 버려야 한다")
+        void shouldKeepSlowestEntries() {
+            DefaultLogEntryContextManager manager = managerWith(new KeepSlowestOverflowPolicy(), OverflowLimits.of(2, 0));
+            LogEntry slow = ExecutionLog.of("trace", "Service", "slow", 500);
+            LogEntry fast = ExecutionLog.of("trace", "Service", "fast", 10);
+            LogEntry medium = ExecutionLog.of("trace", "Service", "medium", 100);
+            LogEntry fastest = ExecutionLog.of("trace", "Service", "fastest", 1);
+
+            manager.addLog(slow);
+            manager.addLog(fast);
+            manager.addLog(medium);
+            manager.addLog(fastest);
+
+            assertEquals(List.of(slow, medium), List.copyOf(LogEntryContext.getLogs()));
+            assertEquals(2, stats.getDroppedCount());
+            verify(mockLogAddHook, times(4)).onAdd(any(LogEntry.class));
+        }
+
+        @Test
+        @DisplayName("KeepSlowest 정책은 실행 시간이 있는 로그가 없으면 새 로그 대신 가장 오래된 로그를 버려야 한다")
+        void shouldDropOldestWhenNoTimedEntries() {
+            DefaultLogEntryContextManager manager = managerWith(new KeepSlowestOverflowPolicy(), OverflowLimits.of(2, 0));
+            LogEntry request = HttpInboundRequestLog.of("trace", LogLevel.INFO, "/api", "POST", null, null,
+                Map.of(), "127.0.0.1", "test");
+            LogEntry exception = ExceptionLog.of("trace", new IllegalStateException("boom"));
+            LogEntry slow = ExecutionLog.of("trace", "Service", "slow", 500);
+
+            manager.addLog(request);
+            manager.addLog(exception);
+            manager.addLog(slow);
+
+            assertEquals(List.of(exception, slow), List.copyOf(LogEntryContext.getLogs()));
+            assertEquals(1, stats.getDroppedCount());
+        }
+
+        @Test
+        @DisplayName("DropLowestLevel 정책은 낮은 레벨의 로그부터 버려야 한다")
+        void shouldDropLowestLevelFirst() {
+            DefaultLogEntryContextManager manager = managerWith(new DropLowestLevelOverflowPolicy(), OverflowLimits.of(2, 0));
+            LogEntry error = SimpleLog.of("trace", LogLevel.ERROR, "error");
+            LogEntry debug = SimpleLog.of("trace", LogLevel.DEBUG, "debug");
+            LogEntry warn = SimpleLog.of("trace", LogLevel.WARN, "warn");
+            LogEntry trace = SimpleLog.of("trace", LogLevel.TRACE, "trace");
+
+            manager.addLog(error);
+            manager.addLog(debug);
+            manager.addLog(warn);
+            manager.addLog(trace);
+
+            assertEquals(List.of(error, warn), List.copyOf(LogEntryContext.getLogs()));
+            assertEquals(2, stats.getDroppedCount());
+        }
+
+        @Test
+        @DisplayName("추정 크기 한도를 넘으면 개수 한도 전이라도 overflow 정책이 실행되어야 한다")
+        void shouldApplyByteLimit() {
+            LogEntrySizeEstimator estimator = new LogEntrySizeEstimator();
+            LogEntry log = SimpleLog.of("trace", LogLevel.INFO, "x".repeat(100));
+            long maxBytes = estimator.estimate(log) * 2;
+            DefaultLogEntryContextManager manager = managerWith(new DropOldestOverflowPolicy(), OverflowLimits.of(300, maxBytes));
+
+            for (int i = 0; i < 5; i++) {
+                manager.addLog(SimpleLog.of("trace", LogLevel.INFO, "x".repeat(100)));
+            }
+
+            assertEquals(2, LogEntryContext.size());
+            assertEquals(3, stats.getDroppedCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tail sampling 테스트")
+    class TailSamplingTests {
+
+        private DefaultLogEntryContextManager managerWith(TailSamplingPolicy policy) {
+            return new DefaultLogEntryContextManager(mockLogNotifier, List.of(mockLogAddHook), List.of(mockLogFlushHook),
+                new FlushAllOverflowPolicy(), OverflowLimits.defaults(), new LogEntrySizeEstimator(),
+                new LogContextOverflowStats(), policy);
+        }
+
+        @Test
+        @DisplayName("표본에서 빠진 요청은 요약 로그만 전송하고 FlushHook에는 전체 로그를 전달해야 한다")
+        void shouldSendSummaryButPassAllLogsToFlushHook() {
+            DefaultLogEntryContextManager manager = managerWith(new OutcomeTailSamplingPolicy(true, 500, 1000, 0.0, true));
+            manager.addLog(TestLogEntryProvider.executionTimeLog());
+            manager.addLog(TestLogEntryProvider.databaseQueryLog());
+
+            manager.flush();
+
+            verify(mockLogNotifier, times(1)).notifyBatch(argThat(logs ->
+                logs.size() == 1 && logs.get(0) instanceof RequestSummaryLog));
+            verify(mockLogFlushHook, times(1)).onFlush(argThat(logs -> logs.size() == 2));
+        }
+
+        @Test
+        @DisplayName("오류가 표시된 요청은 전체 로그를 전송해야 한다")
+        void shouldSendAllLogsWhenErrorOccurred() {
+            DefaultLogEntryContextManager manager = managerWith(new OutcomeTailSamplingPolicy(true, 500, 1000, 0.0, false));
+            manager.addLog(TestLogEntryProvider.executionTimeLog());
+            manager.addLog(TestLogEntryProvider.databaseQueryLog());
+            LogEntryContext.setErrorOccurred(true);
+
+            manager.flush();
+
+            verify(mockLogNotifier, times(1)).notifyBatch(argThat(logs -> logs.size() == 2));
+        }
+
+        @Test
+        @DisplayName("Sink가 지원하지 않는 타입도 정책 판단을 위해 보관해 5xx 요청을 전체 전송해야 한다")
+        void shouldKeepUnsupportedTypesForSamplingDecision() {
+            DefaultLogEntryContextManager manager = new DefaultLogEntryContextManager(mockLogNotifier,
+                List.of(), List.of(), new FlushAllOverflowPolicy(), OverflowLimits.defaults(), new LogEntrySizeEstimator(),
+                new LogContextOverflowStats(), new OutcomeTailSamplingPolicy(true, 500, 0, 0.0, false));
+            when(mockLogNotifier.supports(any())).thenReturn(true);
+            when(mockLogNotifier.supports(LogType.INBOUND_RESPONSE)).thenReturn(false);
+
+            assertTrue(manager.isEnabled(LogType.INBOUND_RESPONSE, LogLevel.INFO));
+            manager.addLog(TestLogEntryProvider.executionTimeLog());
+            manager.addLog(HttpInboundResponseLog.of("trace", LogLevel.INFO, "GET", "/api", 500, Map.of(), "", 10));
+
+            manager.flush();
+
+            verify(mockLogNotifier, times(1)).notifyBatch(argThat(logs -> logs.size() == 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Supplier 기반 로그 추가 테스트")
+    class SupplierAddLogTests {
+
+        @Test
+        @DisplayName("받을 Sink, Hook, FlushHook이 없는 타입이면 Supplier를 호출하지 않아야 한다")
+        void shouldNotBuildLogWithoutDemand() {
+            DefaultLogEntryContextManager manager = new DefaultLogEntryContextManager(mockLogNotifier,
+                List.of(mockLogAddHook), List.of());
+            when(mockLogNotifier.supports(LogType.EXECUTION_TIME)).thenReturn(false);
+            AtomicInteger built = new AtomicInteger();
+
+            manager.addLog(LogType.EXECUTION_TIME, LogLevel.INFO, () -> {
+                built.incrementAndGet();
+                return TestLogEntryProvider.executionTimeLog();
+            });
+
+            assertEquals(0, built.get());
+            verify(mockLogAddHook, never()).onAdd(any());
+        }
+
+        @Test
+        @DisplayName("Hook이 지원하는 타입이면 Sink가 없어도 로그를 만들어 Hook에 전달해야 한다")
+        void shouldBuildLogForSupportingHook() {
+            when(mockLogAddHook.supports(LogType.EXECUTION_TIME)).thenReturn(true);
+            DefaultLogEntryContextManager manager = new DefaultLogEntryContextManager(mockLogNotifier,
+                List.of(mockLogAddHook), List.of());
+            LogEntry log = TestLogEntryProvider.executionTimeLog();
+
+            manager.addLog(LogType.EXECUTION_TIME, LogLevel.INFO, () -> log);
+
+            verify(mockLogAddHook, times(1)).onAdd(log);
+        }
+
+        @Test
+        @DisplayName("타입별 최소 레벨보다 낮은 로그는 만들지도 보관하지도 않아야 한다")
+        void shouldDropLogBelowMinimumLevel() {
+            DefaultLogEntryContextManager manager = new DefaultLogEntryContextManager(mockLogNotifier,
+                List.of(mockLogAddHook), List.of(mockLogFlushHook), new FlushAllOverflowPolicy(), OverflowLimits.defaults(),
+                new LogEntrySizeEstimator(), new LogContextOverflowStats(), new KeepAllTailSamplingPolicy(),
+                LogLevelThresholds.of(Map.of(LogType.SIMPLE, LogLevel.WARN)));
+            AtomicInteger built = new AtomicInteger();
+
+            manager.addLog(LogType.SIMPLE, LogLevel.DEBUG, () -> {
+                built.incrementAndGet();
+                return SimpleLog.of("trace", LogLevel.DEBUG, "debug");
+            });
+            manager.addLog(SimpleLog.of("trace", LogLevel.INFO, "info"));
+            manager.addLog(LogType.SIMPLE, LogLevel.ERROR, () -> SimpleLog.of("trace", LogLevel.ERROR, "error"));
+
+            assertEquals(0, built.get());
+            assertEquals(1, LogEntryContext.size());
+            assertEquals(LogLevel.ERROR, LogEntryContext.view().get(0).getLogLevel());
+            assertTrue(manager.isEnabled(LogType.EXECUTION_TIME, LogLevel.TRACE));
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.monikit.core.context;
+
+import java.util.List;
+
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.utils.TestLogEntryProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LogEntryBuffer 테스트")
+class LogEntryBufferTest {
+
+    @Nested
+    @DisplayName("추가 및 뷰 테스트")
+    class AddAndViewTests {
+
+        @Test
+        @DisplayName("기본 용량을 넘겨도 추가한 순서대로 조회되어야 한다")
+        void shouldGrowAndKeepInsertionOrder() {
+            LogEntryBuffer buffer = new LogEntryBuffer();
+            LogEntry[] logs = new LogEntry[LogEntryBuffer.DEFAULT_CAPACITY + 5];
+            for (int i = 0; i < logs.length; i++) {
+                logs[i] = TestLogEntryProvider.executionTimeLog();
+                buffer.add(logs[i]);
+            }
+
+            List<LogEntry> view = buffer.view();
+
+            assertEquals(logs.length, view.size());
+            for (int i = 0; i < logs.length; i++) {
+                assertSame(logs[i], view.get(i));
+            }
+        }
+
+        @Test
+        @DisplayName("뷰는 읽기 전용이어야 한다")
+        void shouldExposeReadOnlyView() {
+            LogEntryBuffer buffer = new LogEntryBuffer();
+            buffer.add(TestLogEntryProvider.executionTimeLog());
+
+            List<LogEntry> view = buffer.view();
+
+            assertThrows(UnsupportedOperationException.class, () -> view.add(TestLogEntryProvider.executionTimeLog()));
+            assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("재사용 테스트")
+    class ReuseTests {
+
+        @Test
+        @DisplayName("clear 후에도 늘어난 용량을 재사용해야 한다")
+        void shouldRetainCapacityAfterClear() {
+            LogEntryBuffer buffer = new LogEntryBuffer();
+            for (int i = 0; i < 300; i++) {
+                buffer.add(TestLogEntryProvider.executionTimeLog());
+            }
+            int grownCapacity = buffer.capacity();
+
+            buffer.clear();
+
+            assertTrue(buffer.isEmpty());
+            assertEquals(grownCapacity, buffer.capacity());
+        }
+
+        @Test
+        @DisplayName("용량이 상한을 넘게 커졌다면 clear 시 기본 용량으로 줄어야 한다")
+        void shouldShrinkWhenCapacityExceedsRetainedLimit() {
+            LogEntryBuffer buffer = new LogEntryBuffer();
+            for (int i = 0; i <= LogEntryBuffer.MAX_RETAINED_CAPACITY; i++) {
+                buffer.add(TestLogEntryProvider.executionTimeLog());
+            }
+
+            buffer.clear();
+
+            assertEquals(LogEntryBuffer.DEFAULT_CAPACITY, buffer.capacity());
+        }
+
+        @Test
+        @DisplayName("사본은 원본 clear의 영향을 받지 않아야 한다")
+        void shouldKeepCopyIndependentFromOriginal() {
+            LogEntryBuffer buffer = new LogEntryBuffer();
+            LogEntry log = TestLogEntryProvider.executionTimeLog();
+            buffer.add(log);
+
+            LogEntryBuffer copy = buffer.copy();
+            buffer.clear();
+
+            assertEquals(1, copy.size());
+            assertSame(log, copy.view().get(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("공유(copy-on-write) 테스트")
+    class ShareTests {
+
+        @Test
+        @DisplayName("공유한 구간은 이후 제거나 clear가 있어도 바뀌지 않아야 한다")
+        void shouldKeepSharedRangeUnchanged() {
+            LogEntryBuffer buffer = new LogEntryBuffer();
+            LogEntry first = TestLogEntryProvider.executionTimeLog();
+            LogEntry second = TestLogEntryProvider.databaseQueryLog();
+            buffer.add(first);
+            buffer.add(second);
+
+            LogEntry[] shared = buffer.share();
+            buffer.removeAt(0);
+            buffer.add(TestLogEntryProvider.exceptionLog());
+            buffer.removeFirst(1);
+            buffer.clear();
+
+            assertSame(first, shared[0]);
+            assertSame(second, shared[1]);
+        }
+
+        @Test
+        @DisplayName("공유 중에도 뒤에 덧붙이는 로그는 배열을 복사하지 않아야 한다")
+        void shouldAppendWithoutCopyWhileShared() {
+            LogEntryBuffer buffer = new LogEntryBuffer();
+            buffer.add(TestLogEntryProvider.executionTimeLog());
+
+            LogEntry[] shared = buffer.share();
+            LogEntry appended = TestLogEntryProvider.databaseQueryLog();
+            buffer.add(appended);
+
+            assertSame(appended, shared[1]);
+            assertEquals(2, buffer.size());
+        }
+
+        @Test
+        @DisplayName("addAll은 로그를 순서대로 덧붙이고 추정 크기를 누적해야 한다")
+        void shouldAppendAllInOrder() {
+            LogEntryBuffer buffer = new LogEntryBuffer();
+            buffer.add(TestLogEntryProvider.executionTimeLog(), 10);
+            LogEntry[] logs = new LogEntry[LogEntryBuffer.DEFAULT_CAPACITY + 1];
+            for (int i = 0; i < logs.length; i++) {
+                logs[i] = TestLogEntryProvider.databaseQueryLog();
+            }
+
+            long[] sizes = new long[logs.length];
+            sizes[0] = 20;
+
+            buffer.addAll(logs, sizes);
+
+            assertEquals(logs.length + 1, buffer.size());
+            assertSame(logs[logs.length - 1], buffer.get(logs.length));
+            assertEquals(30, buffer.estimatedBytes());
+            assertEquals(20, buffer.sizeAt(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("추정 크기 테스트")
+    class EstimatedBytesTests {
+
+        @Test
+        @DisplayName("제거할 때는 추가 시점에 기록한 크기를 빼서 합계가 어긋나지 않아야 한다")
+        void shouldReleaseRecordedSizeOnRemoval() {
+            LogEntryBuffer buffer = new LogEntryBuffer();
+            for (int i = 1; i <= LogEntryBuffer.DEFAULT_CAPACITY + 3; i++) {
+                buffer.add(TestLogEntryProvider.executionTimeLog(), i);
+            }
+
+            buffer.removeAt(2);
+            assertEquals(4, buffer.sizeAt(2));
+            buffer.removeFirst(2);
+            assertEquals(4, buffer.sizeAt(0));
+
+            long remaining = 0;
+            for (int i = 0; i < buffer.size(); i++) {
+                remaining += buffer.sizeAt(i);
+            }
+            assertEquals(remaining, buffer.estimatedBytes());
+
+            buffer.removeFirst(buffer.size());
+            assertEquals(0, buffer.estimatedBytes());
+        }
+
+        @Test
+        @DisplayName("사본은 로그마다 기록한 크기를 유지해야 한다")
+        void shouldKeepRecordedSizesInCopy() {
+            LogEntryBuffer buffer = new LogEntryBuffer();
+            buffer.add(TestLogEntryProvider.executionTimeLog(), 7);
+            buffer.add(TestLogEntryProvider.databaseQueryLog(), 11);
+
+            LogEntryBuffer copy = buffer.copy();
+            copy.removeAt(0);
+
+            assertEquals(11, copy.estimatedBytes());
+            assertEquals(18, buffer.estimatedBytes());
+        }
+    }
+
+}
@@ -4,6 +4,8 @@ import java.util.Queue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -59,6 +61,31 @@ class LogEntryContextTest {
             LogEntryContext.clear();
             assertEquals(0, LogEntryContext.size());
         }
+
+        @Test
+        @DisplayName("should not clear parent logs when child thread clears its context")
+        void shouldNotClearParentLogsWhenChildThreadClears() throws InterruptedException {
+            LogEntry log = TestLogEntryProvider.executionTimeLog();
+            LogEntryContext.addLog(log);
+
+            AtomicInteger childSize = new AtomicInteger(-1);
+            AtomicReference<Throwable> childError = new AtomicReference<>();
+            Thread thread = new Thread(() -> {
+                try {
+                    childSize.set(LogEntryContext.size());
+                    LogEntryContext.clear();
+                } catch (Throwable t) {
+                    childError.set(t);
+                }
+            });
+            thread.start();
+            thread.join();
+
+            assertNull(childError.get());
+            assertEquals(1, childSize.get());
+            assertEquals(1, LogEntryContext.size());
+            assertTrue(LogEntryContext.getLogs().contains(log));
+        }
     }
 
     @Nested
@@ -0,0 +1,136 @@
+package com.monikit.core.context.sampling;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.model.DatabaseQueryLog;
+import com.monikit.core.model.ExecutionLog;
+import com.monikit.core.model.HttpInboundResponseLog;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.model.RequestSummaryLog;
+import com.monikit.core.model.SimpleLog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OutcomeTailSamplingPolicy 테스트")
+class OutcomeTailSamplingPolicyTest {
+
+    private final OutcomeTailSamplingPolicy dropAll = new OutcomeTailSamplingPolicy(true, 500, 1000, 0.0, false);
+    private final OutcomeTailSamplingPolicy summarizeAll = new OutcomeTailSamplingPolicy(true, 500, 1000, 0.0, true);
+
+    @Nested
+    @DisplayName("전체 전송 조건")
+    class KeepTests {
+
+        @Test
+        @DisplayName("오류가 표시된 요청은 전체 로그를 그대로 반환해야 한다")
+        void shouldKeepAllWhenErrorFlagged() {
+            List<LogEntry> logs = List.of(response(200, 10), simple());
+
+            assertSame(logs, dropAll.sample(logs, true));
+        }
+
+        @Test
+        @DisplayName("5xx 응답 요청은 전체 로그를 반환해야 한다")
+        void shouldKeepAllOnServerError() {
+            List<LogEntry> logs = List.of(simple(), response(503, 10));
+
+            assertSame(logs, dropAll.sample(logs, false));
+        }
+
+        @Test
+        @DisplayName("실행 시간이 기준을 넘는 요청은 전체 로그를 반환해야 한다")
+        void shouldKeepAllWhenSlow() {
+            List<LogEntry> slowResponse = List.of(response(200, 1500));
+            List<LogEntry> slowMethod = List.of(ExecutionLog.of("trace", "Service", "run", 2000));
+
+            assertSame(slowResponse, dropAll.sample(slowResponse, false));
+            assertSame(slowMethod, dropAll.sample(slowMethod, false));
+        }
+
+        @Test
+        @DisplayName("keepRate가 1이면 모든 요청을 전체 전송해야 한다")
+        void shouldKeepAllWithFullRate() {
+            OutcomeTailSamplingPolicy policy = new OutcomeTailSamplingPolicy(true, 500, 1000, 1.0, true);
+            List<LogEntry> logs = List.of(response(200, 10));
+
+            assertSame(logs, policy.sample(logs, false));
+        }
+    }
+
+    @Nested
+    @DisplayName("표본 제외 처리")
+    class UnsampledTests {
+
+        @Test
+        @DisplayName("정상 요청은 요약 로그 하나로 대체되어야 한다")
+        void shouldSummarizeUnsampledRequest() {
+            List<LogEntry> logs = List.of(response(201, 30),
+                DatabaseQueryLog.of("trace", "SELECT 1", 5, "db", "{}", 0, 1, LogLevel.INFO),
+                simple());
+
+            List<LogEntry> sampled = summarizeAll.sample(logs, false);
+
+            assertEquals(1, sampled.size());
+            RequestSummaryLog summary = assertInstanceOf(RequestSummaryLog.class, sampled.get(0));
+            assertEquals("trace", summary.getTraceId());
+            assertEquals("GET", summary.getMethod());
+            assertEquals(201, summary.getStatusCode());
+            assertEquals(30, summary.getExecutionTime());
+            assertEquals(3, summary.getEntryCount());
+            assertEquals(1, summary.getQueryCount());
+        }
+
+        @Test
+        @DisplayName("요약을 사용하지 않으면 아무것도 전송하지 않아야 한다")
+        void shouldDropUnsampledRequest() {
+            assertTrue(dropAll.sample(List.of(response(200, 10)), false).isEmpty());
+        }
+
+        @Test
+        @DisplayName("같은 traceId는 항상 같은 결정을 내려야 한다")
+        void shouldDecideConsistentlyPerTraceId() {
+            OutcomeTailSamplingPolicy policy = new OutcomeTailSamplingPolicy(true, 500, 1000, 0.5, false);
+            List<LogEntry> logs = List.of(SimpleLog.of("trace-abc", LogLevel.INFO, "hello"));
+
+            boolean first = !policy.sample(logs, false).isEmpty();
+            for (int i = 0; i < 10; i++) {
+                assertEquals(first, !policy.sample(logs, false).isEmpty());
+            }
+        }
+
+        @Test
+        @DisplayName("keepRate 비율만큼 요청을 전체 전송해야 한다")
+        void shouldKeepConfiguredFraction() {
+            OutcomeTailSamplingPolicy policy = new OutcomeTailSamplingPolicy(true, 500, 1000, 0.2, false);
+
+            int kept = 0;
+            for (int i = 0; i < 10_000; i++) {
+                if (!policy.sample(List.of(SimpleLog.of("trace-" + i, LogLevel.INFO, "hello")), false).isEmpty()) {
+                    kept++;
+                }
+            }
+
+            assertTrue(kept > 1_500 && kept < 2_500, "kept=" + kept);
+        }
+    }
+
+    @Test
+    @DisplayName("keepRate가 범위를 벗어나면 예외가 발생해야 한다")
+    void shouldRejectInvalidKeepRate() {
+        assertThrows(IllegalArgumentException.class, () -> new OutcomeTailSamplingPolicy(true, 500, 1000, 1.5, true));
+    }
+
+    private static HttpInboundResponseLog response(int statusCode, long executionTime) {
+        return HttpInboundResponseLog.of("trace", LogLevel.INFO, "GET", "/api", statusCode, Map.of(), "", executionTime);
+    }
+
+    private static SimpleLog simple() {
+        return SimpleLog.of("trace", LogLevel.INFO, "hello");
+    }
+}
@@ -0,0 +1,190 @@
+package com.monikit.core.encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.model.AbstractLogEntry;
+import com.monikit.core.model.DatabaseQueryLog;
+import com.monikit.core.model.HttpInboundRequestLog;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.model.SimpleLog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LogEntryEncoder 테스트")
+class LogEntryEncoderTest {
+
+    private final LogEntryEncoder encoder = new LogEntryEncoder();
+
+    @Nested
+    @DisplayName("필드 인코딩")
+    class FieldEncoding {
+
+        @Test
+        @DisplayName("공통 필드와 모델 필드를 JSON 객체로 기록해야 한다")
+        void shouldEncodeCommonAndModelFields() {
+            DatabaseQueryLog log = DatabaseQueryLog.of("trace-1", "SELECT 1", 12, "primary", "[]", 0, 1, LogLevel.WARN);
+
+            String json = encoder.encodeToString(log);
+
+            assertTrue(json.startsWith("{\"timestamp\":\""));
+            assertTrue(json.contains("\"traceId\":\"trace-1\",\"logType\":\"DATABASE_QUERY\",\"logLevel\":\"WARN\""));
+            assertTrue(json.contains("\"query\":\"SELECT 1\",\"executionTime\":12,\"dataSource\":\"primary\""));
+            assertTrue(json.endsWith("\"rowsAffected\":0,\"resultSize\":1,\"executionTimeNanos\":12000000}"));
+        }
+
+        @Test
+        @DisplayName("ns 정밀도의 실행 시간은 ms 필드와 ns 필드로 함께 기록해야 한다")
+        void shouldEncodeSubMillisecondExecutionTime() {
+            DatabaseQueryLog log = DatabaseQueryLog.of("trace-1", "SELECT 1", Duration.ofNanos(1_250_300), "primary",
+                "[]", 0, 1, LogLevel.INFO);
+
+            String json = encoder.encodeToString(log);
+
+            assertTrue(json.contains("\"executionTime\":1,"));
+            assertTrue(json.endsWith("\"executionTimeNanos\":1250300}"));
+        }
+
+        @Test
+        @DisplayName("특수 문자는 이스케이프하고 null은 JSON null로 기록해야 한다")
+        void shouldEscapeSpecialCharacters() {
+            SimpleLog log = SimpleLog.of(null, LogLevel.INFO, "say \"hi\"\\\n\t\u0001");
+
+            String json = encoder.encodeToString(log);
+
+            assertTrue(json.contains("\"traceId\":null"));
+            assertTrue(json.contains("\"message\":\"say \\\"hi\\\"\\\\\\n\\t\\u0001\""));
+        }
+
+        @Test
+        @DisplayName("비 ASCII 문자는 UTF-8로 기록해야 한다")
+        void shouldEncodeNonAsciiAsUtf8() {
+            String message = "상품 등록 😀";
+
+            String json = encoder.encodeToString(SimpleLog.of("trace", LogLevel.INFO, message));
+
+            assertTrue(json.contains("\"message\":\"" + message + "\""));
+        }
+
+        @Test
+        @DisplayName("timestamp는 UTC ISO-8601 밀리초 형식이어야 한다")
+        void shouldEncodeTimestampInIsoFormat() {
+            SimpleLog log = SimpleLog.of("trace", LogLevel.INFO, "hello");
+
+            String json = encoder.encodeToString(log);
+            String timestamp = json.substring("{\"timestamp\":\"".length(), json.indexOf('"', "{\"timestamp\":\"".length()));
+
+            assertEquals(24, timestamp.length());
+            assertEquals(log.getTimestamp().truncatedTo(ChronoUnit.MILLIS), Instant.parse(timestamp));
+        }
+
+        @Test
+        @DisplayName("헤더 Map은 JSON 객체로 기록해야 한다")
+        void shouldEncodeHeadersAsObject() {
+            Map<String, String> headers = new LinkedHashMap<>();
+            headers.put("Content-Type", "application/json");
+            headers.put("X-Empty", null);
+            HttpInboundRequestLog log = HttpInboundRequestLog.of("trace", LogLevel.INFO, "/api", "POST", null,
+                "{}", headers, "127.0.0.1", "agent");
+
+            String json = encoder.encodeToString(log);
+
+            assertTrue(json.contains("\"headers\":{\"Content-Type\":\"application/json\",\"X-Empty\":null}"));
+            assertTrue(json.contains("\"query\":null,\"body\":\"{}\""));
+        }
+
+        @Test
+        @DisplayName("writeExtraFields를 재정의하지 않은 모델은 addExtraFields 결과를 기록해야 한다")
+        void shouldFallBackToAddExtraFields() {
+            String json = encoder.encodeToString(new CustomLog());
+
+            assertTrue(json.contains("\"logType\":\"SIMPLE\""));
+            assertTrue(json.endsWith("\"orderId\":42,\"tags\":[\"a\",\"b\"],\"paid\":true}"));
+        }
+    }
+
+    @Nested
+    @DisplayName("출력 대상")
+    class Output {
+
+        @Test
+        @DisplayName("로그 목록은 한 줄에 하나씩 NDJSON으로 기록해야 한다")
+        void shouldWriteNdjson() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            List<LogEntry> logs = List.of(
+                SimpleLog.of("trace", LogLevel.INFO, "first"),
+                SimpleLog.of("trace", LogLevel.INFO, "second"));
+
+            encoder.encode(logs, out);
+
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+            assertEquals(3, lines.length);
+            assertTrue(lines[0].endsWith("\"message\":\"first\"}"));
+            assertTrue(lines[1].endsWith("\"message\":\"second\"}"));
+            assertEquals("", lines[2]);
+        }
+
+        @Test
+        @DisplayName("ByteBuffer 공간이 부족하면 기록하지 않고 예외를 던져야 한다")
+        void shouldNotWritePartialEntryToByteBuffer() {
+            ByteBuffer small = ByteBuffer.allocate(16);
+
+            assertThrows(BufferOverflowException.class,
+                () -> encoder.encode(SimpleLog.of("trace", LogLevel.INFO, "hello"), small));
+            assertEquals(0, small.position());
+
+            ByteBuffer large = ByteBuffer.allocate(1024);
+            int written = encoder.encode(SimpleLog.of("trace", LogLevel.INFO, "hello"), large);
+            assertEquals(written, large.position());
+            assertEquals('\n', large.get(written - 1));
+        }
+
+        @Test
+        @DisplayName("크게 늘어난 내부 버퍼는 다음 인코딩 시 기본 크기로 되돌려야 한다")
+        void shouldEncodeLargeEntryThenReuse() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            String large = "x".repeat(LogEntryEncoder.MAX_RETAINED_CAPACITY * 2);
+
+            encoder.encode(SimpleLog.of("trace", LogLevel.INFO, large), out);
+            out.reset();
+            encoder.encode(SimpleLog.of("trace", LogLevel.INFO, "small"), out);
+
+            assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("\"message\":\"small\"}\n"));
+        }
+    }
+
+    static class CustomLog extends AbstractLogEntry {
+
+        CustomLog() {
+            super("trace", LogLevel.INFO);
+        }
+
+        @Override
+        public LogType getLogType() {
+            return LogType.SIMPLE;
+        }
+
+        @Override
+        protected void addExtraFields(Map<String, Object> logMap) {
+            logMap.put("orderId", 42L);
+            logMap.put("tags", List.of("a", "b"));
+            logMap.put("paid", true);
+        }
+    }
+
+}
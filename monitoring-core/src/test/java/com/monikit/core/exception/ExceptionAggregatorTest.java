@@ -0,0 +1,205 @@
+package com.monikit.core.exception;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.monikit.core.LogType;
+import com.monikit.core.metrics.ExceptionFingerprintStats;
+import com.monikit.core.metrics.ExceptionFingerprintStatsRegistry;
+import com.monikit.core.model.ExceptionSummaryLog;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.notifier.LogNotifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ExceptionAggregator 테스트")
+class ExceptionAggregatorTest {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private LogNotifier logNotifier;
+    private ExceptionFingerprintStatsRegistry statsRegistry;
+    private ExceptionAggregator aggregator;
+
+    @BeforeEach
+    void setup() {
+        logNotifier = mock(LogNotifier.class);
+        statsRegistry = new ExceptionFingerprintStatsRegistry();
+        aggregator = new ExceptionAggregator(logNotifier, Duration.ofSeconds(10), 5, 2, 2, statsRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        aggregator.close();
+    }
+
+    @Nested
+    @DisplayName("ExceptionFingerprint")
+    class FingerprintTests {
+
+        @Test
+        @DisplayName("같은 위치에서 던진 같은 타입의 예외는 메시지가 달라도 지문이 같다")
+        void shouldIgnoreMessage() {
+            Throwable[] thrown = new Throwable[2];
+            for (int i = 0; i < thrown.length; i++) {
+                thrown[i] = failAt(1, "order " + i);
+            }
+
+            assertEquals(ExceptionFingerprint.of(thrown[0], 5), ExceptionFingerprint.of(thrown[1], 5));
+            assertEquals(ExceptionFingerprint.of(thrown[0], 5).getId(), ExceptionFingerprint.of(thrown[1], 5).getId());
+        }
+
+        @Test
+        @DisplayName("던진 위치나 예외 타입이 다르면 지문이 다르다")
+        void shouldDistinguishFramesAndTypes() {
+            Throwable fromOne = failAt(1, "x");
+            Throwable fromTwo = failAt(2, "x");
+            Throwable otherType = new IllegalStateException("x");
+            otherType.setStackTrace(fromOne.getStackTrace());
+
+            assertNotEquals(ExceptionFingerprint.of(fromOne, 5), ExceptionFingerprint.of(fromTwo, 5));
+            assertNotEquals(ExceptionFingerprint.of(fromOne, 5), ExceptionFingerprint.of(otherType, 5));
+            assertEquals(16, ExceptionFingerprint.of(fromOne, 5).getId().length());
+        }
+    }
+
+    @Nested
+    @DisplayName("집계 구간")
+    class WindowTests {
+
+        @Test
+        @DisplayName("구간의 첫 예외만 개별 로그로 남기고 반복은 요약 로그 하나로 묶는다")
+        void shouldCoalesceRepeatsIntoSummary() {
+            Throwable exception = failAt(1, "boom");
+
+            assertTrue(aggregator.record(exception, "trace-1", 0));
+            assertFalse(aggregator.record(exception, "trace-2", 1));
+            assertFalse(aggregator.record(exception, "trace-3", 2));
+            assertFalse(aggregator.record(exception, "trace-4", 3));
+            verify(logNotifier, never()).notify(any(LogEntry.class));
+
+            aggregator.sweep(WINDOW_NANOS);
+
+            ArgumentCaptor<LogEntry> captor = ArgumentCaptor.forClass(LogEntry.class);
+            verify(logNotifier).notify(captor.capture());
+            ExceptionSummaryLog summary = (ExceptionSummaryLog) captor.getValue();
+            assertEquals(LogType.EXCEPTION_SUMMARY, summary.getLogType());
+            assertEquals("IllegalArgumentException", summary.getExceptionType());
+            assertEquals("boom", summary.getMessage());
+            assertEquals(4, summary.getOccurrenceCount());
+            assertEquals("trace-1", summary.getFirstTraceId());
+            assertEquals("trace-1", summary.getTraceId());
+            assertEquals("trace-4", summary.getLastTraceId());
+            assertEquals(List.of("trace-2", "trace-3"), summary.getSampledTraceIds());
+        }
+
+        @Test
+        @DisplayName("반복 없이 끝난 구간은 요약 로그를 보내지 않고 지문을 맵에서 제거한다")
+        void shouldNotSummarizeSingleOccurrence() {
+            assertTrue(aggregator.record(failAt(1, "once"), "trace-1", 0));
+
+            aggregator.sweep(WINDOW_NANOS);
+
+            verify(logNotifier, never()).notify(any(LogEntry.class));
+            assertEquals(0, aggregator.size());
+        }
+
+        @Test
+        @DisplayName("구간이 지난 뒤의 예외는 이전 구간의 요약을 보내고 새 구간의 첫 예외로 기록된다")
+        void shouldStartNewWindowAfterExpiry() {
+            Throwable exception = failAt(1, "boom");
+            aggregator.record(exception, "trace-1", 0);
+            aggregator.record(exception, "trace-2", 1);
+
+            assertTrue(aggregator.record(exception, "trace-3", WINDOW_NANOS + 1));
+
+            ArgumentCaptor<LogEntry> captor = ArgumentCaptor.forClass(LogEntry.class);
+            verify(logNotifier).notify(captor.capture());
+            assertEquals(2, ((ExceptionSummaryLog) captor.getValue()).getOccurrenceCount());
+            assertFalse(aggregator.record(exception, "trace-4", WINDOW_NANOS + 2));
+        }
+
+        @Test
+        @DisplayName("close()는 진행 중인 구간의 요약 로그를 전송한다")
+        void shouldFlushOnClose() {
+            Throwable exception = failAt(1, "boom");
+            aggregator.record(exception, "trace-1", 0);
+            aggregator.record(exception, "trace-2", 1);
+
+            aggregator.close();
+
+            verify(logNotifier).notify(any(ExceptionSummaryLog.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("지문 한도와 통계")
+    class BoundAndStatsTests {
+
+        @Test
+        @DisplayName("지문 맵이 가득 차면 새 지문은 집계하지 않고 항상 개별 로그로 남긴다")
+        void shouldBypassAggregationWhenFull() {
+            aggregator.record(failAt(1, "a"), "trace-1", 0);
+            aggregator.record(failAt(2, "b"), "trace-2", 0);
+
+            Throwable third = new IllegalStateException("c");
+            assertTrue(aggregator.record(third, "trace-3", 1));
+            assertTrue(aggregator.record(third, "trace-4", 2));
+            assertEquals(2, aggregator.size());
+        }
+
+        @Test
+        @DisplayName("지문별 발생 횟수와 요약된 횟수를 기록한다")
+        void shouldRecordStatsPerFingerprint() {
+            Throwable exception = failAt(1, "boom");
+            aggregator.record(exception, "trace-1", 0);
+            aggregator.record(exception, "trace-2", 1);
+            aggregator.record(exception, "trace-3", 2);
+
+            ExceptionFingerprint fingerprint = ExceptionFingerprint.of(exception, 5);
+            ExceptionFingerprintStats stats = statsRegistry.forFingerprint(fingerprint.getId(), fingerprint.getExceptionType());
+            assertEquals(3, stats.getOccurrenceCount());
+            assertEquals(2, stats.getCoalescedCount());
+        }
+
+        @Test
+        @DisplayName("통계 저장소 한도를 넘는 지문은 overflow 통계로 합산된다")
+        void shouldFoldExtraFingerprintsIntoOverflow() {
+            ExceptionFingerprintStatsRegistry bounded = new ExceptionFingerprintStatsRegistry(1);
+            bounded.forFingerprint("a", "A").recordOccurrence();
+            bounded.forFingerprint("b", "B").recordOccurrence();
+            bounded.forFingerprint("c", "C").recordOccurrence();
+
+            assertEquals(2, bounded.getAll().size());
+            assertEquals(2, bounded.forFingerprint("d", "D").getOccurrenceCount());
+            assertEquals(ExceptionFingerprintStatsRegistry.OVERFLOW_FINGERPRINT, bounded.forFingerprint("d", "D").getFingerprint());
+        }
+    }
+
+    private static Throwable failAt(int site, String message) {
+        try {
+            if (site == 1) {
+                throw new IllegalArgumentException(message);
+            }
+            throw new IllegalArgumentException(message);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+}
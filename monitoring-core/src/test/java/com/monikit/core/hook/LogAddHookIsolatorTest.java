@@ -0,0 +1,254 @@
+package com.monikit.core.hook;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.metrics.LogAddHookStats;
+import com.monikit.core.metrics.LogAddHookStatsRegistry;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.utils.TestLogEntryProvider;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("LogAddHookIsolator 테스트")
+class LogAddHookIsolatorTest {
+
+    private final LogAddHookStatsRegistry statsRegistry = new LogAddHookStatsRegistry();
+    private LogAddHookIsolator isolator;
+
+    @AfterEach
+    void tearDown() {
+        if (isolator != null) {
+            isolator.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("비동기 훅")
+    class AsyncTests {
+
+        @Test
+        @DisplayName("ASYNC로 선언한 훅은 전용 작업 스레드에서 실행된다")
+        void shouldRunAsyncHookOnWorkerThread() throws InterruptedException {
+            List<String> threads = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(1);
+            isolator = new LogAddHookIsolator(statsRegistry);
+
+            LogAddHook hook = isolator.apply(List.of(new AsyncRecordingHook(threads, done))).get(0);
+            hook.onAdd(TestLogEntryProvider.executionTimeLog());
+
+            assertInstanceOf(AsyncLogAddHook.class, hook);
+            assertTrue(done.await(1, TimeUnit.SECONDS));
+            assertTrue(threads.get(0).startsWith("monikit-hook-AsyncRecordingHook"));
+        }
+
+        @Test
+        @DisplayName("RESERVE_FOR_ERRORS 정책은 버퍼가 3/4 이상 차면 ERROR가 아닌 로그를 버린다")
+        void shouldReserveCapacityForErrors() throws InterruptedException {
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            LogAddHook blocking = logEntry -> {
+                entered.countDown();
+                awaitQuietly(release);
+            };
+            LogAddHookStats stats = statsRegistry.forHook("blocking");
+            AsyncLogAddHook hook = new AsyncLogAddHook(blocking, 4, HookDropPolicy.RESERVE_FOR_ERRORS, null, stats);
+
+            try {
+                hook.onAdd(TestLogEntryProvider.executionTimeLog());
+                assertTrue(entered.await(1, TimeUnit.SECONDS));
+
+                for (int i = 0; i < 4; i++) {
+                    hook.onAdd(TestLogEntryProvider.executionTimeLog());
+                }
+                long droppedInfo = stats.getDroppedCount();
+                hook.onAdd(errorLog());
+
+                assertTrue(droppedInfo > 0);
+                assertEquals(droppedInfo, stats.getDroppedCount());
+                assertEquals(4, stats.getQueueDepth());
+            } finally {
+                release.countDown();
+                hook.close();
+            }
+        }
+
+        @Test
+        @DisplayName("훅이 Error를 던져도 실패로 집계하고 작업 스레드는 계속 실행된다")
+        void shouldKeepWorkerAliveWhenHookThrowsError() throws InterruptedException {
+            CountDownLatch second = new CountDownLatch(1);
+            LogAddHook failing = new LogAddHook() {
+                private boolean failed;
+
+                @Override
+                public void onAdd(LogEntry logEntry) {
+                    if (!failed) {
+                        failed = true;
+                        throw new AssertionError("boom");
+                    }
+                    second.countDown();
+                }
+            };
+            LogAddHookStats stats = statsRegistry.forHook("failing");
+            AsyncLogAddHook hook = new AsyncLogAddHook(failing, 4, HookDropPolicy.DROP_NEWEST, null, stats);
+
+            try {
+                hook.onAdd(TestLogEntryProvider.executionTimeLog());
+                hook.onAdd(TestLogEntryProvider.executionTimeLog());
+
+                assertTrue(second.await(1, TimeUnit.SECONDS));
+                assertEquals(1, stats.getFailureCount());
+            } finally {
+                hook.close();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("동기 훅")
+    class SyncTests {
+
+        @Test
+        @DisplayName("지연 예산을 연속으로 넘기면 이후 로그부터 비동기 실행으로 격리된다")
+        void shouldIsolateHookExceedingBudget() throws InterruptedException {
+            List<String> threads = new CopyOnWriteArrayList<>();
+            LogAddHook slow = logEntry -> {
+                threads.add(Thread.currentThread().getName());
+                sleepQuietly(5);
+            };
+            isolator = new LogAddHookIsolator(Duration.ofNanos(1), 2, 16, HookDropPolicy.DROP_NEWEST, statsRegistry);
+            IsolatingLogAddHook hook = (IsolatingLogAddHook) isolator.apply(List.of(slow)).get(0);
+
+            hook.onAdd(TestLogEntryProvider.executionTimeLog());
+            assertFalse(hook.isIsolated());
+            hook.onAdd(TestLogEntryProvider.executionTimeLog());
+            assertTrue(hook.isIsolated());
+            hook.onAdd(TestLogEntryProvider.executionTimeLog());
+
+            LogAddHookStats stats = statsRegistry.getAll().iterator().next();
+            waitUntil(() -> threads.size() == 3);
+            assertEquals(Thread.currentThread().getName(), threads.get(1));
+            assertTrue(threads.get(2).startsWith("monikit-hook-"));
+            assertTrue(stats.isIsolated());
+            assertEquals(HookExecution.ASYNC, hook.execution());
+        }
+
+        @Test
+        @DisplayName("예산 안에서 실행되면 요청 스레드에서 계속 실행된다")
+        void shouldStaySyncWithinBudget() {
+            isolator = new LogAddHookIsolator(Duration.ofSeconds(10), 1, 16, HookDropPolicy.DROP_NEWEST, statsRegistry);
+            IsolatingLogAddHook hook = (IsolatingLogAddHook) isolator.apply(List.of(logEntry -> { })).get(0);
+
+            hook.onAdd(TestLogEntryProvider.executionTimeLog());
+
+            assertFalse(hook.isIsolated());
+            assertEquals(1, statsRegistry.getAll().iterator().next().getInvocationCount());
+        }
+
+        @Test
+        @DisplayName("훅이 던진 예외는 전파하지 않고 실패로 집계한다")
+        void shouldSwallowHookFailure() {
+            isolator = new LogAddHookIsolator(statsRegistry);
+            LogAddHook hook = isolator.apply(List.of(logEntry -> {
+                throw new IllegalStateException("boom");
+            })).get(0);
+
+            assertDoesNotThrow(() -> hook.onAdd(TestLogEntryProvider.executionTimeLog()));
+            assertEquals(1, statsRegistry.getAll().iterator().next().getFailureCount());
+        }
+
+        @Test
+        @DisplayName("훅이 던진 Error도 요청 스레드로 전파하지 않고 실패로 집계한다")
+        void shouldSwallowHookError() {
+            isolator = new LogAddHookIsolator(statsRegistry);
+            LogAddHook hook = isolator.apply(List.of(logEntry -> {
+                throw new StackOverflowError();
+            })).get(0);
+
+            assertDoesNotThrow(() -> hook.onAdd(TestLogEntryProvider.executionTimeLog()));
+            assertEquals(1, statsRegistry.getAll().iterator().next().getFailureCount());
+        }
+    }
+
+    @Test
+    @DisplayName("같은 클래스의 훅은 이름에 순번을 붙여 따로 집계한다")
+    void shouldNameDuplicateHooksWithSequence() {
+        isolator = new LogAddHookIsolator(statsRegistry);
+        AsyncRecordingHook first = new AsyncRecordingHook(new CopyOnWriteArrayList<>(), new CountDownLatch(1));
+        AsyncRecordingHook second = new AsyncRecordingHook(new CopyOnWriteArrayList<>(), new CountDownLatch(1));
+
+        isolator.apply(List.of(first, second));
+
+        assertEquals(2, statsRegistry.getAll().size());
+        assertTrue(statsRegistry.getAll().stream().anyMatch(s -> s.getHookName().equals("AsyncRecordingHook-2")));
+    }
+
+    private static LogEntry errorLog() {
+        LogEntry logEntry = mock(LogEntry.class);
+        when(logEntry.getLogLevel()).thenReturn(LogLevel.ERROR);
+        return logEntry;
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class AsyncRecordingHook implements LogAddHook {
+
+        private final List<String> threads;
+        private final CountDownLatch done;
+
+        AsyncRecordingHook(List<String> threads, CountDownLatch done) {
+            this.threads = threads;
+            this.done = done;
+        }
+
+        @Override
+        public void onAdd(LogEntry logEntry) {
+            threads.add(Thread.currentThread().getName());
+            done.countDown();
+        }
+
+        @Override
+        public HookExecution execution() {
+            return HookExecution.ASYNC;
+        }
+    }
+
+}
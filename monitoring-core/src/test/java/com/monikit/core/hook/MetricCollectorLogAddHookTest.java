@@ -1,14 +1,21 @@
 package com.monikit.core.hook;
 
+import java.time.Instant;
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
+import com.monikit.core.LogLevel;
 import com.monikit.core.LogType;
+import com.monikit.core.encoder.EncodedLogEntry;
+import com.monikit.core.model.DatabaseQueryLog;
 import com.monikit.core.model.LogEntry;
 import com.monikit.core.utils.TestLogEntryProvider;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -42,4 +49,80 @@ public class MetricCollectorLogAddHookTest {
 
         verify(mockCollector, never()).record(any());
     }
+
+    @Test
+    @DisplayName("같은 로그 타입을 지원하는 MetricCollector는 등록 순서대로 모두 호출되어야 한다")
+    void shouldCallAllSupportingCollectorsInOrder() {
+        MetricCollector<LogEntry> first = mock(MetricCollector.class);
+        MetricCollector<LogEntry> second = mock(MetricCollector.class);
+        when(first.supports(LogType.EXECUTION_TIME)).thenReturn(true);
+        when(second.supports(LogType.EXECUTION_TIME)).thenReturn(true);
+
+        MetricCollectorLogAddHook hook = new MetricCollectorLogAddHook(List.of(first, second));
+        LogEntry log = TestLogEntryProvider.executionTimeLog();
+
+        hook.onAdd(log);
+
+        InOrder inOrder = inOrder(first, second);
+        inOrder.verify(first).record(log);
+        inOrder.verify(second).record(log);
+    }
+
+    @Test
+    @DisplayName("entryType과 다른 클래스의 로그는 ClassCastException 없이 건너뛰어야 한다")
+    void shouldSkipEntryOfUndeclaredType() {
+        DatabaseQueryCollector collector = new DatabaseQueryCollector();
+        MetricCollectorLogAddHook hook = new MetricCollectorLogAddHook(List.of(collector));
+
+        assertDoesNotThrow(() -> hook.onAdd(TestLogEntryProvider.executionTimeLog()));
+        hook.onAdd(TestLogEntryProvider.databaseQueryLog());
+
+        assertEquals(1, collector.recorded);
+    }
+
+    @Test
+    @DisplayName("같은 로그 타입에 다른 클래스의 로그가 번갈아 들어와도 선언한 클래스만 전달해야 한다")
+    void shouldDispatchByEntryClassWhenClassesAlternate() {
+        DatabaseQueryCollector collector = new DatabaseQueryCollector();
+        MetricCollectorLogAddHook hook = new MetricCollectorLogAddHook(List.of(collector));
+        LogEntry foreign = EncodedLogEntry.of(Instant.now(), "trace", LogType.DATABASE_QUERY, LogLevel.INFO, "{}".getBytes());
+
+        for (int i = 0; i < 3; i++) {
+            hook.onAdd(TestLogEntryProvider.databaseQueryLog());
+            hook.onAdd(foreign);
+        }
+
+        assertEquals(3, collector.recorded);
+    }
+
+    @Test
+    @DisplayName("MetricCollector 목록이 null이면 아무것도 호출하지 않아야 한다")
+    void shouldIgnoreNullCollectorList() {
+        MetricCollectorLogAddHook hook = new MetricCollectorLogAddHook(null);
+
+        assertDoesNotThrow(() -> hook.onAdd(TestLogEntryProvider.exceptionLog()));
+    }
+
+    /**
+     * 모든 로그 타입을 지원한다고 응답하지만 {@link DatabaseQueryLog}만 처리하는 수집기.
+     */
+    static class DatabaseQueryCollector implements MetricCollector<DatabaseQueryLog> {
+
+        private int recorded;
+
+        @Override
+        public boolean supports(LogType logType) {
+            return true;
+        }
+
+        @Override
+        public void record(DatabaseQueryLog logEntry) {
+            recorded++;
+        }
+
+        @Override
+        public Class<DatabaseQueryLog> entryType() {
+            return DatabaseQueryLog.class;
+        }
+    }
 }
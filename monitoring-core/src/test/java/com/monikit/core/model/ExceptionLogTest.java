@@ -0,0 +1,98 @@
+package com.monikit.core.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ExceptionLog 스택 캡처 테스트")
+class ExceptionLogTest {
+
+    @Test
+    @DisplayName("스택 트레이스 문자열은 상위 10개 프레임과 생략 표시로 렌더링되어야 한다")
+    void shouldRenderTopFramesWithTruncationMarker() {
+        // Given
+        RuntimeException exception = new RuntimeException("boom");
+        exception.setStackTrace(frames(12));
+
+        // When
+        ExceptionLog log = ExceptionLog.of("trace", exception);
+
+        // Then
+        assertFalse(log.isRendered());
+        assertEquals(10, log.getFrameCount());
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            expected.append(exception.getStackTrace()[i]).append("\n");
+        }
+        expected.append("... 이하 생략 ...\n");
+        assertEquals(expected.toString(), log.getStackTrace());
+        assertTrue(log.isRendered());
+    }
+
+    @Test
+    @DisplayName("발생 위치는 최하위 원인 예외의 첫 프레임이어야 한다")
+    void shouldResolveSourceFromRootCause() {
+        // Given
+        IllegalStateException root = new IllegalStateException("root");
+        root.setStackTrace(new StackTraceElement[] {
+            new StackTraceElement("com.example.Repository", "load", "Repository.java", 10)
+        });
+        RuntimeException wrapper = new RuntimeException("wrapper", root);
+        wrapper.setStackTrace(frames(3));
+
+        // When
+        ExceptionLog log = ExceptionLog.of("trace", wrapper);
+
+        // Then
+        assertEquals("com.example.Repository", log.getSourceClass());
+        assertEquals("load", log.getSourceMethod());
+        assertFalse(log.isRendered());
+    }
+
+    @Test
+    @DisplayName("프레임이 없으면 발생 위치는 Unknown이고 스택 트레이스는 빈 문자열이어야 한다")
+    void shouldHandleEmptyStackTrace() {
+        // Given
+        RuntimeException exception = new RuntimeException("no frames");
+        exception.setStackTrace(new StackTraceElement[0]);
+
+        // When
+        ExceptionLog log = ExceptionLog.of("trace", exception);
+
+        // Then
+        assertEquals("Unknown", log.getSourceClass());
+        assertEquals("Unknown", log.getSourceMethod());
+        assertEquals("", log.getStackTrace());
+    }
+
+    @Test
+    @DisplayName("같은 프레임은 전역 테이블에서 같은 ID를 받아 렌더링 없이 비교되어야 한다")
+    void shouldInternFramesAndCompareWithoutRendering() {
+        // Given
+        RuntimeException first = new RuntimeException("same");
+        RuntimeException second = new RuntimeException("same");
+        first.setStackTrace(frames(4));
+        second.setStackTrace(frames(4));
+
+        // When
+        ExceptionLog firstLog = ExceptionLog.of("trace-1", first);
+        ExceptionLog secondLog = ExceptionLog.of("trace-2", second);
+
+        // Then
+        assertEquals(StackFrameTable.intern(first.getStackTrace()[0]), StackFrameTable.intern(second.getStackTrace()[0]));
+        assertEquals(firstLog, secondLog);
+        assertEquals(firstLog.hashCode(), secondLog.hashCode());
+        assertFalse(firstLog.isRendered());
+        assertFalse(secondLog.isRendered());
+    }
+
+    private static StackTraceElement[] frames(int count) {
+        StackTraceElement[] frames = new StackTraceElement[count];
+        for (int i = 0; i < count; i++) {
+            frames[i] = new StackTraceElement("com.example.Service" + i, "call" + i, "Service" + i + ".java", 10 + i);
+        }
+        return frames;
+    }
+
+}
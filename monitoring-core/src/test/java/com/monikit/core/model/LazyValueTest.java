@@ -0,0 +1,101 @@
+package com.monikit.core.model;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LazyValue 테스트")
+class LazyValueTest {
+
+    @Nested
+    @DisplayName("지연 계산")
+    class Deferred {
+
+        @Test
+        @DisplayName("처음 읽을 때 한 번만 계산되어야 한다")
+        void shouldComputeOnceOnFirstRead() {
+            // Given
+            AtomicInteger calls = new AtomicInteger();
+            LazyValue<String> value = LazyValue.of(() -> "v" + calls.incrementAndGet());
+
+            // Then
+            assertFalse(value.isResolved());
+            assertEquals(0, calls.get());
+
+            assertEquals("v1", value.get());
+            assertEquals("v1", value.get());
+            assertTrue(value.isResolved());
+            assertEquals(1, calls.get());
+        }
+
+        @Test
+        @DisplayName("Supplier가 예외를 던지면 대체값으로 고정되어야 한다")
+        void shouldUseFallbackWhenSupplierThrows() {
+            LazyValue<String> value = LazyValue.of(() -> {
+                throw new IllegalStateException("boom");
+            }, "[unserializable]");
+
+            assertEquals("[unserializable]", value.get());
+            assertTrue(value.isResolved());
+        }
+
+        @Test
+        @DisplayName("여러 스레드가 동시에 읽어도 한 번만 계산되어야 한다")
+        void shouldComputeOnceUnderConcurrentReads() throws InterruptedException {
+            // Given
+            AtomicInteger calls = new AtomicInteger();
+            LazyValue<Integer> value = LazyValue.of(calls::incrementAndGet);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+
+            // When
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    return value.get();
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+            // Then
+            assertEquals(1, calls.get());
+            assertEquals(1, value.get());
+        }
+    }
+
+    @Test
+    @DisplayName("resolved 값과 null Supplier는 계산 없이 바로 사용 가능해야 한다")
+    void shouldBeResolvedImmediately() {
+        assertTrue(LazyValue.resolved("x").isResolved());
+        assertEquals("x", LazyValue.resolved("x").get());
+        assertTrue(LazyValue.of(null).isResolved());
+        assertNull(LazyValue.of(null).get());
+    }
+
+    @Test
+    @DisplayName("ExecutionDetailLog.deferred는 값을 읽기 전까지 렌더링하지 않아야 한다")
+    void shouldNotRenderDeferredExecutionLogUntilRead() {
+        // Given
+        AtomicInteger renders = new AtomicInteger();
+        ExecutionDetailLog log = ExecutionDetailLog.deferred("trace", "Svc", "call", 10,
+            () -> "in" + renders.incrementAndGet(), () -> "out", 0, "tag");
+
+        // Then
+        assertFalse(log.isRendered());
+        assertEquals(0, renders.get());
+        assertEquals("in1", log.getInput());
+        assertEquals("out", log.getOutput());
+        assertTrue(log.isRendered());
+    }
+
+}
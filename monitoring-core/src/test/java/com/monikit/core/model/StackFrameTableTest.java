@@ -0,0 +1,63 @@
+package com.monikit.core.model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StackFrameTable 테스트")
+class StackFrameTableTest {
+
+    @AfterEach
+    void tearDown() {
+        StackFrameTable.reset();
+    }
+
+    @Test
+    @DisplayName("테이블이 가득 찬 뒤에도 새 프레임은 ID 발급 없이 NOT_INTERNED를 반환해야 한다")
+    void shouldStopAllocatingIdsWhenFull() {
+        // Given
+        StackTraceElement first = frame("first", 0);
+        int firstId = StackFrameTable.intern(first);
+        for (int i = 0; i < StackFrameTable.CAPACITY; i++) {
+            StackFrameTable.intern(frame("fill", i));
+        }
+
+        // When
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(StackFrameTable.NOT_INTERNED, StackFrameTable.intern(frame("overflow", i)));
+            }
+        }
+
+        // Then
+        assertEquals(StackFrameTable.CAPACITY, StackFrameTable.size());
+        assertNotEquals(StackFrameTable.NOT_INTERNED, firstId);
+        assertEquals(firstId, StackFrameTable.intern(first));
+        assertEquals(first, StackFrameTable.frame(firstId));
+    }
+
+    @Test
+    @DisplayName("reset 이후에는 ID를 처음부터 다시 발급해야 한다")
+    void shouldReissueIdsAfterReset() {
+        // Given
+        StackFrameTable.intern(frame("before", 0));
+
+        // When
+        StackFrameTable.reset();
+        StackTraceElement after = frame("after", 0);
+        int id = StackFrameTable.intern(after);
+
+        // Then
+        assertEquals(0, id);
+        assertEquals(1, StackFrameTable.size());
+        assertEquals(after, StackFrameTable.frame(id));
+        assertEquals(after.toString(), StackFrameTable.render(id));
+    }
+
+    private static StackTraceElement frame(String method, int line) {
+        return new StackTraceElement("com.example.StackFrameTableTest", method, "StackFrameTableTest.java", line);
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.monikit.core.notifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.TraceIdProvider;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.utils.TestLogEntryProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AsyncLogNotifier 테스트")
+class AsyncLogNotifierTest {
+
+    private final TraceIdProvider traceIdProvider = mock(TraceIdProvider.class);
+    private AsyncLogNotifier asyncLogNotifier;
+
+    @AfterEach
+    void tearDown() {
+        if (asyncLogNotifier != null) {
+            asyncLogNotifier.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("비동기 전달 테스트")
+    class DeliveryTests {
+
+        @Test
+        @DisplayName("버퍼에 넣은 로그는 소비자 스레드를 통해 위임 Notifier로 전달되어야 한다")
+        void shouldDeliverLogsToDelegate() {
+            List<LogEntry> received = new CopyOnWriteArrayList<>();
+            LogNotifier delegate = recordingNotifier(received);
+            asyncLogNotifier = new AsyncLogNotifier(delegate, traceIdProvider, 64, WaitStrategy.BLOCKING, 16,
+                Duration.ofSeconds(1));
+
+            for (int i = 0; i < 50; i++) {
+                asyncLogNotifier.notify(TestLogEntryProvider.executionTimeLog());
+            }
+            asyncLogNotifier.close();
+
+            assertEquals(50, received.size());
+            assertEquals(50, asyncLogNotifier.getDeliveredCount());
+            assertEquals(0, asyncLogNotifier.getDroppedCount());
+        }
+
+        @Test
+        @DisplayName("문자열 메시지는 호출 스레드의 traceId로 SimpleLog를 만들어 전달해야 한다")
+        void shouldCaptureTraceIdOnCallerThread() {
+            List<LogEntry> received = new CopyOnWriteArrayList<>();
+            when(traceIdProvider.getTraceId()).thenReturn("trace-async");
+            asyncLogNotifier = new AsyncLogNotifier(recordingNotifier(received), traceIdProvider);
+
+            asyncLogNotifier.notify(LogLevel.WARN, "message");
+            asyncLogNotifier.close();
+
+            assertEquals(1, received.size());
+            assertEquals("trace-async", received.get(0).getTraceId());
+            assertEquals(LogLevel.WARN, received.get(0).getLogLevel());
+        }
+
+        @Test
+        @DisplayName("위임 Notifier가 예외를 던져도 같은 배치의 나머지 로그는 전달되어야 한다")
+        void shouldContinueWhenDelegateThrows() {
+            List<LogEntry> received = new CopyOnWriteArrayList<>();
+            LogEntry failing = TestLogEntryProvider.executionTimeLog();
+            LogNotifier delegate = new LogNotifier() {
+                @Override
+                public void notify(LogLevel logLevel, String message) {}
+
+                @Override
+                public void notify(LogEntry logEntry) {
+                    if (logEntry == failing) {
+                        throw new IllegalStateException("sink failure");
+                    }
+                    received.add(logEntry);
+                }
+            };
+            asyncLogNotifier = new AsyncLogNotifier(delegate, traceIdProvider, 16, WaitStrategy.SLEEPING, 16,
+                Duration.ofSeconds(1));
+
+            asyncLogNotifier.notify(failing);
+            asyncLogNotifier.notify(TestLogEntryProvider.executionTimeLog());
+            asyncLogNotifier.close();
+
+            assertEquals(1, received.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("버퍼 포화 및 종료 테스트")
+    class OverflowAndShutdownTests {
+
+        @Test
+        @DisplayName("버퍼가 가득 차면 요청 스레드를 막지 않고 로그를 버려야 한다")
+        void shouldDropWhenBufferIsFull() throws InterruptedException {
+            CountDownLatch blocker = new CountDownLatch(1);
+            CountDownLatch consumerStarted = new CountDownLatch(1);
+            LogNotifier delegate = new LogNotifier() {
+                @Override
+                public void notify(LogLevel logLevel, String message) {}
+
+                @Override
+                public void notify(LogEntry logEntry) {
+                    consumerStarted.countDown();
+                    try {
+                        blocker.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+            asyncLogNotifier = new AsyncLogNotifier(delegate, traceIdProvider, 4, WaitStrategy.YIELDING, 1,
+                Duration.ofSeconds(1));
+
+            asyncLogNotifier.notify(TestLogEntryProvider.executionTimeLog());
+            assertTrue(consumerStarted.await(1, TimeUnit.SECONDS));
+
+            for (int i = 0; i < 10; i++) {
+                asyncLogNotifier.notify(TestLogEntryProvider.executionTimeLog());
+            }
+
+            assertEquals(6, asyncLogNotifier.getDroppedCount());
+            blocker.countDown();
+        }
+
+        @Test
+        @DisplayName("종료 이후 들어온 로그는 호출 스레드에서 동기로 전달되어야 한다")
+        void shouldDeliverSynchronouslyAfterClose() {
+            LogNotifier delegate = mock(LogNotifier.class);
+            asyncLogNotifier = new AsyncLogNotifier(delegate, traceIdProvider);
+            asyncLogNotifier.close();
+
+            LogEntry log = TestLogEntryProvider.executionTimeLog();
+            asyncLogNotifier.notify(log);
+
+            verify(delegate, times(1)).notify(log);
+        }
+
+        @Test
+        @DisplayName("close와 경합한 로그는 전달되거나 버린 것으로 집계되어 버퍼에 남지 않아야 한다")
+        void shouldAccountForLogsRacingWithClose() throws InterruptedException {
+            for (int round = 0; round < 50; round++) {
+                List<LogEntry> received = new CopyOnWriteArrayList<>();
+                asyncLogNotifier = new AsyncLogNotifier(recordingNotifier(received), traceIdProvider, 1024,
+                    WaitStrategy.YIELDING, 64, Duration.ofSeconds(1));
+                int producers = 4;
+                int perProducer = 2_000;
+                CountDownLatch started = new CountDownLatch(producers);
+                List<Thread> threads = new ArrayList<>();
+                for (int i = 0; i < producers; i++) {
+                    Thread thread = new Thread(() -> {
+                        started.countDown();
+                        for (int j = 0; j < perProducer; j++) {
+                            asyncLogNotifier.notify(TestLogEntryProvider.executionTimeLog());
+                        }
+                    });
+                    threads.add(thread);
+                    thread.start();
+                }
+
+                started.await();
+                asyncLogNotifier.close();
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+
+                assertEquals(0, asyncLogNotifier.getPendingCount());
+                assertEquals(producers * perProducer, received.size() + asyncLogNotifier.getDroppedCount());
+            }
+        }
+    }
+
+    private static LogNotifier recordingNotifier(List<LogEntry> received) {
+        return new LogNotifier() {
+            @Override
+            public void notify(LogLevel logLevel, String message) {}
+
+            @Override
+            public void notify(LogEntry logEntry) {
+                received.add(logEntry);
+            }
+        };
+    }
+
+}
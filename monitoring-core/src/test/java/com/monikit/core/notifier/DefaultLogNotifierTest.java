@@ -0,0 +1,117 @@
+package com.monikit.core.notifier;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.monikit.core.DefaultTraceIdProvider;
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.model.SimpleLog;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DefaultLogNotifier 테스트")
+class DefaultLogNotifierTest {
+
+    @Test
+    @DisplayName("로그 타입을 지원하는 Sink에만 전달해야 한다")
+    void shouldDispatchOnlyToSupportingSinks() {
+        // Given
+        LogSink simpleSink = sinkFor(LogType.SIMPLE);
+        LogSink exceptionSink = sinkFor(LogType.EXCEPTION);
+        DefaultLogNotifier notifier = new DefaultLogNotifier(List.of(simpleSink, exceptionSink), new DefaultTraceIdProvider());
+        LogEntry log = SimpleLog.of("trace", LogLevel.INFO, "hello");
+
+        // When
+        notifier.notify(log);
+
+        // Then
+        verify(simpleSink).send(log);
+        verify(exceptionSink, never()).send(any());
+    }
+
+    @Test
+    @DisplayName("Sink의 supports는 생성 시점에만 평가되어야 한다")
+    void shouldEvaluateSupportsOnlyOnConstruction() {
+        LogSink sink = sinkFor(LogType.SIMPLE);
+        DefaultLogNotifier notifier = new DefaultLogNotifier(List.of(sink), new DefaultTraceIdProvider());
+
+        for (int i = 0; i < 10; i++) {
+            notifier.notify(SimpleLog.of("trace", LogLevel.INFO, "msg-" + i));
+        }
+
+        verify(sink, times(LogType.values().length)).supports(any());
+        verify(sink, times(10)).send(any());
+    }
+
+    @Test
+    @DisplayName("전달할 Sink가 없는 타입은 supports가 false여야 한다")
+    void shouldReportUnsupportedTypes() {
+        DefaultLogNotifier notifier = new DefaultLogNotifier(List.of(sinkFor(LogType.SIMPLE)), new DefaultTraceIdProvider());
+
+        assertTrue(notifier.supports(LogType.SIMPLE));
+        assertFalse(notifier.supports(LogType.EXCEPTION));
+    }
+
+    @Test
+    @DisplayName("updateSinks 호출 시 새 Sink 구성으로 전달해야 한다")
+    void shouldRebuildDispatchTableOnUpdate() {
+        // Given
+        LogSink oldSink = sinkFor(LogType.SIMPLE);
+        LogSink newSink = sinkFor(LogType.EXCEPTION);
+        DefaultLogNotifier notifier = new DefaultLogNotifier(List.of(oldSink), new DefaultTraceIdProvider());
+
+        // When
+        notifier.updateSinks(List.of(newSink));
+        notifier.notify(SimpleLog.of("trace", LogLevel.INFO, "hello"));
+
+        // Then
+        verify(oldSink, never()).send(any());
+        assertFalse(notifier.supports(LogType.SIMPLE));
+        assertTrue(notifier.supports(LogType.EXCEPTION));
+    }
+
+    @Test
+    @DisplayName("notifyBatch는 Sink마다 지원하는 로그만 한 번에 전달해야 한다")
+    void shouldSendOnlySupportedEntriesPerSinkInBatch() {
+        // Given
+        LogSink simpleSink = sinkFor(LogType.SIMPLE);
+        LogSink exceptionSink = sinkFor(LogType.EXCEPTION);
+        DefaultLogNotifier notifier = new DefaultLogNotifier(List.of(simpleSink, exceptionSink), new DefaultTraceIdProvider());
+        LogEntry first = SimpleLog.of("trace", LogLevel.INFO, "first");
+        LogEntry second = SimpleLog.of("trace", LogLevel.INFO, "second");
+        List<LogEntry> batch = List.of(first, second);
+
+        // When
+        notifier.notifyBatch(batch);
+
+        // Then
+        verify(simpleSink).sendBatch(same(batch));
+        verify(simpleSink, never()).send(any());
+        verify(exceptionSink, never()).sendBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("한 Sink의 batch 전송 실패가 다른 Sink 전송을 막지 않아야 한다")
+    void shouldIsolateFailingSinkInBatch() {
+        LogSink failingSink = sinkFor(LogType.SIMPLE);
+        doThrow(new IllegalStateException("io failure")).when(failingSink).sendBatch(anyList());
+        LogSink healthySink = sinkFor(LogType.SIMPLE);
+        DefaultLogNotifier notifier = new DefaultLogNotifier(List.of(failingSink, healthySink), new DefaultTraceIdProvider());
+
+        notifier.notifyBatch(List.of(SimpleLog.of("trace", LogLevel.INFO, "hello")));
+
+        verify(healthySink).sendBatch(anyList());
+    }
+
+    private static LogSink sinkFor(LogType supported) {
+        LogSink sink = mock(LogSink.class);
+        when(sink.supports(any())).thenAnswer(invocation -> invocation.getArgument(0) == supported);
+        return sink;
+    }
+
+}
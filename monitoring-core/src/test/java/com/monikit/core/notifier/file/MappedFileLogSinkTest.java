@@ -0,0 +1,107 @@
+package com.monikit.core.notifier.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.model.SimpleLog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MappedFileLogSink 테스트")
+class MappedFileLogSinkTest {
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    @DisplayName("기록 및 세그먼트 완료")
+    class WriteTests {
+
+        @Test
+        @DisplayName("close 시 기록한 길이만큼 잘라낸 .log 파일로 완료되어야 한다")
+        void shouldCompleteSegmentOnClose() throws IOException {
+            MappedFileLogSink sink = new MappedFileLogSink(directory, "app", 4096, 0, null, null);
+
+            sink.sendBatch(List.of(
+                SimpleLog.of("trace", LogLevel.INFO, "first"),
+                SimpleLog.of("trace", LogLevel.INFO, "second")));
+            sink.close();
+
+            List<Path> segments = files(".log");
+            assertEquals(1, segments.size());
+            List<String> lines = Files.readAllLines(segments.get(0));
+            assertEquals(2, lines.size());
+            assertTrue(lines.get(0).endsWith("\"message\":\"first\"}"));
+            assertTrue(files(".active").isEmpty());
+            assertEquals(2, sink.getWrittenCount());
+        }
+
+        @Test
+        @DisplayName("세그먼트가 가득 차면 새 세그먼트로 넘어가고 보관 개수를 넘는 세그먼트는 삭제해야 한다")
+        void shouldRollOverAndApplyRetention() throws IOException {
+            MappedFileLogSink sink = new MappedFileLogSink(directory, "app", 512, 2, null, null);
+
+            for (int i = 0; i < 50; i++) {
+                sink.send(SimpleLog.of("trace", LogLevel.INFO, "message-" + i));
+            }
+            sink.close();
+
+            List<Path> segments = files(".log");
+            assertEquals(2, segments.size());
+            List<String> lastLines = Files.readAllLines(segments.get(1));
+            assertTrue(lastLines.get(lastLines.size() - 1).endsWith("\"message\":\"message-49\"}"));
+            assertEquals(50, sink.getWrittenCount());
+        }
+
+        @Test
+        @DisplayName("세그먼트보다 큰 로그는 버리고 집계해야 한다")
+        void shouldDropOversizedEntry() throws IOException {
+            try (MappedFileLogSink sink = new MappedFileLogSink(directory, "app", 256, 0, null, null)) {
+                sink.send(SimpleLog.of("trace", LogLevel.INFO, "x".repeat(1000)));
+
+                assertEquals(1, sink.getDroppedCount());
+                assertEquals(0, sink.getWrittenCount());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("설정한 로그 타입만 지원해야 한다")
+    void shouldSupportConfiguredLogTypesOnly() throws IOException {
+        try (MappedFileLogSink sink = new MappedFileLogSink(directory, "app", 4096, 0, null, Set.of(LogType.EXCEPTION))) {
+            assertTrue(sink.supports(LogType.EXCEPTION));
+            assertFalse(sink.supports(LogType.SIMPLE));
+        }
+    }
+
+    @Test
+    @DisplayName("이전 프로세스가 남긴 .active 세그먼트는 기록된 길이로 잘라 완료 처리해야 한다")
+    void shouldRecoverLeftoverActiveSegment() throws IOException {
+        Files.write(directory.resolve("app-000000000007" + MappedFileLogSink.ACTIVE_SUFFIX), new byte[]{'{', '}', '\n', 0, 0, 0});
+
+        try (MappedFileLogSink sink = new MappedFileLogSink(directory, "app", 4096, 0, null, null)) {
+            sink.send(SimpleLog.of("trace", LogLevel.INFO, "after restart"));
+        }
+
+        assertEquals("{}\n", Files.readString(directory.resolve("app-000000000007.log")));
+        assertTrue(Files.exists(directory.resolve("app-000000000008.log")));
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream.filter(path -> path.getFileName().toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+
+}
@@ -0,0 +1,248 @@
+package com.monikit.core.notifier.spool;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.encoder.EncodedLogEntry;
+import com.monikit.core.encoder.LogEntryEncoder;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.model.SimpleLog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LogSpool 테스트")
+class LogSpoolTest {
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    @DisplayName("기록 및 읽기")
+    class AppendAndReadTests {
+
+        @Test
+        @DisplayName("기록한 순서대로 읽히고 원본 JSON과 공통 필드가 복원되어야 한다")
+        void shouldReadEntriesInOrder() throws IOException {
+            SimpleLog first = SimpleLog.of("trace-1", LogLevel.WARN, "first");
+            try (LogSpool spool = new LogSpool(directory, 4096, 0)) {
+                spool.append(first);
+                spool.append(SimpleLog.of("trace-2", LogLevel.INFO, "second"));
+
+                LogSpool.Batch batch = spool.read(10);
+
+                assertEquals(2, batch.size());
+                LogEntry entry = batch.getEntries().get(0);
+                assertInstanceOf(EncodedLogEntry.class, entry);
+                assertEquals("trace-1", entry.getTraceId());
+                assertEquals(LogType.SIMPLE, entry.getLogType());
+                assertEquals(LogLevel.WARN, entry.getLogLevel());
+                assertEquals(first.getTimestamp(), entry.getTimestamp());
+                assertEquals(new LogEntryEncoder().encodeToString(first), entry.toString());
+            }
+        }
+
+        @Test
+        @DisplayName("acknowledge 전에는 같은 로그를 다시 읽고, 이후에는 다음 로그부터 읽어야 한다")
+        void shouldAdvanceOnlyAfterAcknowledge() throws IOException {
+            try (LogSpool spool = new LogSpool(directory, 4096, 0)) {
+                for (int i = 0; i < 3; i++) {
+                    spool.append(SimpleLog.of("trace", LogLevel.INFO, "message-" + i));
+                }
+
+                LogSpool.Batch first = spool.read(2);
+                assertEquals(2, spool.read(2).size());
+                spool.acknowledge(first);
+
+                LogSpool.Batch rest = spool.read(10);
+                assertEquals(1, rest.size());
+                assertTrue(rest.getEntries().get(0).toString().contains("message-2"));
+                assertEquals(1, spool.depth());
+
+                spool.acknowledge(rest);
+                assertTrue(spool.isEmpty());
+                assertEquals(0, spool.pendingBytes());
+                assertEquals(0, spool.oldestEpochMillis());
+            }
+        }
+
+        @Test
+        @DisplayName("세그먼트 경계를 넘어 읽고, 다 읽은 세그먼트는 삭제해야 한다")
+        void shouldReadAcrossSegments() throws IOException {
+            try (LogSpool spool = new LogSpool(directory, 256, 0)) {
+                for (int i = 0; i < 10; i++) {
+                    spool.append(SimpleLog.of("trace", LogLevel.INFO, "message-" + i));
+                }
+                assertTrue(segmentCount() > 1);
+
+                LogSpool.Batch batch = spool.read(100);
+                assertEquals(10, batch.size());
+                spool.acknowledge(batch);
+
+                assertEquals(1, segmentCount());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("로그 인코딩은 락 밖에서 수행되어 느린 인코딩이 다른 스레드의 기록을 막지 않아야 한다")
+    void shouldEncodeOutsideLock() throws Exception {
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LogEntry slow = new SlowRenderingLog(rendering, release);
+        try (LogSpool spool = new LogSpool(directory, 4096, 0)) {
+            CompletableFuture<Boolean> slowAppend = CompletableFuture.supplyAsync(() -> appendQuietly(spool, slow));
+            assertTrue(rendering.await(1, TimeUnit.SECONDS));
+
+            CompletableFuture<Boolean> fastAppend = CompletableFuture.supplyAsync(
+                () -> appendQuietly(spool, SimpleLog.of("trace", LogLevel.INFO, "fast")));
+            try {
+                assertTrue(fastAppend.get(1, TimeUnit.SECONDS));
+                assertEquals(1, spool.depth());
+            } finally {
+                release.countDown();
+            }
+
+            assertTrue(slowAppend.get(1, TimeUnit.SECONDS));
+            LogSpool.Batch batch = spool.read(10);
+            assertEquals(2, batch.size());
+            assertTrue(batch.getEntries().get(1).toString().contains("slow"));
+        }
+    }
+
+    @Nested
+    @DisplayName("디스크 한도")
+    class QuotaTests {
+
+        @Test
+        @DisplayName("한도를 넘는 로그는 보관하지 않아야 한다")
+        void shouldRejectEntriesOverQuota() throws IOException {
+            try (LogSpool spool = new LogSpool(directory, 4096, 300)) {
+                int accepted = 0;
+                for (int i = 0; i < 10; i++) {
+                    if (spool.append(SimpleLog.of("trace", LogLevel.INFO, "message-" + i))) {
+                        accepted++;
+                    }
+                }
+
+                assertTrue(accepted > 0 && accepted < 10);
+                assertEquals(accepted, spool.depth());
+                assertTrue(spool.pendingBytes() <= 300);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("재시작 복구")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("재시작 시 확정된 위치 이후의 로그만 다시 읽어야 한다")
+        void shouldResumeFromCheckpoint() throws IOException {
+            try (LogSpool spool = new LogSpool(directory, 4096, 0)) {
+                for (int i = 0; i < 3; i++) {
+                    spool.append(SimpleLog.of("trace", LogLevel.INFO, "message-" + i));
+                }
+                spool.acknowledge(spool.read(1));
+            }
+
+            try (LogSpool reopened = new LogSpool(directory, 4096, 0)) {
+                assertEquals(2, reopened.depth());
+                assertTrue(reopened.oldestEpochMillis() > 0);
+                LogSpool.Batch batch = reopened.read(10);
+                assertEquals(2, batch.size());
+                assertTrue(batch.getEntries().get(0).toString().contains("message-1"));
+            }
+        }
+
+        @Test
+        @DisplayName("잘린 마지막 레코드는 복구 시 버려야 한다")
+        void shouldTruncateTornRecord() throws IOException {
+            try (LogSpool spool = new LogSpool(directory, 4096, 0)) {
+                spool.append(SimpleLog.of("trace", LogLevel.INFO, "complete"));
+                spool.append(SimpleLog.of("trace", LogLevel.INFO, "torn"));
+            }
+            Path segment = directory.resolve(String.format("%s%012d%s", LogSpool.SEGMENT_PREFIX, 1, LogSpool.SEGMENT_SUFFIX));
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.truncate(channel.size() - 5);
+            }
+
+            try (LogSpool reopened = new LogSpool(directory, 4096, 0)) {
+                assertEquals(1, reopened.depth());
+                assertTrue(reopened.read(10).getEntries().get(0).toString().contains("complete"));
+            }
+        }
+    }
+
+    private static boolean appendQuietly(LogSpool spool, LogEntry logEntry) {
+        try {
+            return spool.append(logEntry);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 인코딩 중({@code toString()}) 해제될 때까지 멈추는 로그.
+     */
+    static class SlowRenderingLog implements LogEntry {
+
+        private final CountDownLatch rendering;
+        private final CountDownLatch release;
+        private final Instant timestamp = Instant.now();
+
+        SlowRenderingLog(CountDownLatch rendering, CountDownLatch release) {
+            this.rendering = rendering;
+            this.release = release;
+        }
+
+        @Override
+        public Instant getTimestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public String getTraceId() {
+            return "trace";
+        }
+
+        @Override
+        public LogType getLogType() {
+            return LogType.SIMPLE;
+        }
+
+        @Override
+        public LogLevel getLogLevel() {
+            return LogLevel.INFO;
+        }
+
+        @Override
+        public String toString() {
+            rendering.countDown();
+            try {
+                release.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "slow";
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (var files = java.nio.file.Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(LogSpool.SEGMENT_SUFFIX)).count();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.monikit.core.notifier.spool;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.metrics.LogSpoolStats;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.model.SimpleLog;
+import com.monikit.core.notifier.LogSink;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SpoolingLogSink 테스트")
+class SpoolingLogSinkTest {
+
+    private static final Duration NO_AUTO_REPLAY = Duration.ofHours(1);
+
+    @TempDir
+    Path directory;
+
+    private final LogSpoolStats stats = new LogSpoolStats();
+    private final ControllableSink delegate = new ControllableSink();
+    private SpoolingLogSink sink;
+
+    @AfterEach
+    void tearDown() {
+        if (sink != null) {
+            sink.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("직접 전송")
+    class DirectTests {
+
+        @Test
+        @DisplayName("위임 Sink가 정상이면 스풀 없이 바로 전달해야 한다")
+        void shouldDeliverDirectly() throws IOException {
+            sink = createSink(Duration.ofSeconds(1));
+
+            sink.send(log("direct"));
+
+            assertEquals(1, delegate.received.size());
+            assertFalse(sink.isSpooling());
+            assertEquals(0, stats.getDepthEntries());
+        }
+    }
+
+    @Nested
+    @DisplayName("스풀 전환 및 재전송")
+    class SpoolTests {
+
+        @Test
+        @DisplayName("위임 Sink가 실패하면 스풀에 기록하고 복구 후 재전송해야 한다")
+        void shouldSpoolOnFailureAndReplayAfterRecovery() throws IOException {
+            sink = createSink(Duration.ofSeconds(1));
+            delegate.failing = true;
+
+            sink.sendBatch(List.of(log("first"), log("second")));
+            sink.send(log("third"));
+
+            assertTrue(sink.isSpooling());
+            assertEquals(1, stats.getDelegateFailureCount());
+            assertEquals(3, stats.getSpooledCount());
+            assertEquals(3, stats.getDepthEntries());
+
+            sink.replay();
+            assertEquals(3, stats.getDepthEntries());
+            assertEquals(1, stats.getReplayFailureCount());
+
+            delegate.failing = false;
+            sink.replay();
+
+            assertEquals(3, delegate.received.size());
+            assertTrue(delegate.received.get(0).toString().contains("first"));
+            assertEquals(3, stats.getReplayedCount());
+            assertEquals(0, stats.getDepthEntries());
+            assertFalse(sink.isSpooling());
+        }
+
+        @Test
+        @DisplayName("지연 예산을 넘기면 이후 로그부터 위임 Sink를 호출하지 않아야 한다")
+        void shouldSpoolAfterBudgetExceeded() throws IOException {
+            sink = createSink(Duration.ofMillis(1));
+            delegate.delayMillis = 20;
+
+            sink.send(log("slow"));
+            sink.send(log("spooled"));
+
+            assertEquals(1, delegate.received.size());
+            assertEquals(1, stats.getBudgetExceededCount());
+            assertEquals(1, stats.getDepthEntries());
+            assertTrue(stats.getReplayLagMillis() >= 0);
+        }
+
+        @Test
+        @DisplayName("재시작 시 스풀에 남은 로그가 있으면 스풀 모드로 시작해야 한다")
+        void shouldStartSpoolingWhenSpoolIsNotEmpty() throws IOException {
+            sink = createSink(Duration.ofSeconds(1));
+            delegate.failing = true;
+            sink.send(log("pending"));
+            sink.close();
+
+            delegate.failing = false;
+            sink = createSink(Duration.ofSeconds(1));
+
+            assertTrue(sink.isSpooling());
+            sink.replay();
+            assertEquals(1, delegate.received.size());
+        }
+    }
+
+    private SpoolingLogSink createSink(Duration latencyBudget) throws IOException {
+        return new SpoolingLogSink(delegate, new LogSpool(directory, 4096, 0), latencyBudget, NO_AUTO_REPLAY, 100, stats);
+    }
+
+    private static SimpleLog log(String message) {
+        return SimpleLog.of("trace", LogLevel.INFO, message);
+    }
+
+    private static class ControllableSink implements LogSink {
+
+        private final List<LogEntry> received = new ArrayList<>();
+        private volatile boolean failing;
+        private volatile long delayMillis;
+
+        @Override
+        public boolean supports(LogType logType) {
+            return true;
+        }
+
+        @Override
+        public void send(LogEntry logEntry) {
+            if (failing) {
+                throw new IllegalStateException("sink down");
+            }
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            received.add(logEntry);
+        }
+    }
+}
@@ -30,6 +30,11 @@ public class DatabaseQueryMetricCollector implements MetricCollector<DatabaseQue
         return logType == LogType.DATABASE_QUERY;
     }
 
+    @Override
+    public Class<DatabaseQueryLog> entryType() {
+        return DatabaseQueryLog.class;
+    }
+
     @Override
     public void record(DatabaseQueryLog logEntry) {
 
@@ -0,0 +1,69 @@
+package com.monikit.metric;
+
+import java.util.concurrent.TimeUnit;
+
+import com.monikit.core.metrics.DynamicMatcherStats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 동적 로깅 규칙 매칭 자체의 비용 통계를 노출하는 `MeterBinder`
+ * <p>
+ * - 카운터는 {@link DynamicMatcherStats}를 읽기만 하며, 매칭 경로에는 Micrometer 호출이 추가되지 않는다.
+ * - SpEL 평가 시간은 표본으로 측정한 평가만 Timer에 기록한다. 전체 평가 횟수는 `monikit_spel_evaluation_count`로 본다.
+ * - 메트릭: `monikit_spel_evaluation_count`, `monikit_spel_evaluation_duration`(Timer, P50/P95/P99),
+ *   `monikit_dynamic_matcher_prefilter_skip_total`, `monikit_dynamic_matcher_regex_checks_total`,
+ *   `monikit_dynamic_matcher_calls_total`(태그 `result`: matched, unmatched, no_rule)
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class DynamicMatcherMetricsBinder implements MeterBinder {
+
+    private final DynamicMatcherStats stats;
+
+    public DynamicMatcherMetricsBinder(DynamicMatcherStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("monikit_spel_evaluation_count", stats, DynamicMatcherStats::getSpelEvaluationCount)
+            .description("SpEL condition evaluations performed by the dynamic matcher")
+            .register(registry);
+
+        Timer evaluationTimer = Timer.builder("monikit_spel_evaluation_duration")
+            .description("Sampled SpEL condition evaluation time (1 in " + stats.getSampleInterval() + " evaluations)")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(registry);
+        stats.bindEvaluationTimeRecorder(nanos -> evaluationTimer.record(nanos, TimeUnit.NANOSECONDS));
+
+        FunctionCounter.builder("monikit_dynamic_matcher_prefilter_skip_total", stats, DynamicMatcherStats::getPrefilterSkipCount)
+            .description("Rules skipped by the thresholdMillis pre-filter without SpEL evaluation")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_dynamic_matcher_regex_checks_total", stats, DynamicMatcherStats::getRegexCheckCount)
+            .description("Rule name pattern checks performed while building match plans")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_dynamic_matcher_calls_total", stats, DynamicMatcherStats::getMatchedCount)
+            .tag("result", "matched")
+            .description("Dynamic matcher calls by result")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_dynamic_matcher_calls_total", stats, DynamicMatcherStats::getUnmatchedCount)
+            .tag("result", "unmatched")
+            .description("Dynamic matcher calls by result")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_dynamic_matcher_calls_total", stats, DynamicMatcherStats::getNoApplicableRuleCount)
+            .tag("result", "no_rule")
+            .description("Dynamic matcher calls by result")
+            .register(registry);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.monikit.metric;
+
+import com.monikit.core.metrics.ExceptionFingerprintStats;
+import com.monikit.core.metrics.ExceptionFingerprintStatsRegistry;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 예외 지문별 발생 통계를 노출하는 `MeterBinder`
+ * <p>
+ * - {@link ExceptionFingerprintStatsRegistry}를 읽기만 하며, 예외 기록 경로에는 Micrometer 호출이 추가되지 않는다.
+ * - 바인딩 이후에 처음 발생한 지문도 리스너로 받아 메트릭을 추가한다. 지문 수는 저장소 한도로 제한되며 넘치는 지문은 `overflow` 태그로 합산된다.
+ * - 메트릭(태그 `fingerprint`, `exception`): `monikit_exception_occurrences_total`, `monikit_exception_coalesced_total`
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class ExceptionFingerprintMetricsBinder implements MeterBinder {
+
+    private final ExceptionFingerprintStatsRegistry statsRegistry;
+
+    public ExceptionFingerprintMetricsBinder(ExceptionFingerprintStatsRegistry statsRegistry) {
+        this.statsRegistry = statsRegistry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        statsRegistry.addListener(stats -> bind(registry, stats));
+    }
+
+    private static void bind(MeterRegistry registry, ExceptionFingerprintStats stats) {
+        Tags tags = Tags.of("fingerprint", stats.getFingerprint(), "exception", stats.getExceptionType());
+
+        FunctionCounter.builder("monikit_exception_occurrences_total", stats, ExceptionFingerprintStats::getOccurrenceCount)
+            .tags(tags)
+            .description("Exceptions recorded per fingerprint (exception type + top frames)")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_exception_coalesced_total", stats, ExceptionFingerprintStats::getCoalescedCount)
+            .tags(tags)
+            .description("Exceptions folded into an EXCEPTION_SUMMARY log instead of an individual ExceptionLog")
+            .register(registry);
+    }
+
+}
@@ -31,6 +31,11 @@ public class ExecutionDetailMetricCollector implements MetricCollector<Execution
         return logType == LogType.EXECUTION_DETAIL;
     }
 
+    @Override
+    public Class<ExecutionDetailLog> entryType() {
+        return ExecutionDetailLog.class;
+    }
+
     @Override
     public void record(ExecutionDetailLog logEntry) {
         if (!metricsProperties.isMetricsEnabled()) {
@@ -0,0 +1,66 @@
+package com.monikit.metric;
+
+import java.util.concurrent.TimeUnit;
+
+import com.monikit.core.metrics.ExecutorTaskStats;
+import com.monikit.core.metrics.ExecutorTaskStatsRegistry;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 실행기별 작업 대기/실행 시간 통계를 노출하는 `MeterBinder`
+ * <p>
+ * - {@link ExecutorTaskStatsRegistry}를 읽기만 하며, 작업 실행 경로에는 Micrometer 호출이 추가되지 않는다.
+ * - 바인딩 이후에 등록되는 실행기도 리스너로 받아 메트릭을 추가한다.
+ * - 메트릭(태그 `executor`): `monikit_executor_queue_wait`(FunctionTimer), `monikit_executor_run`(FunctionTimer),
+ *   `monikit_executor_failed_total`, `monikit_executor_active_tasks`
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class ExecutorTaskMetricsBinder implements MeterBinder {
+
+    private final ExecutorTaskStatsRegistry statsRegistry;
+
+    public ExecutorTaskMetricsBinder(ExecutorTaskStatsRegistry statsRegistry) {
+        this.statsRegistry = statsRegistry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        statsRegistry.addListener(stats -> bind(registry, stats));
+    }
+
+    private static void bind(MeterRegistry registry, ExecutorTaskStats stats) {
+        Tags tags = Tags.of("executor", stats.getExecutorName());
+
+        FunctionTimer.builder("monikit_executor_queue_wait", stats,
+                ExecutorTaskStats::getStartedCount, ExecutorTaskStats::getQueueWaitNanos, TimeUnit.NANOSECONDS)
+            .tags(tags)
+            .description("Time tasks spent queued between submission and start")
+            .register(registry);
+
+        FunctionTimer.builder("monikit_executor_run", stats,
+                ExecutorTaskStats::getCompletedCount, ExecutorTaskStats::getRunNanos, TimeUnit.NANOSECONDS)
+            .tags(tags)
+            .description("Time tasks spent running")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_executor_failed_total", stats, ExecutorTaskStats::getFailedCount)
+            .tags(tags)
+            .description("Tasks that completed with an exception")
+            .register(registry);
+
+        Gauge.builder("monikit_executor_active_tasks", stats, ExecutorTaskStats::getActiveCount)
+            .tags(tags)
+            .description("Tasks currently running")
+            .register(registry);
+    }
+
+}
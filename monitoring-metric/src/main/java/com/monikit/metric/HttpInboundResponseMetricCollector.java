@@ -33,6 +33,11 @@ public class HttpInboundResponseMetricCollector implements MetricCollector<HttpI
         return logType == LogType.INBOUND_RESPONSE;
     }
 
+    @Override
+    public Class<HttpInboundResponseLog> entryType() {
+        return HttpInboundResponseLog.class;
+    }
+
     @Override
     public void record(HttpInboundResponseLog logEntry) {
         if (!metricsProperties.isMetricsEnabled() || !metricsProperties.isHttpMetricsEnabled()) {
@@ -33,6 +33,11 @@ public class HttpOutboundResponseMetricCollector implements MetricCollector<Http
         return logType == LogType.OUTBOUND_RESPONSE;
     }
 
+    @Override
+    public Class<HttpOutboundResponseLog> entryType() {
+        return HttpOutboundResponseLog.class;
+    }
+
     @Override
     public void record(HttpOutboundResponseLog logEntry) {
         if (!metricsProperties.isMetricsEnabled()) {
@@ -0,0 +1,76 @@
+package com.monikit.metric;
+
+import java.util.concurrent.TimeUnit;
+
+import com.monikit.core.metrics.LogAddHookStats;
+import com.monikit.core.metrics.LogAddHookStatsRegistry;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * `LogAddHook`별 실행 통계를 노출하는 `MeterBinder`
+ * <p>
+ * - {@link LogAddHookStatsRegistry}를 읽기만 하며, 훅 실행 경로에는 Micrometer 호출이 추가되지 않는다.
+ * - 바인딩 이후에 등록되는 훅도 리스너로 받아 메트릭을 추가한다.
+ * - 메트릭(태그 `hook`): `monikit_log_add_hook_latency`(FunctionTimer), `monikit_log_add_hook_budget_exceeded_total`,
+ *   `monikit_log_add_hook_dropped_total`, `monikit_log_add_hook_failures_total`, `monikit_log_add_hook_queue_depth`,
+ *   `monikit_log_add_hook_isolated`(격리 시 1)
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class LogAddHookMetricsBinder implements MeterBinder {
+
+    private final LogAddHookStatsRegistry statsRegistry;
+
+    public LogAddHookMetricsBinder(LogAddHookStatsRegistry statsRegistry) {
+        this.statsRegistry = statsRegistry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        statsRegistry.addListener(stats -> bind(registry, stats));
+    }
+
+    private static void bind(MeterRegistry registry, LogAddHookStats stats) {
+        Tags tags = Tags.of("hook", stats.getHookName());
+
+        FunctionTimer.builder("monikit_log_add_hook_latency", stats,
+                LogAddHookStats::getInvocationCount, LogAddHookStats::getLatencyNanos, TimeUnit.NANOSECONDS)
+            .tags(tags)
+            .description("Time spent in LogAddHook invocations")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_log_add_hook_budget_exceeded_total", stats, LogAddHookStats::getBudgetExceededCount)
+            .tags(tags)
+            .description("LogAddHook invocations that exceeded the latency budget")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_log_add_hook_dropped_total", stats, LogAddHookStats::getDroppedCount)
+            .tags(tags)
+            .description("Logs dropped because the async hook queue was full")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_log_add_hook_failures_total", stats, LogAddHookStats::getFailureCount)
+            .tags(tags)
+            .description("LogAddHook invocations that threw an exception")
+            .register(registry);
+
+        Gauge.builder("monikit_log_add_hook_queue_depth", stats, LogAddHookStats::getQueueDepth)
+            .tags(tags)
+            .description("Logs waiting in the async hook queue")
+            .register(registry);
+
+        Gauge.builder("monikit_log_add_hook_isolated", stats, s -> s.isIsolated() ? 1 : 0)
+            .tags(tags)
+            .description("1 if the hook was isolated to an async worker after exceeding its budget")
+            .register(registry);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.monikit.metric;
+
+import com.monikit.core.metrics.LogContextOverflowStats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 요청 로그 버퍼의 overflow 통계를 노출하는 `MeterBinder`
+ * <p>
+ * - {@link LogContextOverflowStats}를 읽기만 하며, 로그 경로에는 Micrometer 호출이 추가되지 않는다.
+ * - 메트릭: `monikit_log_context_overflow_total`, `monikit_log_context_spilled_total`,
+ *   `monikit_log_context_dropped_total`, `monikit_log_context_full_flush_total`, `monikit_log_context_unsampled_total`,
+ *   `monikit_log_context_peak_entries`, `monikit_log_context_peak_bytes`
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class LogContextOverflowMetricsBinder implements MeterBinder {
+
+    private final LogContextOverflowStats stats;
+
+    public LogContextOverflowMetricsBinder(LogContextOverflowStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("monikit_log_context_overflow_total", stats, LogContextOverflowStats::getOverflowCount)
+            .description("Number of times the per-request log buffer hit its limit")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_log_context_spilled_total", stats, LogContextOverflowStats::getSpilledCount)
+            .description("Log entries sent early because the per-request log buffer overflowed")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_log_context_dropped_total", stats, LogContextOverflowStats::getDroppedCount)
+            .description("Log entries discarded by the overflow policy")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_log_context_full_flush_total", stats, LogContextOverflowStats::getFullFlushCount)
+            .description("Mid-request full flushes caused by overflow")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_log_context_unsampled_total", stats, LogContextOverflowStats::getUnsampledCount)
+            .description("Log entries sent mid-request by the overflow policy without passing tail sampling")
+            .register(registry);
+
+        Gauge.builder("monikit_log_context_peak_entries", stats, LogContextOverflowStats::getPeakEntries)
+            .description("Largest number of log entries observed in a single request buffer")
+            .register(registry);
+
+        Gauge.builder("monikit_log_context_peak_bytes", stats, LogContextOverflowStats::getPeakBytes)
+            .description("Largest estimated size of a single request buffer in bytes")
+            .baseUnit("bytes")
+            .register(registry);
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.monikit.metric;
+
+import com.monikit.core.metrics.LogSpoolStats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 디스크 스풀 통계를 노출하는 `MeterBinder`
+ * <p>
+ * - {@link LogSpoolStats}를 읽기만 하며, Sink 전송 경로에는 Micrometer 호출이 추가되지 않는다.
+ * - 메트릭: `monikit_log_spool_spooled_total`, `monikit_log_spool_replayed_total`, `monikit_log_spool_dropped_total`,
+ *   `monikit_log_spool_delegate_failures_total`, `monikit_log_spool_budget_exceeded_total`,
+ *   `monikit_log_spool_replay_failures_total`, `monikit_log_spool_depth_entries`, `monikit_log_spool_depth_bytes`,
+ *   `monikit_log_spool_replay_lag_ms`
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class LogSpoolMetricsBinder implements MeterBinder {
+
+    private final LogSpoolStats stats;
+
+    public LogSpoolMetricsBinder(LogSpoolStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("monikit_log_spool_spooled_total", stats, LogSpoolStats::getSpooledCount)
+            .description("Log entries written to the disk spool instead of the sink")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_log_spool_replayed_total", stats, LogSpoolStats::getReplayedCount)
+            .description("Log entries replayed from the disk spool to the sink")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_log_spool_dropped_total", stats, LogSpoolStats::getDroppedCount)
+            .description("Log entries discarded because the spool quota was exceeded or the spool write failed")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_log_spool_delegate_failures_total", stats, LogSpoolStats::getDelegateFailureCount)
+            .description("Sink deliveries that threw and switched the sink to spooling")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_log_spool_budget_exceeded_total", stats, LogSpoolStats::getBudgetExceededCount)
+            .description("Sink deliveries that exceeded the latency budget and switched the sink to spooling")
+            .register(registry);
+
+        FunctionCounter.builder("monikit_log_spool_replay_failures_total", stats, LogSpoolStats::getReplayFailureCount)
+            .description("Failed attempts to replay the disk spool")
+            .register(registry);
+
+        Gauge.builder("monikit_log_spool_depth_entries", stats, LogSpoolStats::getDepthEntries)
+            .description("Log entries waiting in the disk spool")
+            .register(registry);
+
+        Gauge.builder("monikit_log_spool_depth_bytes", stats, LogSpoolStats::getDepthBytes)
+            .description("Size of log entries waiting in the disk spool")
+            .baseUnit("bytes")
+            .register(registry);
+
+        Gauge.builder("monikit_log_spool_replay_lag_ms", stats, LogSpoolStats::getReplayLagMillis)
+            .description("Age of the oldest log entry waiting in the disk spool")
+            .baseUnit("milliseconds")
+            .register(registry);
+    }
+
+}
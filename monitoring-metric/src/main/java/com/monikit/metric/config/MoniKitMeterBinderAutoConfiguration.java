@@ -6,10 +6,22 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.monikit.core.metrics.DynamicMatcherStats;
+import com.monikit.core.metrics.ExceptionFingerprintStatsRegistry;
+import com.monikit.core.metrics.ExecutorTaskStatsRegistry;
+import com.monikit.core.metrics.LogAddHookStatsRegistry;
+import com.monikit.core.metrics.LogContextOverflowStats;
+import com.monikit.core.metrics.LogSpoolStats;
+import com.monikit.metric.DynamicMatcherMetricsBinder;
+import com.monikit.metric.ExceptionFingerprintMetricsBinder;
 import com.monikit.metric.ExecutionDetailCountMetricsBinder;
 import com.monikit.metric.ExecutionDetailDurationMetricsBinder;
+import com.monikit.metric.ExecutorTaskMetricsBinder;
 import com.monikit.metric.HttpResponseCountMetricsBinder;
 import com.monikit.metric.HttpResponseDurationMetricsBinder;
+import com.monikit.metric.LogAddHookMetricsBinder;
+import com.monikit.metric.LogContextOverflowMetricsBinder;
+import com.monikit.metric.LogSpoolMetricsBinder;
 import com.monikit.metric.SqlQueryCountMetricsBinder;
 import com.monikit.metric.SqlQueryDurationMetricsBinder;
 
@@ -24,6 +36,12 @@ import com.monikit.metric.SqlQueryDurationMetricsBinder;
  *   <li>{@link SqlQueryDurationMetricsBinder}: SQL 실행 시간 메트릭 바인딩</li>
  *   <li>{@link HttpResponseCountMetricsBinder}: HTTP 응답 횟수 메트릭 바인딩</li>
  *   <li>{@link HttpResponseDurationMetricsBinder}: HTTP 응답 시간 메트릭 바인딩</li>
+ *   <li>{@link LogContextOverflowMetricsBinder}: 요청 로그 버퍼 overflow 통계 바인딩</li>
+ *   <li>{@link LogSpoolMetricsBinder}: 디스크 스풀 깊이/재전송 지연 통계 바인딩</li>
+ *   <li>{@link ExecutorTaskMetricsBinder}: 실행기별 작업 큐 대기/실행 시간 통계 바인딩</li>
+ *   <li>{@link LogAddHookMetricsBinder}: LogAddHook별 실행 시간/버려진 로그/격리 여부 통계 바인딩</li>
+ *   <li>{@link ExceptionFingerprintMetricsBinder}: 예외 지문별 발생/요약 횟수 통계 바인딩</li>
+ *   <li>{@link DynamicMatcherMetricsBinder}: 동적 규칙 매칭의 SpEL 평가 횟수/시간, pre-filter 건너뜀, 매칭 결과 통계 바인딩</li>
  * </ul>
  *
  * <p>
@@ -95,5 +113,119 @@ public class MoniKitMeterBinderAutoConfiguration {
         return new ExecutionDetailDurationMetricsBinder();
     }
 
+    /**
+     * 요청 로그 버퍼 overflow 통계 저장소.
+     * <p>
+     * `LogEntryContextManager`가 갱신하고 {@link LogContextOverflowMetricsBinder}가 읽는다.
+     * </p>
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LogContextOverflowStats logContextOverflowStats() {
+        return new LogContextOverflowStats();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public LogContextOverflowMetricsBinder logContextOverflowMetricsBinder(LogContextOverflowStats logContextOverflowStats) {
+        logger.info("[MoniKit] Registered MeterBinder: LogContextOverflowMetricsBinder");
+        return new LogContextOverflowMetricsBinder(logContextOverflowStats);
+    }
+
+    /**
+     * 디스크 스풀 통계 저장소.
+     * <p>
+     * `SpoolingLogSink`가 갱신하고 {@link LogSpoolMetricsBinder}가 읽는다. 스풀을 사용하지 않으면 값은 0으로 유지된다.
+     * </p>
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LogSpoolStats logSpoolStats() {
+        return new LogSpoolStats();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public LogSpoolMetricsBinder logSpoolMetricsBinder(LogSpoolStats logSpoolStats) {
+        logger.info("[MoniKit] Registered MeterBinder: LogSpoolMetricsBinder");
+        return new LogSpoolMetricsBinder(logSpoolStats);
+    }
+
+    /**
+     * 실행기별 작업 대기/실행 시간 통계 저장소.
+     * <p>
+     * 컨텍스트 전파 TaskDecorator / ExecutorService 래퍼가 갱신하고 {@link ExecutorTaskMetricsBinder}가 읽는다.
+     * </p>
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ExecutorTaskStatsRegistry executorTaskStatsRegistry() {
+        return new ExecutorTaskStatsRegistry();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ExecutorTaskMetricsBinder executorTaskMetricsBinder(ExecutorTaskStatsRegistry executorTaskStatsRegistry) {
+        logger.info("[MoniKit] Registered MeterBinder: ExecutorTaskMetricsBinder");
+        return new ExecutorTaskMetricsBinder(executorTaskStatsRegistry);
+    }
+
+    /**
+     * LogAddHook별 실행 통계 저장소.
+     * <p>
+     * `LogAddHookIsolator`가 만든 훅 래퍼가 갱신하고 {@link LogAddHookMetricsBinder}가 읽는다.
+     * </p>
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LogAddHookStatsRegistry logAddHookStatsRegistry() {
+        return new LogAddHookStatsRegistry();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public LogAddHookMetricsBinder logAddHookMetricsBinder(LogAddHookStatsRegistry logAddHookStatsRegistry) {
+        logger.info("[MoniKit] Registered MeterBinder: LogAddHookMetricsBinder");
+        return new LogAddHookMetricsBinder(logAddHookStatsRegistry);
+    }
+
+    /**
+     * 예외 지문별 발생 통계 저장소.
+     * <p>
+     * `ExceptionAggregator`가 갱신하고 {@link ExceptionFingerprintMetricsBinder}가 읽는다. 집계를 사용하지 않으면 메트릭이 생기지 않는다.
+     * </p>
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ExceptionFingerprintStatsRegistry exceptionFingerprintStatsRegistry() {
+        return new ExceptionFingerprintStatsRegistry();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ExceptionFingerprintMetricsBinder exceptionFingerprintMetricsBinder(
+        ExceptionFingerprintStatsRegistry exceptionFingerprintStatsRegistry) {
+        logger.info("[MoniKit] Registered MeterBinder: ExceptionFingerprintMetricsBinder");
+        return new ExceptionFingerprintMetricsBinder(exceptionFingerprintStatsRegistry);
+    }
+
+    /**
+     * 동적 규칙 매칭 비용 통계 저장소.
+     * <p>
+     * `DynamicMatcher`가 갱신하고 {@link DynamicMatcherMetricsBinder}가 읽는다.
+     * </p>
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public DynamicMatcherStats dynamicMatcherStats() {
+        return new DynamicMatcherStats();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public DynamicMatcherMetricsBinder dynamicMatcherMetricsBinder(DynamicMatcherStats dynamicMatcherStats) {
+        logger.info("[MoniKit] Registered MeterBinder: DynamicMatcherMetricsBinder");
+        return new DynamicMatcherMetricsBinder(dynamicMatcherStats);
+    }
 
 }
@@ -0,0 +1,68 @@
+package com.monikit.metric;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import com.monikit.core.metrics.DynamicMatcherStats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DynamicMatcherMetricsBinderTest {
+
+    private MeterRegistry meterRegistry;
+    private DynamicMatcherStats stats;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stats = new DynamicMatcherStats(1);
+        new DynamicMatcherMetricsBinder(stats).bindTo(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("shouldExposeMatcherCountersFromStats")
+    void shouldExposeMatcherCountersFromStats() {
+        // When
+        stats.recordRegexChecks(3);
+        stats.recordPrefilterSkips(2);
+        stats.recordSpelEvaluation();
+        stats.recordMatched();
+        stats.recordUnmatched();
+        stats.recordUnmatched();
+        stats.recordNoApplicableRule();
+
+        // Then
+        assertEquals(1.0, meterRegistry.find("monikit_spel_evaluation_count").functionCounter().count());
+        assertEquals(2.0, meterRegistry.find("monikit_dynamic_matcher_prefilter_skip_total").functionCounter().count());
+        assertEquals(3.0, meterRegistry.find("monikit_dynamic_matcher_regex_checks_total").functionCounter().count());
+
+        FunctionCounter matched = meterRegistry.find("monikit_dynamic_matcher_calls_total").tag("result", "matched").functionCounter();
+        FunctionCounter unmatched = meterRegistry.find("monikit_dynamic_matcher_calls_total").tag("result", "unmatched").functionCounter();
+        FunctionCounter noRule = meterRegistry.find("monikit_dynamic_matcher_calls_total").tag("result", "no_rule").functionCounter();
+        assertEquals(1.0, matched.count());
+        assertEquals(2.0, unmatched.count());
+        assertEquals(1.0, noRule.count());
+    }
+
+    @Test
+    @DisplayName("shouldRecordSampledEvaluationTimeToTimer")
+    void shouldRecordSampledEvaluationTimeToTimer() {
+        // When
+        assertTrue(stats.recordSpelEvaluation());
+        stats.recordSampledEvaluationTime(TimeUnit.MICROSECONDS.toNanos(40));
+
+        // Then
+        Timer timer = meterRegistry.find("monikit_spel_evaluation_duration").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertEquals(40.0, timer.totalTime(TimeUnit.MICROSECONDS));
+        assertEquals(1, stats.getSampledEvaluationCount());
+    }
+}
@@ -0,0 +1,69 @@
+package com.monikit.metric;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.monikit.core.metrics.ExceptionFingerprintStats;
+import com.monikit.core.metrics.ExceptionFingerprintStatsRegistry;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExceptionFingerprintMetricsBinderTest {
+
+    private MeterRegistry meterRegistry;
+    private ExceptionFingerprintStatsRegistry statsRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        statsRegistry = new ExceptionFingerprintStatsRegistry(1);
+    }
+
+    @Test
+    @DisplayName("shouldExposeOccurrencesAndCoalescedPerFingerprint")
+    void shouldExposeOccurrencesAndCoalescedPerFingerprint() {
+        // Given
+        ExceptionFingerprintStats stats = statsRegistry.forFingerprint("9932e81f7a7cc1e7", "IllegalStateException");
+        new ExceptionFingerprintMetricsBinder(statsRegistry).bindTo(meterRegistry);
+
+        // When
+        stats.recordOccurrence();
+        stats.recordOccurrence();
+        stats.recordOccurrence();
+        stats.recordCoalesced();
+        stats.recordCoalesced();
+
+        // Then
+        FunctionCounter occurrences = meterRegistry.find("monikit_exception_occurrences_total")
+            .tag("fingerprint", "9932e81f7a7cc1e7").tag("exception", "IllegalStateException").functionCounter();
+        FunctionCounter coalesced = meterRegistry.find("monikit_exception_coalesced_total")
+            .tag("fingerprint", "9932e81f7a7cc1e7").functionCounter();
+
+        assertNotNull(occurrences);
+        assertEquals(3.0, occurrences.count());
+        assertEquals(2.0, coalesced.count());
+    }
+
+    @Test
+    @DisplayName("shouldFoldFingerprintsBeyondLimitIntoOverflowTag")
+    void shouldFoldFingerprintsBeyondLimitIntoOverflowTag() {
+        // Given
+        new ExceptionFingerprintMetricsBinder(statsRegistry).bindTo(meterRegistry);
+        statsRegistry.forFingerprint("first", "IllegalStateException").recordOccurrence();
+
+        // When
+        statsRegistry.forFingerprint("second", "NullPointerException").recordOccurrence();
+        statsRegistry.forFingerprint("third", "IllegalArgumentException").recordOccurrence();
+
+        // Then
+        FunctionCounter overflow = meterRegistry.find("monikit_exception_occurrences_total")
+            .tag("fingerprint", ExceptionFingerprintStatsRegistry.OVERFLOW_FINGERPRINT).functionCounter();
+        assertNotNull(overflow);
+        assertEquals(2.0, overflow.count());
+        assertEquals(2, meterRegistry.find("monikit_exception_occurrences_total").functionCounters().size());
+    }
+}
@@ -0,0 +1,71 @@
+package com.monikit.metric;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import com.monikit.core.metrics.ExecutorTaskStats;
+import com.monikit.core.metrics.ExecutorTaskStatsRegistry;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExecutorTaskMetricsBinderTest {
+
+    private MeterRegistry meterRegistry;
+    private ExecutorTaskStatsRegistry statsRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        statsRegistry = new ExecutorTaskStatsRegistry();
+    }
+
+    @Test
+    @DisplayName("shouldExposeQueueWaitAndRunTimePerExecutor")
+    void shouldExposeQueueWaitAndRunTimePerExecutor() {
+        // Given
+        ExecutorTaskStats stats = statsRegistry.forExecutor("applicationTaskExecutor");
+        new ExecutorTaskMetricsBinder(statsRegistry).bindTo(meterRegistry);
+
+        // When
+        stats.recordStart(TimeUnit.MILLISECONDS.toNanos(30));
+        stats.recordCompletion(TimeUnit.MILLISECONDS.toNanos(10), true);
+
+        // Then
+        FunctionTimer queueWait = meterRegistry.find("monikit_executor_queue_wait")
+            .tag("executor", "applicationTaskExecutor").functionTimer();
+        FunctionTimer run = meterRegistry.find("monikit_executor_run")
+            .tag("executor", "applicationTaskExecutor").functionTimer();
+        FunctionCounter failed = meterRegistry.find("monikit_executor_failed_total").functionCounter();
+        Gauge active = meterRegistry.find("monikit_executor_active_tasks").gauge();
+
+        assertNotNull(queueWait);
+        assertEquals(1.0, queueWait.count());
+        assertEquals(30.0, queueWait.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(10.0, run.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1.0, failed.count());
+        assertEquals(0.0, active.value());
+    }
+
+    @Test
+    @DisplayName("shouldBindExecutorsRegisteredAfterBinding")
+    void shouldBindExecutorsRegisteredAfterBinding() {
+        // Given
+        new ExecutorTaskMetricsBinder(statsRegistry).bindTo(meterRegistry);
+
+        // When
+        statsRegistry.forExecutor("lateExecutor").recordStart(0);
+
+        // Then
+        Gauge active = meterRegistry.find("monikit_executor_active_tasks").tag("executor", "lateExecutor").gauge();
+        assertNotNull(active);
+        assertEquals(1.0, active.value());
+    }
+}
@@ -0,0 +1,78 @@
+package com.monikit.metric;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import com.monikit.core.metrics.LogAddHookStats;
+import com.monikit.core.metrics.LogAddHookStatsRegistry;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LogAddHookMetricsBinderTest {
+
+    private MeterRegistry meterRegistry;
+    private LogAddHookStatsRegistry statsRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        statsRegistry = new LogAddHookStatsRegistry();
+    }
+
+    @Test
+    @DisplayName("shouldExposeLatencyDropsAndIsolationPerHook")
+    void shouldExposeLatencyDropsAndIsolationPerHook() {
+        // Given
+        LogAddHookStats stats = statsRegistry.forHook("SlackAlertHook");
+        new LogAddHookMetricsBinder(statsRegistry).bindTo(meterRegistry);
+
+        // When
+        stats.recordInvocation(TimeUnit.MILLISECONDS.toNanos(20));
+        stats.recordBudgetExceeded();
+        stats.recordDropped();
+        stats.recordDropped();
+        stats.markIsolated();
+        stats.bindQueueDepth(() -> 7);
+
+        // Then
+        FunctionTimer latency = meterRegistry.find("monikit_log_add_hook_latency")
+            .tag("hook", "SlackAlertHook").functionTimer();
+        FunctionCounter budgetExceeded = meterRegistry.find("monikit_log_add_hook_budget_exceeded_total").functionCounter();
+        FunctionCounter dropped = meterRegistry.find("monikit_log_add_hook_dropped_total").functionCounter();
+        FunctionCounter failures = meterRegistry.find("monikit_log_add_hook_failures_total").functionCounter();
+        Gauge queueDepth = meterRegistry.find("monikit_log_add_hook_queue_depth").gauge();
+        Gauge isolated = meterRegistry.find("monikit_log_add_hook_isolated").gauge();
+
+        assertNotNull(latency);
+        assertEquals(1.0, latency.count());
+        assertEquals(20.0, latency.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1.0, budgetExceeded.count());
+        assertEquals(2.0, dropped.count());
+        assertEquals(0.0, failures.count());
+        assertEquals(7.0, queueDepth.value());
+        assertEquals(1.0, isolated.value());
+    }
+
+    @Test
+    @DisplayName("shouldBindHooksRegisteredAfterBinding")
+    void shouldBindHooksRegisteredAfterBinding() {
+        // Given
+        new LogAddHookMetricsBinder(statsRegistry).bindTo(meterRegistry);
+
+        // When
+        statsRegistry.forHook("LateHook").recordFailure();
+
+        // Then
+        FunctionCounter failures = meterRegistry.find("monikit_log_add_hook_failures_total").tag("hook", "LateHook").functionCounter();
+        assertNotNull(failures);
+        assertEquals(1.0, failures.count());
+    }
+}
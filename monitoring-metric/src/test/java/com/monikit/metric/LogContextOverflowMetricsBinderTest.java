@@ -0,0 +1,63 @@
+package com.monikit.metric;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.monikit.core.metrics.LogContextOverflowStats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LogContextOverflowMetricsBinderTest {
+
+    private MeterRegistry meterRegistry;
+    private LogContextOverflowStats stats;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stats = new LogContextOverflowStats();
+        new LogContextOverflowMetricsBinder(stats).bindTo(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("shouldExposeOverflowCountersFromStats")
+    void shouldExposeOverflowCountersFromStats() {
+        // When
+        stats.recordOverflow();
+        stats.recordSpilled(50);
+        stats.recordDropped(3);
+        stats.recordUnsampled(7);
+
+        // Then
+        FunctionCounter overflow = meterRegistry.find("monikit_log_context_overflow_total").functionCounter();
+        FunctionCounter spilled = meterRegistry.find("monikit_log_context_spilled_total").functionCounter();
+        FunctionCounter dropped = meterRegistry.find("monikit_log_context_dropped_total").functionCounter();
+        FunctionCounter unsampled = meterRegistry.find("monikit_log_context_unsampled_total").functionCounter();
+
+        assertNotNull(overflow);
+        assertEquals(1.0, overflow.count());
+        assertEquals(50.0, spilled.count());
+        assertEquals(3.0, dropped.count());
+        assertEquals(7.0, unsampled.count());
+    }
+
+    @Test
+    @DisplayName("shouldExposePeakBufferSize")
+    void shouldExposePeakBufferSize() {
+        // When
+        stats.recordFlushedSize(120, 4096);
+        stats.recordFlushedSize(80, 1024);
+
+        // Then
+        Gauge peakEntries = meterRegistry.find("monikit_log_context_peak_entries").gauge();
+        Gauge peakBytes = meterRegistry.find("monikit_log_context_peak_bytes").gauge();
+
+        assertEquals(120.0, peakEntries.value());
+        assertEquals(4096.0, peakBytes.value());
+    }
+}
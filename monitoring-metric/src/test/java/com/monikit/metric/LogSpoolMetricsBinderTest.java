@@ -0,0 +1,59 @@
+package com.monikit.metric;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.monikit.core.metrics.LogSpoolStats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LogSpoolMetricsBinderTest {
+
+    private MeterRegistry meterRegistry;
+    private LogSpoolStats stats;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stats = new LogSpoolStats();
+        new LogSpoolMetricsBinder(stats).bindTo(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("shouldExposeSpoolCountersFromStats")
+    void shouldExposeSpoolCountersFromStats() {
+        // When
+        stats.recordSpooled(10);
+        stats.recordReplayed(7);
+        stats.recordDropped(2);
+        stats.recordDelegateFailure();
+
+        // Then
+        FunctionCounter spooled = meterRegistry.find("monikit_log_spool_spooled_total").functionCounter();
+        FunctionCounter replayed = meterRegistry.find("monikit_log_spool_replayed_total").functionCounter();
+        FunctionCounter dropped = meterRegistry.find("monikit_log_spool_dropped_total").functionCounter();
+        FunctionCounter failures = meterRegistry.find("monikit_log_spool_delegate_failures_total").functionCounter();
+
+        assertNotNull(spooled);
+        assertEquals(10.0, spooled.count());
+        assertEquals(7.0, replayed.count());
+        assertEquals(2.0, dropped.count());
+        assertEquals(1.0, failures.count());
+    }
+
+    @Test
+    @DisplayName("shouldExposeZeroDepthWithoutSpools")
+    void shouldExposeZeroDepthWithoutSpools() {
+        // Then
+        Gauge depth = meterRegistry.find("monikit_log_spool_depth_entries").gauge();
+        Gauge lag = meterRegistry.find("monikit_log_spool_replay_lag_ms").gauge();
+
+        assertEquals(0.0, depth.value());
+        assertEquals(0.0, lag.value());
+    }
+}
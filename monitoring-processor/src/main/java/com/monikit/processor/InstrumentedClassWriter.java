@@ -0,0 +1,211 @@
+package com.monikit.processor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+
+/**
+ * 계측 대상 클래스 하나의 {@code *_MoniKit} 소스를 만든다.
+ * <p>
+ * 계측 메서드마다 {@code ExecutionSite} 상수를 두고, 재정의한 메서드에서 {@code super} 호출 앞뒤로 시작/종료를 기록한다.
+ * 원본 클래스의 non-private 생성자는 모두 같은 시그니처와 접근 제어자로 위임한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+final class InstrumentedClassWriter {
+
+    private static final String EXECUTION_SITE = "com.monikit.core.instrument.ExecutionSite";
+    private static final String INSTRUMENTED = "com.monikit.core.instrument.MoniKitInstrumented";
+    private static final String START = "monikit$start";
+    private static final String RESULT = "monikit$result";
+    private static final String ERROR = "monikit$error";
+
+    private final Elements elements;
+    private final TypeElement type;
+    private final List<InstrumentedMethod> methods;
+    private final String packageName;
+    private final String simpleName;
+
+    InstrumentedClassWriter(Elements elements, TypeElement type, List<InstrumentedMethod> methods) {
+        this.elements = elements;
+        this.type = type;
+        this.methods = methods;
+        PackageElement pkg = elements.getPackageOf(type);
+        this.packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String nestedName = packageName.isEmpty()
+            ? type.getQualifiedName().toString()
+            : type.getQualifiedName().toString().substring(packageName.length() + 1);
+        this.simpleName = nestedName.replace('.', '_') + LogExecutionTimeProcessor.GENERATED_SUFFIX;
+    }
+
+    String getQualifiedName() {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    String render() {
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+
+        String typeParameters = typeParameters(type.getTypeParameters());
+        String typeArguments = type.getTypeParameters().isEmpty() ? ""
+            : type.getTypeParameters().stream().map(p -> p.getSimpleName().toString())
+                .collect(Collectors.joining(", ", "<", ">"));
+
+        out.append("@javax.annotation.processing.Generated(\"").append(LogExecutionTimeProcessor.class.getName()).append("\")\n");
+        out.append('@').append(INSTRUMENTED).append('(').append(type.getQualifiedName()).append(".class)\n");
+        if (type.getModifiers().contains(Modifier.PUBLIC)) {
+            out.append("public ");
+        }
+        out.append("class ").append(simpleName).append(typeParameters)
+            .append(" extends ").append(type.getQualifiedName()).append(typeArguments).append(" {\n");
+
+        for (int i = 0; i < methods.size(); i++) {
+            InstrumentedMethod method = methods.get(i);
+            out.append("\n    private static final ").append(EXECUTION_SITE).append(' ').append(siteName(i))
+                .append(" = ").append(EXECUTION_SITE).append(".of(")
+                .append(elements.getConstantExpression(type.getSimpleName().toString())).append(", ")
+                .append(elements.getConstantExpression(method.getMethod().getSimpleName().toString())).append(", ")
+                .append(method.getThresholdMillis()).append("L, ")
+                .append(elements.getConstantExpression(method.getTag())).append(");");
+        }
+        out.append('\n');
+
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (!constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                renderConstructor(out, constructor);
+            }
+        }
+        for (int i = 0; i < methods.size(); i++) {
+            renderMethod(out, methods.get(i).getMethod(), siteName(i));
+        }
+
+        out.append("\n}\n");
+        return out.toString();
+    }
+
+    private void renderConstructor(StringBuilder out, ExecutableElement constructor) {
+        out.append("\n    ");
+        for (Modifier modifier : constructor.getModifiers()) {
+            if (modifier == Modifier.PUBLIC || modifier == Modifier.PROTECTED) {
+                out.append(modifier).append(' ');
+            }
+        }
+        String typeParameters = typeParameters(constructor.getTypeParameters());
+        if (!typeParameters.isEmpty()) {
+            out.append(typeParameters).append(' ');
+        }
+        out.append(simpleName).append('(').append(parameters(constructor)).append(')').append(throwsClause(constructor))
+            .append(" {\n        super(").append(arguments(constructor)).append(");\n    }\n");
+    }
+
+    private void renderMethod(StringBuilder out, ExecutableElement method, String site) {
+        boolean isStatic = method.getModifiers().contains(Modifier.STATIC);
+        boolean isVoid = method.getReturnType().getKind() == TypeKind.VOID;
+        String returnType = method.getReturnType().toString();
+        String call = (isStatic ? type.getQualifiedName().toString() : "super")
+            + "." + method.getSimpleName() + "(" + arguments(method) + ")";
+
+        out.append('\n');
+        if (!isStatic) {
+            out.append("    @Override\n");
+        }
+        out.append("    ");
+        for (Modifier modifier : method.getModifiers()) {
+            if (modifier == Modifier.PUBLIC || modifier == Modifier.PROTECTED || modifier == Modifier.STATIC) {
+                out.append(modifier).append(' ');
+            }
+        }
+        String typeParameters = typeParameters(method.getTypeParameters());
+        if (!typeParameters.isEmpty()) {
+            out.append(typeParameters).append(' ');
+        }
+        out.append(returnType).append(' ').append(method.getSimpleName())
+            .append('(').append(parameters(method)).append(')').append(throwsClause(method)).append(" {\n");
+
+        out.append("        long ").append(START).append(" = ").append(site).append(".start();\n");
+        if (!isVoid) {
+            out.append("        ").append(returnType).append(' ').append(RESULT).append(";\n");
+        }
+        out.append("        try {\n            ");
+        if (!isVoid) {
+            out.append(RESULT).append(" = ");
+        }
+        out.append(call).append(";\n");
+        out.append("        } catch (Throwable ").append(ERROR).append(") {\n");
+        out.append("            ").append(site).append(".end(").append(START).append(", ").append(ERROR).append(");\n");
+        out.append("            throw ").append(ERROR).append(";\n");
+        out.append("        }\n");
+        out.append("        ").append(site).append(".end(").append(START).append(", null);\n");
+        if (!isVoid) {
+            out.append("        return ").append(RESULT).append(";\n");
+        }
+        out.append("    }\n");
+    }
+
+    private static String siteName(int index) {
+        return "SITE_" + index;
+    }
+
+    private static String typeParameters(List<? extends TypeParameterElement> typeParameters) {
+        if (typeParameters.isEmpty()) {
+            return "";
+        }
+        return typeParameters.stream().map(parameter -> {
+            List<? extends TypeMirror> bounds = parameter.getBounds();
+            boolean onlyObject = bounds.size() == 1 && bounds.get(0).toString().equals("java.lang.Object");
+            if (bounds.isEmpty() || onlyObject) {
+                return parameter.getSimpleName().toString();
+            }
+            return parameter.getSimpleName() + " extends "
+                + bounds.stream().map(TypeMirror::toString).collect(Collectors.joining(" & "));
+        }).collect(Collectors.joining(", ", "<", ">"));
+    }
+
+    private static String parameters(ExecutableElement executable) {
+        List<? extends VariableElement> parameters = executable.getParameters();
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            TypeMirror parameterType = parameters.get(i).asType();
+            if (executable.isVarArgs() && i == parameters.size() - 1 && parameterType.getKind() == TypeKind.ARRAY) {
+                out.append(((ArrayType) parameterType).getComponentType()).append("...");
+            } else {
+                out.append(parameterType);
+            }
+            out.append(' ').append(parameters.get(i).getSimpleName());
+        }
+        return out.toString();
+    }
+
+    private static String arguments(ExecutableElement executable) {
+        return executable.getParameters().stream()
+            .map(parameter -> parameter.getSimpleName().toString())
+            .collect(Collectors.joining(", "));
+    }
+
+    private static String throwsClause(ExecutableElement executable) {
+        if (executable.getThrownTypes().isEmpty()) {
+            return "";
+        }
+        return executable.getThrownTypes().stream().map(TypeMirror::toString)
+            .collect(Collectors.joining(", ", " throws ", ""));
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.monikit.processor;
+
+import javax.lang.model.element.ExecutableElement;
+
+/**
+ * 계측할 메서드와 그 메서드에 적용할 기준 시간 / 태그.
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+final class InstrumentedMethod {
+
+    private final ExecutableElement method;
+    private final long thresholdMillis;
+    private final String tag;
+
+    InstrumentedMethod(ExecutableElement method, long thresholdMillis, String tag) {
+        this.method = method;
+        this.thresholdMillis = thresholdMillis;
+        this.tag = tag;
+    }
+
+    ExecutableElement getMethod() {
+        return method;
+    }
+
+    long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+    String getTag() {
+        return tag;
+    }
+
+}
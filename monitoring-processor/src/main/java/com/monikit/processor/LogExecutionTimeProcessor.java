@@ -0,0 +1,210 @@
+package com.monikit.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * {@code @LogExecutionTime} / {@code @LogExecutionRule}이 붙은 클래스와 메서드에 대해 컴파일 시점에 계측 클래스를 생성하는 어노테이션 프로세서.
+ * <p>
+ * 대상 클래스 {@code Foo}마다 같은 패키지에 {@code Foo_MoniKit extends Foo}를 만들고, 계측 대상 메서드를 재정의해
+ * {@code ExecutionSite} 상수로 실행 시간을 기록한다. 런타임에는 조인 포인트, 인자 배열, 리플렉션을 사용하지 않는다.
+ * </p>
+ *
+ * <ul>
+ *     <li>메서드에 붙은 어노테이션: private, final, abstract가 아닌 메서드를 계측 (static 메서드는 static 래퍼 생성)</li>
+ *     <li>클래스에 붙은 어노테이션: 클래스에 선언된 public 인스턴스 메서드 중 final, abstract가 아닌 메서드를 계측</li>
+ *     <li>기준 시간과 태그는 메서드, 클래스 순서로 {@code @LogExecutionRule}에서 읽으며, 없으면 0ms / 빈 태그</li>
+ *     <li>final 클래스, private 클래스, non-static 내부 클래스, 접근 가능한 생성자가 없는 클래스는 경고 후 건너뜀</li>
+ *     <li>Spring 컴포넌트({@code @Component}와 이를 메타 어노테이션으로 가진 {@code @Service} 등)는 경고 후 건너뜀.
+ *         원본이 이미 빈으로 등록되므로 생성 클래스를 함께 등록하면 같은 타입의 빈이 둘이 되고, 원본 빈은 AOP 경로로 한 번 더 기록된다.
+ *         계측하려면 원본에서 스테레오타입을 빼고 생성 클래스를 빈으로 등록한다.</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@SupportedAnnotationTypes({LogExecutionTimeProcessor.LOG_EXECUTION_TIME, LogExecutionTimeProcessor.LOG_EXECUTION_RULE})
+public class LogExecutionTimeProcessor extends AbstractProcessor {
+
+    static final String LOG_EXECUTION_TIME = "com.monikit.core.LogExecutionTime";
+    static final String LOG_EXECUTION_RULE = "com.monikit.core.LogExecutionRule";
+    static final String GENERATED_SUFFIX = "_MoniKit";
+    static final String SPRING_COMPONENT = "org.springframework.stereotype.Component";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> targets = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.METHOD) {
+                    targets.add((TypeElement) element.getEnclosingElement());
+                } else if (element.getKind().isClass() || element.getKind().isInterface()) {
+                    targets.add((TypeElement) element);
+                }
+            }
+        }
+
+        for (TypeElement type : targets) {
+            if (!isExtensible(type)) {
+                continue;
+            }
+            List<InstrumentedMethod> methods = collectMethods(type);
+            if (!methods.isEmpty()) {
+                write(type, methods);
+            }
+        }
+        return false;
+    }
+
+    private boolean isExtensible(TypeElement type) {
+        String reason = null;
+        if (type.getKind() != ElementKind.CLASS) {
+            reason = "only classes can be instrumented";
+        } else if (type.getModifiers().contains(Modifier.FINAL)) {
+            reason = "final classes cannot be extended";
+        } else if (type.getModifiers().contains(Modifier.PRIVATE)) {
+            reason = "private classes cannot be extended";
+        } else if (type.getNestingKind() != NestingKind.TOP_LEVEL
+            && (type.getNestingKind() != NestingKind.MEMBER || !type.getModifiers().contains(Modifier.STATIC))) {
+            reason = "only top-level and static nested classes can be instrumented";
+        } else if (ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+            .allMatch(constructor -> constructor.getModifiers().contains(Modifier.PRIVATE))) {
+            reason = "no non-private constructor";
+        } else if (hasMetaAnnotation(type, SPRING_COMPONENT, new HashSet<>())) {
+            reason = "Spring components are already registered as beans. Remove the stereotype and register "
+                + type.getSimpleName() + GENERATED_SUFFIX + " as the bean, or leave it to ExecutionLoggingAspect";
+        }
+        if (reason != null) {
+            warn(type, "[MoniKit] Skipping compile-time instrumentation of " + type.getQualifiedName() + ": " + reason);
+            return false;
+        }
+        return true;
+    }
+
+    private List<InstrumentedMethod> collectMethods(TypeElement type) {
+        boolean classAnnotated = findAnnotation(type, LOG_EXECUTION_TIME) != null
+            || findAnnotation(type, LOG_EXECUTION_RULE) != null;
+        AnnotationMirror classRule = findAnnotation(type, LOG_EXECUTION_RULE);
+
+        List<InstrumentedMethod> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            AnnotationMirror methodRule = findAnnotation(method, LOG_EXECUTION_RULE);
+            boolean explicit = methodRule != null || findAnnotation(method, LOG_EXECUTION_TIME) != null;
+            Set<Modifier> modifiers = method.getModifiers();
+
+            if (!explicit) {
+                if (!classAnnotated || !modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)
+                    || modifiers.contains(Modifier.FINAL) || modifiers.contains(Modifier.ABSTRACT)) {
+                    continue;
+                }
+            } else if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)
+                || modifiers.contains(Modifier.ABSTRACT)) {
+                warn(method, "[MoniKit] Skipping compile-time instrumentation of " + type.getSimpleName() + "."
+                    + method.getSimpleName() + ": private, final and abstract methods cannot be overridden");
+                continue;
+            }
+
+            AnnotationMirror rule = methodRule != null ? methodRule : classRule;
+            methods.add(new InstrumentedMethod(method, thresholdOf(rule), tagOf(rule)));
+        }
+        return methods;
+    }
+
+    private void write(TypeElement type, List<InstrumentedMethod> methods) {
+        InstrumentedClassWriter writer = new InstrumentedClassWriter(processingEnv.getElementUtils(), type, methods);
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(writer.getQualifiedName(), type);
+            try (Writer out = file.openWriter()) {
+                out.write(writer.render());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "[MoniKit] Failed to write " + writer.getQualifiedName() + ": " + e.getMessage(), type);
+        }
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 요소에 {@code annotationName} 어노테이션이 직접 또는 메타 어노테이션으로 붙어 있는지 확인한다.
+     */
+    private static boolean hasMetaAnnotation(Element element, String annotationName, Set<String> visited) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            String qualifiedName = annotationType.getQualifiedName().toString();
+            if (qualifiedName.equals(annotationName)) {
+                return true;
+            }
+            if (!qualifiedName.startsWith("java.lang.") && visited.add(qualifiedName)
+                && hasMetaAnnotation(annotationType, annotationName, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long thresholdOf(AnnotationMirror rule) {
+        Object value = valueOf(rule, "thresholdMillis");
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private String tagOf(AnnotationMirror rule) {
+        Object value = valueOf(rule, "tag");
+        return value instanceof String tag ? tag : "";
+    }
+
+    private Object valueOf(AnnotationMirror rule, String name) {
+        if (rule == null) {
+            return null;
+        }
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+            processingEnv.getElementUtils().getElementValuesWithDefaults(rule);
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private void warn(Element element, String message) {
+        Messager messager = processingEnv.getMessager();
+        messager.printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+}
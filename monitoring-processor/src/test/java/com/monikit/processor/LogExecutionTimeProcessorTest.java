@@ -0,0 +1,296 @@
+package com.monikit.processor;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.monikit.core.LogType;
+import com.monikit.core.TraceIdProvider;
+import com.monikit.core.context.LogEntryContextManager;
+import com.monikit.core.instrument.ExecutionRecorder;
+import com.monikit.core.instrument.ExecutionRecorders;
+import com.monikit.core.instrument.MoniKitInstrumented;
+import com.monikit.core.model.ExceptionLog;
+import com.monikit.core.model.ExecutionDetailLog;
+import com.monikit.core.model.LogEntry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LogExecutionTimeProcessor 테스트")
+class LogExecutionTimeProcessorTest {
+
+    @TempDir
+    Path workDir;
+
+    private final List<LogEntry> logs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ExecutionRecorders.set(new ExecutionRecorder(new CapturingContextManager(logs), new FixedTraceIdProvider()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ExecutionRecorders.reset();
+    }
+
+    @Test
+    @DisplayName("클래스에 붙은 @LogExecutionTime은 public 메서드를 재정의한 계측 클래스를 생성해야 한다")
+    void shouldGenerateSubclassForAnnotatedClass() throws Exception {
+        ClassLoader loader = compile("sample/OrderService.java", """
+            package sample;
+
+            @com.monikit.core.LogExecutionTime
+            public class OrderService {
+                private final String prefix;
+
+                public OrderService(String prefix) {
+                    this.prefix = prefix;
+                }
+
+                public String place(String orderId, int... quantities) {
+                    return prefix + orderId + quantities.length;
+                }
+
+                String internal() {
+                    return "internal";
+                }
+            }
+            """);
+
+        Class<?> generated = loader.loadClass("sample.OrderService_MoniKit");
+        Object service = generated.getConstructor(String.class).newInstance("order-");
+        Object result = generated.getMethod("place", String.class, int[].class).invoke(service, "1", new int[] {1, 2});
+
+        assertEquals("order-12", result);
+        assertEquals(loader.loadClass("sample.OrderService"), generated.getAnnotation(MoniKitInstrumented.class).value());
+        assertEquals(1, logs.size());
+        ExecutionDetailLog log = (ExecutionDetailLog) logs.get(0);
+        assertEquals("OrderService", log.getClassName());
+        assertEquals("place", log.getMethodName());
+        assertEquals("trace-1", log.getTraceId());
+        assertThrows(NoSuchMethodException.class, () -> generated.getDeclaredMethod("internal"));
+    }
+
+    @Test
+    @DisplayName("@LogExecutionRule의 기준 시간 미만으로 끝난 실행은 기록하지 않아야 한다")
+    void shouldSkipExecutionsBelowRuleThreshold() throws Exception {
+        ClassLoader loader = compile("sample/PaymentService.java", """
+            package sample;
+
+            import com.monikit.core.LogExecutionRule;
+
+            public class PaymentService {
+                @LogExecutionRule(thresholdMillis = 60000, tag = "payment")
+                public void pay() {
+                }
+
+                @LogExecutionRule(tag = "refund")
+                public static int refund(int amount) {
+                    return amount;
+                }
+            }
+            """);
+
+        Class<?> generated = loader.loadClass("sample.PaymentService_MoniKit");
+        generated.getMethod("pay").invoke(generated.getConstructor().newInstance());
+        assertTrue(logs.isEmpty());
+
+        assertEquals(5, generated.getMethod("refund", int.class).invoke(null, 5));
+        assertEquals(1, logs.size());
+        assertEquals("refund", ((ExecutionDetailLog) logs.get(0)).getTag());
+    }
+
+    @Test
+    @DisplayName("예외가 발생하면 예외 로그를 남기고 원래 예외를 그대로 던져야 한다")
+    void shouldRecordAndRethrowCheckedException() throws Exception {
+        ClassLoader loader = compile("sample/FileService.java", """
+            package sample;
+
+            public class FileService {
+                @com.monikit.core.LogExecutionTime
+                public <T extends CharSequence> T read(T path) throws java.io.IOException {
+                    throw new java.io.IOException("missing " + path);
+                }
+            }
+            """);
+
+        Class<?> generated = loader.loadClass("sample.FileService_MoniKit");
+        Method read = generated.getMethod("read", CharSequence.class);
+        InvocationTargetException thrown = assertThrows(InvocationTargetException.class,
+            () -> read.invoke(generated.getConstructor().newInstance(), "a.txt"));
+
+        assertInstanceOf(IOException.class, thrown.getCause());
+        assertEquals(2, logs.size());
+        assertEquals(LogType.EXCEPTION, logs.get(0).getLogType());
+        assertInstanceOf(ExceptionLog.class, logs.get(0));
+        assertEquals(LogType.EXECUTION_DETAIL, logs.get(1).getLogType());
+    }
+
+    @Test
+    @DisplayName("final 클래스는 경고만 남기고 계측 클래스를 생성하지 않아야 한다")
+    void shouldWarnAndSkipFinalClass() throws Exception {
+        StringWriter diagnostics = new StringWriter();
+        ClassLoader loader = compile(diagnostics, "sample/FinalService.java", """
+            package sample;
+
+            @com.monikit.core.LogExecutionTime
+            public final class FinalService {
+                public void run() {
+                }
+            }
+            """);
+
+        assertThrows(ClassNotFoundException.class, () -> loader.loadClass("sample.FinalService_MoniKit"));
+        assertTrue(diagnostics.toString().contains("final classes cannot be extended"));
+    }
+
+    @Test
+    @DisplayName("생성자 접근 제어자는 원본과 같아야 한다")
+    void shouldCopyConstructorModifiers() throws Exception {
+        ClassLoader loader = compile("sample/InventoryService.java", """
+            package sample;
+
+            @com.monikit.core.LogExecutionTime
+            public class InventoryService {
+                protected InventoryService() {
+                }
+
+                InventoryService(String warehouse) {
+                }
+
+                public void reserve() {
+                }
+            }
+            """);
+
+        Class<?> generated = loader.loadClass("sample.InventoryService_MoniKit");
+
+        assertTrue(Modifier.isProtected(generated.getDeclaredConstructor().getModifiers()));
+        int packagePrivate = generated.getDeclaredConstructor(String.class).getModifiers();
+        assertFalse(Modifier.isPublic(packagePrivate) || Modifier.isProtected(packagePrivate) || Modifier.isPrivate(packagePrivate));
+    }
+
+    @Test
+    @DisplayName("Spring 컴포넌트는 빈이 중복되지 않도록 경고만 남기고 계측 클래스를 생성하지 않아야 한다")
+    void shouldWarnAndSkipSpringComponent() throws Exception {
+        StringWriter diagnostics = new StringWriter();
+        ClassLoader loader = compile(diagnostics, List.of(
+            new String[] {"org/springframework/stereotype/Component.java", """
+                package org.springframework.stereotype;
+
+                @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                public @interface Component {
+                }
+                """},
+            new String[] {"sample/Service.java", """
+                package sample;
+
+                @org.springframework.stereotype.Component
+                @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                public @interface Service {
+                }
+                """},
+            new String[] {"sample/ShippingService.java", """
+                package sample;
+
+                @Service
+                @com.monikit.core.LogExecutionTime
+                public class ShippingService {
+                    public void ship() {
+                    }
+                }
+                """}));
+
+        assertThrows(ClassNotFoundException.class, () -> loader.loadClass("sample.ShippingService_MoniKit"));
+        assertTrue(diagnostics.toString().contains("Spring components are already registered as beans"));
+    }
+
+    private ClassLoader compile(String path, String source) throws IOException {
+        return compile(new StringWriter(), path, source);
+    }
+
+    private ClassLoader compile(StringWriter diagnostics, String path, String source) throws IOException {
+        return compile(diagnostics, List.<String[]>of(new String[] {path, source}));
+    }
+
+    /**
+     * @param sources {경로, 소스} 목록
+     */
+    private ClassLoader compile(StringWriter diagnostics, List<String[]> sources) throws IOException {
+        Path classes = Files.createDirectories(workDir.resolve("classes"));
+        List<Path> sourceFiles = new ArrayList<>();
+        for (String[] source : sources) {
+            Path sourceFile = workDir.resolve("src").resolve(source[0]);
+            Files.createDirectories(sourceFile.getParent());
+            Files.writeString(sourceFile, source[1]);
+            sourceFiles.add(sourceFile);
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        boolean success = compiler.getTask(diagnostics, null, null,
+            List.of("-classpath", System.getProperty("java.class.path"), "-processor", LogExecutionTimeProcessor.class.getName(),
+                "-d", classes.toString(),
+                "-s", Files.createDirectories(workDir.resolve("generated")).toString()),
+            null, compiler.getStandardFileManager(null, null, null).getJavaFileObjects(sourceFiles.toArray(Path[]::new)))
+            .call();
+        assertTrue(success, diagnostics::toString);
+        return new URLClassLoader(new URL[] {classes.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private static final class CapturingContextManager implements LogEntryContextManager {
+
+        private final List<LogEntry> logs;
+
+        private CapturingContextManager(List<LogEntry> logs) {
+            this.logs = logs;
+        }
+
+        @Override
+        public void addLog(LogEntry logEntry) {
+            logs.add(logEntry);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void clear() {
+        }
+    }
+
+    private static final class FixedTraceIdProvider implements TraceIdProvider {
+
+        @Override
+        public String getTraceId() {
+            return "trace-1";
+        }
+
+        @Override
+        public void setTraceId(String traceId) {
+        }
+
+        @Override
+        public void clear() {
+        }
+    }
+
+}
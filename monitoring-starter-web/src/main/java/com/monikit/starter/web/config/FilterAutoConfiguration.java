@@ -2,13 +2,16 @@ package com.monikit.starter.web.config;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.monikit.config.MoniKitLoggingProperties;
+import com.monikit.core.TraceIdGenerator;
 import com.monikit.core.TraceIdProvider;
+import com.monikit.core.W3CTraceIdGenerator;
 import com.monikit.core.context.LogEntryContextManager;
 import com.monikit.starter.web.MoniKitWebProperties;
 import com.monikit.starter.web.filter.LogContextScopeFilter;
@@ -35,9 +38,9 @@ public class FilterAutoConfiguration {
 
     @Bean
     @ConditionalOnProperty(name = "monikit.logging.log-enabled", havingValue = "true", matchIfMissing = true)
-    public TraceIdFilter traceIdFilter(TraceIdProvider traceIdProvider) {
+    public TraceIdFilter traceIdFilter(TraceIdProvider traceIdProvider, ObjectProvider<TraceIdGenerator> traceIdGeneratorProvider) {
         logger.info("[MoniKit] Initializing TraceIdFilter with traceEnabled={}", loggingProperties.isLogEnabled());
-        return new TraceIdFilter(traceIdProvider);
+        return new TraceIdFilter(traceIdProvider, traceIdGeneratorProvider.getIfAvailable(W3CTraceIdGenerator::new));
     }
 
     @Bean
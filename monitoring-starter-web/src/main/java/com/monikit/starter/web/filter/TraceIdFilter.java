@@ -1,11 +1,13 @@
 package com.monikit.starter.web.filter;
 
 import java.io.IOException;
-import java.util.UUID;
 
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.monikit.core.TraceIdGenerator;
 import com.monikit.core.TraceIdProvider;
+import com.monikit.core.TraceParent;
+import com.monikit.core.W3CTraceIdGenerator;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -15,7 +17,8 @@ import jakarta.servlet.http.HttpServletResponse;
 /**
  * 요청 단위로 Trace ID를 자동으로 설정하는 필터.
  * <p>
- * - 요청 헤더에 {@code X-Trace-Id}가 없으면 자동으로 UUID 기반 Trace ID를 생성하여 설정함.
+ * - 요청 헤더 {@code X-Trace-Id}를 우선 사용하고, 없으면 W3C {@code traceparent} 헤더의 trace-id를 사용함.
+ * - 둘 다 없거나 {@code traceparent} 형식이 맞지 않으면 {@link TraceIdGenerator}로 새 Trace ID를 생성함. (기본값 {@link W3CTraceIdGenerator}, 16진수 32자)
  * - 생성된 Trace ID를 {@link com.monikit.core.TraceIdProvider}를 통해 설정하고, 로그 기록 시 자동으로 포함될 수 있도록 지원함.
  * - 응답 헤더에도 {@code X-Trace-Id}를 추가하여 클라이언트가 추적 가능하도록 함.
  * - 요청 종료 시 {@link TraceIdProvider#clear()}를 호출하여 MDC를 정리하고, 메모리 누수를 방지함.
@@ -35,6 +38,7 @@ import jakarta.servlet.http.HttpServletResponse;
 public class TraceIdFilter extends OncePerRequestFilter {
 
     private final TraceIdProvider traceIdProvider;
+    private final TraceIdGenerator traceIdGenerator;
 
     private static final String TRACE_ID_HEADER = "X-Trace-Id";
 
@@ -44,13 +48,23 @@ public class TraceIdFilter extends OncePerRequestFilter {
      * @param traceIdProvider {@link TraceIdProvider} 인스턴스
      */
     public TraceIdFilter(TraceIdProvider traceIdProvider) {
+        this(traceIdProvider, new W3CTraceIdGenerator());
+    }
+
+    /**
+     * @param traceIdProvider {@link TraceIdProvider} 인스턴스
+     * @param traceIdGenerator 요청에 Trace ID가 없을 때 사용할 생성기
+     * @since 1.1.3
+     */
+    public TraceIdFilter(TraceIdProvider traceIdProvider, TraceIdGenerator traceIdGenerator) {
         this.traceIdProvider = traceIdProvider;
+        this.traceIdGenerator = traceIdGenerator;
     }
 
     /**
      * HTTP 요청에 대해 Trace ID를 설정하고, 응답에 Trace ID를 추가하는 필터링 작업을 수행한다.
      * <p>
-     * - 요청 헤더에 {@code X-Trace-Id}가 없으면 UUID 기반의 새로운 Trace ID를 생성하여 요청 및 응답 헤더에 추가함.
+     * - 요청 헤더에 {@code X-Trace-Id}가 없으면 {@code traceparent}의 trace-id를, 그것도 없으면 새로 생성한 Trace ID를 사용하고 응답 헤더에 추가함.
      * - 요청이 종료된 후 {@link TraceIdProvider#clear()}를 호출하여 MDC에서 해당 Trace ID를 정리함.
      * </p>
      *
@@ -64,11 +78,7 @@ public class TraceIdFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        String traceId = request.getHeader(TRACE_ID_HEADER);
-
-        if (traceId == null || traceId.isEmpty()) {
-            traceId = UUID.randomUUID().toString();
-        }
+        String traceId = resolveTraceId(request);
 
         // Trace ID 설정
         traceIdProvider.setTraceId(traceId);
@@ -84,4 +94,13 @@ public class TraceIdFilter extends OncePerRequestFilter {
         }
     }
 
+    private String resolveTraceId(HttpServletRequest request) {
+        String traceId = request.getHeader(TRACE_ID_HEADER);
+        if (traceId != null && !traceId.isEmpty()) {
+            return traceId;
+        }
+        traceId = TraceParent.parseTraceId(request.getHeader(TraceParent.HEADER));
+        return traceId != null ? traceId : traceIdGenerator.generate();
+    }
+
 }
\ No newline at end of file
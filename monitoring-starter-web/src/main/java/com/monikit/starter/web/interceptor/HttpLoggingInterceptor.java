@@ -1,9 +1,12 @@
 package com.monikit.starter.web.interceptor;
 
 import java.io.IOException;
-import java.time.Instant;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Enumeration;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -13,7 +16,9 @@ import com.monikit.core.model.HttpInboundRequestLog;
 import com.monikit.core.model.HttpInboundResponseLog;
 import com.monikit.core.context.LogEntryContextManager;
 import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
 import com.monikit.core.TraceIdProvider;
+import com.monikit.core.clock.MoniKitClocks;
 import com.monikit.starter.web.filter.RequestWrapper;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,6 +37,13 @@ import jakarta.servlet.http.HttpServletResponse;
  * - 요청에 포함된 헤더, 본문, 메소드 및 URI 등과 응답의 상태 코드, 헤더 및 본문 등의 정보를 기록.
  * - {@link LogLevel#INFO} 레벨로 로그를 기록하며, 로그에 포함되는 {@code TraceId}는 전체 요청/응답을 추적 가능하게 함.
  * </p>
+ * <p>
+ * - 헤더는 요청 처리 중 값이 바뀌지 않도록 이름/값 배열로만 즉시 복사하고, 본문은 byte[] 그대로 보관한다.
+ * - 문자열/Map 변환은 로그를 실제로 읽는 시점까지 미뤄진다.
+ * - 처리 시간은 {@link MoniKitClocks}의 단조 시계({@code nanoTime})로 측정해 ns 정밀도로 기록한다.
+ * - 로그는 {@link LogEntryContextManager#addLog(com.monikit.core.LogType, LogLevel, java.util.function.Supplier)}로 추가하므로,
+ *   요청/응답 로그를 받을 곳이 없으면 헤더 복사와 로그 생성을 하지 않는다.
+ * </p>
  *
  * @author ryu-qqq
  * @since 1.0.0
@@ -43,7 +55,7 @@ import jakarta.servlet.http.HttpServletResponse;
 
 public class HttpLoggingInterceptor implements HandlerInterceptor {
 
-    private static final ThreadLocal<Instant> requestStartTime = new ThreadLocal<>();
+    private static final ThreadLocal<Long> requestStartNanos = new ThreadLocal<>();
     private final LogEntryContextManager logEntryContextManager;
     private final TraceIdProvider traceIdProvider;
 
@@ -74,20 +86,23 @@ public class HttpLoggingInterceptor implements HandlerInterceptor {
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        String traceId = traceIdProvider.getTraceId();
-        requestStartTime.set(Instant.now());
-
-        logEntryContextManager.addLog(HttpInboundRequestLog.of(
-            traceId,
-            LogLevel.INFO,
-            request.getRequestURI(),
-            request.getMethod(),
-            request.getQueryString(),
-            extractRequestBody(request),
-            extractHeaders(request),
-            request.getRemoteAddr(),
-            request.getHeader("User-Agent")
-        ));
+        requestStartNanos.set(MoniKitClocks.get().nanoTime());
+
+        logEntryContextManager.addLog(LogType.INBOUND_REQUEST, LogLevel.INFO, () -> {
+            byte[] requestBody = extractRequestBody(request);
+            String[] headers = extractHeaders(request);
+            return HttpInboundRequestLog.deferred(
+                traceIdProvider.getTraceId(),
+                LogLevel.INFO,
+                request.getRequestURI(),
+                request.getMethod(),
+                request.getQueryString(),
+                () -> requestBody != null ? new String(requestBody) : "RequestBody Can't read",
+                () -> toHeaderMap(headers),
+                request.getRemoteAddr(),
+                request.getHeader("User-Agent")
+            );
+        });
 
         return true;
     }
@@ -107,83 +122,105 @@ public class HttpLoggingInterceptor implements HandlerInterceptor {
      */
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws IOException {
-        String traceId = traceIdProvider.getTraceId();
-        Instant startTime = requestStartTime.get();
-        long executionTime = startTime != null ? Instant.now().toEpochMilli() - startTime.toEpochMilli() : 0;
-
-        logEntryContextManager.addLog(HttpInboundResponseLog.of(
-            traceId,
-            LogLevel.INFO,
-            request.getMethod(),
-            request.getRequestURI(),
-            response.getStatus(),
-            extractHeaders(response),
-            extractResponseBody(response),
-            executionTime
-        ));
-
-        requestStartTime.remove();
+        Long startNanos = requestStartNanos.get();
+        Duration executionTime = startNanos != null ? Duration.ofNanos(MoniKitClocks.get().elapsedNanos(startNanos)) : Duration.ZERO;
+
+        // 캐싱된 응답 본문은 로그 여부와 관계없이 실제 응답으로 흘려보내야 한다.
+        byte[] responseBody = extractResponseBody(response);
+
+        logEntryContextManager.addLog(LogType.INBOUND_RESPONSE, LogLevel.INFO, () -> {
+            String[] headers = extractHeaders(response);
+            return HttpInboundResponseLog.deferred(
+                traceIdProvider.getTraceId(),
+                LogLevel.INFO,
+                request.getMethod(),
+                request.getRequestURI(),
+                response.getStatus(),
+                () -> toHeaderMap(headers),
+                () -> responseBody != null ? new String(responseBody) : "ResponseBody Can't read",
+                executionTime
+            );
+        });
+
+        requestStartNanos.remove();
     }
 
     /**
-     * 요청 헤더를 추출하여 Map 형태로 반환한다.
+     * 요청 헤더를 이름/값이 번갈아 놓인 배열로 복사한다.
      *
      * @param request HTTP 요청 객체
-     * @return 요청 헤더를 Map<String, String>으로 반환
+     * @return [name0, value0, name1, value1, ...] 형태의 헤더 배열
      */
-    private Map<String, String> extractHeaders(HttpServletRequest request) {
-        Map<String, String> headers = new LinkedHashMap<>();
+    private String[] extractHeaders(HttpServletRequest request) {
+        List<String> headers = new ArrayList<>();
         Enumeration<String> headerNames = request.getHeaderNames();
         while (headerNames.hasMoreElements()) {
             String headerName = headerNames.nextElement();
-            headers.put(headerName, request.getHeader(headerName));
+            headers.add(headerName);
+            headers.add(request.getHeader(headerName));
         }
-        return headers;
+        return headers.toArray(new String[0]);
     }
 
 
     /**
-     * 응답 헤더를 추출하여 Map 형태로 반환한다.
+     * 응답 헤더를 이름/값이 번갈아 놓인 배열로 복사한다.
      *
      * @param response HTTP 응답 객체
-     * @return 응답 헤더를 Map<String, String>으로 반환
+     * @return [name0, value0, name1, value1, ...] 형태의 헤더 배열
      */
-    private Map<String, String> extractHeaders(HttpServletResponse response) {
-        Map<String, String> headers = new LinkedHashMap<>();
-        for (String headerName : response.getHeaderNames()) {
-            headers.put(headerName, response.getHeader(headerName));
+    private String[] extractHeaders(HttpServletResponse response) {
+        Collection<String> headerNames = response.getHeaderNames();
+        String[] headers = new String[headerNames.size() * 2];
+        int i = 0;
+        for (String headerName : headerNames) {
+            headers[i++] = headerName;
+            headers[i++] = response.getHeader(headerName);
         }
         return headers;
     }
 
+    /**
+     * 헤더 배열을 Map으로 변환한다. 로그를 읽는 시점에 호출된다.
+     *
+     * @param headers [name0, value0, ...] 형태의 헤더 배열
+     * @return 헤더 Map
+     */
+    private static Map<String, String> toHeaderMap(String[] headers) {
+        Map<String, String> map = new LinkedHashMap<>(Math.max(4, headers.length));
+        for (int i = 0; i + 1 < headers.length; i += 2) {
+            map.put(headers[i], headers[i + 1]);
+        }
+        return map;
+    }
+
 
     /**
-     * 요청 본문을 추출하여 문자열로 반환한다.
+     * 요청 본문을 byte[]로 반환한다.
      *
      * @param request HTTP 요청 객체
-     * @return 요청 본문 문자열
+     * @return 요청 본문, 읽을 수 없으면 {@code null}
      */
-    private String extractRequestBody(HttpServletRequest request) {
+    private byte[] extractRequestBody(HttpServletRequest request) {
         if (request instanceof RequestWrapper) {
-            byte[] requestBody = ((RequestWrapper) request).getContentAsByteArray();
-            return new String(requestBody);
+            return ((RequestWrapper) request).getContentAsByteArray();
         }
-        return "RequestBody Can't read";
+        return null;
     }
 
     /**
-     * 응답 본문을 추출하여 문자열로 반환한다.
+     * 응답 본문을 byte[]로 복사한 뒤 실제 응답으로 흘려보낸다.
      *
      * @param response HTTP 응답 객체
-     * @return 응답 본문 문자열
+     * @return 응답 본문, 읽을 수 없으면 {@code null}
      * @throws IOException IO 예외 발생 시
      */
-    private String extractResponseBody(HttpServletResponse response) throws IOException {
+    private byte[] extractResponseBody(HttpServletResponse response) throws IOException {
         if (response instanceof ContentCachingResponseWrapper wrappedResponse) {
             byte[] contentAsByteArray = wrappedResponse.getContentAsByteArray();
             wrappedResponse.copyBodyToResponse();
-            return new String(contentAsByteArray);
+            return contentAsByteArray;
         }
-        return "ResponseBody Can't read";
+        return null;
     }
-}
\ No newline at end of file
+}
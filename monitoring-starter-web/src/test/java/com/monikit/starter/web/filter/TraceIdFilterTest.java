@@ -72,6 +72,37 @@ class TraceIdFilterTest {
         }
     }
 
+    @Nested
+    @DisplayName("traceparent 헤더만 존재하는 경우")
+    class WhenTraceParentExists {
+
+        @Test
+        @DisplayName("shouldUseTraceIdFromTraceParent")
+        void shouldUseTraceIdFromTraceParent() throws ServletException, IOException {
+            String traceId = "4bf92f3577b34da6a3ce929d0e0e4736";
+            when(request.getHeader("X-Trace-Id")).thenReturn(null);
+            when(request.getHeader("traceparent")).thenReturn("00-" + traceId + "-00f067aa0ba902b7-01");
+
+            filter.doFilterInternal(request, response, filterChain);
+
+            verify(mockTraceIdProvider).setTraceId(traceId);
+            verify(response).setHeader("X-Trace-Id", traceId);
+        }
+
+        @Test
+        @DisplayName("shouldGenerateTraceIdWhenTraceParentIsMalformed")
+        void shouldGenerateTraceIdWhenTraceParentIsMalformed() throws ServletException, IOException {
+            TraceIdFilter generatingFilter = new TraceIdFilter(mockTraceIdProvider, () -> "generated-trace-id");
+            when(request.getHeader("X-Trace-Id")).thenReturn(null);
+            when(request.getHeader("traceparent")).thenReturn("not-a-traceparent");
+
+            generatingFilter.doFilterInternal(request, response, filterChain);
+
+            verify(mockTraceIdProvider).setTraceId("generated-trace-id");
+            verify(response).setHeader("X-Trace-Id", "generated-trace-id");
+        }
+    }
+
     @Test
     @DisplayName("shouldClearTraceIdOnException")
     void shouldClearTraceIdOnException() throws ServletException, IOException {
@@ -18,6 +18,7 @@ import com.monikit.core.context.LogEntryContextManager;
 import com.monikit.core.TraceIdProvider;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -32,7 +33,7 @@ class HttpLoggingInterceptorTest {
 
     @BeforeEach
     void setUp() {
-        mockLogEntryContextManager = mock(LogEntryContextManager.class);
+        mockLogEntryContextManager = mock(LogEntryContextManager.class, CALLS_REAL_METHODS);
         traceIdProvider = mock(TraceIdProvider.class);
         interceptor = new HttpLoggingInterceptor(mockLogEntryContextManager, traceIdProvider);
 
@@ -0,0 +1,134 @@
+package com.monikit.starter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.monikit.config.DynamicLogRule;
+import com.monikit.core.LogExecutionTime;
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.TraceIdProvider;
+import com.monikit.core.context.LogEntryContextManager;
+import com.monikit.core.instrument.ExecutionRecorder;
+import com.monikit.core.instrument.ExecutionRecorders;
+import com.monikit.core.model.LogEntry;
+
+/**
+ * 같은 메서드를 직접 호출, 컴파일 시점 계측({@code *_MoniKit}), {@link ExecutionLoggingAspect} 프록시로 호출할 때의 비용을 비교한다.
+ * <p>
+ * 두 계측 경로 모두 기준 시간 0ms로 매 호출을 기록 대상으로 판단하지만, {@link LogEntryContextManager#isEnabled}가 false라
+ * 로그 객체는 만들지 않는다. 즉 시간 측정과 규칙 판단, 조인 포인트/인자 배열 생성 비용만 비교한다.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew :monitoring-starter:jmh -Pjmh.includes=CompiledInstrumentationBenchmark
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompiledInstrumentationBenchmark {
+
+    private SampleService direct;
+    private SampleService compiled;
+    private SampleService proxied;
+
+    @Setup
+    public void setup() {
+        LogEntryContextManager manager = new DroppingContextManager();
+        TraceIdProvider traceIdProvider = new FixedTraceIdProvider();
+
+        direct = new SampleService();
+        compiled = new CompiledInstrumentationBenchmark_SampleService_MoniKit();
+        ExecutionRecorders.set(new ExecutionRecorder(manager, traceIdProvider));
+
+        DynamicLogRule rule = new DynamicLogRule();
+        rule.setClassNamePattern(".*Service");
+        rule.setMethodNamePattern("runTask");
+        rule.setThresholdMillis(0);
+        List<DynamicLogRule> rules = List.of(rule);
+        DynamicMatcher matcher = new DynamicMatcher(() -> rules, List::of);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ExecutionLoggingAspect(manager, traceIdProvider, matcher));
+        proxied = factory.getProxy();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ExecutionRecorders.reset();
+    }
+
+    @Benchmark
+    public int direct() {
+        return direct.runTask("order-1", 3);
+    }
+
+    @Benchmark
+    public int compiled() {
+        return compiled.runTask("order-1", 3);
+    }
+
+    @Benchmark
+    public int aspect() {
+        return proxied.runTask("order-1", 3);
+    }
+
+    @LogExecutionTime
+    public static class SampleService {
+        public int runTask(String orderId, int quantity) {
+            return orderId.length() + quantity;
+        }
+    }
+
+    private static final class DroppingContextManager implements LogEntryContextManager {
+
+        @Override
+        public void addLog(LogEntry logEntry) {
+        }
+
+        @Override
+        public boolean isEnabled(LogType logType, LogLevel logLevel) {
+            return false;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void clear() {
+        }
+    }
+
+    private static final class FixedTraceIdProvider implements TraceIdProvider {
+
+        @Override
+        public String getTraceId() {
+            return "benchmark";
+        }
+
+        @Override
+        public void setTraceId(String traceId) {
+        }
+
+        @Override
+        public void clear() {
+        }
+    }
+
+}
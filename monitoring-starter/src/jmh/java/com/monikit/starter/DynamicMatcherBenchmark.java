@@ -0,0 +1,117 @@
+package com.monikit.starter;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import com.monikit.config.DynamicLogRule;
+
+/**
+ * 규칙 수(1, 10, 50)에 따른 {@link DynamicMatcher} 규칙 매칭 비용을 비교한다.
+ * <p>
+ * {@code legacy}는 호출마다 {@code String.matches()}, {@code parseExpression()}, {@code StandardEvaluationContext}를 새로 만들던
+ * 이전 구현이다. {@code interpreted} / {@code compiled}는 컴파일된 규칙과 캐시된 {@link MatchPlan}으로 평가하며,
+ * {@code compiled}는 SpEL {@code MIXED} 컴파일 모드를 사용한다. 모든 규칙이 이름은 일치하고 마지막 규칙의 조건식만 참이 되도록 구성했다.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew :monitoring-starter:jmh -Pjmh.includes=DynamicMatcherBenchmark
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DynamicMatcherBenchmark {
+
+    private static final long EXECUTION_TIME = 150;
+
+    @Param({"1", "10", "50"})
+    int ruleCount;
+
+    private final ExpressionParser legacyParser = new SpelExpressionParser();
+    private final Object[] args = {"order-1", 3};
+
+    private List<DynamicLogRule> rules;
+    private Method method;
+    private DynamicMatcher interpretedMatcher;
+    private DynamicMatcher compiledMatcher;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        rules = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount - 1; i++) {
+            rules.add(rule("#executionTime > " + (10_000 + i)));
+        }
+        rules.add(rule("#executionTime > 100 and #methodName.startsWith('run')"));
+
+        method = SampleService.class.getDeclaredMethod("runTask", String.class, int.class);
+        interpretedMatcher = new DynamicMatcher(() -> rules, List::of, SpelCompilerMode.OFF);
+        compiledMatcher = new DynamicMatcher(() -> rules, List::of, SpelCompilerMode.MIXED);
+    }
+
+    @Benchmark
+    public Optional<DynamicLogRule> legacy() {
+        String className = SampleService.class.getSimpleName();
+        String methodName = method.getName();
+        for (DynamicLogRule rule : rules) {
+            if (!className.matches(rule.getClassNamePattern())) continue;
+            if (!methodName.matches(rule.getMethodNamePattern())) continue;
+            if (EXECUTION_TIME < rule.getThresholdMillis()) continue;
+
+            StandardEvaluationContext context = new StandardEvaluationContext();
+            context.setVariable("executionTime", EXECUTION_TIME);
+            context.setVariable("className", className);
+            context.setVariable("methodName", methodName);
+            context.setVariable("args", args);
+
+            Boolean result = legacyParser.parseExpression(rule.getWhen()).getValue(context, Boolean.class);
+            if (Boolean.TRUE.equals(result)) return Optional.of(rule);
+        }
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public Optional<DynamicLogRule> interpreted() {
+        MatchPlan plan = interpretedMatcher.planFor(SampleService.class, method);
+        return interpretedMatcher.findMatchingRule(plan, args, EXECUTION_TIME);
+    }
+
+    @Benchmark
+    public Optional<DynamicLogRule> compiled() {
+        MatchPlan plan = compiledMatcher.planFor(SampleService.class, method);
+        return compiledMatcher.findMatchingRule(plan, args, EXECUTION_TIME);
+    }
+
+    private static DynamicLogRule rule(String when) {
+        DynamicLogRule rule = new DynamicLogRule();
+        rule.setClassNamePattern(".*Service");
+        rule.setMethodNamePattern("run.*");
+        rule.setWhen(when);
+        rule.setThresholdMillis(100);
+        return rule;
+    }
+
+    public static class SampleService {
+        public void runTask(String orderId, int quantity) {
+        }
+    }
+
+}
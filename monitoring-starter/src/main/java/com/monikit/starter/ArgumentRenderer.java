@@ -0,0 +1,375 @@
+package com.monikit.starter;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.BaseStream;
+
+/**
+ * 실행 로그의 인자/반환값을 길이 제한이 있는 문자열로 만든다.
+ * <p>
+ * {@code toString()}을 그대로 쓰면 큰 컬렉션이나 엔티티, byte[] 하나로 수 MB 문자열이 만들어질 수 있어
+ * 다음 규칙으로 출력을 제한한다.
+ * </p>
+ * <ul>
+ *     <li>필드(인자 하나 또는 반환값)마다 {@code maxFieldLength}자까지만 쓰고, 넘는 부분은 {@code ...(+N chars)}로 표시</li>
+ *     <li>컬렉션/맵/배열/record는 {@code maxCollectionSize}개 원소(record는 컴포넌트)까지만 쓰고 나머지는 {@code ...(+N)}으로 표시. 중첩은 3단계까지</li>
+ *     <li>인자 목록 전체가 {@code maxTotalLength}자를 넘으면 이후 인자는 생략</li>
+ *     <li>byte[] / char[]는 길이만, Optional은 내용을, Stream / Iterator / InputStream / Reader는 소비하지 않고 타입만 표시</li>
+ *     <li>{@link RenderingStrategyRegistry}에 등록된 타입은 해당 전략으로 렌더링 (예: 엔티티는 식별자만)</li>
+ *     <li>렌더링 중 예외가 나면 해당 필드는 {@code [unserializable]}</li>
+ * </ul>
+ * <p>
+ * 출력은 구조를 따라 원소 단위로 이어 쓰며, 필드 예산을 다 쓰면 남은 값은 변환하지 않고 {@code ...}만 붙인다.
+ * {@code toString()}은 더 나눌 수 없는 값(위에서 구조를 알지 못하는 타입)에만 호출한다.
+ * record는 {@code toString()} 대신 컴포넌트 접근자를 읽어 {@code Name[a=1, b=[...]]} 형태로 쓰므로, 중첩된 큰 컬렉션도 한도 안에서만 렌더링된다.
+ * 그 외 애플리케이션 객체의 {@code toString()}이 크거나 비싸다면 {@link RenderingStrategyRegistry}에 전략을 등록한다.
+ * </p>
+ * <p>
+ * 문자열은 스레드별로 재사용하는 {@link StringBuilder}에 쓰고 마지막에 한 번만 복사한다.
+ * 렌더링 중 같은 스레드에서 다시 호출되면(예: {@code toString()} 안에서 로깅) 새 버퍼를 쓴다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class ArgumentRenderer {
+
+    public static final int DEFAULT_MAX_FIELD_LENGTH = 256;
+    public static final int DEFAULT_MAX_COLLECTION_SIZE = 10;
+    public static final int DEFAULT_MAX_TOTAL_LENGTH = 4096;
+
+    private static final String UNSERIALIZABLE = "[unserializable]";
+    private static final int MAX_DEPTH = 3;
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+    private static final ArgumentRenderer DEFAULT = new ArgumentRenderer(
+        DEFAULT_MAX_FIELD_LENGTH, DEFAULT_MAX_COLLECTION_SIZE, DEFAULT_MAX_TOTAL_LENGTH, new RenderingStrategyRegistry());
+    private static final ThreadLocal<Buffer> BUFFERS = ThreadLocal.withInitial(Buffer::new);
+    private static final String EXHAUSTED = "...";
+
+    /**
+     * record 타입별 컴포넌트 접근자. record가 아니거나 접근자를 열 수 없으면 null (toString으로 렌더링).
+     */
+    private static final ClassValue<RecordComponent[]> RECORD_COMPONENTS = new ClassValue<>() {
+        @Override
+        protected RecordComponent[] computeValue(Class<?> type) {
+            if (!type.isRecord()) {
+                return null;
+            }
+            RecordComponent[] components = type.getRecordComponents();
+            try {
+                for (RecordComponent component : components) {
+                    component.getAccessor().setAccessible(true);
+                }
+            } catch (RuntimeException e) {
+                return null;
+            }
+            return components;
+        }
+    };
+
+    private final int maxFieldLength;
+    private final int maxCollectionSize;
+    private final int maxTotalLength;
+    private final RenderingStrategyRegistry strategies;
+
+    public ArgumentRenderer(int maxFieldLength, int maxCollectionSize, int maxTotalLength,
+                            RenderingStrategyRegistry strategies) {
+        if (maxFieldLength <= 0 || maxCollectionSize <= 0 || maxTotalLength <= 0) {
+            throw new IllegalArgumentException("argument rendering limits must be positive: maxFieldLength=" + maxFieldLength
+                + ", maxCollectionSize=" + maxCollectionSize + ", maxTotalLength=" + maxTotalLength);
+        }
+        this.maxFieldLength = maxFieldLength;
+        this.maxCollectionSize = maxCollectionSize;
+        this.maxTotalLength = maxTotalLength;
+        this.strategies = strategies != null ? strategies : new RenderingStrategyRegistry();
+    }
+
+    /**
+     * 기본 한도(필드 256자, 원소 10개, 전체 4096자)와 빈 전략 등록소를 쓰는 공유 인스턴스.
+     */
+    public static ArgumentRenderer defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * 인자 배열을 {@code [arg0=..., arg1=...]} 형태로 렌더링한다.
+     */
+    public String renderArgs(Object[] args) {
+        if (args == null || args.length == 0) {
+            return "[]";
+        }
+        Buffer buffer = acquire();
+        StringBuilder out = buffer.builder;
+        try {
+            out.append('[');
+            for (int i = 0; i < args.length; i++) {
+                if (i > 0) {
+                    out.append(", ");
+                }
+                if (out.length() >= maxTotalLength) {
+                    out.append("...(+").append(args.length - i).append(" args)");
+                    break;
+                }
+                out.append("arg").append(i).append('=');
+                renderField(out, args[i]);
+            }
+            return out.append(']').toString();
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * 값 하나(반환값 등)를 렌더링한다.
+     */
+    public String render(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        Buffer buffer = acquire();
+        try {
+            renderField(buffer.builder, value);
+            return buffer.builder.toString();
+        } finally {
+            release(buffer);
+        }
+    }
+
+    public int getMaxFieldLength() {
+        return maxFieldLength;
+    }
+
+    public int getMaxCollectionSize() {
+        return maxCollectionSize;
+    }
+
+    public int getMaxTotalLength() {
+        return maxTotalLength;
+    }
+
+    public RenderingStrategyRegistry getStrategies() {
+        return strategies;
+    }
+
+    private void renderField(StringBuilder out, Object value) {
+        int start = out.length();
+        int limit = start + maxFieldLength;
+        try {
+            renderValue(out, value, limit, 0);
+        } catch (Exception e) {
+            out.setLength(start);
+            out.append(UNSERIALIZABLE);
+            return;
+        }
+        // 전략 출력이나 닫는 괄호로 한도를 넘긴 경우
+        if (out.length() > limit + 32) {
+            out.setLength(limit);
+            out.append("...");
+        }
+    }
+
+    private void renderValue(StringBuilder out, Object value, int limit, int depth) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        if (out.length() >= limit) {
+            // 예산을 다 쓴 뒤에는 값을 변환하지 않는다
+            out.append(EXHAUSTED);
+            return;
+        }
+        RenderingStrategy<Object> strategy = strategies.find(value.getClass());
+        if (strategy != null) {
+            strategy.render(value, out);
+            return;
+        }
+        if (value instanceof CharSequence text) {
+            appendBounded(out, text, limit);
+        } else if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            out.append(value);
+        } else if (value instanceof Enum<?> constant) {
+            out.append(constant.name());
+        } else if (value instanceof byte[] bytes) {
+            out.append("byte[").append(bytes.length).append(']');
+        } else if (value instanceof char[] chars) {
+            out.append("char[").append(chars.length).append(']');
+        } else if (value instanceof Optional<?> optional) {
+            if (optional.isEmpty()) {
+                out.append("Optional.empty");
+            } else {
+                out.append("Optional[");
+                renderValue(out, optional.get(), limit, depth + 1);
+                out.append(']');
+            }
+        } else if (value instanceof BaseStream<?, ?>) {
+            out.append("<stream>");
+        } else if (value instanceof Iterator<?>) {
+            out.append("<iterator>");
+        } else if (value instanceof InputStream) {
+            out.append("<input-stream>");
+        } else if (value instanceof Reader) {
+            out.append("<reader>");
+        } else if (value.getClass().isArray()) {
+            renderArray(out, value, limit, depth);
+        } else if (value instanceof Collection<?> collection) {
+            renderCollection(out, collection, limit, depth);
+        } else if (value instanceof Map<?, ?> map) {
+            renderMap(out, map, limit, depth);
+        } else if (value instanceof Map.Entry<?, ?> entry) {
+            renderValue(out, entry.getKey(), limit, depth + 1);
+            out.append('=');
+            renderValue(out, entry.getValue(), limit, depth + 1);
+        } else {
+            RecordComponent[] components = RECORD_COMPONENTS.get(value.getClass());
+            if (components != null) {
+                renderRecord(out, value, components, limit, depth);
+            } else {
+                appendBounded(out, value.toString(), limit);
+            }
+        }
+    }
+
+    private void renderRecord(StringBuilder out, Object record, RecordComponent[] components, int limit, int depth) {
+        out.append(record.getClass().getSimpleName());
+        if (depth >= MAX_DEPTH) {
+            out.append("[...]");
+            return;
+        }
+        out.append('[');
+        int rendered = 0;
+        for (RecordComponent component : components) {
+            if (!startElement(out, rendered, limit)) {
+                break;
+            }
+            out.append(component.getName()).append('=');
+            renderValue(out, read(component.getAccessor(), record), limit, depth + 1);
+            rendered++;
+        }
+        closeElements(out, components.length - rendered, ']');
+    }
+
+    private static Object read(Method accessor, Object target) {
+        try {
+            return accessor.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("failed to read record component " + accessor.getName(), e);
+        }
+    }
+
+    private void renderArray(StringBuilder out, Object array, int limit, int depth) {
+        int length = Array.getLength(array);
+        if (depth >= MAX_DEPTH) {
+            out.append("[...(").append(length).append(")]");
+            return;
+        }
+        out.append('[');
+        int rendered = 0;
+        for (; rendered < length; rendered++) {
+            if (!startElement(out, rendered, limit)) {
+                break;
+            }
+            renderValue(out, Array.get(array, rendered), limit, depth + 1);
+        }
+        closeElements(out, length - rendered, ']');
+    }
+
+    private void renderCollection(StringBuilder out, Collection<?> collection, int limit, int depth) {
+        int size = collection.size();
+        if (depth >= MAX_DEPTH) {
+            out.append("[...(").append(size).append(")]");
+            return;
+        }
+        out.append('[');
+        int rendered = 0;
+        for (Object element : collection) {
+            if (!startElement(out, rendered, limit)) {
+                break;
+            }
+            renderValue(out, element, limit, depth + 1);
+            rendered++;
+        }
+        closeElements(out, size - rendered, ']');
+    }
+
+    private void renderMap(StringBuilder out, Map<?, ?> map, int limit, int depth) {
+        int size = map.size();
+        if (depth >= MAX_DEPTH) {
+            out.append("{...(").append(size).append(")}");
+            return;
+        }
+        out.append('{');
+        int rendered = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!startElement(out, rendered, limit)) {
+                break;
+            }
+            renderValue(out, entry.getKey(), limit, depth + 1);
+            out.append('=');
+            renderValue(out, entry.getValue(), limit, depth + 1);
+            rendered++;
+        }
+        closeElements(out, size - rendered, '}');
+    }
+
+    /**
+     * @return 원소를 더 쓸 수 있으면 구분자를 붙이고 true
+     */
+    private boolean startElement(StringBuilder out, int index, int limit) {
+        if (index >= maxCollectionSize || out.length() >= limit) {
+            return false;
+        }
+        if (index > 0) {
+            out.append(", ");
+        }
+        return true;
+    }
+
+    private static void closeElements(StringBuilder out, int remaining, char close) {
+        if (remaining > 0) {
+            out.append(out.charAt(out.length() - 1) == '[' || out.charAt(out.length() - 1) == '{' ? "" : ", ")
+                .append("...(+").append(remaining).append(')');
+        }
+        out.append(close);
+    }
+
+    private static void appendBounded(StringBuilder out, CharSequence text, int limit) {
+        int available = limit - out.length();
+        if (text.length() <= available) {
+            out.append(text);
+            return;
+        }
+        int kept = Math.max(available, 0);
+        out.append(text, 0, kept).append("...(+").append(text.length() - kept).append(" chars)");
+    }
+
+    private static Buffer acquire() {
+        Buffer buffer = BUFFERS.get();
+        if (buffer.inUse) {
+            return new Buffer();
+        }
+        buffer.inUse = true;
+        return buffer;
+    }
+
+    private static void release(Buffer buffer) {
+        buffer.inUse = false;
+        StringBuilder builder = buffer.builder;
+        builder.setLength(0);
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+            builder.trimToSize();
+        }
+    }
+
+    private static final class Buffer {
+        private final StringBuilder builder = new StringBuilder(256);
+        private boolean inUse;
+    }
+
+}
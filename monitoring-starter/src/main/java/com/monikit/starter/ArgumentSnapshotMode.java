@@ -0,0 +1,48 @@
+package com.monikit.starter;
+
+import java.util.Locale;
+
+/**
+ * {@link ExecutionLoggingAspect}가 메서드 인자/반환값을 로그에 담는 방식.
+ * <p>
+ * - SHALLOW_COPY: 배열/컬렉션/맵만 얕은 복사로 보관하고 flush 시점에 변환한다. (기본값)
+ * - EAGER: 호출 직후 즉시 문자열로 변환한다. (기존 동작)
+ * - REFERENCE: 참조만 보관하고 flush 시점에 문자열로 변환한다. 명시적으로 설정한 경우에만 사용된다.
+ * </p>
+ * <p>
+ * <b>주의:</b> REFERENCE는 호출 시점이 아니라 flush 시점의 값을 기록한다. 호출 이후 변경된 인자(재사용 DTO, 가변 컬렉션 등)는
+ * 바뀐 값으로, 지연 로딩 엔티티는 세션이 닫힌 뒤 {@code [unserializable]}로 기록될 수 있다.
+ * 인자를 변경하지 않는다는 것이 보장될 때만 사용한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public enum ArgumentSnapshotMode {
+
+    /**
+     * 참조만 보관한다. flush 시점의 값이 기록되므로 인자를 변경하지 않는 경우에만 명시적으로 선택한다.
+     */
+    REFERENCE,
+    SHALLOW_COPY,
+    EAGER;
+
+    /**
+     * 설정 문자열을 모드로 변환한다. 값이 없으면 {@link #SHALLOW_COPY}.
+     *
+     * @param value 설정 값 (대소문자 무시)
+     * @return 변환된 모드
+     * @throws IllegalArgumentException 알 수 없는 값인 경우
+     */
+    public static ArgumentSnapshotMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return SHALLOW_COPY;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown monikit.logging.argument-snapshot-mode: " + value, e);
+        }
+    }
+
+}
@@ -1,28 +1,64 @@
 package com.monikit.starter;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 public class ArgumentUtils {
 
+    /**
+     * {@link ArgumentRenderer#defaults()}로 인자 배열을 렌더링한다.
+     */
     public static String safeArgsToString(Object[] args) {
-        StringBuilder sb = new StringBuilder("[");
+        return ArgumentRenderer.defaults().renderArgs(args);
+    }
+
+    /**
+     * {@link ArgumentRenderer#defaults()}로 반환값을 렌더링한다.
+     */
+    public static String safeOutputToString(Object result) {
+        return ArgumentRenderer.defaults().render(result);
+    }
+
+    /**
+     * 인자 배열과 각 인자를 얕은 복사한다. 복사 중 실패한 인자는 원본 참조를 유지한다.
+     */
+    public static Object[] shallowSnapshot(Object[] args) {
+        Object[] copy = new Object[args.length];
         for (int i = 0; i < args.length; i++) {
-            sb.append("arg").append(i).append("=");
-            try {
-                sb.append(args[i]);
-            } catch (Exception e) {
-                sb.append("[unserializable]");
-            }
-            if (i < args.length - 1) sb.append(", ");
+            copy[i] = shallowSnapshot(args[i]);
         }
-        return sb.append("]").toString();
+        return copy;
     }
 
-    public static String safeOutputToString(Object result) {
-        if (result == null) return "null";
+    /**
+     * 배열, List, Set, Map은 얕은 복사본을, 그 외 값은 원본 참조를 반환한다.
+     */
+    public static Object shallowSnapshot(Object value) {
         try {
-            return result.toString();
-        } catch (Exception e) {
-            return "[unserializable]";
+            if (value instanceof Object[] array) {
+                return array.clone();
+            }
+            if (value instanceof List<?> list) {
+                return new ArrayList<>(list);
+            }
+            if (value instanceof Set<?> set) {
+                return new LinkedHashSet<>(set);
+            }
+            if (value instanceof Collection<?> collection) {
+                return new ArrayList<>(collection);
+            }
+            if (value instanceof Map<?, ?> map) {
+                return new LinkedHashMap<>(map);
+            }
+        } catch (RuntimeException e) {
+            return value;
         }
+        return value;
     }
 
 }
@@ -0,0 +1,114 @@
+package com.monikit.starter;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.EvaluationException;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.ParseException;
+
+import com.monikit.config.DynamicLogRule;
+
+/**
+ * 정규식과 SpEL 조건식을 미리 컴파일한 {@link DynamicLogRule}.
+ * <p>
+ * {@link DynamicMatcher}가 규칙 목록을 받을 때 한 번 만든다. 호출마다 {@code String.matches()}로 {@link Pattern}을 새로 만들거나
+ * {@code parseExpression()}으로 조건식을 다시 파싱하지 않는다.
+ * </p>
+ *
+ * <ul>
+ *     <li>classNamePattern / methodNamePattern: 컴파일된 이름 정규식 (null이면 모든 이름 허용)</li>
+ *     <li>condition: 파싱된 when 조건식 (비어 있으면 null)</li>
+ *     <li>thresholdMillis: 컴파일 시점의 규칙 기준 시간 (ms)</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class CompiledRule {
+
+    private final DynamicLogRule rule;
+    private final Pattern classNamePattern;
+    private final Pattern methodNamePattern;
+    private final Expression condition;
+    private final long thresholdMillis;
+
+    private CompiledRule(DynamicLogRule rule, Pattern classNamePattern, Pattern methodNamePattern, Expression condition) {
+        this.rule = rule;
+        this.classNamePattern = classNamePattern;
+        this.methodNamePattern = methodNamePattern;
+        this.condition = condition;
+        this.thresholdMillis = rule.getThresholdMillis();
+    }
+
+    /**
+     * @param rule 컴파일할 규칙
+     * @param parser when 조건식을 파싱할 파서
+     * @throws IllegalArgumentException 정규식이나 조건식 문법이 잘못된 경우
+     */
+    public static CompiledRule compile(DynamicLogRule rule, ExpressionParser parser) {
+        try {
+            String when = rule.getWhen();
+            return new CompiledRule(rule,
+                compilePattern(rule.getClassNamePattern()),
+                compilePattern(rule.getMethodNamePattern()),
+                when == null || when.isBlank() ? null : parser.parseExpression(when));
+        } catch (PatternSyntaxException | ParseException e) {
+            throw new IllegalArgumentException("Invalid monikit.logging.dynamic-matching rule (classNamePattern="
+                + rule.getClassNamePattern() + ", methodNamePattern=" + rule.getMethodNamePattern()
+                + ", when=" + rule.getWhen() + "): " + e.getMessage(), e);
+        }
+    }
+
+    private static Pattern compilePattern(String regex) {
+        return regex == null ? null : Pattern.compile(regex);
+    }
+
+    /**
+     * @return 클래스 이름과 메서드 이름이 모두 규칙 정규식과 일치하면 true
+     */
+    public boolean matchesName(String className, String methodName) {
+        return matches(classNamePattern, className) && matches(methodNamePattern, methodName);
+    }
+
+    private static boolean matches(Pattern pattern, String value) {
+        return pattern == null || pattern.matcher(value).matches();
+    }
+
+    /**
+     * @return when 조건식이 있으면 true
+     */
+    public boolean hasCondition() {
+        return condition != null;
+    }
+
+    /**
+     * when 조건식을 평가한다. 조건식이 없으면 항상 true.
+     * <p>
+     * 평가 중 예외(존재하지 않는 인자 인덱스 등)가 발생하면 매칭되지 않은 것으로 본다.
+     * </p>
+     *
+     * @param context 변수가 설정된 평가 컨텍스트
+     */
+    public boolean evaluate(EvaluationContext context) {
+        if (condition == null) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(condition.getValue(context, Boolean.class));
+        } catch (EvaluationException e) {
+            return false;
+        }
+    }
+
+    public DynamicLogRule getRule() {
+        return rule;
+    }
+
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+}
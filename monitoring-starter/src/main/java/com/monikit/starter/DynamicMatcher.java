@@ -1,15 +1,26 @@
 package com.monikit.starter;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
 
 import com.monikit.config.DynamicLogRule;
+import com.monikit.core.clock.MoniKitClocks;
+import com.monikit.core.metrics.DynamicMatcherStats;
 
 /**
  * 실행 중 joinPoint에 대해 동적으로 로깅 대상 여부를 판단하는 매처 클래스.
@@ -17,51 +28,298 @@ import com.monikit.config.DynamicLogRule;
  * - MoniKitLoggingProperties에 정의된 DynamicLogRule을 기반으로 판단
  * - 허용된 base-package에 해당하지 않으면 자동으로 제외
  * </p>
+ * <p>
+ * 허용 패키지와 클래스/메서드 이름 정규식은 (대상 클래스, 메서드)마다 처음 한 번만 평가해 {@link MatchPlan}으로 캐시한다.
+ * 규칙 목록이나 허용 패키지 목록이 다른 인스턴스로 바뀌면(프로퍼티 재바인딩 등) 다음 조회 시 캐시를 새로 만들며,
+ * 목록을 제자리에서 수정한 경우에는 {@link #refresh()}를 호출해야 한다.
+ * </p>
+ * <p>
+ * 규칙은 목록을 받을 때 {@link CompiledRule}로 한 번 컴파일한다(정규식 {@code Pattern}, 파싱된 SpEL {@code Expression}).
+ * when 조건식은 스레드별로 재사용하는 {@link SimpleEvaluationContext}에서 평가하며, 변수
+ * ({@code #executionTime}, {@code #className}, {@code #methodName}, {@code #args})와 인스턴스 메서드 호출만 허용한다.
+ * {@link SpelCompilerMode}를 지정하면 조건식을 바이트코드로 컴파일해 평가한다.
+ * </p>
+ * <p>
+ * 정규식 확인, pre-filter로 건너뛴 규칙, SpEL 평가 횟수와 표본 평가 시간, 매칭 결과를 {@link DynamicMatcherStats}에 기록한다.
+ * </p>
  *
  * @author ryu-qqq
  * @since 1.1.2
  */
 public class DynamicMatcher {
-    private final List<DynamicLogRule> rules;
-    private final List<String> allowedPackages;
-    private final ExpressionParser parser = new SpelExpressionParser();
+    private static final Logger logger = LoggerFactory.getLogger(DynamicMatcher.class);
+
+    private final Supplier<List<DynamicLogRule>> rulesSource;
+    private final Supplier<List<String>> allowedPackagesSource;
+    private final ExpressionParser parser;
+    private final DynamicMatcherStats stats;
+    private final ThreadLocal<EvaluationScope> evaluationScope = ThreadLocal.withInitial(EvaluationScope::new);
+    private volatile PlanCache planCache;
 
     public DynamicMatcher(List<DynamicLogRule> rules, List<String> allowedPackages) {
-        this.rules = rules;
-        this.allowedPackages = allowedPackages;
+        this(() -> rules, () -> allowedPackages);
     }
 
-    public Optional<DynamicLogRule> findMatchingRule(ProceedingJoinPoint joinPoint, long executionTime) {
-        String fqcn = joinPoint.getTarget().getClass().getName();
-        if (!isClassAllowed(fqcn)) return Optional.empty();
+    /**
+     * 규칙과 허용 패키지를 매 조회 시점에 공급받는 매처. 공급된 목록 인스턴스가 바뀌면 캐시를 다시 만든다.
+     *
+     * @param rulesSource 동적 로깅 규칙 목록 공급자
+     * @param allowedPackagesSource 허용 패키지 목록 공급자
+     * @since 1.1.3
+     */
+    public DynamicMatcher(Supplier<List<DynamicLogRule>> rulesSource, Supplier<List<String>> allowedPackagesSource) {
+        this(rulesSource, allowedPackagesSource, SpelCompilerMode.OFF);
+    }
+
+    /**
+     * @param rulesSource 동적 로깅 규칙 목록 공급자
+     * @param allowedPackagesSource 허용 패키지 목록 공급자
+     * @param compilerMode when 조건식의 SpEL 컴파일 모드 ({@code OFF}이면 인터프리터로 평가)
+     * @throws IllegalArgumentException 규칙의 정규식이나 조건식 문법이 잘못된 경우
+     * @since 1.1.3
+     */
+    public DynamicMatcher(Supplier<List<DynamicLogRule>> rulesSource, Supplier<List<String>> allowedPackagesSource,
+                          SpelCompilerMode compilerMode) {
+        this(rulesSource, allowedPackagesSource, compilerMode, new DynamicMatcherStats());
+    }
+
+    /**
+     * @param rulesSource 동적 로깅 규칙 목록 공급자
+     * @param allowedPackagesSource 허용 패키지 목록 공급자
+     * @param compilerMode when 조건식의 SpEL 컴파일 모드 ({@code OFF}이면 인터프리터로 평가)
+     * @param stats 매칭 비용 통계 저장소
+     * @throws IllegalArgumentException 규칙의 정규식이나 조건식 문법이 잘못된 경우
+     * @since 1.1.3
+     */
+    public DynamicMatcher(Supplier<List<DynamicLogRule>> rulesSource, Supplier<List<String>> allowedPackagesSource,
+                          SpelCompilerMode compilerMode, DynamicMatcherStats stats) {
+        this.rulesSource = rulesSource;
+        this.stats = stats != null ? stats : new DynamicMatcherStats();
+        this.allowedPackagesSource = allowedPackagesSource;
+        this.parser = new SpelExpressionParser(new SpelParserConfiguration(
+            compilerMode != null ? compilerMode : SpelCompilerMode.OFF, DynamicMatcher.class.getClassLoader()));
+        List<DynamicLogRule> rules = rulesSource.get();
+        this.planCache = new PlanCache(rules, allowedPackagesSource.get(), compile(rules));
+    }
 
+    public Optional<DynamicLogRule> findMatchingRule(ProceedingJoinPoint joinPoint, long executionTime) {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName = signature.getMethod().getName();
-        Object[] args = joinPoint.getArgs();
+        MatchPlan plan = lookupPlan(joinPoint.getTarget().getClass(), signature.getMethod());
+        return findMatchingRule(plan, joinPoint.getArgs(), executionTime);
+    }
 
-        for (DynamicLogRule rule : rules) {
-            if (!className.matches(rule.getClassNamePattern())) continue;
-            if (!methodName.matches(rule.getMethodNamePattern())) continue;
-            if (executionTime < rule.getThresholdMillis()) continue;
+    /**
+     * 미리 계산한 {@link MatchPlan}으로 규칙을 찾는다. 이름 정규식은 다시 평가하지 않는다.
+     *
+     * @param plan {@link #planFor(Class, Method)}로 얻은 매칭 계획
+     * @param args 메서드 인자
+     * @param executionTime 실행 시간 (ms)
+     * @since 1.1.3
+     */
+    public Optional<DynamicLogRule> findMatchingRule(MatchPlan plan, Object[] args, long executionTime) {
+        if (!plan.canMatch(executionTime)) {
+            stats.recordPrefilterSkips(plan.getRules().size());
+            stats.recordUnmatched();
+            return Optional.empty();
+        }
 
-            if (rule.getWhen() == null || rule.getWhen().isBlank()) return Optional.of(rule);
+        EvaluationScope scope = null;
+        int skipped = 0;
+        try {
+            for (CompiledRule rule : plan.getRules()) {
+                if (executionTime < rule.getThresholdMillis()) {
+                    skipped++;
+                    continue;
+                }
 
-            StandardEvaluationContext context = new StandardEvaluationContext();
-            context.setVariable("executionTime", executionTime);
-            context.setVariable("className", className);
-            context.setVariable("methodName", methodName);
-            context.setVariable("args", args);
+                if (!rule.hasCondition()) return matched(rule, skipped);
+
+                if (scope == null) {
+                    scope = enterScope(plan, args, executionTime);
+                }
+                if (evaluate(rule, scope)) return matched(rule, skipped);
+            }
+            stats.recordPrefilterSkips(skipped);
+            stats.recordUnmatched();
+            return Optional.empty();
+        } finally {
+            if (scope != null) {
+                scope.exit();
+            }
+        }
+    }
+
+    private Optional<DynamicLogRule> matched(CompiledRule rule, int skipped) {
+        stats.recordPrefilterSkips(skipped);
+        stats.recordMatched();
+        return Optional.of(rule.getRule());
+    }
+
+    private boolean evaluate(CompiledRule rule, EvaluationScope scope) {
+        if (!stats.recordSpelEvaluation()) {
+            return rule.evaluate(scope.context);
+        }
+        long start = MoniKitClocks.get().nanoTime();
+        try {
+            return rule.evaluate(scope.context);
+        } finally {
+            stats.recordSampledEvaluationTime(MoniKitClocks.get().elapsedNanos(start));
+        }
+    }
+
+    /**
+     * 현재 스레드의 평가 컨텍스트에 변수를 설정한다.
+     * 조건식 평가 중 같은 스레드에서 다시 매칭이 일어나면(조건식이 프록시 빈을 호출하는 경우) 새 컨텍스트를 사용한다.
+     */
+    private EvaluationScope enterScope(MatchPlan plan, Object[] args, long executionTime) {
+        EvaluationScope scope = evaluationScope.get();
+        if (scope.inUse) {
+            scope = new EvaluationScope();
+        }
+        scope.enter(plan, args, executionTime);
+        return scope;
+    }
+
+    /**
+     * 대상 클래스와 메서드에 적용될 수 있는 규칙을 찾아 캐시한다.
+     * <p>
+     * 같은 메서드라도 상속한 빈마다 클래스 이름 정규식 결과가 다를 수 있으므로 클래스별로 구분해 캐시한다.
+     * 호출마다 한 번 조회하는 것을 전제로, 적용 가능한 규칙이 없으면 매칭 없이 실행된 호출로 센다.
+     * </p>
+     *
+     * @param targetClass 실제 대상 객체의 클래스
+     * @param method 호출된 메서드
+     * @return 매칭 계획. 적용 가능한 규칙이 없으면 {@link MatchPlan#isEmpty()}가 true
+     * @since 1.1.3
+     */
+    public MatchPlan planFor(Class<?> targetClass, Method method) {
+        MatchPlan plan = lookupPlan(targetClass, method);
+        if (plan.isEmpty()) {
+            stats.recordNoApplicableRule();
+        }
+        return plan;
+    }
+
+    /**
+     * @return 매칭 비용 통계 저장소
+     * @since 1.1.3
+     */
+    public DynamicMatcherStats getStats() {
+        return stats;
+    }
+
+    private MatchPlan lookupPlan(Class<?> targetClass, Method method) {
+        PlanCache cache = currentCache();
+        Map<Method, MatchPlan> methodPlans = cache.plans.get(targetClass);
+        if (methodPlans == null) {
+            methodPlans = cache.plans.computeIfAbsent(targetClass, key -> new ConcurrentHashMap<>());
+        }
+        MatchPlan plan = methodPlans.get(method);
+        if (plan == null) {
+            plan = methodPlans.computeIfAbsent(method, key -> buildPlan(cache, targetClass, key));
+        }
+        return plan;
+    }
+
+    /**
+     * 캐시된 매칭 계획을 모두 버린다. 규칙 목록을 제자리에서 수정한 뒤 호출한다.
+     *
+     * @since 1.1.3
+     */
+    public void refresh() {
+        planCache = rebuild(planCache, rulesSource.get(), allowedPackagesSource.get());
+    }
+
+    private PlanCache currentCache() {
+        List<DynamicLogRule> rules = rulesSource.get();
+        List<String> allowedPackages = allowedPackagesSource.get();
+        PlanCache cache = planCache;
+        if (cache.rules != rules || cache.allowedPackages != allowedPackages) {
+            cache = rebuild(cache, rules, allowedPackages);
+            planCache = cache;
+        }
+        return cache;
+    }
+
+    /**
+     * 바뀐 규칙 목록으로 캐시를 새로 만든다. 컴파일에 실패하면 경고를 남기고 이전에 컴파일한 규칙을 계속 사용한다.
+     */
+    private PlanCache rebuild(PlanCache previous, List<DynamicLogRule> rules, List<String> allowedPackages) {
+        try {
+            return new PlanCache(rules, allowedPackages, compile(rules));
+        } catch (IllegalArgumentException e) {
+            logger.warn("[MoniKit] Keeping previous dynamic-matching rules: {}", e.getMessage());
+            return new PlanCache(rules, allowedPackages, previous.compiledRules);
+        }
+    }
 
-            Boolean result = parser.parseExpression(rule.getWhen()).getValue(context, Boolean.class);
-            if (Boolean.TRUE.equals(result)) return Optional.of(rule);
+    private List<CompiledRule> compile(List<DynamicLogRule> rules) {
+        if (rules == null) {
+            return List.of();
         }
+        List<CompiledRule> compiled = new ArrayList<>(rules.size());
+        for (DynamicLogRule rule : rules) {
+            compiled.add(CompiledRule.compile(rule, parser));
+        }
+        return List.copyOf(compiled);
+    }
 
-        return Optional.empty();
+    private MatchPlan buildPlan(PlanCache cache, Class<?> targetClass, Method method) {
+        String className = targetClass.getSimpleName();
+        String methodName = method.getName();
+        List<CompiledRule> applicable = new ArrayList<>();
+        if (isClassAllowed(cache.allowedPackages, targetClass.getName())) {
+            stats.recordRegexChecks(cache.compiledRules.size());
+            for (CompiledRule rule : cache.compiledRules) {
+                if (rule.matchesName(className, methodName)) {
+                    applicable.add(rule);
+                }
+            }
+        }
+        return MatchPlan.of(className, methodName, applicable);
     }
 
-    private boolean isClassAllowed(String fullyQualifiedClassName) {
+    private static boolean isClassAllowed(List<String> allowedPackages, String fullyQualifiedClassName) {
         if (allowedPackages == null || allowedPackages.isEmpty()) return true;
         return allowedPackages.stream().anyMatch(fullyQualifiedClassName::startsWith);
     }
-}
\ No newline at end of file
+
+    /**
+     * 특정 규칙/허용 패키지 목록 인스턴스로 만든 매칭 계획 캐시.
+     */
+    private static final class PlanCache {
+        private final List<DynamicLogRule> rules;
+        private final List<String> allowedPackages;
+        private final List<CompiledRule> compiledRules;
+        private final Map<Class<?>, Map<Method, MatchPlan>> plans = new ConcurrentHashMap<>();
+
+        private PlanCache(List<DynamicLogRule> rules, List<String> allowedPackages, List<CompiledRule> compiledRules) {
+            this.rules = rules;
+            this.allowedPackages = allowedPackages;
+            this.compiledRules = compiledRules;
+        }
+    }
+
+    /**
+     * 스레드별로 재사용하는 조건식 평가 컨텍스트.
+     */
+    private static final class EvaluationScope {
+        private final SimpleEvaluationContext context = SimpleEvaluationContext.forReadOnlyDataBinding()
+            .withInstanceMethods()
+            .build();
+        private boolean inUse;
+
+        private void enter(MatchPlan plan, Object[] args, long executionTime) {
+            inUse = true;
+            context.setVariable("executionTime", executionTime);
+            context.setVariable("className", plan.getClassName());
+            context.setVariable("methodName", plan.getMethodName());
+            context.setVariable("args", args);
+        }
+
+        private void exit() {
+            context.setVariable("args", null);
+            inUse = false;
+        }
+    }
+}
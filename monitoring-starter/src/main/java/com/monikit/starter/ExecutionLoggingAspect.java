@@ -1,15 +1,25 @@
 package com.monikit.starter;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.context.annotation.Lazy;
 
 import com.monikit.config.DynamicLogRule;
 import com.monikit.config.MoniKitLoggingProperties;
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.clock.MoniKitClock;
+import com.monikit.core.clock.MoniKitClocks;
+import com.monikit.core.context.LogEntryContext;
+import com.monikit.core.exception.ExceptionAggregator;
+import com.monikit.core.instrument.MoniKitInstrumented;
 import com.monikit.core.model.ExceptionLog;
 import com.monikit.core.model.ExecutionDetailLog;
 import com.monikit.core.context.LogEntryContextManager;
@@ -24,27 +34,82 @@ import com.monikit.core.TraceIdProvider;
  *
  * <ul>
  *     <li>예외 발생 시 {@link ExceptionLog} 자동 기록</li>
+ *     <li>{@link ExceptionAggregator}가 지정되면 같은 지문의 반복 예외는 요약 로그로 묶고, 요청에는 예외 여부만 표시</li>
  *     <li>조건 만족 시 {@link ExecutionDetailLog} 기록</li>
  *     <li>추적 ID는 {@link TraceIdProvider}를 통해 자동 생성</li>
+ *     <li>실행 시간은 {@link MoniKitClock#nanoTime()}으로 측정하며, 규칙 평가는 ms 단위, 로그에는 ns 정밀도로 기록</li>
+ *     <li>메서드별 {@link MatchPlan}을 캐시해, 적용될 규칙이 없는 메서드는 시간 측정과 매칭 없이 바로 실행</li>
+ *     <li>monitoring-processor가 생성한 계측 클래스({@code @MoniKitInstrumented}, {@code *_MoniKit})는 다시 감싸지 않음.
+ *         원본 클래스에서 상속한 메서드도 대상 객체가 계측 클래스면 기록하지 않아 같은 호출이 두 번 기록되지 않음</li>
  * </ul>
  *
+ * <p>
+ * 로그는 {@link LogEntryContextManager#addLog(LogType, LogLevel, java.util.function.Supplier)}로 추가하므로,
+ * 해당 타입/레벨을 받을 Sink나 Hook이 없으면 로그 객체와 인자 스냅샷을 만들지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 인자/반환값 문자열은 {@link ArgumentSnapshotMode}에 따라 flush 시점까지 변환을 미루며,
+ * 해당 로그를 실제로 읽는 Sink가 있을 때만 한 번 렌더링됩니다. 렌더링은 {@link ArgumentRenderer}가 길이/원소 수를 제한해 수행합니다.
+ * </p>
+ *
  * @author ryu-qqq
  * @since 1.1.2
  */
 @Aspect
 public class ExecutionLoggingAspect {
 
+    /**
+     * 컴파일 시점 계측 클래스 여부. 계측 클래스가 원본에서 상속한 메서드는 {@code @within}으로 걸러지지 않아 대상 클래스로 한 번 더 확인한다.
+     */
+    private static final ClassValue<Boolean> INSTRUMENTED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.isAnnotationPresent(MoniKitInstrumented.class);
+        }
+    };
+
     private final LogEntryContextManager logEntryContextManager;
     private final TraceIdProvider traceIdProvider;
     private final DynamicMatcher matcher;
+    private final ArgumentSnapshotMode snapshotMode;
+    private final ExceptionAggregator exceptionAggregator;
+    private final ArgumentRenderer argumentRenderer;
 
     public ExecutionLoggingAspect(LogEntryContextManager logEntryContextManager,
                                   TraceIdProvider traceIdProvider,
                                   DynamicMatcher matcher
                                   ) {
+        this(logEntryContextManager, traceIdProvider, matcher, ArgumentSnapshotMode.SHALLOW_COPY);
+    }
+
+    public ExecutionLoggingAspect(LogEntryContextManager logEntryContextManager,
+                                  TraceIdProvider traceIdProvider,
+                                  DynamicMatcher matcher,
+                                  ArgumentSnapshotMode snapshotMode) {
+        this(logEntryContextManager, traceIdProvider, matcher, snapshotMode, null);
+    }
+
+    public ExecutionLoggingAspect(LogEntryContextManager logEntryContextManager,
+                                  TraceIdProvider traceIdProvider,
+                                  DynamicMatcher matcher,
+                                  ArgumentSnapshotMode snapshotMode,
+                                  ExceptionAggregator exceptionAggregator) {
+        this(logEntryContextManager, traceIdProvider, matcher, snapshotMode, exceptionAggregator, ArgumentRenderer.defaults());
+    }
+
+    public ExecutionLoggingAspect(LogEntryContextManager logEntryContextManager,
+                                  TraceIdProvider traceIdProvider,
+                                  DynamicMatcher matcher,
+                                  ArgumentSnapshotMode snapshotMode,
+                                  ExceptionAggregator exceptionAggregator,
+                                  ArgumentRenderer argumentRenderer) {
         this.logEntryContextManager = logEntryContextManager;
         this.traceIdProvider = traceIdProvider;
         this.matcher = matcher;
+        this.snapshotMode = snapshotMode != null ? snapshotMode : ArgumentSnapshotMode.SHALLOW_COPY;
+        this.exceptionAggregator = exceptionAggregator;
+        this.argumentRenderer = argumentRenderer != null ? argumentRenderer : ArgumentRenderer.defaults();
     }
 
     @Pointcut("(@within(org.springframework.stereotype.Service) || " +
@@ -52,13 +117,25 @@ public class ExecutionLoggingAspect {
         "@within(org.springframework.stereotype.Controller) || " +
         "@within(com.monikit.core.LogExecutionTime) || " +
         "@annotation(com.monikit.core.LogExecutionTime)) " +
-        "&& !within(com.monikit..*)")
+        "&& !within(com.monikit..*) " +
+        "&& !@within(com.monikit.core.instrument.MoniKitInstrumented) " +
+        "&& !within(*..*_MoniKit)")
     public void applicationBeansOrAnnotated() {}
 
 
     @Around("applicationBeansOrAnnotated()")
     public Object logExecutionTimeIfMatched(ProceedingJoinPoint joinPoint) throws Throwable {
-        long start = System.currentTimeMillis();
+        Object target = joinPoint.getTarget();
+        if (target != null && INSTRUMENTED.get(target.getClass())) {
+            return joinPoint.proceed();
+        }
+        MatchPlan plan = planFor(joinPoint);
+        if (plan != null && plan.isEmpty()) {
+            return joinPoint.proceed();
+        }
+
+        MoniKitClock clock = MoniKitClocks.get();
+        long start = clock.nanoTime();
         Object result = null;
         Throwable error = null;
 
@@ -69,30 +146,72 @@ public class ExecutionLoggingAspect {
             error = t;
             throw t;
         } finally {
-            long duration = System.currentTimeMillis() - start;
+            long elapsedNanos = clock.elapsedNanos(start);
+            long duration = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
 
-            Optional<DynamicLogRule> matchedRule = matcher.findMatchingRule(joinPoint, duration);
+            Optional<DynamicLogRule> matchedRule = plan != null
+                ? matcher.findMatchingRule(plan, joinPoint.getArgs(), duration)
+                : matcher.findMatchingRule(joinPoint, duration);
             if (matchedRule.isPresent()) {
+                DynamicLogRule rule = matchedRule.get();
                 String traceId = traceIdProvider.getTraceId();
-                String className = joinPoint.getTarget().getClass().getSimpleName();
-                String methodName = joinPoint.getSignature().getName();
 
                 if (error != null) {
-                    logEntryContextManager.addLog(ExceptionLog.of(traceId, error));
+                    logException(traceId, error);
                 }
 
-                logEntryContextManager.addLog(ExecutionDetailLog.of(
-                    traceId,
-                    className,
-                    methodName,
-                    duration,
-                    ArgumentUtils.safeArgsToString(joinPoint.getArgs()),
-                    ArgumentUtils.safeOutputToString(result),
-                    matchedRule.get().getThresholdMillis(),
-                    matchedRule.get().getTag()
-                ));
+                Object returned = result;
+                String className = plan != null ? plan.getClassName() : joinPoint.getTarget().getClass().getSimpleName();
+                String methodName = plan != null ? plan.getMethodName() : joinPoint.getSignature().getName();
+                logEntryContextManager.addLog(LogType.EXECUTION_DETAIL,
+                    ExecutionDetailLog.levelOf(duration, rule.getThresholdMillis()),
+                    () -> createExecutionLog(
+                        traceId,
+                        className,
+                        methodName,
+                        Duration.ofNanos(elapsedNanos),
+                        joinPoint.getArgs(),
+                        returned,
+                        rule
+                    ));
             }
         }
     }
 
+    /**
+     * 호출된 메서드의 {@link MatchPlan}을 조회한다.
+     *
+     * @return 매칭 계획. 메서드 시그니처가 아니거나 매처가 계획을 주지 않으면 null (매 호출 전체 매칭으로 처리)
+     */
+    private MatchPlan planFor(ProceedingJoinPoint joinPoint) {
+        if (joinPoint.getSignature() instanceof MethodSignature signature && joinPoint.getTarget() != null) {
+            return matcher.planFor(joinPoint.getTarget().getClass(), signature.getMethod());
+        }
+        return null;
+    }
+
+    private void logException(String traceId, Throwable thrown) {
+        if (exceptionAggregator == null || exceptionAggregator.record(thrown, traceId)) {
+            logEntryContextManager.addLog(LogType.EXCEPTION, LogLevel.ERROR, () -> ExceptionLog.of(traceId, thrown));
+        } else {
+            LogEntryContext.setErrorOccurred(true);
+        }
+    }
+
+    private ExecutionDetailLog createExecutionLog(String traceId, String className, String methodName,
+                                                  Duration duration, Object[] args, Object result, DynamicLogRule rule) {
+        if (snapshotMode == ArgumentSnapshotMode.EAGER) {
+            return ExecutionDetailLog.of(traceId, className, methodName, duration,
+                argumentRenderer.renderArgs(args), argumentRenderer.render(result),
+                rule.getThresholdMillis(), rule.getTag());
+        }
+
+        Object[] capturedArgs = snapshotMode == ArgumentSnapshotMode.SHALLOW_COPY ? ArgumentUtils.shallowSnapshot(args) : args;
+        Object capturedResult = snapshotMode == ArgumentSnapshotMode.SHALLOW_COPY ? ArgumentUtils.shallowSnapshot(result) : result;
+        return ExecutionDetailLog.deferred(traceId, className, methodName, duration,
+            () -> argumentRenderer.renderArgs(capturedArgs),
+            () -> argumentRenderer.render(capturedResult),
+            rule.getThresholdMillis(), rule.getTag());
+    }
+
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import com.monikit.core.concurrent.DefaultThreadContextHandler;
 import com.monikit.core.LogContextScope;
 import com.monikit.core.context.LogEntryContextManager;
 import com.monikit.core.concurrent.ThreadContextHandler;
+import com.monikit.core.exception.ExceptionAggregator;
 
 /**
  * SLF4J MDC 기반의 {@link ThreadContextHandler} 구현체.
@@ -37,6 +38,11 @@ public class MDCThreadContextHandler extends DefaultThreadContextHandler {
     private final LogEntryContextManager logEntryContextManager;
 
     public MDCThreadContextHandler(LogEntryContextManager logEntryContextManager) {
+        this(logEntryContextManager, null);
+    }
+
+    public MDCThreadContextHandler(LogEntryContextManager logEntryContextManager, ExceptionAggregator exceptionAggregator) {
+        super(exceptionAggregator);
         this.logEntryContextManager = logEntryContextManager;
     }
 
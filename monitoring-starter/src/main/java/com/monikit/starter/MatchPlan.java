@@ -0,0 +1,74 @@
+package com.monikit.starter;
+
+import java.util.List;
+
+/**
+ * 대상 클래스/메서드 하나에 대해 미리 계산한 동적 로깅 규칙 매칭 결과.
+ * <p>
+ * {@link DynamicMatcher}가 (클래스, 메서드) 별로 처음 호출될 때 한 번 만든다.
+ * 허용 패키지와 클래스/메서드 이름 정규식은 이때만 평가하므로, 이후 호출에서는 실행 시간 비교와 SpEL 조건만 남는다.
+ * </p>
+ *
+ * <ul>
+ *     <li>className / methodName: 로그에 기록할 대상 클래스 단순 이름과 메서드 이름</li>
+ *     <li>rules: 이 메서드에 적용될 수 있는 컴파일된 규칙 (설정 순서 유지)</li>
+ *     <li>minThresholdMillis: 적용 가능한 규칙의 thresholdMillis 중 최솟값. 실행 시간이 이보다 짧으면 어떤 규칙도 매칭되지 않음</li>
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class MatchPlan {
+
+    private final String className;
+    private final String methodName;
+    private final List<CompiledRule> rules;
+    private final long minThresholdMillis;
+
+    private MatchPlan(String className, String methodName, List<CompiledRule> rules) {
+        this.className = className;
+        this.methodName = methodName;
+        this.rules = List.copyOf(rules);
+        long min = Long.MAX_VALUE;
+        for (CompiledRule rule : this.rules) {
+            min = Math.min(min, rule.getThresholdMillis());
+        }
+        this.minThresholdMillis = min;
+    }
+
+    public static MatchPlan of(String className, String methodName, List<CompiledRule> rules) {
+        return new MatchPlan(className, methodName, rules);
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public List<CompiledRule> getRules() {
+        return rules;
+    }
+
+    public long getMinThresholdMillis() {
+        return minThresholdMillis;
+    }
+
+    /**
+     * @return 적용 가능한 규칙이 없으면 true. 이 경우 실행 시간 측정 자체가 필요 없다.
+     */
+    public boolean isEmpty() {
+        return rules.isEmpty();
+    }
+
+    /**
+     * @param executionTime 실행 시간 (ms)
+     * @return 실행 시간 기준으로 매칭될 수 있는 규칙이 남아 있으면 true
+     */
+    public boolean canMatch(long executionTime) {
+        return executionTime >= minThresholdMillis;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.monikit.starter;
+
+import java.util.function.Function;
+
+/**
+ * 특정 타입의 인자/반환값을 {@link ArgumentRenderer} 대신 직접 문자열로 쓰는 전략.
+ * <p>
+ * 엔티티처럼 {@code toString()}이 크거나 지연 로딩을 일으키는 타입은 식별자만 남기도록 등록한다.
+ * 전략의 출력도 필드별 글자 예산을 넘기면 잘린다.
+ * </p>
+ *
+ * @param <T> 대상 타입
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@FunctionalInterface
+public interface RenderingStrategy<T> {
+
+    /**
+     * @param value 렌더링할 값 (null이 아님)
+     * @param out 출력 버퍼
+     */
+    void render(T value, StringBuilder out);
+
+    /**
+     * {@code 이름(id=식별자)} 형태로 식별자만 쓰는 전략을 만든다.
+     *
+     * @param typeName 출력할 타입 이름 (프록시 클래스 이름 대신 쓰기 위해 직접 지정)
+     * @param idExtractor 식별자 추출 함수
+     */
+    static <T> RenderingStrategy<T> idOnly(String typeName, Function<? super T, ?> idExtractor) {
+        return (value, out) -> out.append(typeName).append("(id=").append(idExtractor.apply(value)).append(')');
+    }
+
+}
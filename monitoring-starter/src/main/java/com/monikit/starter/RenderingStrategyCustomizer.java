@@ -0,0 +1,21 @@
+package com.monikit.starter;
+
+/**
+ * {@link ArgumentRenderer}가 사용할 {@link RenderingStrategyRegistry}에 타입별 전략을 등록하는 커스터마이저.
+ * <p>
+ * 이 인터페이스를 구현한 빈이 있으면 {@code ArgumentRenderer} 빈 생성 시점에 호출된다.
+ * </p>
+ *
+ * <pre>
+ * &#64;Bean
+ * public RenderingStrategyCustomizer orderRendering() {
+ *     return registry -&gt; registry.register(Order.class, RenderingStrategy.idOnly("Order", Order::getId));
+ * }
+ * </pre>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public interface RenderingStrategyCustomizer {
+    void customize(RenderingStrategyRegistry registry);
+}
@@ -0,0 +1,77 @@
+package com.monikit.starter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 타입별 {@link RenderingStrategy} 등록소.
+ * <p>
+ * 값의 런타임 클래스에서 가장 가까운 등록 타입(클래스 계층 → 인터페이스 순)의 전략을 찾고, 결과는 클래스별로 캐시한다.
+ * 등록이 바뀌면 캐시를 비운다. 등록된 전략이 없으면 조회 비용 없이 null을 반환한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public final class RenderingStrategyRegistry {
+
+    private final Map<Class<?>, RenderingStrategy<?>> strategies = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Optional<RenderingStrategy<Object>>> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * @param type 대상 타입 (하위 타입과 구현체에도 적용)
+     * @param strategy 렌더링 전략
+     * @return this
+     */
+    public <T> RenderingStrategyRegistry register(Class<T> type, RenderingStrategy<? super T> strategy) {
+        if (type == null || strategy == null) {
+            throw new IllegalArgumentException("type and strategy must not be null");
+        }
+        strategies.put(type, strategy);
+        resolved.clear();
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return strategies.isEmpty();
+    }
+
+    /**
+     * @return 적용할 전략. 없으면 null
+     */
+    RenderingStrategy<Object> find(Class<?> type) {
+        if (strategies.isEmpty()) {
+            return null;
+        }
+        return resolved.computeIfAbsent(type, this::resolve).orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<RenderingStrategy<Object>> resolve(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            RenderingStrategy<?> strategy = strategies.get(current);
+            if (strategy != null) {
+                return Optional.of((RenderingStrategy<Object>) strategy);
+            }
+        }
+
+        Deque<Class<?>> interfaces = new ArrayDeque<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            interfaces.addAll(List.of(current.getInterfaces()));
+        }
+        while (!interfaces.isEmpty()) {
+            Class<?> candidate = interfaces.poll();
+            RenderingStrategy<?> strategy = strategies.get(candidate);
+            if (strategy != null) {
+                return Optional.of((RenderingStrategy<Object>) strategy);
+            }
+            interfaces.addAll(List.of(candidate.getInterfaces()));
+        }
+        return Optional.empty();
+    }
+
+}
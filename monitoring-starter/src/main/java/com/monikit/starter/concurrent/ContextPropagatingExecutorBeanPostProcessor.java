@@ -0,0 +1,86 @@
+package com.monikit.starter.concurrent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.monikit.core.concurrent.DefaultThreadContextHandler;
+import com.monikit.core.concurrent.ThreadContextHandler;
+import com.monikit.core.metrics.ExecutorTaskStats;
+import com.monikit.core.metrics.ExecutorTaskStatsRegistry;
+
+/**
+ * {@link ThreadPoolTaskExecutor} / {@link SimpleAsyncTaskExecutor} 빈에 {@link ContextPropagatingTaskDecorator}를 설정하는 BeanPostProcessor.
+ * <p>
+ * - 실행기가 초기화되기 전에 적용되므로 {@code @Async} 기본 실행기({@code applicationTaskExecutor})를 포함한 모든 실행기 빈이 대상이다.
+ * - 실행기 빈을 다른 타입으로 감싸지 않고 TaskDecorator만 설정하므로 주입 지점의 타입은 바뀌지 않는다.
+ * - 이미 설정된 TaskDecorator는 조회해 두었다가 먼저 적용한다.
+ * - 통계는 빈 이름을 실행기 이름으로 사용한다. {@link ExecutorTaskStatsRegistry} 빈이 없으면 전파만 한다.
+ * - {@link ThreadContextHandler} 빈이 없으면 {@link DefaultThreadContextHandler}를 사용한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class ContextPropagatingExecutorBeanPostProcessor implements BeanPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContextPropagatingExecutorBeanPostProcessor.class);
+    private static final String TASK_DECORATOR_FIELD = "taskDecorator";
+
+    private final ObjectProvider<ThreadContextHandler> handlerProvider;
+    private final ObjectProvider<ExecutorTaskStatsRegistry> statsRegistryProvider;
+
+    public ContextPropagatingExecutorBeanPostProcessor(ObjectProvider<ThreadContextHandler> handlerProvider,
+                                                       ObjectProvider<ExecutorTaskStatsRegistry> statsRegistryProvider) {
+        this.handlerProvider = handlerProvider;
+        this.statsRegistryProvider = statsRegistryProvider;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof ThreadPoolTaskExecutor executor) {
+            TaskDecorator decorator = decorator(existingDecorator(executor), beanName);
+            if (decorator != null) {
+                executor.setTaskDecorator(decorator);
+            }
+        } else if (bean instanceof SimpleAsyncTaskExecutor executor) {
+            TaskDecorator decorator = decorator(existingDecorator(executor), beanName);
+            if (decorator != null) {
+                executor.setTaskDecorator(decorator);
+            }
+        }
+        return bean;
+    }
+
+    private TaskDecorator decorator(TaskDecorator existing, String beanName) {
+        if (existing instanceof ContextPropagatingTaskDecorator) {
+            return null;
+        }
+        logger.info("[MoniKit] Applying context-propagating TaskDecorator to executor '{}'", beanName);
+        return new ContextPropagatingTaskDecorator(
+            () -> handlerProvider.getIfAvailable(DefaultThreadContextHandler::new),
+            () -> stats(beanName),
+            existing);
+    }
+
+    private ExecutorTaskStats stats(String beanName) {
+        ExecutorTaskStatsRegistry registry = statsRegistryProvider.getIfAvailable();
+        return registry != null ? registry.forExecutor(beanName) : null;
+    }
+
+    private static TaskDecorator existingDecorator(Object executor) {
+        try {
+            Object value = new DirectFieldAccessor(executor).getPropertyValue(TASK_DECORATOR_FIELD);
+            return value instanceof TaskDecorator decorator ? decorator : null;
+        } catch (BeansException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.monikit.starter.concurrent;
+
+import java.util.function.Supplier;
+
+import org.springframework.core.task.TaskDecorator;
+
+import com.monikit.core.concurrent.ContextPropagatingTasks;
+import com.monikit.core.concurrent.ThreadContextHandler;
+import com.monikit.core.metrics.ExecutorTaskStats;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Spring 실행기에 제출되는 작업에 {@link ThreadContextHandler}를 자동으로 적용하는 {@link TaskDecorator}.
+ * <p>
+ * - 실행기가 작업을 받을 때(제출 시점) 호출되므로 부모 컨텍스트 캡처와 제출 시각 기록이 이 시점에 이뤄진다.
+ * - {@link ExecutorTaskStats}가 있으면 큐 대기 시간과 실행 시간을 따로 기록한다.
+ * - 기존 {@code TaskDecorator}가 있으면 먼저 적용한 뒤 그 결과를 감싼다.
+ * - {@code @Async}의 {@code CompletableFuture}처럼 실행기가 받는 작업이 이미 Future로 감싸져 있어도, 자식 로그는 쌓이는 즉시
+ *   부모 요청에 넘어가므로 {@code join()} 직후의 flush에 포함된다.
+ * - 핸들러와 통계는 첫 작업 제출 시 한 번만 조회하므로, 빈 초기화 순서와 무관하게 실행기에 설정할 수 있다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    private final Supplier<ThreadContextHandler> handlerSupplier;
+    private final Supplier<ExecutorTaskStats> statsSupplier;
+    private final TaskDecorator delegate;
+    private volatile Resolved resolved;
+
+    public ContextPropagatingTaskDecorator(ThreadContextHandler handler, @Nullable ExecutorTaskStats stats) {
+        this(() -> handler, () -> stats, null);
+    }
+
+    /**
+     * @param handlerSupplier 컨텍스트 전파 핸들러 공급자 (첫 제출 시 한 번 호출)
+     * @param statsSupplier 실행기 통계 공급자 (첫 제출 시 한 번 호출, null을 반환하면 기록하지 않음)
+     * @param delegate 먼저 적용할 기존 TaskDecorator
+     */
+    public ContextPropagatingTaskDecorator(Supplier<ThreadContextHandler> handlerSupplier,
+                                           Supplier<ExecutorTaskStats> statsSupplier,
+                                           @Nullable TaskDecorator delegate) {
+        this.handlerSupplier = handlerSupplier;
+        this.statsSupplier = statsSupplier;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Runnable task = delegate != null ? delegate.decorate(runnable) : runnable;
+        Resolved current = resolve();
+        return ContextPropagatingTasks.wrap(task, current.handler, current.stats);
+    }
+
+    @Nullable
+    public TaskDecorator getDelegate() {
+        return delegate;
+    }
+
+    private Resolved resolve() {
+        Resolved current = resolved;
+        if (current == null) {
+            synchronized (this) {
+                current = resolved;
+                if (current == null) {
+                    current = new Resolved(handlerSupplier.get(), statsSupplier.get());
+                    resolved = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static final class Resolved {
+
+        private final ThreadContextHandler handler;
+        private final ExecutorTaskStats stats;
+
+        private Resolved(ThreadContextHandler handler, ExecutorTaskStats stats) {
+            this.handler = handler;
+            this.stats = stats;
+        }
+
+    }
+
+}
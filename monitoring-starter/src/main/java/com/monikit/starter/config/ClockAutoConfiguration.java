@@ -0,0 +1,72 @@
+package com.monikit.starter.config;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.monikit.config.ClockProperties;
+import com.monikit.config.MoniKitLoggingProperties;
+import com.monikit.core.clock.CoarseMoniKitClock;
+import com.monikit.core.clock.MoniKitClock;
+import com.monikit.core.clock.MoniKitClocks;
+import com.monikit.core.clock.SystemMoniKitClock;
+
+/**
+ * 로그 timestamp와 실행 시간 측정에 사용할 {@link MoniKitClock}을 등록하는 설정 클래스.
+ * <p>
+ * - <code>monikit.logging.clock.coarse-enabled=true</code>이면 {@link CoarseMoniKitClock}, 아니면 {@link SystemMoniKitClock}을 사용합니다.
+ * - 등록된 시계(직접 정의한 `MoniKitClock` 빈 포함)는 {@link MoniKitClocks}에 설치되어 모든 로그 엔트리가 사용하며,
+ *   컨텍스트 종료 시 기본 시계로 되돌립니다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@Configuration
+@EnableConfigurationProperties(MoniKitLoggingProperties.class)
+public class ClockAutoConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClockAutoConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean(MoniKitClock.class)
+    public MoniKitClock moniKitClock(MoniKitLoggingProperties loggingProperties) {
+        ClockProperties clock = loggingProperties.getClock();
+        if (!clock.isCoarseEnabled()) {
+            return SystemMoniKitClock.INSTANCE;
+        }
+        logger.info("[MoniKit] Coarse clock enabled (resolutionMs={})", clock.getResolutionMs());
+        return new CoarseMoniKitClock(Duration.ofMillis(Math.max(1, clock.getResolutionMs())));
+    }
+
+    @Bean
+    public ClockInstallation moniKitClockInstallation(MoniKitClock moniKitClock) {
+        return new ClockInstallation(moniKitClock);
+    }
+
+    /**
+     * 생성 시 시계를 {@link MoniKitClocks}에 설치하고, 종료 시 아직 자신이 설치한 시계면 기본 시계로 되돌린다.
+     */
+    public static final class ClockInstallation implements AutoCloseable {
+
+        private final MoniKitClock clock;
+
+        ClockInstallation(MoniKitClock clock) {
+            this.clock = clock;
+            MoniKitClocks.set(clock);
+        }
+
+        @Override
+        public void close() {
+            if (MoniKitClocks.get() == clock) {
+                MoniKitClocks.reset();
+            }
+        }
+    }
+
+}
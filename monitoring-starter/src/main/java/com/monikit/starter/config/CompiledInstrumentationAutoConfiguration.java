@@ -0,0 +1,68 @@
+package com.monikit.starter.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.monikit.core.TraceIdProvider;
+import com.monikit.core.context.LogEntryContextManager;
+import com.monikit.core.exception.ExceptionAggregator;
+import com.monikit.core.instrument.ExecutionRecorder;
+import com.monikit.core.instrument.ExecutionRecorders;
+
+/**
+ * monitoring-processor가 생성한 계측 클래스({@code *_MoniKit})가 사용할 {@link ExecutionRecorder}를 등록하는 설정 클래스.
+ * <p>
+ * - monikit.logging.log-enabled=true일 때만 활성화됩니다.
+ * - 등록된 기록기(직접 정의한 `ExecutionRecorder` 빈 포함)는 {@link ExecutionRecorders}에 설치되며, 컨텍스트 종료 시 제거합니다.
+ * - `ExceptionAggregator` 빈이 있으면 `ExecutionLoggingAspect`와 같이 반복 예외를 요약합니다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@Configuration
+@ConditionalOnProperty(name = "monikit.logging.log-enabled", havingValue = "true", matchIfMissing = false)
+public class CompiledInstrumentationAutoConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompiledInstrumentationAutoConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ExecutionRecorder executionRecorder(LogEntryContextManager logEntryContextManager,
+                                               TraceIdProvider traceIdProvider,
+                                               ObjectProvider<ExceptionAggregator> exceptionAggregatorProvider) {
+        return new ExecutionRecorder(logEntryContextManager, traceIdProvider, exceptionAggregatorProvider.getIfAvailable());
+    }
+
+    @Bean
+    public ExecutionRecorderInstallation executionRecorderInstallation(ExecutionRecorder executionRecorder) {
+        logger.info("[MoniKit] ExecutionRecorder installed for compile-time instrumented classes");
+        return new ExecutionRecorderInstallation(executionRecorder);
+    }
+
+    /**
+     * 생성 시 기록기를 {@link ExecutionRecorders}에 설치하고, 종료 시 아직 자신이 설치한 기록기면 제거한다.
+     */
+    public static final class ExecutionRecorderInstallation implements AutoCloseable {
+
+        private final ExecutionRecorder recorder;
+
+        ExecutionRecorderInstallation(ExecutionRecorder recorder) {
+            this.recorder = recorder;
+            ExecutionRecorders.set(recorder);
+        }
+
+        @Override
+        public void close() {
+            if (ExecutionRecorders.get() == recorder) {
+                ExecutionRecorders.reset();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.monikit.starter.config;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.monikit.config.ExceptionAggregationProperties;
+import com.monikit.config.MoniKitLoggingProperties;
+import com.monikit.core.exception.ExceptionAggregator;
+import com.monikit.core.metrics.ExceptionFingerprintStatsRegistry;
+import com.monikit.core.notifier.LogNotifier;
+
+/**
+ * 반복 예외 집계기({@link ExceptionAggregator})를 등록하는 설정 클래스.
+ * <p>
+ * - <code>monikit.logging.exception-aggregation.enabled=true</code>일 때만 활성화됩니다. (기본 비활성)
+ * - 등록된 집계기는 `ExecutionLoggingAspect`와 `ThreadContextHandler`가 예외를 기록할 때 사용하며,
+ *   요약 로그는 `LogNotifier`로 바로 전송됩니다.
+ * - `ExceptionFingerprintStatsRegistry` 빈이 있으면 지문별 통계를 그곳에 기록하며, 컨텍스트 종료 시 남은 요약 로그를 전송합니다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@Configuration
+@EnableConfigurationProperties(MoniKitLoggingProperties.class)
+@ConditionalOnProperty(prefix = "monikit.logging.exception-aggregation", name = "enabled", havingValue = "true")
+public class ExceptionAggregationAutoConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExceptionAggregationAutoConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean(ExceptionAggregator.class)
+    public ExceptionAggregator exceptionAggregator(LogNotifier logNotifier,
+                                                   MoniKitLoggingProperties loggingProperties,
+                                                   ObjectProvider<ExceptionFingerprintStatsRegistry> statsRegistryProvider) {
+        ExceptionAggregationProperties aggregation = loggingProperties.getExceptionAggregation();
+        logger.info("[MoniKit] Exception aggregation enabled (windowMs={}, frameDepth={}, maxFingerprints={}, sampleSize={})",
+            aggregation.getWindowMs(), aggregation.getFrameDepth(), aggregation.getMaxFingerprints(), aggregation.getSampleSize());
+        return new ExceptionAggregator(logNotifier, Duration.ofMillis(aggregation.getWindowMs()), aggregation.getFrameDepth(),
+            aggregation.getMaxFingerprints(), aggregation.getSampleSize(),
+            statsRegistryProvider.getIfAvailable(() -> new ExceptionFingerprintStatsRegistry(aggregation.getMaxFingerprints())));
+    }
+
+}
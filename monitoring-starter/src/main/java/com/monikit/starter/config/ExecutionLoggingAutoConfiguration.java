@@ -1,15 +1,20 @@
 package com.monikit.starter.config;
 
+import java.util.Locale;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.expression.spel.SpelCompilerMode;
 
 import com.monikit.config.MoniKitLoggingProperties;
+import com.monikit.core.metrics.DynamicMatcherStats;
 import com.monikit.starter.DynamicMatcher;
 
 /**
@@ -17,6 +22,9 @@ import com.monikit.starter.DynamicMatcher;
  * <p>
  * - monikit.logging.detailed-logging=true일 때만 AOP를 활성화함.
  * - 서비스 및 리포지토리 클래스의 메서드 실행 시간을 측정하여 로그로 기록.
+ * - DynamicMatcher는 규칙 목록을 프로퍼티에서 매번 읽으므로, 프로퍼티가 다시 바인딩되면 메서드별 매칭 캐시도 새로 만들어짐.
+ * - 규칙은 등록 시점에 컴파일되므로 정규식이나 조건식이 잘못되면 애플리케이션 시작이 실패함.
+ * - `DynamicMatcherStats` 빈이 있으면 SpEL 평가 횟수/시간 등 매칭 비용 통계를 그곳에 기록함.
  * </p>
  *
  * @author ryu-qqq
@@ -34,13 +42,27 @@ public class ExecutionLoggingAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public DynamicMatcher dynamicMatcher(MoniKitLoggingProperties loggingProperties) {
-        logger.info("[MoniKit] DynamicMatcher Registered");
+    public DynamicMatcher dynamicMatcher(MoniKitLoggingProperties loggingProperties,
+                                         ObjectProvider<DynamicMatcherStats> statsProvider) {
+        SpelCompilerMode compilerMode = createCompilerMode(loggingProperties.getSpelCompilerMode());
+        logger.info("[MoniKit] DynamicMatcher Registered (spel-compiler-mode: {})", compilerMode);
         return new DynamicMatcher(
-            loggingProperties.getDynamicMatching(),
-            loggingProperties.getAllowedPackages()
+            loggingProperties::getDynamicMatching,
+            loggingProperties::getAllowedPackages,
+            compilerMode,
+            statsProvider.getIfAvailable(DynamicMatcherStats::new)
         );
     }
 
+    private static SpelCompilerMode createCompilerMode(String mode) {
+        String value = mode == null ? "OFF" : mode.trim().toUpperCase(Locale.ROOT);
+        return switch (value) {
+            case "OFF" -> SpelCompilerMode.OFF;
+            case "IMMEDIATE" -> SpelCompilerMode.IMMEDIATE;
+            case "MIXED" -> SpelCompilerMode.MIXED;
+            default -> throw new IllegalArgumentException("Unknown monikit.logging.spel-compiler-mode: " + mode);
+        };
+    }
+
 
 }
@@ -0,0 +1,69 @@
+package com.monikit.starter.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.monikit.config.FileSinkProperties;
+import com.monikit.config.MoniKitLoggingProperties;
+import com.monikit.core.LogType;
+import com.monikit.core.notifier.file.MappedFileLogSink;
+import com.monikit.starter.sink.MappedFileLogSinkCustomizer;
+
+/**
+ * 메모리 매핑 파일 Sink를 {@code LogSinkCustomizer}로 등록하는 설정 클래스.
+ * <p>
+ * - <code>monikit.logging.file-sink.enabled=true</code>일 때만 활성화됩니다.
+ * - 세부 설정은 <code>monikit.logging.file-sink.*</code>를 따릅니다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@Configuration
+@EnableConfigurationProperties(MoniKitLoggingProperties.class)
+@ConditionalOnProperty(prefix = "monikit.logging.file-sink", name = "enabled", havingValue = "true")
+public class FileLogSinkAutoConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileLogSinkAutoConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean(MappedFileLogSinkCustomizer.class)
+    public MappedFileLogSinkCustomizer mappedFileLogSinkCustomizer(MoniKitLoggingProperties loggingProperties) {
+        FileSinkProperties fileSink = loggingProperties.getFileSink();
+        Path directory = Path.of(fileSink.getDirectory()).toAbsolutePath();
+        try {
+            MappedFileLogSink sink = new MappedFileLogSink(directory, fileSink.getFilePrefix(),
+                fileSink.getSegmentSizeBytes(), fileSink.getMaxSegments(),
+                Duration.ofMillis(fileSink.getForceIntervalMs()), toLogTypes(fileSink));
+            logger.info("[MoniKit] MappedFileLogSink Registered (directory={}, segmentSizeBytes={}, maxSegments={})",
+                directory, fileSink.getSegmentSizeBytes(), fileSink.getMaxSegments());
+            return new MappedFileLogSinkCustomizer(sink);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open monikit file sink directory: " + directory, e);
+        }
+    }
+
+    private static Set<LogType> toLogTypes(FileSinkProperties fileSink) {
+        Set<LogType> logTypes = EnumSet.noneOf(LogType.class);
+        if (fileSink.getLogTypes() != null) {
+            for (String logType : fileSink.getLogTypes()) {
+                logTypes.add(LogType.valueOf(logType.trim().toUpperCase(Locale.ROOT)));
+            }
+        }
+        return logTypes;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.monikit.starter.config;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.monikit.config.LogAddHookProperties;
+import com.monikit.config.MoniKitLoggingProperties;
+import com.monikit.core.hook.HookDropPolicy;
+import com.monikit.core.hook.LogAddHookIsolator;
+import com.monikit.core.metrics.LogAddHookStatsRegistry;
+
+/**
+ * `LogAddHook` 실행 격리 구성 요소를 등록하는 설정 클래스.
+ * <p>
+ * - <code>monikit.logging.add-hook.isolation-enabled=true</code>일 때만 활성화됩니다. (기본 비활성, 훅은 요청 스레드에서 그대로 실행)
+ * - 활성화하면 ASYNC 훅과 예산을 넘겨 격리된 훅은 작업 스레드에서 실행되므로, ThreadLocal / MDC / 요청 컨텍스트를 읽는 훅은 값을 보지 못합니다.
+ * - 등록된 {@link LogAddHookIsolator}는 `LogEntryContextManager` 생성 시 커스터마이저 적용 이후의 훅 목록에 적용됩니다.
+ * - 세부 설정은 <code>monikit.logging.add-hook.*</code>를 따르며, 컨텍스트 종료 시 비동기 훅의 작업 스레드를 정리합니다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@Configuration
+@EnableConfigurationProperties(MoniKitLoggingProperties.class)
+@ConditionalOnProperty(prefix = "monikit.logging.add-hook", name = "isolation-enabled", havingValue = "true")
+public class LogAddHookIsolationAutoConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogAddHookIsolationAutoConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean(LogAddHookIsolator.class)
+    public LogAddHookIsolator logAddHookIsolator(MoniKitLoggingProperties loggingProperties,
+                                                 ObjectProvider<LogAddHookStatsRegistry> statsRegistryProvider) {
+        LogAddHookProperties addHook = loggingProperties.getAddHook();
+        HookDropPolicy dropPolicy = HookDropPolicy.valueOf(addHook.getDropPolicy().trim().toUpperCase(Locale.ROOT));
+        logger.info("[MoniKit] LogAddHook isolation enabled (budgetMs={}, violationsBeforeIsolation={}, queueCapacity={}, dropPolicy={})",
+            addHook.getBudgetMs(), addHook.getViolationsBeforeIsolation(), addHook.getQueueCapacity(), dropPolicy);
+        return new LogAddHookIsolator(Duration.ofMillis(addHook.getBudgetMs()), addHook.getViolationsBeforeIsolation(),
+            addHook.getQueueCapacity(), dropPolicy, statsRegistryProvider.getIfAvailable(LogAddHookStatsRegistry::new));
+    }
+
+}
@@ -1,21 +1,58 @@
 package com.monikit.starter.config;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.monikit.config.AsyncNotifierProperties;
+import com.monikit.config.LogOverflowProperties;
+import com.monikit.config.MoniKitLoggingProperties;
+import com.monikit.config.TailSamplingProperties;
+import com.monikit.core.LogLevel;
+import com.monikit.core.LogType;
+import com.monikit.core.TraceIdProvider;
+import com.monikit.core.context.ContextCarrier;
 import com.monikit.core.context.DefaultLogEntryContextManager;
+import com.monikit.core.context.InheritableContextCarrier;
+import com.monikit.core.context.LogEntryContext;
+import com.monikit.core.context.LogLevelThresholds;
+import com.monikit.core.context.ScopedContextCarrier;
 import com.monikit.core.hook.LogAddHook;
 import com.monikit.core.hook.LogAddHookCustomizer;
+import com.monikit.core.hook.LogAddHookIsolator;
 import com.monikit.core.context.LogEntryContextManager;
+import com.monikit.core.context.overflow.DropLowestLevelOverflowPolicy;
+import com.monikit.core.context.overflow.DropOldestOverflowPolicy;
+import com.monikit.core.context.overflow.FlushAllOverflowPolicy;
+import com.monikit.core.context.overflow.KeepSlowestOverflowPolicy;
+import com.monikit.core.context.overflow.LogEntrySizeEstimator;
+import com.monikit.core.context.overflow.OverflowLimits;
+import com.monikit.core.context.overflow.OverflowPolicy;
+import com.monikit.core.context.overflow.SpillOldestOverflowPolicy;
+import com.monikit.core.context.sampling.KeepAllTailSamplingPolicy;
+import com.monikit.core.context.sampling.OutcomeTailSamplingPolicy;
+import com.monikit.core.context.sampling.TailSamplingPolicy;
 import com.monikit.core.hook.LogFlushHook;
 import com.monikit.core.hook.LogFlushHookCustomizer;
+import com.monikit.core.metrics.LogContextOverflowStats;
+import com.monikit.core.notifier.AsyncLogNotifier;
+import com.monikit.core.notifier.DefaultLogNotifier;
 import com.monikit.core.notifier.LogNotifier;
+import com.monikit.core.notifier.LogSink;
+import com.monikit.core.notifier.LogSinkCustomizer;
+import com.monikit.core.notifier.WaitStrategy;
+import com.monikit.starter.sink.SpoolingLogSinkDecorator;
 
 import jakarta.annotation.Nullable;
 
@@ -25,6 +62,7 @@ import jakarta.annotation.Nullable;
  * - 로그 수집 및 후처리를 위한 핵심 컴포넌트들을 자동 등록합니다.
  * - `LogAddHook`, `LogFlushHook` 을 통해 확장 가능한 후처리 기능을 제공합니다.
  * - 사용자가 별도의 구현체를 등록하지 않을 경우 기본값(`DefaultLogEntryContextManager`, `DefaultThreadContextHandler`)을 자동으로 사용합니다.
+ * - `monikit.logging.async-notifier.enabled=true` 이면 `LogNotifier`를 `AsyncLogNotifier`로 감싸 Sink I/O를 요청 스레드에서 분리합니다.
  * </p>
  *
  * @author ryu-qqq
@@ -32,14 +70,66 @@ import jakarta.annotation.Nullable;
  */
 
 @Configuration
+@EnableConfigurationProperties(MoniKitLoggingProperties.class)
 public class LogEntryContextManagerConfig {
 
     private static final Logger logger = LoggerFactory.getLogger(LogEntryContextManagerConfig.class);
 
+    /**
+     * `LogNotifier` 빈을 등록합니다.
+     * <p>
+     * - `LogSink` 빈과 `LogSinkCustomizer`로 조립된 Sink 목록으로 `DefaultLogNotifier`를 생성합니다.
+     * - `SpoolingLogSinkDecorator` 빈이 있으면(`monikit.logging.spool.enabled=true`) 커스터마이저 적용 이후의 Sink를 디스크 스풀로 감쌉니다.
+     * - 비동기 모드가 켜져 있으면 `AsyncLogNotifier`로 감싸며, 컨텍스트 종료 시 남은 로그를 drain 후 종료합니다.
+     * </p>
+     */
+    @Bean
+    @ConditionalOnMissingBean(LogNotifier.class)
+    public LogNotifier logNotifier(
+        @Nullable List<LogSink> sinks,
+        @Nullable List<LogSinkCustomizer> sinkCustomizers,
+        TraceIdProvider traceIdProvider,
+        MoniKitLoggingProperties loggingProperties,
+        ObjectProvider<SpoolingLogSinkDecorator> spoolingDecoratorProvider
+    ) {
+        List<LogSink> finalSinks = new ArrayList<>(sinks != null ? sinks : List.of());
+        if (sinkCustomizers != null) {
+            for (LogSinkCustomizer customizer : sinkCustomizers) {
+                customizer.customize(finalSinks);
+            }
+            logger.info("[MoniKit] Registering LogSinkCustomizer with {} customizer(s)", sinkCustomizers.size());
+        }
+
+        SpoolingLogSinkDecorator spoolingDecorator = spoolingDecoratorProvider.getIfAvailable();
+        if (spoolingDecorator != null) {
+            finalSinks = spoolingDecorator.decorate(finalSinks);
+            logger.info("[MoniKit] Wrapped {} LogSink(s) with disk spool", finalSinks.size());
+        }
+
+        LogNotifier notifier = new DefaultLogNotifier(finalSinks, traceIdProvider);
+
+        AsyncNotifierProperties async = loggingProperties.getAsyncNotifier();
+        if (!async.isEnabled()) {
+            return notifier;
+        }
+
+        WaitStrategy waitStrategy = WaitStrategy.valueOf(async.getWaitStrategy().trim().toUpperCase(Locale.ROOT));
+        logger.info("[MoniKit] AsyncLogNotifier enabled (capacity={}, waitStrategy={}, maxBatchSize={})",
+            async.getBufferCapacity(), waitStrategy, async.getMaxBatchSize());
+
+        return new AsyncLogNotifier(notifier, traceIdProvider, async.getBufferCapacity(), waitStrategy,
+            async.getMaxBatchSize(), Duration.ofMillis(async.getShutdownTimeoutMs()));
+    }
+
     /**
      * `LogEntryContextManager` 빈을 등록합니다.
      * <p>
      * - `LogNotifier`, `LogAddHook`, `LogFlushHook` 을 자동 주입받아 구성합니다.
+     * - `LogAddHookIsolator` 빈이 있으면(`monikit.logging.add-hook.isolation-enabled=true`, 기본 비활성) 커스터마이저 적용 이후의 훅을 비동기 실행/지연 예산 래퍼로 감쌉니다.
+     * - 요청 버퍼 한도와 overflow 정책은 `monikit.logging.overflow.*` 설정을 따르며, `OverflowPolicy` 빈이 있으면 그것을 사용합니다.
+     * - flush 시점 tail sampling은 `monikit.logging.tail-sampling.*` 설정을 따르며, `TailSamplingPolicy` 빈이 있으면 그것을 사용합니다.
+     * - 로그 컨텍스트를 스레드에 연결하는 `ContextCarrier`는 `monikit.logging.context-carrier` 설정을 따르며, `ContextCarrier` 빈이 있으면 그것을 `LogEntryContext`에 지정합니다.
+     * - 로그 타입별 최소 레벨은 `monikit.logging.min-levels` 설정을 따릅니다.
      * - 사용자가 별도로 `LogEntryContextManager` 빈을 등록하지 않을 경우 기본 구현체가 사용됩니다.
      * </p>
      */
@@ -50,7 +140,13 @@ public class LogEntryContextManagerConfig {
         LogNotifier logNotifier,
         @Nullable List<LogAddHook> addHooks,
         @Nullable List<LogAddHookCustomizer> addHookCustomizers,
-        @Nullable List<LogFlushHookCustomizer> flushHookCustomizers
+        @Nullable List<LogFlushHookCustomizer> flushHookCustomizers,
+        MoniKitLoggingProperties loggingProperties,
+        ObjectProvider<OverflowPolicy> overflowPolicyProvider,
+        ObjectProvider<LogContextOverflowStats> overflowStatsProvider,
+        ObjectProvider<TailSamplingPolicy> tailSamplingPolicyProvider,
+        ObjectProvider<ContextCarrier> contextCarrierProvider,
+        ObjectProvider<LogAddHookIsolator> addHookIsolatorProvider
     ) {
         List<LogAddHook> finalAddHooks = new ArrayList<>(addHooks != null ? addHooks : List.of());
         if (addHookCustomizers != null) {
@@ -61,6 +157,12 @@ public class LogEntryContextManagerConfig {
 
         }
 
+        LogAddHookIsolator addHookIsolator = addHookIsolatorProvider.getIfAvailable();
+        if (addHookIsolator != null) {
+            finalAddHooks = addHookIsolator.apply(finalAddHooks);
+            logger.info("[MoniKit] Wrapped {} LogAddHook(s) with execution isolation", finalAddHooks.size());
+        }
+
         List<LogFlushHook> finalFlushHooks = new ArrayList<>();
         if (flushHookCustomizers != null) {
             for (LogFlushHookCustomizer customizer : flushHookCustomizers) {
@@ -69,7 +171,69 @@ public class LogEntryContextManagerConfig {
             logger.info("[MoniKit] Registering LogFlushHookCustomizer with {} collector(s)", flushHookCustomizers.size());
         }
 
-        return new DefaultLogEntryContextManager(logNotifier, finalAddHooks, finalFlushHooks);
+        LogOverflowProperties overflow = loggingProperties.getOverflow();
+        OverflowPolicy overflowPolicy = overflowPolicyProvider.getIfAvailable(() -> createOverflowPolicy(overflow));
+        OverflowLimits overflowLimits = OverflowLimits.of(overflow.getMaxEntries(), overflow.getMaxBytes());
+        logger.info("[MoniKit] LogEntryContext overflow policy: {} (maxEntries={}, maxBytes={})",
+            overflowPolicy.getClass().getSimpleName(), overflowLimits.getMaxEntries(), overflowLimits.getMaxBytes());
+
+        TailSamplingPolicy tailSamplingPolicy = tailSamplingPolicyProvider.getIfAvailable(
+            () -> createTailSamplingPolicy(loggingProperties.getTailSampling()));
+        logger.info("[MoniKit] LogEntryContext tail sampling policy: {}", tailSamplingPolicy.getClass().getSimpleName());
+
+        ContextCarrier contextCarrier = contextCarrierProvider.getIfAvailable(
+            () -> createContextCarrier(loggingProperties.getContextCarrier()));
+        LogEntryContext.setCarrier(contextCarrier);
+        logger.info("[MoniKit] LogEntryContext carrier: {}", contextCarrier.getClass().getSimpleName());
+
+        LogLevelThresholds levelThresholds = createLevelThresholds(loggingProperties.getMinLevels());
+        if (!loggingProperties.getMinLevels().isEmpty()) {
+            logger.info("[MoniKit] LogEntryContext minimum levels: {}", loggingProperties.getMinLevels());
+        }
+
+        return new DefaultLogEntryContextManager(logNotifier, finalAddHooks, finalFlushHooks, overflowPolicy,
+            overflowLimits, new LogEntrySizeEstimator(), overflowStatsProvider.getIfAvailable(LogContextOverflowStats::new),
+            tailSamplingPolicy, levelThresholds);
+    }
+
+    private static LogLevelThresholds createLevelThresholds(Map<String, String> minLevels) {
+        if (minLevels == null || minLevels.isEmpty()) {
+            return LogLevelThresholds.none();
+        }
+        Map<LogType, LogLevel> thresholds = new EnumMap<>(LogType.class);
+        minLevels.forEach((type, level) -> thresholds.put(
+            LogType.valueOf(type.trim().replace('-', '_').toUpperCase(Locale.ROOT)),
+            LogLevel.valueOf(level.trim().toUpperCase(Locale.ROOT))));
+        return LogLevelThresholds.of(thresholds);
+    }
+
+    private static TailSamplingPolicy createTailSamplingPolicy(TailSamplingProperties tailSampling) {
+        if (!tailSampling.isEnabled()) {
+            return new KeepAllTailSamplingPolicy();
+        }
+        return new OutcomeTailSamplingPolicy(tailSampling.isKeepOnError(), tailSampling.getKeepStatusCodeFrom(),
+            tailSampling.getSlowThresholdMs(), tailSampling.getKeepRate(), tailSampling.isSummarizeUnsampled());
+    }
+
+    private static ContextCarrier createContextCarrier(String carrier) {
+        String mode = carrier == null ? "INHERITABLE" : carrier.trim().toUpperCase(Locale.ROOT);
+        return switch (mode) {
+            case "INHERITABLE" -> new InheritableContextCarrier();
+            case "SCOPED" -> new ScopedContextCarrier();
+            default -> throw new IllegalArgumentException("Unknown monikit.logging.context-carrier: " + carrier);
+        };
+    }
+
+    private static OverflowPolicy createOverflowPolicy(LogOverflowProperties overflow) {
+        String policy = overflow.getPolicy() == null ? "FLUSH_ALL" : overflow.getPolicy().trim().toUpperCase(Locale.ROOT);
+        return switch (policy) {
+            case "FLUSH_ALL" -> new FlushAllOverflowPolicy();
+            case "SPILL_OLDEST" -> new SpillOldestOverflowPolicy(overflow.getSpillSize());
+            case "DROP_OLDEST" -> new DropOldestOverflowPolicy();
+            case "KEEP_SLOWEST" -> new KeepSlowestOverflowPolicy();
+            case "DROP_LOWEST_LEVEL" -> new DropLowestLevelOverflowPolicy();
+            default -> throw new IllegalArgumentException("Unknown monikit.logging.overflow.policy: " + overflow.getPolicy());
+        };
     }
 
 
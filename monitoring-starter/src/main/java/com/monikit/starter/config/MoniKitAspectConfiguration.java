@@ -1,16 +1,28 @@
 package com.monikit.starter.config;
 
+import java.util.List;
+
+import jakarta.annotation.Nullable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 
+import com.monikit.config.ArgumentRenderingProperties;
+import com.monikit.config.MoniKitLoggingProperties;
 import com.monikit.core.TraceIdProvider;
 import com.monikit.core.context.LogEntryContextManager;
+import com.monikit.core.exception.ExceptionAggregator;
+import com.monikit.starter.ArgumentRenderer;
+import com.monikit.starter.ArgumentSnapshotMode;
 import com.monikit.starter.DynamicMatcher;
 import com.monikit.starter.ExecutionLoggingAspect;
+import com.monikit.starter.RenderingStrategyCustomizer;
+import com.monikit.starter.RenderingStrategyRegistry;
 
 @Configuration
 public class MoniKitAspectConfiguration {
@@ -23,9 +35,39 @@ public class MoniKitAspectConfiguration {
     public ExecutionLoggingAspect executionLoggingAspect(
         LogEntryContextManager logEntryContextManager,
         TraceIdProvider traceIdProvider,
-        DynamicMatcher dynamicMatcher
+        DynamicMatcher dynamicMatcher,
+        ObjectProvider<MoniKitLoggingProperties> loggingPropertiesProvider,
+        ObjectProvider<ExceptionAggregator> exceptionAggregatorProvider,
+        ObjectProvider<ArgumentRenderer> argumentRendererProvider
+    ) {
+        MoniKitLoggingProperties loggingProperties = loggingPropertiesProvider.getIfAvailable();
+        ArgumentSnapshotMode snapshotMode = ArgumentSnapshotMode.from(
+            loggingProperties != null ? loggingProperties.getArgumentSnapshotMode() : null);
+        logger.info("[MoniKit] ExecutionLoggingAspect Registered (argumentSnapshotMode={})", snapshotMode);
+        return new ExecutionLoggingAspect(logEntryContextManager, traceIdProvider, dynamicMatcher, snapshotMode,
+            exceptionAggregatorProvider.getIfAvailable(), argumentRendererProvider.getIfAvailable(ArgumentRenderer::defaults));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ArgumentRenderer argumentRenderer(
+        ObjectProvider<MoniKitLoggingProperties> loggingPropertiesProvider,
+        @Nullable List<RenderingStrategyCustomizer> customizers
     ) {
-        logger.info("[MoniKit] ExecutionLoggingAspect Registered");
-        return new ExecutionLoggingAspect(logEntryContextManager, traceIdProvider, dynamicMatcher);
+        MoniKitLoggingProperties loggingProperties = loggingPropertiesProvider.getIfAvailable();
+        ArgumentRenderingProperties rendering = loggingProperties != null
+            ? loggingProperties.getArgumentRendering() : new ArgumentRenderingProperties();
+
+        RenderingStrategyRegistry registry = new RenderingStrategyRegistry();
+        if (customizers != null) {
+            for (RenderingStrategyCustomizer customizer : customizers) {
+                customizer.customize(registry);
+            }
+        }
+        logger.info("[MoniKit] ArgumentRenderer Registered (maxFieldLength={}, maxCollectionSize={}, maxTotalLength={}, strategies={})",
+            rendering.getMaxFieldLength(), rendering.getMaxCollectionSize(), rendering.getMaxTotalLength(),
+            customizers != null ? customizers.size() : 0);
+        return new ArgumentRenderer(rendering.getMaxFieldLength(), rendering.getMaxCollectionSize(),
+            rendering.getMaxTotalLength(), registry);
     }
 }
@@ -0,0 +1,51 @@
+package com.monikit.starter.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.monikit.config.MoniKitLoggingProperties;
+import com.monikit.config.SpoolProperties;
+import com.monikit.core.metrics.LogSpoolStats;
+import com.monikit.starter.sink.SpoolingLogSinkDecorator;
+
+/**
+ * 디스크 스풀 데코레이터를 등록하는 설정 클래스.
+ * <p>
+ * - <code>monikit.logging.spool.enabled=true</code>일 때만 활성화됩니다.
+ * - 등록된 데코레이터는 `LogNotifier` 생성 시 커스터마이저 적용 이후의 Sink 목록에 적용됩니다.
+ * - 세부 설정은 <code>monikit.logging.spool.*</code>를 따릅니다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@Configuration
+@EnableConfigurationProperties(MoniKitLoggingProperties.class)
+@ConditionalOnProperty(prefix = "monikit.logging.spool", name = "enabled", havingValue = "true")
+public class SpoolAutoConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpoolAutoConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean(SpoolingLogSinkDecorator.class)
+    public SpoolingLogSinkDecorator spoolingLogSinkDecorator(MoniKitLoggingProperties loggingProperties,
+                                                             ObjectProvider<LogSpoolStats> spoolStatsProvider) {
+        SpoolProperties spool = loggingProperties.getSpool();
+        Path directory = Path.of(spool.getDirectory()).toAbsolutePath();
+        logger.info("[MoniKit] Log spool enabled (directory={}, maxBytes={}, latencyBudgetMs={})",
+            directory, spool.getMaxBytes(), spool.getLatencyBudgetMs());
+        return new SpoolingLogSinkDecorator(directory, spool.getSegmentSizeBytes(), spool.getMaxBytes(),
+            Duration.ofMillis(spool.getLatencyBudgetMs()), Duration.ofMillis(spool.getReplayIntervalMs()),
+            spool.getReplayBatchSize(), spoolStatsProvider.getIfAvailable(LogSpoolStats::new));
+    }
+
+}
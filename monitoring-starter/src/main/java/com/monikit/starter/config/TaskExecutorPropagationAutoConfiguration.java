@@ -0,0 +1,42 @@
+package com.monikit.starter.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.monikit.core.concurrent.ThreadContextHandler;
+import com.monikit.core.metrics.ExecutorTaskStatsRegistry;
+import com.monikit.starter.concurrent.ContextPropagatingExecutorBeanPostProcessor;
+
+/**
+ * 스레드 풀 실행기 빈에 로그 컨텍스트 전파와 큐 대기/실행 시간 계측을 자동 적용하는 설정 클래스.
+ * <p>
+ * - <code>monikit.logging.task-executor.enabled=false</code>이면 비활성화됩니다. (기본 활성)
+ * - {@link ContextPropagatingExecutorBeanPostProcessor}가 `ThreadPoolTaskExecutor` / `SimpleAsyncTaskExecutor` 빈에 TaskDecorator를 설정합니다.
+ * - BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하므로 static 메서드로 등록하고, 핸들러와 통계 저장소는 첫 작업 제출 시 조회합니다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "monikit.logging.task-executor", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TaskExecutorPropagationAutoConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskExecutorPropagationAutoConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean
+    public static ContextPropagatingExecutorBeanPostProcessor contextPropagatingExecutorBeanPostProcessor(
+        ObjectProvider<ThreadContextHandler> handlerProvider,
+        ObjectProvider<ExecutorTaskStatsRegistry> statsRegistryProvider
+    ) {
+        logger.info("[MoniKit] Registered ContextPropagatingExecutorBeanPostProcessor");
+        return new ContextPropagatingExecutorBeanPostProcessor(handlerProvider, statsRegistryProvider);
+    }
+
+}
@@ -2,12 +2,14 @@ package com.monikit.starter.config;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.monikit.core.context.LogEntryContextManager;
 import com.monikit.core.concurrent.ThreadContextHandler;
+import com.monikit.core.exception.ExceptionAggregator;
 import com.monikit.starter.MDCThreadContextHandler;
 
 
@@ -20,6 +22,7 @@ import com.monikit.starter.MDCThreadContextHandler;
  * - 사용자가 별도로 {@code ThreadContextHandler} 빈을 등록하지 않은 경우에만 동작합니다.
  * - SLF4J MDC를 기반으로, traceId 및 로그 컨텍스트를 자식 스레드로 안전하게 전파합니다.
  * - {@link LogEntryContextManager}를 함께 사용하여 요청 단위 로그 수집 컨텍스트까지 유지합니다.
+ * - {@link ExceptionAggregator} 빈이 있으면 반복 예외를 요약 로그로 묶습니다.
  * </p>
  *
  *
@@ -33,8 +36,9 @@ public class ThreadContextHandlerAutoConfiguration {
     private static final Logger logger = LoggerFactory.getLogger(ThreadContextHandlerAutoConfiguration.class);
 
     @Bean
-    public ThreadContextHandler threadContextHandler(LogEntryContextManager logEntryContextManager) {
+    public ThreadContextHandler threadContextHandler(LogEntryContextManager logEntryContextManager,
+                                                     ObjectProvider<ExceptionAggregator> exceptionAggregatorProvider) {
         logger.info("[MoniKit] No custom ThreadContextHandler found. Using default MDCThreadContextHandler.");
-        return new MDCThreadContextHandler(logEntryContextManager);
+        return new MDCThreadContextHandler(logEntryContextManager, exceptionAggregatorProvider.getIfAvailable());
     }
 }
\ No newline at end of file
@@ -6,13 +6,16 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.monikit.core.TraceIdGenerator;
 import com.monikit.core.TraceIdProvider;
+import com.monikit.core.W3CTraceIdGenerator;
 import com.monikit.starter.MDCTraceIdProvider;
 
 /**
  * `TraceIdProvider` 자동 구성 클래스.
  * <p>
  * - 사용자 정의 빈이 없을 경우, 기본 구현체인 {@link MDCTraceIdProvider}를 자동으로 등록함.
+ * - 새 Trace ID 생성기({@link TraceIdGenerator})가 없으면 W3C 형식(16진수 32자)의 {@link W3CTraceIdGenerator}를 등록함.
  * </p>
  *
  * @author ryu-qqq
@@ -30,4 +33,10 @@ public class TraceIdProviderAutoConfiguration {
         return new MDCTraceIdProvider();
     }
 
-}
\ No newline at end of file
+    @Bean
+    @ConditionalOnMissingBean(TraceIdGenerator.class)
+    public TraceIdGenerator traceIdGenerator() {
+        return new W3CTraceIdGenerator();
+    }
+
+}
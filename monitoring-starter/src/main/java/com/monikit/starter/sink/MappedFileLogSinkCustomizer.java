@@ -0,0 +1,41 @@
+package com.monikit.starter.sink;
+
+import java.util.List;
+
+import com.monikit.core.notifier.LogSink;
+import com.monikit.core.notifier.LogSinkCustomizer;
+import com.monikit.core.notifier.file.MappedFileLogSink;
+
+/**
+ * {@link MappedFileLogSink}를 Sink 목록에 추가하는 {@link LogSinkCustomizer}.
+ * <p>
+ * Sink 자체를 빈으로 등록하면 {@code List<LogSink>} 주입과 커스터마이저 양쪽에서 중복 등록되므로,
+ * 커스터마이저가 Sink의 수명을 소유하고 컨텍스트 종료 시 {@link #close()}로 현재 세그먼트를 완료 처리한다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class MappedFileLogSinkCustomizer implements LogSinkCustomizer, AutoCloseable {
+
+    private final MappedFileLogSink sink;
+
+    public MappedFileLogSinkCustomizer(MappedFileLogSink sink) {
+        this.sink = sink;
+    }
+
+    @Override
+    public void customize(List<LogSink> sinks) {
+        sinks.add(sink);
+    }
+
+    public MappedFileLogSink getSink() {
+        return sink;
+    }
+
+    @Override
+    public void close() {
+        sink.close();
+    }
+
+}
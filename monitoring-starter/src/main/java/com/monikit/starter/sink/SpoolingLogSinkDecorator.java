@@ -0,0 +1,90 @@
+package com.monikit.starter.sink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.monikit.core.metrics.LogSpoolStats;
+import com.monikit.core.notifier.LogSink;
+import com.monikit.core.notifier.spool.LogSpool;
+import com.monikit.core.notifier.spool.SpoolingLogSink;
+
+/**
+ * 최종 Sink 목록의 각 Sink를 {@link SpoolingLogSink}로 감싸는 데코레이터.
+ * <p>
+ * {@code LogSinkCustomizer}가 모두 적용된 뒤에 호출되어야 커스터마이저가 추가한 Sink까지 감쌀 수 있으므로,
+ * 커스터마이저가 아닌 별도 빈으로 두고 {@code LogNotifier} 생성 시 마지막에 적용한다.
+ * Sink마다 {@code <directory>/<Sink 클래스명>} 하위 디렉토리에 스풀을 두며, 같은 클래스가 여럿이면 {@code -2}, {@code -3}을 붙인다.
+ * 생성한 스풀 Sink의 수명을 소유하며 컨텍스트 종료 시 {@link #close()}로 재전송 스레드를 멈춘다.
+ * </p>
+ *
+ * @author ryu-qqq
+ * @since 1.1.3
+ */
+public class SpoolingLogSinkDecorator implements AutoCloseable {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long maxBytes;
+    private final Duration latencyBudget;
+    private final Duration replayInterval;
+    private final int replayBatchSize;
+    private final LogSpoolStats stats;
+    private final List<SpoolingLogSink> created = new ArrayList<>();
+
+    public SpoolingLogSinkDecorator(Path directory, int segmentSize, long maxBytes, Duration latencyBudget,
+                                    Duration replayInterval, int replayBatchSize, LogSpoolStats stats) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxBytes = maxBytes;
+        this.latencyBudget = latencyBudget;
+        this.replayInterval = replayInterval;
+        this.replayBatchSize = replayBatchSize;
+        this.stats = stats;
+    }
+
+    /**
+     * @param sinks 커스터마이저까지 적용된 Sink 목록
+     * @return 각 Sink를 스풀 Sink로 감싼 새 목록 (이미 스풀 Sink인 것은 그대로 둔다)
+     */
+    public List<LogSink> decorate(List<LogSink> sinks) {
+        List<LogSink> decorated = new ArrayList<>(sinks.size());
+        Map<String, Integer> names = new HashMap<>();
+        for (LogSink sink : sinks) {
+            if (sink instanceof SpoolingLogSink) {
+                decorated.add(sink);
+                continue;
+            }
+            String name = sink.getClass().getSimpleName();
+            int index = names.merge(name, 1, Integer::sum);
+            Path spoolDirectory = directory.resolve(index == 1 ? name : name + "-" + index);
+            try {
+                LogSpool spool = new LogSpool(spoolDirectory, segmentSize, maxBytes);
+                SpoolingLogSink spoolingSink = new SpoolingLogSink(sink, spool, latencyBudget, replayInterval, replayBatchSize, stats);
+                created.add(spoolingSink);
+                decorated.add(spoolingSink);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to open monikit spool directory: " + spoolDirectory, e);
+            }
+        }
+        return decorated;
+    }
+
+    public List<SpoolingLogSink> getSpoolingSinks() {
+        return List.copyOf(created);
+    }
+
+    @Override
+    public void close() {
+        for (SpoolingLogSink sink : created) {
+            sink.close();
+        }
+        created.clear();
+    }
+
+}
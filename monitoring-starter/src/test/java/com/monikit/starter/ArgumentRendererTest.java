@@ -0,0 +1,206 @@
+package com.monikit.starter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ArgumentRenderer 테스트")
+class ArgumentRendererTest {
+
+    private final ArgumentRenderer renderer = ArgumentRenderer.defaults();
+
+    @Nested
+    @DisplayName("길이/원소 수 제한 테스트")
+    class LimitTests {
+
+        @Test
+        @DisplayName("필드 글자 수 한도를 넘는 문자열은 잘리고 잘린 글자 수를 표시해야 한다.")
+        void shouldTruncateLongStrings() {
+            ArgumentRenderer small = new ArgumentRenderer(5, 10, 100, new RenderingStrategyRegistry());
+
+            assertEquals("abcde...(+3 chars)", small.render("abcdefgh"));
+            assertEquals("abc", small.render("abc"));
+        }
+
+        @Test
+        @DisplayName("컬렉션은 최대 원소 수까지만 렌더링하고 나머지 개수를 표시해야 한다.")
+        void shouldCapCollectionSize() {
+            List<Integer> values = IntStream.range(0, 100).boxed().toList();
+
+            assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, ...(+90)]", renderer.render(values));
+        }
+
+        @Test
+        @DisplayName("맵과 배열도 원소 수 한도를 적용해야 한다.")
+        void shouldCapMapsAndArrays() {
+            ArgumentRenderer small = new ArgumentRenderer(100, 2, 100, new RenderingStrategyRegistry());
+
+            Map<String, Integer> map = new LinkedHashMap<>();
+            map.put("a", 1);
+            map.put("b", 2);
+            map.put("c", 3);
+
+            assertEquals("{a=1, b=2, ...(+1)}", small.render(map));
+            assertEquals("[1, 2, ...(+1)]", small.render(new int[] {1, 2, 3}));
+            assertEquals("[x, y, ...(+2)]", small.render(new String[] {"x", "y", "z", "w"}));
+        }
+
+        @Test
+        @DisplayName("인자 목록 전체 글자 수 한도를 넘으면 이후 인자는 생략해야 한다.")
+        void shouldSkipArgumentsBeyondTotalBudget() {
+            ArgumentRenderer small = new ArgumentRenderer(10, 10, 12, new RenderingStrategyRegistry());
+
+            assertEquals("[arg0=abcdefghij, ...(+2 args)]", small.renderArgs(new Object[] {"abcdefghij", "b", "c"}));
+        }
+
+        @Test
+        @DisplayName("자기 자신을 담은 컬렉션은 중첩 한도에서 멈춰야 한다.")
+        void shouldStopAtMaxDepth() {
+            List<Object> self = new ArrayList<>();
+            self.add(self);
+
+            assertEquals("[[[[...(1)]]]]", renderer.render(self));
+        }
+
+        @Test
+        @DisplayName("필드 예산을 다 쓴 뒤의 값은 toString()을 호출하지 않아야 한다.")
+        void shouldNotStringifyValuesBeyondBudget() {
+            ArgumentRenderer small = new ArgumentRenderer(5, 10, 100, new RenderingStrategyRegistry());
+            AtomicInteger calls = new AtomicInteger();
+            Object counting = new Object() {
+                @Override
+                public String toString() {
+                    calls.incrementAndGet();
+                    return "value";
+                }
+            };
+
+            assertEquals("abcde...(+3 chars)=...", small.render(Map.entry("abcdefgh", counting)));
+            assertEquals(0, calls.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("타입별 축약 표현 테스트")
+    class ShortFormTests {
+
+        @Test
+        @DisplayName("byte[]와 char[]는 길이만 표시해야 한다.")
+        void shouldRenderBinaryArraysByLength() {
+            assertEquals("byte[1024]", renderer.render(new byte[1024]));
+            assertEquals("char[3]", renderer.render(new char[] {'p', 'w', 'd'}));
+        }
+
+        @Test
+        @DisplayName("Optional은 내용을, Stream은 소비하지 않고 타입만 표시해야 한다.")
+        void shouldRenderOptionalAndStream() {
+            Stream<String> stream = Stream.of("a", "b");
+
+            assertEquals("Optional[[1, 2]]", renderer.render(Optional.of(List.of(1, 2))));
+            assertEquals("Optional.empty", renderer.render(Optional.empty()));
+            assertEquals("<stream>", renderer.render(stream));
+            assertEquals(2, stream.count());
+        }
+
+        @Test
+        @DisplayName("record는 toString() 대신 컴포넌트를 한도 안에서 렌더링해야 한다.")
+        void shouldRenderRecordComponentsWithoutToString() {
+            OrderLine line = new OrderLine("A-1", IntStream.range(0, 20).boxed().toList());
+
+            assertEquals("OrderLine[sku=A-1, quantities=[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, ...(+10)]]", renderer.render(line));
+            assertEquals("{k=OrderLine[sku=B, quantities=[]]}", renderer.render(Map.of("k", new OrderLine("B", List.of()))));
+        }
+    }
+
+    @Nested
+    @DisplayName("RenderingStrategy 테스트")
+    class StrategyTests {
+
+        @Test
+        @DisplayName("등록된 타입과 그 하위 타입은 전략으로 렌더링해야 한다.")
+        void shouldUseRegisteredStrategyForSubtypes() {
+            RenderingStrategyRegistry registry = new RenderingStrategyRegistry()
+                .register(Order.class, RenderingStrategy.idOnly("Order", Order::getId));
+            ArgumentRenderer custom = new ArgumentRenderer(100, 10, 100, registry);
+
+            assertEquals("[arg0=Order(id=7), arg1=[Order(id=8)]]",
+                custom.renderArgs(new Object[] {new Order(7), List.of(new SpecialOrder(8))}));
+        }
+
+        @Test
+        @DisplayName("인터페이스로 등록한 전략은 구현체에 적용해야 한다.")
+        void shouldUseStrategyRegisteredForInterface() {
+            RenderingStrategyRegistry registry = new RenderingStrategyRegistry()
+                .register(Identified.class, (value, out) -> out.append("#").append(value.getId()));
+
+            assertEquals("#8", new ArgumentRenderer(100, 10, 100, registry).render(new SpecialOrder(8)));
+        }
+
+        @Test
+        @DisplayName("렌더링 중 예외가 발생하면 해당 필드만 [unserializable]로 표시해야 한다.")
+        void shouldMarkFailedFieldAsUnserializable() {
+            assertEquals("[arg0=[unserializable], arg1=ok]", renderer.renderArgs(new Object[] {new Order(1), "ok"}));
+        }
+    }
+
+    @Test
+    @DisplayName("toString() 안에서 다시 호출되어도 버퍼가 섞이지 않아야 한다.")
+    void shouldRenderReentrantCallsIndependently() {
+        Object reentrant = new Object() {
+            @Override
+            public String toString() {
+                return "inner" + renderer.render(List.of(1));
+            }
+        };
+
+        assertEquals("[arg0=inner[1], arg1=after]", renderer.renderArgs(new Object[] {reentrant, "after"}));
+        assertEquals("[]", renderer.renderArgs(new Object[0]));
+    }
+
+    record OrderLine(String sku, List<Integer> quantities) {
+        @Override
+        public String toString() {
+            throw new IllegalStateException("should not be called");
+        }
+    }
+
+    interface Identified {
+        long getId();
+    }
+
+    static class Order implements Identified {
+        private final long id;
+
+        Order(long id) {
+            this.id = id;
+        }
+
+        @Override
+        public long getId() {
+            return id;
+        }
+
+        @Override
+        public String toString() {
+            throw new IllegalStateException("lazy initialization");
+        }
+    }
+
+    static class SpecialOrder extends Order {
+        SpecialOrder(long id) {
+            super(id);
+        }
+    }
+
+}
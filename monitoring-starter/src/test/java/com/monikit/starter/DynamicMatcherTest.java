@@ -1,15 +1,20 @@
 package com.monikit.starter;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.expression.spel.SpelCompilerMode;
 
 import com.monikit.config.DynamicLogRule;
+import com.monikit.core.metrics.DynamicMatcherStats;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
@@ -116,11 +121,195 @@ class DynamicMatcherTest {
         }
     }
 
+    @Nested
+    @DisplayName("MatchPlan 캐시 테스트")
+    class MatchPlanTests {
+
+        @Test
+        @DisplayName("적용될 규칙이 없는 메서드의 계획은 비어 있어야 한다.")
+        void shouldBuildEmptyPlanWhenNoRuleApplies() throws NoSuchMethodException {
+            DynamicLogRule rule = rule("OrderService", "place", 100);
+            DynamicMatcher matcher = new DynamicMatcher(List.of(rule), List.of());
+
+            MatchPlan plan = matcher.planFor(TestService.class, TestService.class.getDeclaredMethod("runTask"));
+
+            assertTrue(plan.isEmpty());
+            assertFalse(plan.canMatch(Long.MAX_VALUE - 1));
+        }
+
+        @Test
+        @DisplayName("적용 가능한 규칙과 최소 임계값을 기록하고 같은 메서드는 캐시된 계획을 반환해야 한다.")
+        void shouldCacheApplicableRulesAndMinThreshold() throws NoSuchMethodException {
+            DynamicLogRule slow = rule("TestService", "run.*", 300);
+            DynamicLogRule fast = rule(".*Service", ".*", 50);
+            DynamicLogRule other = rule("OrderService", ".*", 10);
+            DynamicMatcher matcher = new DynamicMatcher(List.of(slow, fast, other), List.of());
+            Method method = TestService.class.getDeclaredMethod("runTask");
+
+            MatchPlan plan = matcher.planFor(TestService.class, method);
+
+            assertEquals(List.of(slow, fast), plan.getRules().stream().map(CompiledRule::getRule).toList());
+            assertEquals(50, plan.getMinThresholdMillis());
+            assertEquals("TestService", plan.getClassName());
+            assertEquals("runTask", plan.getMethodName());
+            assertSame(plan, matcher.planFor(TestService.class, method));
+            assertEquals(Optional.empty(), matcher.findMatchingRule(plan, new Object[]{}, 49));
+            assertEquals(Optional.of(fast), matcher.findMatchingRule(plan, new Object[]{}, 100));
+            assertEquals(Optional.of(slow), matcher.findMatchingRule(plan, new Object[]{}, 300));
+        }
+
+        @Test
+        @DisplayName("같은 메서드라도 대상 클래스가 다르면 클래스 이름 기준으로 따로 계획을 만들어야 한다.")
+        void shouldSeparatePlansByTargetClass() throws NoSuchMethodException {
+            DynamicMatcher matcher = new DynamicMatcher(List.of(rule("TestService", ".*", 0)), List.of());
+            Method inherited = TestService.class.getDeclaredMethod("runTask");
+
+            assertFalse(matcher.planFor(TestService.class, inherited).isEmpty());
+            assertTrue(matcher.planFor(ExtendedService.class, inherited).isEmpty());
+        }
+
+        @Test
+        @DisplayName("규칙 목록 인스턴스가 바뀌거나 refresh()를 호출하면 계획을 다시 만들어야 한다.")
+        void shouldRebuildPlansWhenRulesChange() throws NoSuchMethodException {
+            AtomicReference<List<DynamicLogRule>> rules = new AtomicReference<>(List.of());
+            DynamicMatcher matcher = new DynamicMatcher(rules::get, List::of);
+            Method method = TestService.class.getDeclaredMethod("runTask");
+            assertTrue(matcher.planFor(TestService.class, method).isEmpty());
+
+            List<DynamicLogRule> mutable = new ArrayList<>(List.of(rule("TestService", ".*", 0)));
+            rules.set(mutable);
+            assertFalse(matcher.planFor(TestService.class, method).isEmpty());
+
+            mutable.clear();
+            assertFalse(matcher.planFor(TestService.class, method).isEmpty());
+            matcher.refresh();
+            assertTrue(matcher.planFor(TestService.class, method).isEmpty());
+        }
+
+        private DynamicLogRule rule(String classNamePattern, String methodNamePattern, long thresholdMillis) {
+            DynamicLogRule rule = new DynamicLogRule();
+            rule.setClassNamePattern(classNamePattern);
+            rule.setMethodNamePattern(methodNamePattern);
+            rule.setThresholdMillis(thresholdMillis);
+            return rule;
+        }
+    }
+
+    @Nested
+    @DisplayName("규칙 컴파일 테스트")
+    class CompiledRuleTests {
+
+        @Test
+        @DisplayName("정규식이나 조건식 문법이 잘못된 규칙은 매처 생성 시 예외가 발생해야 한다.")
+        void shouldFailFastOnInvalidRule() {
+            assertThrows(IllegalArgumentException.class,
+                () -> new DynamicMatcher(List.of(rule("Test(Service", ".*", null)), List.of()));
+            assertThrows(IllegalArgumentException.class,
+                () -> new DynamicMatcher(List.of(rule(".*", ".*", "#executionTime >")), List.of()));
+        }
+
+        @Test
+        @DisplayName("다시 바인딩된 규칙이 잘못되었으면 이전에 컴파일한 규칙을 계속 사용해야 한다.")
+        void shouldKeepPreviousRulesWhenRebindFails() throws NoSuchMethodException {
+            AtomicReference<List<DynamicLogRule>> rules = new AtomicReference<>(List.of(rule("TestService", ".*", null)));
+            DynamicMatcher matcher = new DynamicMatcher(rules::get, List::of);
+            Method method = TestService.class.getDeclaredMethod("runTask");
+
+            rules.set(List.of(rule("[", ".*", null)));
+
+            assertFalse(matcher.planFor(TestService.class, method).isEmpty());
+        }
+
+        @Test
+        @DisplayName("조건식에서 변수의 인스턴스 메서드를 호출할 수 있어야 한다.")
+        void shouldEvaluateInstanceMethodCalls() throws NoSuchMethodException {
+            DynamicMatcher matcher = new DynamicMatcher(
+                List.of(rule(".*", ".*", "#methodName.startsWith('run') and #args.length == 1")), List.of());
+            MatchPlan plan = matcher.planFor(TestService.class, TestService.class.getDeclaredMethod("runTask"));
+
+            assertTrue(matcher.findMatchingRule(plan, new Object[]{"a"}, 10).isPresent());
+            assertTrue(matcher.findMatchingRule(plan, new Object[]{}, 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("타입 참조처럼 허용되지 않는 조건식은 예외 없이 매칭되지 않아야 한다.")
+        void shouldNotMatchWhenEvaluationFails() throws NoSuchMethodException {
+            DynamicMatcher matcher = new DynamicMatcher(
+                List.of(rule(".*", ".*", "T(java.lang.System).currentTimeMillis() > 0")), List.of());
+            MatchPlan plan = matcher.planFor(TestService.class, TestService.class.getDeclaredMethod("runTask"));
+
+            assertEquals(Optional.empty(), matcher.findMatchingRule(plan, new Object[]{}, 10));
+        }
+
+        @Test
+        @DisplayName("컴파일 모드에서도 반복 평가 결과가 인터프리터와 같아야 한다.")
+        void shouldEvaluateSameInCompiledMode() throws NoSuchMethodException {
+            DynamicLogRule rule = rule(".*", ".*", "#executionTime > 100 and #className == 'TestService'");
+            DynamicMatcher matcher = new DynamicMatcher(() -> List.of(rule), List::of, SpelCompilerMode.MIXED);
+            MatchPlan plan = matcher.planFor(TestService.class, TestService.class.getDeclaredMethod("runTask"));
+
+            for (int i = 0; i < 5; i++) {
+                assertEquals(Optional.of(rule), matcher.findMatchingRule(plan, new Object[]{}, 150));
+                assertEquals(Optional.empty(), matcher.findMatchingRule(plan, new Object[]{}, 50));
+            }
+        }
+
+        @Test
+        @DisplayName("정규식 확인, pre-filter 건너뜀, SpEL 평가, 매칭 결과를 통계에 기록해야 한다.")
+        void shouldRecordMatcherStats() throws NoSuchMethodException {
+            DynamicLogRule slow = rule(".*", ".*", "#executionTime > 500");
+            slow.setThresholdMillis(300);
+            DynamicLogRule fast = rule(".*", ".*", "#args.length == 1");
+            fast.setThresholdMillis(100);
+            DynamicMatcherStats stats = new DynamicMatcherStats(1);
+            DynamicMatcher matcher = new DynamicMatcher(() -> List.of(slow, fast), List::of, SpelCompilerMode.OFF, stats);
+
+            MatchPlan plan = matcher.planFor(TestService.class, TestService.class.getDeclaredMethod("runTask"));
+            matcher.planFor(UnmatchedService.class, UnmatchedService.class.getDeclaredMethod("anyMethod"));
+            matcher.findMatchingRule(plan, new Object[]{}, 50);
+            matcher.findMatchingRule(plan, new Object[]{"a"}, 150);
+            matcher.findMatchingRule(plan, new Object[]{}, 400);
+
+            assertEquals(4, stats.getRegexCheckCount());
+            assertEquals(0, stats.getNoApplicableRuleCount());
+            assertEquals(3, stats.getPrefilterSkipCount());
+            assertEquals(3, stats.getSpelEvaluationCount());
+            assertEquals(3, stats.getSampledEvaluationCount());
+            assertEquals(1, stats.getMatchedCount());
+            assertEquals(2, stats.getUnmatchedCount());
+        }
+
+        @Test
+        @DisplayName("적용될 규칙이 없는 메서드의 계획을 조회하면 규칙 없는 호출로 기록해야 한다.")
+        void shouldRecordNoApplicableRule() throws NoSuchMethodException {
+            DynamicMatcherStats stats = new DynamicMatcherStats();
+            DynamicMatcher matcher = new DynamicMatcher(() -> List.of(rule("OrderService", ".*", null)), List::of,
+                SpelCompilerMode.OFF, stats);
+
+            matcher.planFor(TestService.class, TestService.class.getDeclaredMethod("runTask"));
+            matcher.planFor(TestService.class, TestService.class.getDeclaredMethod("runTask"));
+
+            assertEquals(2, stats.getNoApplicableRuleCount());
+            assertEquals(1, stats.getRegexCheckCount());
+        }
+
+        private DynamicLogRule rule(String classNamePattern, String methodNamePattern, String when) {
+            DynamicLogRule rule = new DynamicLogRule();
+            rule.setClassNamePattern(classNamePattern);
+            rule.setMethodNamePattern(methodNamePattern);
+            rule.setWhen(when);
+            return rule;
+        }
+    }
+
     // 테스트용 클래스
     static class TestService {
         public void runTask() {}
     }
 
+    static class ExtendedService extends TestService {
+    }
+
     static class UnmatchedService {
         public void anyMethod() {}
     }
@@ -1,16 +1,34 @@
 package com.monikit.starter;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
 
 import com.monikit.config.DynamicLogRule;
 import com.monikit.core.TraceIdProvider;
 import com.monikit.core.context.LogEntryContextManager;
+import com.monikit.core.instrument.MoniKitInstrumented;
+import com.monikit.core.model.ExecutionDetailLog;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @DisplayName("ExecutionLoggingAspect 전체 테스트")
@@ -27,7 +45,7 @@ class ExecutionLoggingAspectTest {
         rule.setThresholdMillis(100L);
         rule.setTag("error");
 
-        LogEntryContextManager logManager = mock(LogEntryContextManager.class);
+        LogEntryContextManager logManager = mock(LogEntryContextManager.class, CALLS_REAL_METHODS);
         TraceIdProvider traceIdProvider = mock(TraceIdProvider.class);
         when(traceIdProvider.getTraceId()).thenReturn("trace-ex");
         DynamicMatcher matcher = mock(DynamicMatcher.class);
@@ -47,6 +65,143 @@ class ExecutionLoggingAspectTest {
 
     }
 
+    @Test
+    @DisplayName("적용될 규칙이 없는 메서드는 시간 측정과 규칙 매칭 없이 바로 실행해야 한다.")
+    void shouldSkipMatchingWhenPlanIsEmpty() {
+        // Given
+        DynamicLogRule rule = new DynamicLogRule();
+        rule.setClassNamePattern("OrderService");
+
+        LogEntryContextManager logManager = mock(LogEntryContextManager.class, CALLS_REAL_METHODS);
+        TraceIdProvider traceIdProvider = mock(TraceIdProvider.class);
+        DynamicMatcher matcher = spy(new DynamicMatcher(List.of(rule), List.of()));
+
+        ExecutionLoggingAspect aspect = new ExecutionLoggingAspect(logManager, traceIdProvider, matcher);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new TestService());
+        factory.addAspect(aspect);
+        TestService proxy = factory.getProxy();
+
+        // When
+        String result = proxy.doSomething("a");
+
+        // Then
+        assertEquals("a_result", result);
+        verify(matcher).planFor(eq(TestService.class), any());
+        verify(matcher, never()).findMatchingRule(any(MatchPlan.class), any(), anyLong());
+        verify(matcher, never()).findMatchingRule(any(ProceedingJoinPoint.class), anyLong());
+        verify(traceIdProvider, never()).getTraceId();
+    }
+
+    @Test
+    @DisplayName("REFERENCE 모드에서는 인자를 읽는 시점에 렌더링해야 한다.")
+    void shouldDeferArgumentRenderingInReferenceMode() throws Throwable {
+        // Given
+        List<String> items = new ArrayList<>(List.of("a"));
+        ExecutionDetailLog log = invokeCollectionService(ArgumentSnapshotMode.REFERENCE, items);
+
+        // When
+        items.add("b");
+
+        // Then
+        assertFalse(log.isRendered());
+        assertEquals("[arg0=[a, b]]", log.getInput());
+        assertEquals("1", log.getOutput());
+        assertTrue(log.isRendered());
+    }
+
+    @Test
+    @DisplayName("SHALLOW_COPY 모드에서는 호출 시점의 컬렉션 내용을 기록해야 한다.")
+    void shouldKeepCallTimeCollectionInShallowCopyMode() throws Throwable {
+        // Given
+        List<String> items = new ArrayList<>(List.of("a"));
+        ExecutionDetailLog log = invokeCollectionService(ArgumentSnapshotMode.SHALLOW_COPY, items);
+
+        // When
+        items.add("b");
+
+        // Then
+        assertFalse(log.isRendered());
+        assertEquals("[arg0=[a]]", log.getInput());
+    }
+
+    @Test
+    @DisplayName("모드를 지정하지 않으면 SHALLOW_COPY로 동작해야 한다.")
+    void shouldDefaultToShallowCopyMode() throws Throwable {
+        // Given
+        List<String> items = new ArrayList<>(List.of("a"));
+        ExecutionDetailLog log = invokeCollectionService(null, items);
+
+        // When
+        items.add("b");
+
+        // Then
+        assertEquals("[arg0=[a]]", log.getInput());
+        assertEquals(ArgumentSnapshotMode.SHALLOW_COPY, ArgumentSnapshotMode.from(null));
+    }
+
+    @Test
+    @DisplayName("EAGER 모드에서는 즉시 렌더링해야 한다.")
+    void shouldRenderImmediatelyInEagerMode() throws Throwable {
+        ExecutionDetailLog log = invokeCollectionService(ArgumentSnapshotMode.EAGER, new ArrayList<>(List.of("a")));
+
+        assertTrue(log.isRendered());
+        assertEquals("[arg0=[a]]", log.getInput());
+    }
+
+    @Test
+    @DisplayName("컴파일 시점 계측 클래스가 대상이면 상속한 메서드도 다시 기록하지 않아야 한다.")
+    void shouldSkipCompiledInstrumentedTargets() throws Throwable {
+        // Given
+        LogEntryContextManager logManager = mock(LogEntryContextManager.class, CALLS_REAL_METHODS);
+        DynamicMatcher matcher = mock(DynamicMatcher.class);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getTarget()).thenReturn(new InstrumentedCollectionService());
+        when(joinPoint.proceed()).thenReturn(1);
+
+        ExecutionLoggingAspect aspect = new ExecutionLoggingAspect(logManager, mock(TraceIdProvider.class), matcher);
+
+        // When
+        Object result = aspect.logExecutionTimeIfMatched(joinPoint);
+
+        // Then
+        assertEquals(1, result);
+        verify(joinPoint).proceed();
+        verify(logManager, never()).addLog(any());
+        verify(matcher, never()).findMatchingRule(any(ProceedingJoinPoint.class), anyLong());
+    }
+
+    private ExecutionDetailLog invokeCollectionService(ArgumentSnapshotMode mode, List<String> items) throws Throwable {
+        DynamicLogRule rule = new DynamicLogRule();
+        rule.setThresholdMillis(0L);
+        rule.setTag("collection");
+
+        LogEntryContextManager logManager = mock(LogEntryContextManager.class, CALLS_REAL_METHODS);
+        TraceIdProvider traceIdProvider = mock(TraceIdProvider.class);
+        DynamicMatcher matcher = mock(DynamicMatcher.class);
+        when(matcher.findMatchingRule(any(), anyLong())).thenReturn(Optional.of(rule));
+
+        Signature signature = mock(Signature.class);
+        when(signature.getName()).thenReturn("count");
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getTarget()).thenReturn(new CollectionService());
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{items});
+        when(joinPoint.proceed()).thenReturn(items.size());
+
+        ExecutionLoggingAspect aspect = new ExecutionLoggingAspect(logManager, traceIdProvider, matcher, mode);
+        aspect.logExecutionTimeIfMatched(joinPoint);
+
+        ArgumentCaptor<ExecutionDetailLog> captor = ArgumentCaptor.forClass(ExecutionDetailLog.class);
+        verify(logManager).addLog(captor.capture());
+        return captor.getValue();
+    }
+
+    static class CollectionService {
+    }
+
+    @MoniKitInstrumented(CollectionService.class)
+    static class InstrumentedCollectionService extends CollectionService {
+    }
 
     static class TestService {
         public String doSomething(String input) {
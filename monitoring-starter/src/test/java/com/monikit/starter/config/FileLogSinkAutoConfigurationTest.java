@@ -0,0 +1,52 @@
+package com.monikit.starter.config;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.monikit.core.LogType;
+import com.monikit.core.notifier.LogSink;
+import com.monikit.starter.sink.MappedFileLogSinkCustomizer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileLogSinkAutoConfigurationTest {
+
+    @TempDir
+    Path directory;
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(FileLogSinkAutoConfiguration.class));
+
+    @Test
+    @DisplayName("shouldNotRegisterFileSinkByDefault")
+    void shouldNotRegisterFileSinkByDefault() {
+        contextRunner.run(context -> assertFalse(context.containsBean("mappedFileLogSinkCustomizer")));
+    }
+
+    @Test
+    @DisplayName("shouldRegisterFileSinkCustomizerWhenEnabled")
+    void shouldRegisterFileSinkCustomizerWhenEnabled() {
+        contextRunner
+            .withPropertyValues(
+                "monikit.logging.file-sink.enabled=true",
+                "monikit.logging.file-sink.directory=" + directory,
+                "monikit.logging.file-sink.segment-size-bytes=4096",
+                "monikit.logging.file-sink.log-types=exception")
+            .run(context -> {
+                MappedFileLogSinkCustomizer customizer = context.getBean(MappedFileLogSinkCustomizer.class);
+                List<LogSink> sinks = new ArrayList<>();
+                customizer.customize(sinks);
+
+                assertEquals(1, sinks.size());
+                assertTrue(sinks.get(0).supports(LogType.EXCEPTION));
+                assertFalse(sinks.get(0).supports(LogType.SIMPLE));
+            });
+    }
+}
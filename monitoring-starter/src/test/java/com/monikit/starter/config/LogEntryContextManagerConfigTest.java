@@ -6,13 +6,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
+import com.monikit.core.TraceIdProvider;
 import com.monikit.core.context.DefaultLogEntryContextManager;
 import com.monikit.core.hook.LogAddHook;
 import com.monikit.core.model.LogEntry;
 import com.monikit.core.context.LogEntryContextManager;
 import com.monikit.core.hook.LogFlushHook;
+import com.monikit.core.notifier.AsyncLogNotifier;
+import com.monikit.core.notifier.DefaultLogNotifier;
 import com.monikit.core.notifier.LogNotifier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -28,6 +32,11 @@ class LogEntryContextManagerConfigTest {
             .withBean(LogAddHook.class, () -> log -> {})
             .withBean(LogFlushHook.class, () -> logs -> {});
 
+    private final ApplicationContextRunner notifierContextRunner =
+        new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(LogEntryContextManagerConfig.class))
+            .withBean(TraceIdProvider.class, () -> mock(TraceIdProvider.class));
+
     @Nested
     @DisplayName("LogEntryContextManager 자동 등록 테스트")
     class LogEntryContextManagerAutoConfigurationTests {
@@ -63,6 +72,53 @@ class LogEntryContextManagerConfigTest {
                     assertFalse(context.getBean(LogEntryContextManager.class) instanceof DefaultLogEntryContextManager);
                 });
         }
+
+        @Test
+        @DisplayName("overflow 정책을 설정하면 DefaultLogEntryContextManager가 정상 등록되어야 한다")
+        void shouldRegisterManagerWithConfiguredOverflowPolicy() {
+            contextRunner
+                .withPropertyValues(
+                    "monikit.logging.overflow.policy=spill_oldest",
+                    "monikit.logging.overflow.max-entries=500",
+                    "monikit.logging.overflow.max-bytes=1048576")
+                .run(context -> assertInstanceOf(DefaultLogEntryContextManager.class,
+                    context.getBean(LogEntryContextManager.class)));
+        }
+
+        @Test
+        @DisplayName("알 수 없는 overflow 정책이면 컨텍스트 시작에 실패해야 한다")
+        void shouldFailOnUnknownOverflowPolicy() {
+            contextRunner
+                .withPropertyValues("monikit.logging.overflow.policy=unknown")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+        }
+    }
+
+    @Nested
+    @DisplayName("LogNotifier 자동 등록 테스트")
+    class LogNotifierAutoConfigurationTests {
+
+        @Test
+        @DisplayName("기본 설정에서는 DefaultLogNotifier가 등록되어야 한다")
+        void shouldRegisterDefaultLogNotifierByDefault() {
+            notifierContextRunner
+                .run(context -> assertInstanceOf(DefaultLogNotifier.class, context.getBean(LogNotifier.class)));
+        }
+
+        @Test
+        @DisplayName("async-notifier.enabled=true 이면 AsyncLogNotifier가 등록되어야 한다")
+        void shouldRegisterAsyncLogNotifierWhenEnabled() {
+            notifierContextRunner
+                .withPropertyValues(
+                    "monikit.logging.async-notifier.enabled=true",
+                    "monikit.logging.async-notifier.buffer-capacity=1000",
+                    "monikit.logging.async-notifier.wait-strategy=blocking")
+                .run(context -> {
+                    LogNotifier notifier = context.getBean(LogNotifier.class);
+                    assertInstanceOf(AsyncLogNotifier.class, notifier);
+                    assertEquals(1024, ((AsyncLogNotifier) notifier).getCapacity());
+                });
+        }
     }
 
-}
\ No newline at end of file
+}
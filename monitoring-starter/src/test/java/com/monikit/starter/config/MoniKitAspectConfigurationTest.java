@@ -5,8 +5,10 @@ import java.util.List;
 import com.monikit.core.TraceIdProvider;
 import com.monikit.core.context.LogEntryContextManager;
 import com.monikit.core.model.LogEntry;
+import com.monikit.starter.ArgumentRenderer;
 import com.monikit.starter.DynamicMatcher;
 import com.monikit.starter.ExecutionLoggingAspect;
+import com.monikit.starter.RenderingStrategyCustomizer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
@@ -42,6 +44,19 @@ class MoniKitAspectConfigurationTest {
             });
     }
 
+    @Test
+    @DisplayName("shouldRegisterArgumentRendererWithCustomizedStrategies")
+    void shouldRegisterArgumentRendererWithCustomizedStrategies() {
+        contextRunner
+            .withBean(RenderingStrategyCustomizer.class,
+                () -> registry -> registry.register(StringBuilder.class, (value, out) -> out.append("<builder>")))
+            .run(context -> {
+                ArgumentRenderer renderer = context.getBean(ArgumentRenderer.class);
+                assertEquals(ArgumentRenderer.DEFAULT_MAX_FIELD_LENGTH, renderer.getMaxFieldLength());
+                assertEquals("[arg0=<builder>]", renderer.renderArgs(new Object[] {new StringBuilder("payload")}));
+            });
+    }
+
     @TestConfiguration
     static class MockCoreBeans {
 
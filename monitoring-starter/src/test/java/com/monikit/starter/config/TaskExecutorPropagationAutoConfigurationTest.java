@@ -0,0 +1,172 @@
+package com.monikit.starter.config;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.monikit.core.LogLevel;
+import com.monikit.core.context.DefaultLogEntryContextManager;
+import com.monikit.core.context.LogEntryContext;
+import com.monikit.core.metrics.ExecutorTaskStats;
+import com.monikit.core.metrics.ExecutorTaskStatsRegistry;
+import com.monikit.core.model.LogEntry;
+import com.monikit.core.notifier.LogNotifier;
+import com.monikit.starter.concurrent.ContextPropagatingExecutorBeanPostProcessor;
+import com.monikit.starter.utils.TestLogEntryProvider;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskExecutorPropagationAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(TaskExecutorPropagationAutoConfiguration.class))
+        .withUserConfiguration(ExecutorConfig.class);
+
+    @Test
+    @DisplayName("shouldPropagateContextThroughThreadPoolTaskExecutor")
+    void shouldPropagateContextThroughThreadPoolTaskExecutor() {
+        contextRunner.run(context -> {
+            ThreadPoolTaskExecutor executor = context.getBean("workerExecutor", ThreadPoolTaskExecutor.class);
+            LogEntryContext.clear();
+            LogEntryContext.addLog(TestLogEntryProvider.executionTimeLog());
+
+            Future<Integer> size = executor.submit(LogEntryContext::size);
+
+            assertEquals(1, size.get());
+            assertEquals(1, context.getBean(AtomicInteger.class).get());
+
+            ExecutorTaskStats stats = context.getBean(ExecutorTaskStatsRegistry.class).forExecutor("workerExecutor");
+            assertEquals(1, stats.getStartedCount());
+            LogEntryContext.clear();
+        });
+    }
+
+    @Test
+    @DisplayName("shouldDeliverAsyncChildLogsWhenFlushedRightAfterJoin")
+    void shouldDeliverAsyncChildLogsWhenFlushedRightAfterJoin() {
+        contextRunner.withUserConfiguration(AsyncConfig.class).run(context -> {
+            AsyncWorker worker = context.getBean(AsyncWorker.class);
+            RecordingNotifier notifier = context.getBean(RecordingNotifier.class);
+            DefaultLogEntryContextManager manager = context.getBean(DefaultLogEntryContextManager.class);
+            LogEntryContext.clear();
+            CountDownLatch registered = new CountDownLatch(1);
+            CountDownLatch completed = new CountDownLatch(1);
+            CountDownLatch flushed = new CountDownLatch(1);
+
+            CompletableFuture<Boolean> future = worker.work(registered);
+            // 완료 직후 작업 스레드에서 실행되는 후속 작업으로, 작업 종료 처리를 호출자의 flush 이후로 늦춘다
+            future.thenRun(() -> {
+                completed.countDown();
+                try {
+                    flushed.await(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            registered.countDown();
+
+            assertTrue(completed.await(1, TimeUnit.SECONDS));
+            assertTrue(future.join());
+            manager.flush();
+            flushed.countDown();
+
+            assertEquals(1, notifier.delivered.size());
+        });
+    }
+
+    @Test
+    @DisplayName("shouldNotRegisterPostProcessorWhenDisabled")
+    void shouldNotRegisterPostProcessorWhenDisabled() {
+        contextRunner
+            .withPropertyValues("monikit.logging.task-executor.enabled=false")
+            .run(context -> assertTrue(context.getBeansOfType(ContextPropagatingExecutorBeanPostProcessor.class).isEmpty()));
+    }
+
+    @Configuration
+    static class ExecutorConfig {
+
+        @Bean
+        AtomicInteger decoratedCount() {
+            return new AtomicInteger();
+        }
+
+        @Bean
+        ExecutorTaskStatsRegistry executorTaskStatsRegistry() {
+            return new ExecutorTaskStatsRegistry();
+        }
+
+        @Bean
+        ThreadPoolTaskExecutor workerExecutor(AtomicInteger decoratedCount) {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(1);
+            executor.setTaskDecorator(runnable -> {
+                decoratedCount.incrementAndGet();
+                return runnable;
+            });
+            return executor;
+        }
+    }
+
+    @Configuration
+    @EnableAsync
+    static class AsyncConfig {
+
+        @Bean
+        RecordingNotifier recordingNotifier() {
+            return new RecordingNotifier();
+        }
+
+        @Bean
+        DefaultLogEntryContextManager logEntryContextManager(RecordingNotifier notifier) {
+            return new DefaultLogEntryContextManager(notifier, List.of(), List.of());
+        }
+
+        @Bean
+        AsyncWorker asyncWorker(DefaultLogEntryContextManager manager) {
+            return new AsyncWorker(manager);
+        }
+    }
+
+    static class AsyncWorker {
+
+        private final DefaultLogEntryContextManager manager;
+
+        AsyncWorker(DefaultLogEntryContextManager manager) {
+            this.manager = manager;
+        }
+
+        @Async("workerExecutor")
+        public CompletableFuture<Boolean> work(CountDownLatch registered) throws InterruptedException {
+            manager.addLog(TestLogEntryProvider.databaseQueryLog());
+            return CompletableFuture.completedFuture(registered.await(1, TimeUnit.SECONDS));
+        }
+    }
+
+    static class RecordingNotifier implements LogNotifier {
+
+        private final List<LogEntry> delivered = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void notify(LogLevel logLevel, String message) {
+        }
+
+        @Override
+        public void notify(LogEntry logEntry) {
+            delivered.add(logEntry);
+        }
+    }
+}